@@ -61,6 +61,8 @@ import org.openjdk.jmh.annotations.Warmup;
 @Measurement(iterations = 5, time = 5)
 @State(Scope.Thread)
 public class ContextInitBenchmark {
+    static final String REALISTIC_IMPORTS = "json,re,datetime,dataclasses,typing";
+
     private Context context;
 
     @Setup(Level.Invocation)
@@ -78,4 +80,9 @@ public class ContextInitBenchmark {
     public void initCtx() {
         context.initialize("python");
     }
+
+    @Benchmark
+    public void initCtxWithImports() {
+        context.eval("python", "import " + REALISTIC_IMPORTS);
+    }
 }
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.benchmarks.jmh;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.io.IOAccess;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Like {@link ContextInitBenchmark#initCtxWithImports()}, but the contexts are restored from a
+ * startup snapshot that was captured after importing the same modules. The baseline without a
+ * snapshot is measured here as well, so that both use the same context options.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@State(Scope.Thread)
+public class ContextInitSnapshotBenchmark {
+    @Param({"true", "false"})
+    public boolean useSnapshot;
+
+    private Path snapshot;
+    private Context context;
+
+    @Setup(Level.Trial)
+    public void captureSnapshot() throws IOException {
+        if (!useSnapshot) {
+            return;
+        }
+        snapshot = Files.createTempDirectory("graalpy-snapshot").resolve("startup.snapshot");
+        try (Context capture = newContext()) {
+            capture.initialize("python");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void deleteSnapshot() throws IOException {
+        if (snapshot != null) {
+            Files.deleteIfExists(snapshot);
+            Files.deleteIfExists(snapshot.getParent());
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void setup() {
+        context = newContext();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        context.close(true);
+        context = null;
+    }
+
+    private Context newContext() {
+        Context.Builder builder = Context.newBuilder("python").option("engine.WarnInterpreterOnly", "false").allowExperimentalOptions(true).allowIO(IOAccess.ALL);
+        if (useSnapshot) {
+            builder.option("python.StartupSnapshot", snapshot.toString()).option("python.StartupSnapshotImports", ContextInitBenchmark.REALISTIC_IMPORTS);
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public void initCtxWithImports() {
+        // with a snapshot, the modules are already imported when the context is initialized
+        context.eval("python", "import " + ContextInitBenchmark.REALISTIC_IMPORTS);
+    }
+}
@@ -0,0 +1,119 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import asyncio
+
+CLIENTS = 8
+PAYLOAD = b"x" * 256
+REQUEST = b"POST /echo HTTP/1.1\r\nHost: localhost\r\nContent-Length: %d\r\n\r\n" % len(PAYLOAD) + PAYLOAD
+RESPONSE_HEAD = b"HTTP/1.1 200 OK\r\nContent-Length: %d\r\nConnection: keep-alive\r\n\r\n"
+
+
+def content_length(head):
+    for line in head.split(b"\r\n"):
+        name, _, value = line.partition(b":")
+        if name.lower() == b"content-length":
+            return int(value)
+    return 0
+
+
+class EchoServerProtocol(asyncio.Protocol):
+    """Minimal keep-alive HTTP server that echoes request bodies."""
+
+    def connection_made(self, transport):
+        self.transport = transport
+        self.buffer = b""
+
+    def data_received(self, data):
+        self.buffer += data
+        while True:
+            end = self.buffer.find(b"\r\n\r\n")
+            if end < 0:
+                return
+            length = content_length(self.buffer[:end])
+            if len(self.buffer) < end + 4 + length:
+                return
+            body = self.buffer[end + 4:end + 4 + length]
+            self.buffer = self.buffer[end + 4 + length:]
+            self.transport.write(RESPONSE_HEAD % len(body) + body)
+
+
+async def client(port, requests):
+    reader, writer = await asyncio.open_connection("127.0.0.1", port)
+    received = 0
+    for _ in range(requests):
+        writer.write(REQUEST)
+        head = await reader.readuntil(b"\r\n\r\n")
+        received += len(await reader.readexactly(content_length(head)))
+    writer.close()
+    await writer.wait_closed()
+    return received
+
+
+async def serve_and_query(requests):
+    loop = asyncio.get_running_loop()
+    server = await loop.create_server(EchoServerProtocol, "127.0.0.1", 0)
+    port = server.sockets[0].getsockname()[1]
+    results = await asyncio.gather(*[client(port, requests) for _ in range(CLIENTS)])
+    server.close()
+    await server.wait_closed()
+    return sum(results)
+
+
+def default_loop():
+    return asyncio.new_event_loop()
+
+
+def nio_loop():
+    try:
+        import _nio_event_loop
+    except ImportError:
+        _nio_event_loop = None
+    if _nio_event_loop is None or not _nio_event_loop.is_available():
+        print("NIO event loop not available, using the default event loop")
+        return default_loop()
+    return _nio_event_loop.NioEventLoop()
+
+
+def run(loop_factory, num):
+    loop = loop_factory()
+    try:
+        return loop.run_until_complete(serve_and_query(num))
+    finally:
+        loop.close()
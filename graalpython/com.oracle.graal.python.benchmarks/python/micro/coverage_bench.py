@@ -0,0 +1,123 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import sys
+
+
+def classify(n):
+    if n % 15 == 0:
+        return "fizzbuzz"
+    elif n % 5 == 0:
+        return "buzz"
+    elif n % 3 == 0:
+        return "fizz"
+    return str(n)
+
+
+def checksum(values):
+    total = 0
+    for i, v in enumerate(values):
+        total += len(v) * (i & 7)
+    return total
+
+
+def workload(n):
+    return checksum([classify(i) for i in range(n)])
+
+
+class SettraceCollector:
+    """Line coverage the way coverage.py's Python tracer collects it."""
+
+    def __init__(self):
+        self.lines = set()
+
+    def trace(self, frame, event, arg):
+        if event == "line":
+            self.lines.add((frame.f_code, frame.f_lineno))
+        return self.trace
+
+    def start(self):
+        sys.settrace(self.trace)
+
+    def stop(self):
+        sys.settrace(None)
+
+
+class MonitoringCollector:
+    """Line coverage the way coverage.py's sys.monitoring core collects it: every line is
+    reported once and then disabled."""
+
+    TOOL = 1  # sys.monitoring.COVERAGE_ID
+
+    def __init__(self):
+        self.lines = set()
+
+    def py_start(self, code, offset):
+        sys.monitoring.set_local_events(self.TOOL, code, sys.monitoring.events.LINE)
+        return sys.monitoring.DISABLE
+
+    def line(self, code, lineno):
+        self.lines.add((code, lineno))
+        return sys.monitoring.DISABLE
+
+    def start(self):
+        m = sys.monitoring
+        m.use_tool_id(self.TOOL, "coverage_bench")
+        m.register_callback(self.TOOL, m.events.PY_START, self.py_start)
+        m.register_callback(self.TOOL, m.events.LINE, self.line)
+        m.set_events(self.TOOL, m.events.PY_START)
+
+    def stop(self):
+        m = sys.monitoring
+        m.set_events(self.TOOL, 0)
+        m.free_tool_id(self.TOOL)
+        m.restart_events()
+
+
+def run(collector_class, num):
+    collector = collector_class()
+    collector.start()
+    try:
+        result = 0
+        for _ in range(num):
+            result += workload(10_000)
+    finally:
+        collector.stop()
+    assert len(collector.lines) > 10
+    return result
@@ -0,0 +1,95 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+# Dicts and sets keyed by machine-sized ints: building, lookups (also with equal
+# keys of other types), deletions, and iteration.
+
+def build(n):
+    d = {}
+    for i in range(n):
+        d[i * 7] = i
+    return d
+
+
+def lookup(d, n):
+    hits = 0
+    for i in range(n):
+        if (i * 3) in d:
+            hits += d[i * 3]
+        hits += d.get(i * 7, 0)
+    return hits
+
+
+def churn(d, n):
+    # remove and re-insert keys, producing deleted entries in between live ones
+    for i in range(0, n, 2):
+        del d[i * 7]
+    for i in range(0, n, 2):
+        d[-i] = i
+    return len(d)
+
+
+def iterate(d):
+    total = 0
+    for k, v in d.items():
+        total += k ^ v
+    for k in reversed(d):
+        total -= k
+    return total
+
+
+def sets(n):
+    a = set(range(0, n, 2))
+    b = {i for i in range(0, n, 3)}
+    return len(a & b) + len(a | b) + len(a - b)
+
+
+def measure(num):
+    result = 0
+    for _ in range(num):
+        d = build(5000)
+        result += lookup(d, 5000)
+        result += churn(d, 5000)
+        result += iterate(d)
+        result += sets(5000)
+    return result
+
+
+def __benchmark__(num=1000):
+    return measure(num)
@@ -0,0 +1,64 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+def measure(num):
+    n = 100000
+    big = 2 ** 40
+    ints = list(range(n))
+    longs = [big + i for i in range(n)]
+    floats = [i * 0.5 for i in range(n)]
+    ints_copy = list(ints)
+    longs_copy = list(longs)
+    floats_copy = list(floats)
+    result = 0
+    for _ in range(num):
+        # int storage
+        result += min(ints) + max(ints) + ints.index(n - 1) + ints.count(7)
+        result += (-1 in ints) + (ints == ints_copy)
+        # long storage
+        result += min(longs) - max(longs) + longs.index(big + n - 1) + longs.count(big)
+        result += (-1 in longs) + (longs == longs_copy)
+        # double storage
+        result += int(min(floats) + max(floats)) + floats.index(0.5) + floats.count(1.0)
+        result += (-1.0 in floats) + (floats == floats_copy)
+    return result
+
+
+def __benchmark__(num=500):
+    return measure(num)
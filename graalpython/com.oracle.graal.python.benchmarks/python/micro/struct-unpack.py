@@ -0,0 +1,79 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import struct
+
+record = struct.Struct('<iIqdHh?')
+num_records = 10_000
+data = b''.join(record.pack(i, i * 7, -i, i / 3, i % 65536, -(i % 32768), i % 2 == 0) for i in range(num_records))
+
+
+def unpack_records():
+    total = 0
+    for off in range(0, len(data), record.size):
+        total += record.unpack_from(data, off)[0]
+    return total
+
+
+def iter_unpack_records():
+    total = 0
+    for rec in record.iter_unpack(data):
+        total += rec[2]
+    return total
+
+
+def unpack_columns():
+    if hasattr(record, 'unpack_columns'):
+        columns = record.unpack_columns(data)
+    else:
+        columns = list(zip(*record.iter_unpack(data)))
+    return sum(columns[0]) + len(columns[3])
+
+
+def measure(num):
+    result = 0
+    for i in range(num):
+        result += unpack_records()
+        result += iter_unpack_records()
+        result += unpack_columns()
+    return result
+
+
+def __benchmark__(num=100):
+    return measure(num)
@@ -0,0 +1,83 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import gzip
+import sys
+import zlib
+
+
+PAYLOAD = b"".join(b"%08d some moderately compressible log line payload\n" % i for i in range(200_000))
+GZIP_DATA = gzip.compress(PAYLOAD, mtime=0)
+ZLIB_DATA = zlib.compress(PAYLOAD)
+CHUNK_SIZE = 64 * 1024
+
+
+IS_GRAALPY = sys.implementation.name == "graalpy"
+
+
+def get_setup(backend):
+    def __setup__(num):
+        # compare the native zlib backend against the Java (java.util.zip) one
+        if IS_GRAALPY:
+            __graalpython__._disable_native_zlib(backend == "java")
+    return __setup__
+
+
+def __teardown__():
+    if IS_GRAALPY:
+        __graalpython__._disable_native_zlib(False)
+
+
+def stream_decompress(data, wbits):
+    d = zlib.decompressobj(wbits)
+    size = 0
+    for i in range(0, len(data), CHUNK_SIZE):
+        size += len(d.decompress(data[i:i + CHUNK_SIZE]))
+    size += len(d.flush())
+    assert d.eof
+    return size
+
+
+def __benchmark__(num=5):
+    total = 0
+    for _ in range(num):
+        total += stream_decompress(GZIP_DATA, 16 + zlib.MAX_WBITS)
+        total += stream_decompress(ZLIB_DATA, zlib.MAX_WBITS)
+        total += len(zlib.decompress(GZIP_DATA, 16 + zlib.MAX_WBITS))
+    return total
@@ -113,6 +113,7 @@ def add_graalpython_core():
         "modules/_polyglot",
         "modules/_polyglot_datetime",
         "modules/_polyglot_time",
+        "modules/_nio_event_loop",
     ]:
         modname = os.path.basename(name)
         modpath = os.path.join(lib_graalpython, f"{name}.py")
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.integration.engine;
+
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class SharedEngineBuiltinTypeLookupTest extends SharedEngineMultithreadingTestBase {
+    private static final int CONTEXTS_COUNT = 4;
+
+    // attributes of builtin types must come from the types of the context that runs the code, even
+    // though the lookups are cached across contexts
+    private static final String CODE = """
+                    def lookup():
+                        for i in range(2000):
+                            assert str.upper is str.__dict__['upper']
+                            assert bool.__add__ is int.__dict__['__add__']
+                            assert bool.bit_length is int.__dict__['bit_length']
+                            assert getattr(bool, 'no_such_attribute', None) is None
+                        return True
+                    lookup()
+                    """;
+
+    @Test
+    public void testBuiltinTypeLookupsInSharedEngine() {
+        Source code = Source.create("python", CODE);
+        try (Engine engine = Engine.create("python")) {
+            for (int i = 0; i < CONTEXTS_COUNT; i++) {
+                try (InitializedContext ctx = initContext(engine, new String[0])) {
+                    Assert.assertTrue(ctx.context.eval(code).asBoolean());
+                    StdStreams out = ctx.getStreamsOutput();
+                    Assert.assertEquals("", out.err);
+                }
+            }
+        }
+    }
+}
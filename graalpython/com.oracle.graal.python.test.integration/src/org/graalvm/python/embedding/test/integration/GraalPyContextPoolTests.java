@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.graalvm.python.embedding.test.integration;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.python.embedding.GraalPyContextPool;
+import org.junit.Test;
+
+public class GraalPyContextPoolTests {
+
+    private static GraalPyContextPool createPool(int size) {
+        return GraalPyContextPool.newBuilder(() -> Context.newBuilder("python")).size(size).preloadModules("json").build();
+    }
+
+    @Test
+    public void borrowedContextsAreReset() throws InterruptedException {
+        try (GraalPyContextPool pool = createPool(1)) {
+            Context first;
+            try (GraalPyContextPool.Lease lease = pool.borrow()) {
+                first = lease.getContext();
+                assertTrue(first.eval("python", "import sys; 'json' in sys.modules").asBoolean());
+                first.eval("python", "import csv\nuser_value = 42");
+            }
+            try (GraalPyContextPool.Lease lease = pool.borrow()) {
+                Context context = lease.getContext();
+                assertSame(first, context);
+                assertFalse(context.eval("python", "'user_value' in globals()").asBoolean());
+                assertFalse(context.eval("python", "import sys; 'csv' in sys.modules").asBoolean());
+                assertTrue(context.eval("python", "'json' in sys.modules and __name__ == '__main__'").asBoolean());
+            }
+            GraalPyContextPool.Metrics metrics = pool.getMetrics();
+            assertEquals(2, metrics.getBorrowCount());
+            assertEquals(1, metrics.getCreatedCount());
+            assertEquals(0, metrics.getReplacedCount());
+            assertEquals(1, metrics.getIdle());
+        }
+    }
+
+    @Test
+    public void invalidatedContextsAreReplaced() throws InterruptedException {
+        try (GraalPyContextPool pool = createPool(1)) {
+            Context first;
+            try (GraalPyContextPool.Lease lease = pool.borrow()) {
+                first = lease.getContext();
+                lease.invalidate();
+            }
+            try (GraalPyContextPool.Lease lease = pool.borrow()) {
+                assertNotSame(first, lease.getContext());
+                assertEquals(3, lease.getContext().eval("python", "1 + 2").asInt());
+            }
+            assertEquals(1, pool.getMetrics().getReplacedCount());
+        }
+    }
+
+    @Test
+    public void closedContextsAreReplaced() throws InterruptedException {
+        try (GraalPyContextPool pool = createPool(1)) {
+            try (GraalPyContextPool.Lease lease = pool.borrow()) {
+                lease.getContext().close(true);
+            }
+            try (GraalPyContextPool.Lease lease = pool.borrow()) {
+                assertEquals(3, lease.getContext().eval("python", "1 + 2").asInt());
+            }
+            assertEquals(1, pool.getMetrics().getReplacedCount());
+        }
+    }
+
+    @Test
+    public void borrowTimesOutWhenExhausted() throws InterruptedException {
+        GraalPyContextPool pool = createPool(1);
+        try (GraalPyContextPool.Lease lease = pool.borrow()) {
+            assertNull(pool.borrow(10, TimeUnit.MILLISECONDS));
+            assertEquals(1, pool.getMetrics().getBorrowed());
+        } finally {
+            pool.close();
+        }
+        assertThrows(IllegalStateException.class, pool::borrow);
+    }
+
+    @Test
+    public void borrowedContextOutlivesPoolClose() throws InterruptedException {
+        GraalPyContextPool pool = createPool(2);
+        GraalPyContextPool.Lease lease = pool.borrow();
+        Context context = lease.getContext();
+        pool.close();
+        assertEquals(1, pool.getMetrics().getBorrowed());
+        assertEquals(42, context.eval("python", "import json; json.loads('42')").asInt());
+        lease.close();
+        assertEquals(0, pool.getMetrics().getBorrowed());
+        assertThrows(IllegalStateException.class, () -> context.eval("python", "1"));
+    }
+}
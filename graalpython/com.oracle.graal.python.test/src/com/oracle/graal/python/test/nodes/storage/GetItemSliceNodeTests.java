@@ -56,6 +56,7 @@ import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class GetItemSliceNodeTests {
@@ -184,4 +185,37 @@ public class GetItemSliceNodeTests {
         assertFalse(boolArray[1]);
         assertTrue(boolArray[2]);
     }
+
+    @Test
+    public void prefixSliceSharesArray() {
+        int[] values = new int[200];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+        var source = new IntSequenceStorage(values);
+        var storage = new RootNode(null) {
+            @Child @SuppressWarnings("FieldMayBeFinal") private GetItemSliceNode getItemSliceNode = GetItemSliceNode.create();
+
+            @Override
+            public Object execute(VirtualFrame frame) {
+                return getItemSliceNode.execute(source, 0, 150, 1, 150);
+            }
+        }.getCallTarget().call();
+
+        assertEquals(IntSequenceStorage.class, storage.getClass());
+        var slice = (IntSequenceStorage) storage;
+        assertEquals(150, slice.length());
+        assertTrue(slice.isShared());
+        assertTrue(source.isShared());
+        assertSame(values, slice.getInternalIntArray());
+
+        slice.setIntItemNormalized(0, -1);
+        assertFalse(slice.isShared());
+        assertEquals(0, source.getIntItemNormalized(0));
+        assertEquals(-1, slice.getIntItemNormalized(0));
+
+        source.setIntItemNormalized(1, -2);
+        assertEquals(1, slice.getIntItemNormalized(1));
+        assertEquals(-2, source.getIntItemNormalized(1));
+    }
 }
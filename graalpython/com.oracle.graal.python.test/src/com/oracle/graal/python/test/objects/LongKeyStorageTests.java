@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.test.objects;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import com.oracle.graal.python.builtins.objects.common.HashingStorage;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetIterator;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageGetReverseIterator;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageIterator;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageIteratorKey;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageIteratorNext;
+import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageIteratorValue;
+import com.oracle.graal.python.builtins.objects.common.LongKeyStorage;
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.lib.PyObjectHashNode;
+
+public class LongKeyStorageTests {
+    // keys that differ by the modulus have the same Python hash
+    private static final long HASH_MODULUS = (1L << 61) - 1;
+
+    @Test
+    public void testCollisionsByPuttingManyKeysWithSameHash() {
+        LongKeyStorage storage = LongKeyStorage.create(42, newValue());
+        LinkedHashMap<Long, Object> expected = new LinkedHashMap<>();
+        expected.put(42L, storage.get(42));
+        for (int i = 1; i < 40; i++) {
+            long key = 42 + i * HASH_MODULUS;
+            assertEquals(PyObjectHashNode.hash(42L), PyObjectHashNode.hash(key));
+            Object value = newValue();
+            storage.put(key, value);
+            expected.put(key, value);
+            assertEqual(i, expected, storage);
+        }
+        for (int i = 0; i < 20; i++) {
+            long key = expected.keySet().stream().skip(7).findFirst().get();
+            assertEquals(expected.remove(key), storage.remove(key));
+            assertEqual(i, expected, storage);
+        }
+    }
+
+    @Test
+    public void testCollisionsOfMinusOneAndMinusTwo() {
+        // -1 is not a valid hash, so -1 and -2 hash the same
+        LongKeyStorage storage = LongKeyStorage.create(-1, "a");
+        storage.put(-2, "b");
+        assertEquals("a", storage.get(-1));
+        assertEquals("b", storage.get(-2));
+        assertEquals("a", storage.remove(-1));
+        assertNull(storage.get(-1));
+        assertEquals("b", storage.get(-2));
+    }
+
+    @Test
+    public void testPuttingAndRemovingTheSameKey() {
+        LongKeyStorage storage = LongKeyStorage.create(0, newValue());
+        storage.remove(0);
+        LinkedHashMap<Long, Object> expected = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i++) {
+            Object value = newValue();
+            storage.put(7, value);
+            expected.put(7L, value);
+            assertEqual(i, expected, storage);
+            storage.remove(7);
+            expected.remove(7L);
+            assertEqual(i, expected, storage);
+        }
+    }
+
+    @Test
+    public void testStressAgainstLinkedHashMap() {
+        LongKeyStorage storage = LongKeyStorage.create(0, newValue());
+        LinkedHashMap<Long, Object> expected = new LinkedHashMap<>();
+        expected.put(0L, storage.get(0));
+        Random rand = new Random(42);
+
+        putValues(storage, expected, rand, 100, false);
+        removeValues(storage, expected, rand, 33);
+        putValues(storage, expected, rand, 44, true);
+        overrideValues(storage, expected, rand, 55);
+        removeValues(storage, expected, rand, 66);
+        putValues(storage, expected, rand, 300, false);
+        popValues(storage, expected, 30);
+        putValues(storage, expected, rand, 20, true);
+        removeValues(storage, expected, rand, 200);
+        popValues(storage, expected, 40);
+        putValues(storage, expected, rand, 500, true);
+
+        LongKeyStorage copy = storage.copy();
+        assertEqual("copy", expected, copy);
+        copy.put(Long.MIN_VALUE, "only in the copy");
+        assertNull(storage.get(Long.MIN_VALUE));
+        assertEqual("original", expected, storage);
+
+        popValues(storage, expected, expected.size());
+        assertNull(storage.popLast());
+    }
+
+    private static void putValues(LongKeyStorage storage, LinkedHashMap<Long, Object> expected, Random rand, int count, boolean smallKeys) {
+        for (int i = 0; i < count; i++) {
+            Object value = newValue();
+            long key = smallKeys ? rand.nextInt(1000) - 500 : rand.nextLong();
+            storage.put(key, value);
+            expected.put(key, value);
+            assertEqual(i, expected, storage);
+        }
+    }
+
+    private static void overrideValues(LongKeyStorage storage, LinkedHashMap<Long, Object> expected, Random rand, int count) {
+        for (int i = 0; i < count; i++) {
+            Object value = newValue();
+            long key = expected.keySet().stream().skip(rand.nextInt(expected.size())).findFirst().get();
+            storage.put(key, value);
+            expected.put(key, value);
+            assertEqual(i, expected, storage);
+        }
+    }
+
+    private static void removeValues(LongKeyStorage storage, LinkedHashMap<Long, Object> expected, Random rand, int count) {
+        for (int i = 0; i < count && !expected.isEmpty(); i++) {
+            long key = expected.keySet().stream().skip(rand.nextInt(expected.size())).findFirst().get();
+            assertEquals(expected.remove(key), storage.remove(key));
+            assertNull(storage.remove(key));
+            assertEqual(i, expected, storage);
+        }
+    }
+
+    private static void popValues(LongKeyStorage storage, LinkedHashMap<Long, Object> expected, int count) {
+        Long[] keys = expected.keySet().stream().toList().reversed().stream().limit(count).toArray(Long[]::new);
+        for (int i = 0; i < keys.length; i++) {
+            Object[] popped = storage.popLast();
+            assertEquals(Integer.toString(i), boxKey(keys[i]), popped[0]);
+            assertEquals(Integer.toString(i), expected.remove(keys[i]), popped[1]);
+            assertEqual(i, expected, storage);
+        }
+    }
+
+    static void assertEqual(int iter, LinkedHashMap<Long, Object> expected, LongKeyStorage actual) {
+        assertEqual(Integer.toString(iter), expected, actual);
+    }
+
+    static void assertEqual(String message, LinkedHashMap<Long, Object> expected, LongKeyStorage actual) {
+        assertEquals(message, expected.size(), actual.length());
+        List<Object> expectedKeys = new ArrayList<>();
+        List<Object> expectedValues = new ArrayList<>();
+        for (var entry : expected.entrySet()) {
+            assertEquals(message + "; value under key: " + entry.getKey(), entry.getValue(), actual.get(entry.getKey()));
+            expectedKeys.add(boxKey(entry.getKey()));
+            expectedValues.add(entry.getValue());
+        }
+
+        ArrayList<Object> actualKeys = new ArrayList<>();
+        ArrayList<Object> actualValues = new ArrayList<>();
+        HashingStorageIterator it = HashingStorageGetIterator.executeUncached(actual);
+        while (HashingStorageIteratorNext.executeUncached(actual, it)) {
+            actualKeys.add(HashingStorageIteratorKey.executeUncached(actual, it));
+            actualValues.add(HashingStorageIteratorValue.executeUncached(actual, it));
+        }
+        assertArrayEquals(message, expectedKeys.toArray(), actualKeys.toArray());
+        assertArrayEquals(message, expectedValues.toArray(), actualValues.toArray());
+
+        Collections.reverse(expectedKeys);
+        assertArrayEquals(message, expectedKeys.toArray(), reverseKeysToArray(actual));
+    }
+
+    private static Object[] reverseKeysToArray(HashingStorage s) {
+        ArrayList<Object> result = new ArrayList<>();
+        HashingStorageIterator it = HashingStorageGetReverseIterator.executeUncached(s);
+        while (HashingStorageIteratorNext.executeUncached(s, it)) {
+            result.add(HashingStorageIteratorKey.executeUncached(s, it));
+        }
+        return result.toArray();
+    }
+
+    // keys come out of the storage as Python ints, i.e., as Integer if they fit
+    private static Object boxKey(long key) {
+        return PInt.isIntRange(key) ? (Object) (int) key : (Object) key;
+    }
+
+    private static int valueCounter = 0;
+
+    private static Object newValue() {
+        return "Val: " + (valueCounter++);
+    }
+}
@@ -119,4 +119,88 @@ def test_mul():
     b = a * 1
     a[2] = 42
     assert list(a) == [1, 2, 42]
-    assert list(b) == [1, 2, 3]
\ No newline at end of file
+    assert list(b) == [1, 2, 3]
+
+def test_typed_items():
+    limits = {
+        'b': (-2**7, 2**7 - 1), 'B': (0, 2**8 - 1),
+        'h': (-2**15, 2**15 - 1), 'H': (0, 2**16 - 1),
+        'i': (-2**31, 2**31 - 1), 'I': (0, 2**32 - 1),
+        'q': (-2**63, 2**63 - 1), 'Q': (0, 2**64 - 1),
+    }
+    for code, (lo, hi) in limits.items():
+        a = array(code, [lo, 0, hi])
+        assert list(a) == [lo, 0, hi], code
+        assert a[0] == lo and a[-1] == hi, code
+        assert type(a[1]) is int
+        a[1] = hi
+        assert a[1] == hi, code
+        assert_raises(OverflowError, a.__setitem__, 1, hi + 1)
+        assert_raises(OverflowError, a.__setitem__, 1, lo - 1)
+        assert_raises(TypeError, a.__setitem__, 1, 1.0)
+        a[1] = True
+        assert a[1] == 1 and type(a[1]) is int, code
+        assert a.tobytes() == array(code, [lo, 1, hi]).tobytes(), code
+
+    a = array('d', [1.5, -0.0, float('inf')])
+    a[0] = 2
+    a[1] = 2.25
+    assert list(a) == [2.0, 2.25, float('inf')]
+    f = array('f', [0.1])
+    assert f[0] != 0.1 and abs(f[0] - 0.1) < 1e-7
+    f[0] = 1e300
+    assert f[0] == float('inf')
+
+
+def test_sum():
+    assert sum(array('b', [-1, 2, 3])) == 4
+    assert sum(array('I', [2**32 - 1] * 3)) == 3 * (2**32 - 1)
+    assert sum(array('q', [2**62, 2**62, 2**62, -5])) == 3 * 2**62 - 5
+    assert sum(array('q', [2**63 - 1] * 3), 10) == 3 * (2**63 - 1) + 10
+    assert sum(array('Q', [2**64 - 1, 1])) == 2**64
+    assert sum(array('d', [0.5] * 10)) == 5.0
+    assert sum(array('f', [0.5, 1.5]), 1) == 3.0
+    assert sum(array('d'), 7) == 7 and type(sum(array('d'), 7)) is int
+    assert sum(array('i')) == 0
+    assert sum(array('d', [1.0]), 0.5) == 1.5
+    it = iter(array('h', [1, 2, 3, 4]))
+    next(it)
+    assert sum(it) == 9
+    assert_raises(StopIteration, next, it)
+
+
+def test_extend_typed():
+    a = array('d', [1.0])
+    a.extend([2.5, 3.5])
+    a.extend((4.0,))
+    a.extend([5, 6])
+    assert list(a) == [1.0, 2.5, 3.5, 4.0, 5.0, 6.0]
+    b = array('h', [1])
+    b.extend([2, 3])
+    b.extend([4])
+    assert list(b) == [1, 2, 3, 4]
+    try:
+        b.extend([5, 2**15, 6])
+    except OverflowError:
+        pass
+    else:
+        assert False
+    assert list(b) == [1, 2, 3, 4, 5]
+    q = array('q')
+    q.extend([2**62, -2**62, 7])
+    assert list(q) == [2**62, -2**62, 7]
+    assert_raises(TypeError, q.extend, [1.5])
+    assert list(q) == [2**62, -2**62, 7]
+    i = array('i')
+    i.extend(range(5))
+    i.extend([x * 3 for x in range(3)])
+    assert list(i) == [0, 1, 2, 3, 4, 0, 3, 6]
+
+
+def test_typed_native_storage():
+    a = array('d', [1.0, 2.0])
+    storage_to_native(a)
+    a.extend([3.0])
+    a[0] = 0.5
+    assert sum(a) == 5.5
+    assert list(a) == [0.5, 2.0, 3.0]
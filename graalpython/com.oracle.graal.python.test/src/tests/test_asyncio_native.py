@@ -0,0 +1,295 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import asyncio
+import contextvars
+import gc
+import unittest
+import weakref
+
+MAX_WAIT_COUNT = 100
+
+try:
+    import _asyncio
+except ImportError:
+    _asyncio = None
+
+
+class NativeFutureTest(unittest.TestCase):
+
+    def setUp(self):
+        self.loop = asyncio.new_event_loop()
+
+    def tearDown(self):
+        self.loop.close()
+
+    def test_uses_native_types(self):
+        if _asyncio is not None:
+            self.assertIs(asyncio.Future, _asyncio.Future)
+            self.assertIs(asyncio.Task, _asyncio.Task)
+
+    def test_result(self):
+        fut = self.loop.create_future()
+        self.assertFalse(fut.done())
+        self.assertRaises(asyncio.InvalidStateError, fut.result)
+        fut.set_result(42)
+        self.assertTrue(fut.done())
+        self.assertEqual(fut.result(), 42)
+        self.assertIsNone(fut.exception())
+        self.assertRaises(asyncio.InvalidStateError, fut.set_result, 1)
+        self.assertIn("finished", repr(fut))
+
+    def test_exception(self):
+        fut = self.loop.create_future()
+        fut.set_exception(ValueError)
+        self.assertIsInstance(fut.exception(), ValueError)
+        self.assertRaises(ValueError, fut.result)
+        fut = self.loop.create_future()
+        self.assertRaises(TypeError, fut.set_exception, StopIteration())
+
+    def test_cancel(self):
+        fut = self.loop.create_future()
+        self.assertTrue(fut.cancel("bye"))
+        self.assertTrue(fut.cancelled())
+        self.assertFalse(fut.cancel())
+        with self.assertRaises(asyncio.CancelledError) as cm:
+            fut.result()
+        self.assertEqual(cm.exception.args, ("bye",))
+
+    def test_callbacks(self):
+        fut = self.loop.create_future()
+        calls = []
+        var = contextvars.ContextVar("var", default="outer")
+        ctx = contextvars.copy_context()
+        ctx.run(var.set, "inner")
+
+        def cb(f):
+            calls.append((f.result(), var.get()))
+
+        def removed(f):
+            calls.append("removed")
+
+        fut.add_done_callback(cb)
+        fut.add_done_callback(removed)
+        fut.add_done_callback(cb, context=ctx)
+        self.assertEqual(fut.remove_done_callback(removed), 1)
+        fut.set_result(1)
+        self.assertEqual(calls, [])
+        self.loop.run_until_complete(asyncio.sleep(0))
+        self.assertEqual(calls, [(1, "outer"), (1, "inner")])
+
+    def test_await(self):
+        fut = self.loop.create_future()
+        self.loop.call_soon(fut.set_result, "done")
+
+        async def waiter():
+            return await fut
+
+        self.assertEqual(self.loop.run_until_complete(waiter()), "done")
+
+    def test_subclass(self):
+        class MyFuture(asyncio.Future):
+            pass
+
+        fut = MyFuture(loop=self.loop)
+        fut.extra = 1
+        fut.set_result(2)
+        self.assertEqual(fut.result(), 2)
+        self.assertEqual(fut.extra, 1)
+
+    def test_weakref(self):
+        fut = self.loop.create_future()
+        self.assertIs(weakref.ref(fut)(), fut)
+        task = self.loop.create_task(asyncio.sleep(0))
+        self.assertIs(weakref.ref(task)(), task)
+        self.assertIn(task, asyncio.all_tasks(self.loop))
+        self.loop.run_until_complete(task)
+
+
+def collect_until(loop, predicate):
+    # the objects are collected and the finalizers run asynchronously, so keep trying for a while
+    for _ in range(MAX_WAIT_COUNT):
+        gc.collect()
+        loop.run_until_complete(asyncio.sleep(0.001))
+        if predicate():
+            return True
+    return False
+
+
+class NativeFinalizerTest(unittest.TestCase):
+
+    def setUp(self):
+        self.loop = asyncio.new_event_loop()
+        self.contexts = []
+        self.loop.set_exception_handler(lambda loop, context: self.contexts.append(context))
+
+    def tearDown(self):
+        self.loop.close()
+
+    def test_exception_never_retrieved(self):
+        def lose_exception():
+            fut = self.loop.create_future()
+            fut.set_exception(ValueError("lost"))
+            fut = self.loop.create_future()
+            fut.set_exception(KeyError("retrieved"))
+            fut.exception()
+
+        lose_exception()
+        if not collect_until(self.loop, lambda: self.contexts):
+            self.skipTest("the future was not collected")
+        self.assertEqual(self.contexts[0]["message"], "Future exception was never retrieved")
+        self.assertIsInstance(self.contexts[0]["exception"], ValueError)
+        self.assertFalse([c for c in self.contexts if isinstance(c.get("exception"), KeyError)])
+
+    def test_task_destroyed_pending(self):
+        async def wait_forever():
+            await self.loop.create_future()
+
+        def start_task():
+            self.loop.create_task(wait_forever())
+
+        start_task()
+        self.loop.run_until_complete(asyncio.sleep(0))
+        if not collect_until(self.loop, lambda: self.contexts):
+            self.skipTest("the task was not collected")
+        self.assertEqual(self.contexts[0]["message"], "Task was destroyed but it is pending!")
+
+
+class NativeTaskTest(unittest.TestCase):
+
+    def setUp(self):
+        self.loop = asyncio.new_event_loop()
+
+    def tearDown(self):
+        self.loop.close()
+
+    def test_result_and_name(self):
+        async def coro():
+            await asyncio.sleep(0)
+            return 7
+
+        task = self.loop.create_task(coro(), name="worker")
+        self.assertEqual(task.get_name(), "worker")
+        self.assertEqual(self.loop.run_until_complete(task), 7)
+        self.assertTrue(self.loop.create_task(coro()).get_name().startswith("Task-"))
+        self.loop.run_until_complete(asyncio.sleep(0))
+
+    def test_not_a_coroutine(self):
+        self.assertRaises(TypeError, asyncio.Task, 42, loop=self.loop)
+
+    def test_exception(self):
+        async def coro():
+            await asyncio.sleep(0)
+            raise KeyError("x")
+
+        task = self.loop.create_task(coro())
+        self.assertRaises(KeyError, self.loop.run_until_complete, task)
+        self.assertIsInstance(task.exception(), KeyError)
+
+    def test_cancel(self):
+        started = self.loop.create_future()
+
+        async def coro():
+            started.set_result(None)
+            await asyncio.sleep(10)
+
+        async def main():
+            task = asyncio.ensure_future(coro())
+            await started
+            self.assertTrue(task.cancel("stop"))
+            self.assertEqual(task.cancelling(), 1)
+            with self.assertRaises(asyncio.CancelledError):
+                await task
+            self.assertTrue(task.cancelled())
+            self.assertEqual(task.uncancel(), 0)
+
+        self.loop.run_until_complete(main())
+
+    def test_gather_and_ping_pong(self):
+        async def ping(q_in, q_out, n):
+            for i in range(n):
+                await q_out.put(i)
+                await q_in.get()
+            return n
+
+        async def pong(q_in, q_out, n):
+            for i in range(n):
+                await q_out.put(await q_in.get())
+            return -n
+
+        async def main():
+            a, b = asyncio.Queue(), asyncio.Queue()
+            return await asyncio.gather(ping(a, b, 100), pong(b, a, 100))
+
+        self.assertEqual(self.loop.run_until_complete(main()), [100, -100])
+
+    def test_context(self):
+        var = contextvars.ContextVar("var", default=0)
+
+        async def coro():
+            var.set(var.get() + 1)
+            await asyncio.sleep(0)
+            return var.get()
+
+        ctx = contextvars.copy_context()
+        task = self.loop.create_task(coro(), context=ctx)
+        self.assertEqual(self.loop.run_until_complete(task), 1)
+        self.assertEqual(ctx[var], 1)
+        self.assertEqual(var.get(), 0)
+
+    def test_bad_yield(self):
+        async def coro():
+            await BadAwaitable()
+
+        class BadAwaitable:
+            def __await__(self):
+                yield 42
+
+        task = self.loop.create_task(coro())
+        with self.assertRaisesRegex(RuntimeError, "bad yield"):
+            self.loop.run_until_complete(task)
+
+    def test_stack(self):
+        async def coro():
+            await asyncio.sleep(0)
+
+        task = self.loop.create_task(coro())
+        self.assertEqual(len(task.get_stack()), 1)
+        self.assertIn("coro", repr(task))
+        self.loop.run_until_complete(task)
@@ -1291,3 +1291,176 @@ def test_removing_attr_from_economic_map():
 
     assert "foo" not in o.__dict__
 
+
+def test_int_keys_order_and_deletion():
+    d = {}
+    for i in range(100):
+        d[i * 7919 % 1000] = i
+    del d[0]
+    del d[7919 % 1000]
+    d[0] = 'again'
+    expected = [i * 7919 % 1000 for i in range(2, 100)] + [0]
+    assert list(d) == expected
+    assert list(reversed(d)) == expected[::-1]
+    assert list(d.values())[-1] == 'again'
+    assert d.popitem() == (0, 'again')
+    assert len(d) == 98
+    for k in expected[:-1]:
+        assert d.pop(k) == expected.index(k) + 2
+    assert d == {}
+    assert_raises(KeyError, d.popitem)
+
+def test_int_keys_large_and_negative():
+    keys = [-1, -2, 2**61 - 1, 2**61, -2**63, 2**63 - 1, 2**63, -2**63 - 1, 2**100, 0]
+    d = {}
+    for i, k in enumerate(keys):
+        d[k] = i
+    assert list(d) == keys
+    for i, k in enumerate(keys):
+        assert d[k] == i
+        assert hash(k) in (hash(x) for x in d)
+    del d[-1]
+    assert -1 not in d
+    assert d[-2] == 1
+
+def test_int_keys_generalize():
+    d = {}
+    for i in range(10):
+        d[i] = i
+    d['x'] = 'x'
+    d[10] = 10
+    d[(1, 2)] = 'tuple'
+    assert list(d) == list(range(10)) + ['x', 10, (1, 2)]
+    assert d[5] == 5 and d['x'] == 'x' and d[(1, 2)] == 'tuple'
+    del d['x']
+    assert list(d) == list(range(11)) + [(1, 2)]
+
+def test_int_keys_equal_objects():
+    d = {1: 'one', 2: 'two'}
+    assert d[True] == 'one' and d[1.0] == 'one' and d[2.0] == 'two'
+    assert 1.5 not in d and float('nan') not in d and float('inf') not in d
+    assert d.get(2**64) is None and d.get(False) is None
+    # assigning through an equal key keeps the original key
+    d[True] = 'true'
+    d[2.0] = 'float'
+    assert list(d.items()) == [(1, 'true'), (2, 'float')]
+    assert type(list(d)[0]) is int and type(list(d)[1]) is int
+    del d[1.0]
+    assert list(d) == [2]
+    # a new key equal to no int is kept as it is
+    d[False] = 'false'
+    assert list(d.items()) == [(2, 'float'), (False, 'false')]
+    assert type(list(d)[1]) is bool
+
+    class MyInt(int):
+        pass
+
+    d = {10: 'ten'}
+    assert d[MyInt(10)] == 'ten'
+    d[MyInt(11)] = 'eleven'
+    assert d[11] == 'eleven'
+    assert type(list(d)[1]) is MyInt
+
+def test_int_keys_custom_eq():
+    class Key:
+        def __init__(self, value):
+            self.value = value
+            self.hash_calls = 0
+
+        def __hash__(self):
+            self.hash_calls += 1
+            return hash(self.value)
+
+        def __eq__(self, other):
+            return self.value == other
+
+    d = {1: 'a', 2: 'b', 3: 'c'}
+    k = Key(2)
+    assert d[k] == 'b'
+    assert k.hash_calls == 1
+    d[k] = 'B'
+    assert k.hash_calls == 2
+    assert list(d.items()) == [(1, 'a'), (2, 'B'), (3, 'c')]
+    assert d.pop(Key(3)) == 'c'
+    assert Key(4) not in d
+    d[Key(4)] = 'd'
+    assert d[4] == 'd'
+
+def test_int_keys_mutation_in_eq():
+    d = {i: i for i in range(10)}
+
+    class Evil:
+        mutated = False
+
+        def __hash__(self):
+            return 5
+
+        def __eq__(self, other):
+            if not Evil.mutated:
+                Evil.mutated = True
+                d.clear()
+                d.update({j: -j for j in range(5, 10)})
+            return other == 5
+
+    assert d[Evil()] == -5
+    assert list(d) == [5, 6, 7, 8, 9]
+
+def test_int_keys_copy_and_clear():
+    d = {i: str(i) for i in range(20)}
+    c = d.copy()
+    c[100] = 'x'
+    del c[0]
+    assert 100 not in d and 0 in d
+    assert len(d) == 20 and len(c) == 20
+    d.clear()
+    assert d == {}
+    d[1] = 1
+    assert d == {1: 1}
+    assert dict.fromkeys(range(3), 0) == {0: 0, 1: 0, 2: 0}
+
+
+def test_build_from_sized_sources():
+    keys = list(range(100))
+    assert dict.fromkeys(keys) == {k: None for k in keys}
+    assert dict.fromkeys(tuple(keys), 1) == {k: 1 for k in keys}
+    assert list(dict.fromkeys([3, 1, 3, 2, 1])) == [3, 1, 2]
+    assert list(dict.fromkeys([1, 'a', 2 ** 70, 1.0, 'a'])) == [1, 'a', 2 ** 70]
+    assert dict.fromkeys([]) == {}
+    strs = [str(k) for k in keys]
+    assert dict(zip(strs, keys)) == {str(k): k for k in keys}
+    assert dict(zip(keys, strs)) == {k: str(k) for k in keys}
+    assert dict([(1, 'a'), ('b', 2), (1, 'c')]) == {1: 'c', 'b': 2}
+    assert set(keys + keys) == set(range(100))
+    assert frozenset(['a', 'b', 'a']) == {'a', 'b'}
+    assert {k: k for k in keys} == dict(zip(keys, keys))
+    assert {k % 7 for k in keys} == set(range(7))
+    d = {}
+    d[1] = 1
+    d['x'] = 2
+    assert d == {1: 1, 'x': 2}
+
+    class ListSubclass(list):
+        def __iter__(self):
+            return iter([42])
+
+    assert dict.fromkeys(ListSubclass([1, 2])) == {42: None}
+
+    class Shrinking:
+        def __init__(self, lst, i):
+            self.lst = lst
+            self.i = i
+
+        def __hash__(self):
+            del self.lst[:]
+            return self.i
+
+    lst = []
+    lst.extend([Shrinking(lst, 1), Shrinking(lst, 2), Shrinking(lst, 3)])
+    assert len(dict.fromkeys(lst)) == 1
+
+
+def test_build_from_sources_with_many_duplicates():
+    # the presized capacity is capped, the length of the source is only an upper bound
+    assert set([0] * 3000000) == {0}
+    assert dict.fromkeys(['a'] * 3000000) == {'a': None}
+    assert dict(zip([1] * 3000000, range(3000000))) == {1: 2999999}
@@ -280,6 +280,45 @@ def test_functools_lru_cache():
     assert isinstance(cached_func, type_entity), "lru_cache should not be using the python-based version"
 
 
+def test_functools_lru_cache_scalar_keys():
+    from functools import lru_cache
+
+    calls = []
+
+    @lru_cache(maxsize=2, typed=True)
+    def typed(x):
+        calls.append(x)
+        return repr(x)
+
+    assert typed(1) == '1' and typed(1) == '1'
+    assert typed(True) == 'True'
+    assert typed(1.0) == '1.0'
+    assert typed('a') == "'a'" and typed('a') == "'a'"
+    assert calls == [1, True, 1.0, 'a']
+    assert typed.cache_info() == (2, 4, 2, 2)
+
+    calls.clear()
+
+    @lru_cache()
+    def no_args():
+        calls.append(None)
+        return len(calls)
+
+    assert [no_args() for _ in range(5)] == [1] * 5
+    assert no_args.cache_info() == (4, 1, 128, 1)
+    no_args.cache_clear()
+    assert no_args() == 2
+
+    # repeated hits of the most recent key keep the exact LRU order
+    @lru_cache(maxsize=2)
+    def f(x):
+        return x * 10
+
+    for x in 1, 2, 2, 2, 1, 3, 2, 1:
+        f(x)
+    assert f.cache_info() == (3, 5, 2, 2)
+
+
 def test_no_docstring():
     def no_doc():
         pass
@@ -1,4 +1,4 @@
-# Copyright (c) 2023, 2023, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2023, 2025, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -39,6 +39,10 @@
 
 import hashlib
 import hmac
+import mmap
+import os
+import tempfile
+import threading
 import unittest
 
 
@@ -80,6 +84,51 @@ class HashlibTest(unittest.TestCase):
         hm = hmac.new(self._get_buffer(), b'data', digestmod=hashlib.sha256)
         self.assertEqual('c449f6626bf7f997cda786d07895f086c2fa18eab25b1c08c4de66a5d46a2a08', hm.hexdigest())
 
+    def test_large_updates(self):
+        data = bytes(range(256)) * 4096
+        expected = hashlib.sha256(data).hexdigest()
+        for buf in (data, bytearray(data), memoryview(data)[1:], memoryview(bytearray(data))):
+            h = hashlib.sha256()
+            h.update(buf)
+            self.assertEqual(hashlib.sha256(bytes(buf)).hexdigest(), h.hexdigest())
+        with mmap.mmap(-1, len(data)) as mm:
+            mm.write(data)
+            h = hashlib.sha256()
+            h.update(mm)
+            self.assertEqual(expected, h.hexdigest())
+
+    def test_concurrent_updates(self):
+        chunk = b'x' * 100_000
+        h = hashlib.sha1()
+
+        def worker():
+            for _ in range(20):
+                h.update(chunk)
+
+        threads = [threading.Thread(target=worker) for _ in range(4)]
+        for t in threads:
+            t.start()
+        for t in threads:
+            t.join()
+        self.assertEqual(hashlib.sha1(chunk * 80).hexdigest(), h.hexdigest())
+
+    def test_file_digest(self):
+        data = os.urandom(1_000_000)
+        with tempfile.NamedTemporaryFile(delete=False) as f:
+            f.write(data)
+        try:
+            with open(f.name, 'rb') as fileobj:
+                self.assertEqual(hashlib.md5(data).hexdigest(), hashlib.file_digest(fileobj, 'md5').hexdigest())
+                self.assertEqual(b'', fileobj.read())
+            with open(f.name, 'rb') as fileobj:
+                fileobj.read(10)
+                self.assertEqual(hashlib.sha256(data[10:]).hexdigest(), hashlib.file_digest(fileobj, hashlib.sha256).hexdigest())
+            with open(f.name, 'rb', buffering=0) as fileobj:
+                fileobj.seek(123)
+                self.assertEqual(hashlib.sha1(data[123:]).hexdigest(), hashlib.file_digest(fileobj, 'sha1').hexdigest())
+        finally:
+            os.unlink(f.name)
+
     @staticmethod
     def _get_buffer():
         ba = bytearray(b'ab')
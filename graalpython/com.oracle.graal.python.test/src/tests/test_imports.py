@@ -189,3 +189,14 @@ def test_local_property_25274():
 
 
     
+
+
+def test_lazy_builtin_module_contents():
+    import _csv, _queue, _sha256
+    assert callable(_csv.reader)
+    assert _csv.QUOTE_NONNUMERIC == 2
+    assert callable(_queue.SimpleQueue)
+    assert _sha256.sha256(b"abc").hexdigest().startswith("ba7816bf")
+    if 'resource' in sys.builtin_module_names:
+        import resource
+        assert resource.getrusage(resource.RUSAGE_SELF).ru_utime >= 0
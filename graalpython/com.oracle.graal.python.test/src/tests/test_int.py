@@ -840,3 +840,99 @@ class ToBytesTests(unittest.TestCase):
                 return 4
 
         self.assertEqual(MyTest(1).to_bytes(MyTest(10), 'big'), b'\x00\x00\x00\x00\x00\x00\x00\x00\x00\x01')
+
+
+
+class HugeStrConversionTests(unittest.TestCase):
+
+    def setUp(self):
+        self.max_digits = sys.get_int_max_str_digits()
+        sys.set_int_max_str_digits(0)
+
+    def tearDown(self):
+        sys.set_int_max_str_digits(self.max_digits)
+
+    def test_roundtrip_decimal(self):
+        for digits in (999, 1000, 1001, 1280, 5000, 25001, 100003):
+            s = '9' + ''.join(str((i * 7 + 3) % 10) for i in range(digits - 1))
+            n = int(s)
+            self.assertEqual(str(n), s)
+            self.assertEqual(int('-' + s), -n)
+            self.assertEqual(int('+' + s), n)
+            self.assertEqual(n, int(s[:-50]) * 10 ** 50 + int(s[-50:]))
+
+    def test_roundtrip_powers(self):
+        for exp in (256, 512, 1024, 2048, 4096, 8192, 16384):
+            p = 10 ** exp
+            for n in (p - 1, p, p + 1, p * p - 1, p * p):
+                self.assertEqual(int(str(n)), n)
+
+    def test_leading_zeros(self):
+        self.assertEqual(int('0' * 3000 + '1' + '0' * 2999), 10 ** 2999)
+        self.assertEqual(int('1' + '0' * 4095 + '7'), 10 ** 4096 + 7)
+
+    def test_other_bases(self):
+        n = 3 ** 20000
+        for base, fmt in ((2, 'b'), (8, 'o'), (16, 'x')):
+            self.assertEqual(int(format(n, fmt), base), n)
+        s = ''.join('123456789abcdefghijklmnopqrstuvwxyz'[i % 35] for i in range(5000))
+        expected = 0
+        for c in s:
+            expected = expected * 36 + int(c, 36)
+        self.assertEqual(int(s, 36), expected)
+
+    def test_underscores(self):
+        s = '_'.join(['1234567890'] * 500)
+        self.assertEqual(int(s), int(s.replace('_', '')))
+        self.assertEqual(int('0x' + '_'.join(['ff'] * 2000), 16), 2 ** 16000 - 1)
+
+
+class LongBoundaryArithmeticTests(unittest.TestCase):
+
+    VALUES = [0, 1, -1, 3, -3, 2 ** 31, 2 ** 32 + 7, 2 ** 62, 2 ** 63 - 1, -2 ** 63, 2 ** 63, 2 ** 64 - 1,
+              2 ** 64, -2 ** 64 - 5, 0xcbf29ce484222325, 0x100000001b3, 3 ** 50, -(3 ** 50), 7 ** 45]
+
+    def test_mul_overflow(self):
+        for a in self.VALUES:
+            for b in self.VALUES:
+                expected = int(str(a)) * int(str(b))
+                self.assertEqual(a * b, expected)
+                self.assertEqual(str(a * b), str(expected))
+        self.assertEqual((-2 ** 63) * -1, 2 ** 63)
+        self.assertEqual((-2 ** 63) * (-2 ** 63), 2 ** 126)
+        self.assertEqual((2 ** 63 - 1) * (2 ** 63 - 1), 2 ** 126 - 2 ** 64 + 1)
+        self.assertEqual((3 ** 50) * 1024, (3 ** 50) << 10)
+        self.assertEqual(1024 * -(3 ** 50), -(3 ** 50) << 10)
+
+    @staticmethod
+    def reference_and(a, b):
+        a_bytes = a.to_bytes(32, 'little', signed=True)
+        b_bytes = b.to_bytes(32, 'little', signed=True)
+        return int.from_bytes(bytes(x & y for x, y in zip(a_bytes, b_bytes)), 'little', signed=True)
+
+    def test_and_mask(self):
+        masks = [0, 1, 0xff, 2 ** 63 - 1, 2 ** 63, 2 ** 64 - 1, 2 ** 64, 2 ** 65 - 1, -1, -2 ** 63, -2 ** 64]
+        for v in self.VALUES + [x * 0x100000001b3 for x in self.VALUES]:
+            for m in masks:
+                expected = self.reference_and(v, m)
+                self.assertEqual(v & m, expected)
+                self.assertEqual(m & v, expected)
+                self.assertIs(type(v & m), int)
+                if m >= 0:
+                    self.assertTrue(0 <= v & m <= m)
+
+    def test_and_mask_subclass(self):
+        class MyInt(int):
+            pass
+        r = MyInt(3 ** 50) & 0xffffffff
+        self.assertIs(type(r), int)
+        self.assertEqual(r, (3 ** 50) % 2 ** 32)
+        r = MyInt(-(3 ** 50)) & MyInt(2 ** 64 - 1)
+        self.assertIs(type(r), int)
+        self.assertEqual(r, -(3 ** 50) % 2 ** 64)
+
+    def test_fnv1a(self):
+        h = 0xcbf29ce484222325
+        for b in b'hello world':
+            h = ((h ^ b) * 0x100000001b3) & 0xffffffffffffffff
+        self.assertEqual(h, 0x779a65e7023cd2e7)
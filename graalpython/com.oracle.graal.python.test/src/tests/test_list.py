@@ -3,6 +3,7 @@
 #
 # Licensed under the PYTHON SOFTWARE FOUNDATION LICENSE VERSION 2
 
+import math
 import sys
 import unittest
 
@@ -857,6 +858,106 @@ class ListCompareTest(CompareTest):
         with self.assertRaisesRegex(TypeError, "list"):
             list.clear(42)
 
+    def test_copies_are_independent(self):
+        for items in (list(range(300)), [float(i) for i in range(300)], [str(i) for i in range(300)],
+                      [1 << 40 | i for i in range(300)]):
+            orig = list(items)
+            copies = [orig.copy(), list(orig), orig[:], orig[:200], tuple(orig), orig[0:250:1]]
+            orig[0] = None
+            orig.append(orig[1])
+            orig.sort(key=str)
+            orig.reverse()
+            for c in copies:
+                self.assertEqual(items[:len(c)], list(c))
+
+            orig = list(items)
+            copies = [orig.copy(), orig[:200], tuple(orig)]
+            copies[0][5] = None
+            copies[0].insert(0, None)
+            copies[1][:10] = [None]
+            copies[1] += copies[1][:50]
+            del copies[1][3:7]
+            copies[1].sort(key=str)
+            self.assertEqual(items, orig)
+            self.assertEqual(tuple(items), copies[2])
+
+    def test_copy_of_copy(self):
+        l = list(range(1000))
+        a = l[:]
+        b = a[:]
+        c = tuple(b)
+        b[0] = 'b'
+        a.append('a')
+        l.sort(reverse=True)
+        self.assertEqual(list(range(1000)), list(c))
+        self.assertEqual(['b'] + list(range(1, 1000)), b)
+        self.assertEqual(list(range(1000)) + ['a'], a)
+        self.assertEqual(list(range(999, -1, -1)), l)
+
+    def test_primitive_scans(self):
+        big = 2 ** 40
+        ints = [3, 1, 4, 1, 5]
+        longs = [big, -big, 7, big]
+        floats = [1.5, -0.0, 2.5, 1.5]
+        self.assertTrue(1 in ints)
+        self.assertFalse(big in ints)
+        self.assertTrue(7 in longs)
+        self.assertTrue(2 in [1.0, 2.0])
+        self.assertTrue(0.0 in floats)
+        self.assertEqual(1, ints.index(1))
+        self.assertEqual(3, ints.index(1, 2))
+        self.assertRaises(ValueError, ints.index, 1, 4)
+        self.assertRaises(ValueError, ints.index, big)
+        self.assertEqual(2, longs.index(7))
+        self.assertEqual(3, longs.index(big, 1))
+        self.assertEqual(1, floats.index(0.0))
+        self.assertEqual(2, ints.count(1))
+        self.assertEqual(0, ints.count(big))
+        self.assertEqual(2, longs.count(big))
+        self.assertEqual(1, longs.count(7))
+        self.assertEqual(2, floats.count(1.5))
+        self.assertEqual(1, floats.count(0))
+        self.assertEqual(2, (1, 2, 1).count(1))
+        nan = float('nan')
+        nans = [nan, 1.0, nan]
+        self.assertEqual(2, nans.count(nan))
+        self.assertEqual(2, nans.index(nan, 1))
+
+    def test_primitive_compare(self):
+        big = 2 ** 40
+        self.assertTrue(list(range(100)) == list(range(100)))
+        self.assertTrue(list(range(100)) < list(range(100)) + [0])
+        self.assertTrue(list(range(99)) + [100] > list(range(100)))
+        self.assertTrue([big, 1] < [big, 2])
+        self.assertTrue([big, 2] != [big, 2, 3])
+        self.assertFalse([big, -big] >= [big, 0])
+        self.assertTrue([-0.0] == [0.0])
+        nan = float('nan')
+        self.assertTrue([nan] == [nan])
+
+    def test_primitive_min_max(self):
+        big = 2 ** 40
+        self.assertEqual(-3, min([1, -3, 2]))
+        self.assertEqual(2, max((1, -3, 2)))
+        self.assertEqual(-big, min([big, -big, 0]))
+        self.assertEqual(big, max([big, -big, 0]))
+        self.assertEqual(0.5, min([1.5, 0.5, 2.5]))
+        self.assertEqual(2.5, max([1.5, 0.5, 2.5]))
+        self.assertEqual('0.0', repr(min([0.0, -0.0])))
+        self.assertEqual('-0.0', repr(max([-0.0, 0.0])))
+        nan = float('nan')
+        self.assertTrue(math.isnan(min([nan, 1.0])))
+        self.assertEqual(1.0, min([1.0, nan]))
+        self.assertEqual(3, max([1, 2, 3], key=lambda x: x))
+        self.assertEqual(1, max([1, 2, 3], key=lambda x: -x))
+        self.assertEqual(7, min([], default=7))
+
+        class MyList(list):
+            def __iter__(self):
+                return iter([42])
+
+        self.assertEqual(42, min(MyList([1, 2])))
+
 
 class TestObject:
     def __init__(self, name):
@@ -0,0 +1,105 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import cProfile
+import pstats
+import sys
+import unittest
+
+
+def fib(n):
+    return n if n < 2 else fib(n - 1) + fib(n - 2)
+
+
+def measure_lengths(items):
+    return [len(i) for i in items]
+
+
+def find(stats, name):
+    return [(key, value) for key, value in stats.items() if key[2] == name or key[2].endswith(f".{name}>")]
+
+
+class LsprofTest(unittest.TestCase):
+
+    def test_exact_call_counts(self):
+        p = cProfile.Profile()
+        p.enable()
+        fib(10)
+        p.disable()
+        stats = pstats.Stats(p).stats
+        [(key, (cc, nc, tt, ct, callers))] = find(stats, "fib")
+        self.assertEqual(key[0], __file__)
+        self.assertEqual(nc, 177)
+        self.assertEqual(cc, 1)
+        self.assertGreaterEqual(ct, tt)
+        self.assertEqual(callers[key][0], 176)
+
+    def test_builtin_calls(self):
+        p = cProfile.Profile()
+        p.runcall(measure_lengths, ["a", "bb", "ccc"])
+        stats = pstats.Stats(p).stats
+        [(key, value)] = find(stats, "len")
+        self.assertEqual(key[0], "~")
+        self.assertEqual(value[1], 3)
+
+    def test_no_builtins(self):
+        p = cProfile.Profile(builtins=False)
+        p.runcall(measure_lengths, ["a", "bb"])
+        stats = pstats.Stats(p).stats
+        self.assertEqual(find(stats, "len"), [])
+        self.assertEqual(len(find(stats, "measure_lengths")), 1)
+
+    def test_enable_disable(self):
+        p = cProfile.Profile()
+        p.enable()
+        self.assertIs(sys.getprofile(), p)
+        p.disable()
+        self.assertIsNone(sys.getprofile())
+        fib(3)
+        p.enable()
+        fib(2)
+        p.disable()
+        [(key, value)] = find(pstats.Stats(p).stats, "fib")
+        self.assertEqual(value[1], 3)
+        p.clear()
+        self.assertEqual(p.getstats(), [])
+
+
+if __name__ == '__main__':
+    unittest.main()
@@ -147,6 +147,41 @@ class ContainerTest(unittest.TestCase, BaseMarshalUnmarshal):
         for constructor in (set, frozenset):
             self.helper(constructor(self.d.keys()))
 
+    def test_primitive_sequences(self):
+        for n in (0, 1, 255, 256, 5000):
+            ints = list(range(-n // 2, n - n // 2))
+            self.helper(ints)
+            self.helper(tuple(ints))
+            self.helper([i << 40 for i in ints])
+            self.helper([i * 0.5 for i in ints])
+            self.helper([i % 3 == 0 for i in ints])
+            self.helper(ints + ["tail", None])
+            self.helper([i << 40 for i in ints] + [1.5])
+            self.helper([i * 0.5 for i in ints] + [1])
+            for version in range(marshal.version + 1):
+                self.helper([i * 0.25 for i in ints], version)
+        floats = marshal.loads(marshal.dumps([0.0, -0.0, float('inf'), float('nan')]))
+        self.assertEqual(str(floats), "[0.0, -0.0, inf, nan]")
+        nested = [[1, 2], (3, 4), [5.5], (2 ** 40,)]
+        self.helper(nested)
+        self.helper({'a': [1, 2, 3], 'b': (1.5, 2.5)})
+
+    def test_cpython_lists(self):
+        # lists of ints and floats as written by CPython, with FLAG_REF and back-references
+        self.assertEqual(marshal.loads(b'[\x03\x00\x00\x00\xe9\x01\x00\x00\x00r\x00\x00\x00\x00\xe9\x02\x00\x00\x00'), [1, 1, 2])
+        self.assertEqual(marshal.loads(b'[\x02\x00\x00\x00\xe7\x00\x00\x00\x00\x00\x00\xf8?\xe7\x00\x00\x00\x00\x00\x00\x04@'), [1.5, 2.5])
+        self.assertEqual(marshal.loads(b'[\x03\x00\x00\x00\xe7\x00\x00\x00\x00\x00\x00\xf8?r\x00\x00\x00\x00\xda\x01x'), [1.5, 1.5, 'x'])
+        self.assertEqual(marshal.loads(b'[\x03\x00\x00\x00i\x01\x00\x00\x00i\x02\x00\x00\x00i\x03\x00\x00\x00'), [1, 2, 3])
+        with self.assertRaises(EOFError):
+            marshal.loads(b'[\x03\x00\x00\x00i\x01\x00\x00\x00i\x02\x00')
+        # a frozenset can be referenced once it is complete, but not while its items are read
+        fs = frozenset(['a', 'b'])
+        self.assertEqual(marshal.loads(marshal.dumps((fs, fs))), (fs, fs))
+        for data in (b'\xbe\x01\x00\x00\x00[\x01\x00\x00\x00r\x00\x00\x00\x00',
+                     b'\xbe\x01\x00\x00\x00[\x02\x00\x00\x00i\x01\x00\x00\x00r\x00\x00\x00\x00'):
+            with self.assertRaises(ValueError):
+                marshal.loads(data)
+
     # TODO enable this test, when GR-13961 and GR-13962 will be fixed
     #def test_empty_frozenset_singleton(self):
     #    # marshal.loads() must reuse the empty frozenset singleton
@@ -0,0 +1,155 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import asyncio
+import socket
+import threading
+import unittest
+
+try:
+    import _nio_event_loop
+except ImportError:
+    _nio_event_loop = None
+
+
+def _available():
+    return _nio_event_loop is not None and _nio_event_loop.is_available()
+
+
+@unittest.skipUnless(_available(), "requires the NIO event loop and the Java POSIX backend")
+class NioEventLoopTest(unittest.TestCase):
+
+    def setUp(self):
+        self.loop = _nio_event_loop.NioEventLoop()
+
+    def tearDown(self):
+        self.loop.close()
+
+    def test_policy(self):
+        policy = _nio_event_loop.NioEventLoopPolicy()
+        loop = policy.new_event_loop()
+        try:
+            self.assertIsInstance(loop, _nio_event_loop.NioEventLoop)
+        finally:
+            loop.close()
+
+    def test_call_soon_order(self):
+        calls = []
+        for i in range(5):
+            self.loop.call_soon(calls.append, i)
+        self.loop.call_soon(self.loop.stop)
+        self.loop.run_forever()
+        self.assertEqual(calls, [0, 1, 2, 3, 4])
+
+    def test_timers(self):
+        calls = []
+        now = self.loop.time()
+        self.loop.call_at(now + 0.03, calls.append, 3)
+        self.loop.call_at(now + 0.01, calls.append, 1)
+        self.loop.call_at(now + 0.02, calls.append, 2)
+        self.loop.call_at(now + 0.02, calls.append, "2b")
+        cancelled = self.loop.call_later(0.015, calls.append, "cancelled")
+        cancelled.cancel()
+        self.loop.call_at(now + 0.04, self.loop.stop)
+        self.loop.run_forever()
+        self.assertEqual(calls, [1, 2, "2b", 3])
+
+    def test_many_cancelled_timers(self):
+        handles = [self.loop.call_later(10, lambda: None) for _ in range(300)]
+        for h in handles:
+            h.cancel()
+        self.loop.run_until_complete(asyncio.sleep(0.01))
+        self.assertTrue(all(not h._scheduled for h in handles))
+
+    def test_call_soon_threadsafe(self):
+        result = []
+
+        def other():
+            self.loop.call_soon_threadsafe(result.append, "hello")
+            self.loop.call_soon_threadsafe(self.loop.stop)
+
+        self.loop.call_later(0.01, lambda: threading.Thread(target=other).start())
+        self.loop.run_forever()
+        self.assertEqual(result, ["hello"])
+
+    def test_add_remove_reader(self):
+        a, b = socket.socketpair()
+        a.setblocking(False)
+        b.setblocking(False)
+        try:
+            fut = self.loop.create_future()
+
+            def on_readable():
+                fut.set_result(a.recv(100))
+                self.assertTrue(self.loop.remove_reader(a))
+
+            self.loop.add_reader(a, on_readable)
+            self.assertIn(a.fileno(), self.loop._selector.get_map())
+            b.send(b"data")
+            self.assertEqual(self.loop.run_until_complete(fut), b"data")
+            self.assertFalse(self.loop.remove_reader(a))
+            self.assertRaises(KeyError, self.loop._selector.get_key, a)
+        finally:
+            a.close()
+            b.close()
+
+    def test_echo_server(self):
+        async def handle(reader, writer):
+            while data := await reader.readline():
+                writer.write(data)
+                await writer.drain()
+            writer.close()
+            await writer.wait_closed()
+
+        async def main():
+            server = await asyncio.start_server(handle, "127.0.0.1", 0)
+            port = server.sockets[0].getsockname()[1]
+            reader, writer = await asyncio.open_connection("127.0.0.1", port)
+            replies = []
+            for i in range(20):
+                writer.write(b"line %d\n" % i)
+                replies.append(await reader.readline())
+            writer.close()
+            await writer.wait_closed()
+            server.close()
+            await server.wait_closed()
+            return replies
+
+        replies = self.loop.run_until_complete(main())
+        self.assertEqual(replies, [b"line %d\n" % i for i in range(20)])
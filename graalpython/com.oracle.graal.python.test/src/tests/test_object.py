@@ -227,3 +227,78 @@ def test_custom_getattribute():
 
     d = {"abc": 1}
     assert dict(BBB(d)) == d
+
+
+def test_wide_instances_with_varying_attribute_order():
+    import copy
+    import pickle
+
+    names = ['f%d' % i for i in range(40)]
+
+    class Wide:
+        f3 = 'class default'
+
+        def __init__(self, order, skip=None):
+            for i in order:
+                if i != skip:
+                    setattr(self, names[i], i if i % 3 else str(i))
+
+    global _WideForPickle
+    _WideForPickle = Wide
+    Wide.__qualname__ = '_WideForPickle'
+
+    objects = []
+    orders = []
+    for n in range(200):
+        order = list(range(40))
+        order = order[n % 40:] + order[:n % 40]
+        if n % 2:
+            order.reverse()
+        objects.append(Wide(order, skip=n % 5))
+        orders.append(order)
+    objects.append(Wide(range(40)))
+    orders.append(list(range(40)))
+
+    for n, o in enumerate(objects):
+        skip = n % 5 if n < 200 else None
+        expected = {names[i]: i if i % 3 else str(i) for i in range(40) if i != skip}
+        assert vars(o) == expected
+        assert list(vars(o)) == [names[i] for i in orders[n] if i != skip]
+        assert len(o.__dict__) == len(expected)
+        assert set(o.__dict__) == set(expected)
+        for i in range(40):
+            if i == skip:
+                assert not hasattr(o, names[i]) or (i == 3 and o.f3 == 'class default')
+                assert names[i] not in dir(o) or i == 3
+            else:
+                assert getattr(o, names[i]) == expected[names[i]]
+
+    o = Wide(range(40), skip=7)
+    assert_raises(AttributeError, lambda: o.f7)
+    o.f7 = 'seven'
+    assert o.f7 == 'seven'
+    del o.f7
+    assert_raises(AttributeError, lambda: o.f7)
+    assert 'f7' not in o.__dict__
+    o.extra = 1
+    assert o.__dict__['extra'] == 1
+    del o.f3
+    assert o.f3 == 'class default'
+    o.f0 = 'again'
+    o.f5 = 'last'
+    del o.f5
+    o.f5 = 'last'
+    assert list(vars(o)) == [n for n in names if n not in ('f3', 'f5', 'f7')] + ['extra', 'f5']
+    assert list(reversed(vars(o))) == list(reversed(list(vars(o))))
+
+    c = copy.copy(o)
+    assert vars(c) == vars(o)
+    assert list(vars(c)) == list(vars(o))
+    p = pickle.loads(pickle.dumps(o))
+    assert vars(p) == vars(o)
+    assert list(vars(p)) == list(vars(o))
+
+    empty = Wide(())
+    assert vars(empty) == {}
+    assert empty.f3 == 'class default'
+    assert_raises(AttributeError, lambda: empty.f0)
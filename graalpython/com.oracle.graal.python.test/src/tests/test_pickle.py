@@ -41,6 +41,28 @@ import pickle
 import unittest
 
 
+class Unpicklable:
+    def __reduce__(self):
+        raise pickle.PicklingError("not picklable")
+
+
+class Nested:
+    def __init__(self, value):
+        self.value = value
+        self.inner = Nested(value - 1) if value > 0 else None
+
+    def __reduce__(self):
+        # pickle and unpickle recursively while the outer call is still running
+        return (_restore_nested, (self.value, pickle.dumps(self.inner)))
+
+
+def _restore_nested(value, inner):
+    result = Nested.__new__(Nested)
+    result.value = value
+    result.inner = pickle.loads(inner)
+    return result
+
+
 class TestPickle(unittest.TestCase):
 
     def test_builtin(self):
@@ -67,6 +89,42 @@ class TestPickle(unittest.TestCase):
         assert [16, 17, 18, 19] == [next(teeit2) for i in range(1, 5)]
         assert [16, 17, 18, 19] == [next(teeit) for i in range(1, 5)]
 
+    def test_repeated_dumps_loads(self):
+        shared = [1, 2]
+        first = pickle.dumps([shared, shared])
+        self.assertEqual(first, pickle.dumps([shared, shared]))
+        r = pickle.loads(first)
+        self.assertIs(r[0], r[1])
+
+        # tiny payloads: the frame is dropped for protocol 4 and up
+        self.assertEqual(pickle.dumps(None, protocol=5), b'\x80\x05N.')
+        self.assertEqual(pickle.dumps(1, protocol=4), b'\x80\x04K\x01.')
+        self.assertEqual(pickle.dumps(1, protocol=2), b'\x80\x02K\x01.')
+        self.assertEqual(pickle.dumps("abc", protocol=4), b'\x80\x04\x95\x07\x00\x00\x00\x00\x00\x00\x00\x8c\x03abc\x94.')
+
+        big = list(range(100000))
+        self.assertEqual(pickle.loads(pickle.dumps(big)), big)
+        self.assertEqual(pickle.dumps(None, protocol=5), b'\x80\x05N.')
+
+        # the input may be a view on a larger buffer
+        data = pickle.dumps({'a': (1, 2.5, 'x')})
+        self.assertEqual(pickle.loads(bytearray(data)), {'a': (1, 2.5, 'x')})
+        self.assertEqual(pickle.loads(memoryview(b'xx' + data + b'yy')[2:-2]), {'a': (1, 2.5, 'x')})
+
+        with self.assertRaises(pickle.PicklingError):
+            pickle.dumps([1, Unpicklable()])
+        with self.assertRaises(Exception):
+            pickle.loads(data[:-3])
+        self.assertEqual(pickle.loads(pickle.dumps([shared, 'x'])), [shared, 'x'])
+
+    def test_nested_dumps_loads(self):
+        obj = [Nested(3), 'tail']
+        r = pickle.loads(pickle.dumps(obj))
+        self.assertEqual(r[0].value, 3)
+        self.assertEqual(r[0].inner.value, 2)
+        self.assertEqual(r[0].inner.inner.inner.value, 0)
+        self.assertEqual(r[1], 'tail')
+
     def test_intrinsified_module(self):
         import _pickle
         assert pickle.Pickler is _pickle.Pickler
@@ -647,3 +647,67 @@ def test_set_iterator_reduce():
     it = s.__iter__()
     it.__reduce__()
     assert [i for i in it] == [1, 2, 3]
+
+
+def test_int_elements():
+    s = set()
+    for i in range(50):
+        s.add(i * 37 % 101)
+    s.discard(0)
+    s.remove(37)
+    assert_raises(KeyError, s.remove, 37)
+    assert len(s) == 48
+    assert 74.0 in s and 2**70 not in s and 74.5 not in s and True not in s
+    assert s == {i * 37 % 101 for i in range(2, 50)}
+    assert s & {74, 'x'} == {74}
+    s.add('x')
+    assert 'x' in s and 74 in s and len(s) == 49
+    assert list({3, 1, 2}) == [1, 2, 3]
+    assert {-1, -2} == {-2, -1} and len({-1, -2}) == 2
+    frozen = frozenset(range(10))
+    assert frozen == set(range(10)) and hash(frozen) == hash(frozenset(list(range(10))))
+
+
+def test_large_set_algebra():
+    def check(a, b):
+        la, lb = list(a), list(b)
+        expected_and = {x for x in la if x in b}
+        expected_sub = {x for x in la if x not in b}
+        expected_xor = expected_sub | {x for x in lb if x not in a}
+        assert a & b == expected_and and b & a == expected_and
+        assert a.intersection(b) == expected_and
+        assert a - b == expected_sub and a.difference(b) == expected_sub
+        assert a ^ b == expected_xor and b ^ a == expected_xor
+        assert frozenset(a) ^ frozenset(b) == expected_xor
+        assert a.issubset(b) == all(x in b for x in la)
+        assert expected_and <= a and expected_and <= b and (a <= b) == a.issubset(b)
+        assert a.isdisjoint(b) == (not expected_and) and b.isdisjoint(a) == (not expected_and)
+        c = set(a)
+        c -= b
+        assert c == expected_sub
+        c = set(a)
+        c &= b
+        assert c == expected_and
+
+    ints = set(range(0, 3000, 2))
+    check(ints, set(range(0, 3000, 3)))
+    check(ints, {4, 7, 2 ** 40})
+    check({5, 7}, ints)
+    check(ints, set(range(1, 3000, 2)))
+    check(ints, set(ints))
+    strs = {str(i) for i in range(0, 3000, 2)}
+    check(strs, {str(i) for i in range(0, 3000, 3)})
+    check(strs, {'4', 'x', '8'})
+    check({'x', '2'}, strs)
+    check(strs, {str(i) for i in range(1, 3000, 2)})
+    check(strs, ints)
+
+    # the smaller operand provides the keys of the intersection, like in CPython
+    r = {1, 2, 3} & {1.0}
+    assert r == {1} and type(next(iter(r))) is float
+    r = {1.0} & {1, 2, 3}
+    assert r == {1} and type(next(iter(r))) is float
+    d = {'a': 1, 'b': 2, 'c': 3}
+    assert d.keys() & {'a', 'x'} == {'a'}
+    assert d.keys() - {'a'} == {'b', 'c'}
+    assert d.keys() ^ {'a', 'x'} == {'b', 'c', 'x'}
@@ -0,0 +1,106 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import os
+import sys
+import tempfile
+import unittest
+
+try:
+    import _startup_snapshot
+except ImportError:
+    _startup_snapshot = None
+
+
+@unittest.skipIf(_startup_snapshot is None, "requires the GraalPy startup snapshot module")
+class StartupSnapshotTests(unittest.TestCase):
+    def setUp(self):
+        self.tmpdir = tempfile.TemporaryDirectory()
+        self.addCleanup(self.tmpdir.cleanup)
+        self.pkgdir = os.path.join(self.tmpdir.name, "src")
+        os.mkdir(self.pkgdir)
+        os.mkdir(os.path.join(self.pkgdir, "snap_pkg"))
+        with open(os.path.join(self.pkgdir, "snap_pkg", "__init__.py"), "w") as f:
+            f.write("VALUE = 1\n")
+        with open(os.path.join(self.pkgdir, "snap_pkg", "mod.py"), "w") as f:
+            f.write("def answer():\n    return 42\n")
+        self.snapshot = os.path.join(self.tmpdir.name, "startup.snapshot")
+        meta_path = list(sys.meta_path)
+        sys.path.insert(0, self.pkgdir)
+        self.addCleanup(self.restore, meta_path)
+
+    def restore(self, meta_path):
+        sys.meta_path[:] = meta_path
+        sys.path.remove(self.pkgdir)
+        for name in ("snap_pkg", "snap_pkg.mod"):
+            sys.modules.pop(name, None)
+
+    def forget(self):
+        for name in ("snap_pkg", "snap_pkg.mod"):
+            sys.modules.pop(name, None)
+
+    def test_capture_and_restore(self):
+        _startup_snapshot.install(self.snapshot, "snap_pkg.mod")
+        self.assertTrue(os.path.exists(self.snapshot))
+        self.forget()
+
+        _startup_snapshot.install(self.snapshot, "snap_pkg.mod")
+        mod = sys.modules["snap_pkg.mod"]
+        self.assertIsInstance(mod.__spec__.loader, _startup_snapshot.SnapshotLoader)
+        self.assertIsInstance(sys.modules["snap_pkg"].__spec__.loader, _startup_snapshot.SnapshotLoader)
+        self.assertEqual(sys.modules["snap_pkg"].__path__, [os.path.join(self.pkgdir, "snap_pkg")])
+        self.assertEqual(mod.answer(), 42)
+
+    def test_stale_source_is_not_restored(self):
+        _startup_snapshot.install(self.snapshot, "snap_pkg.mod")
+        self.forget()
+        with open(os.path.join(self.pkgdir, "snap_pkg", "mod.py"), "w") as f:
+            f.write("def answer():\n    return 'changed, and longer'\n")
+
+        _startup_snapshot.install(self.snapshot, "snap_pkg.mod")
+        mod = sys.modules["snap_pkg.mod"]
+        self.assertNotIsInstance(mod.__spec__.loader, _startup_snapshot.SnapshotLoader)
+        self.assertEqual(mod.answer(), 'changed, and longer')
+
+    def test_mismatching_snapshot_is_recaptured(self):
+        with open(self.snapshot, "wb") as f:
+            f.write(b"not a snapshot")
+        _startup_snapshot.install(self.snapshot, "snap_pkg")
+        self.assertEqual(sys.modules["snap_pkg"].VALUE, 1)
+        self.assertIn("snap_pkg", _startup_snapshot._read(self.snapshot))
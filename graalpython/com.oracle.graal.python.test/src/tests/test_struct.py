@@ -1,4 +1,4 @@
-# Copyright (c) 2020, 2024, Oracle and/or its affiliates. All rights reserved.
+# Copyright (c) 2020, 2025, Oracle and/or its affiliates. All rights reserved.
 # DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
 #
 # The Universal Permissive License (UPL), Version 1.0
@@ -289,3 +289,33 @@ def test_pack_varargs():
         struct.Struct("iii").pack()
     except struct.error as e:
         assert "expected 3" in str(e), f"expected 3 not in {str(e)}"
+
+
+def test_unpack_columns():
+    if sys.implementation.name != "graalpy":
+        return
+    s = struct.Struct('<iHd?2s')
+    records = [(i - 5, i * 3, i / 2, i % 2 == 0, bytes([65 + i, 66 + i])) for i in range(10)]
+    buf = b''.join(s.pack(*r) for r in records)
+    columns = s.unpack_columns(buf)
+    assert type(columns) is tuple
+    assert len(columns) == 5
+    for idx, column in enumerate(columns):
+        assert type(column) is list
+        assert column == [r[idx] for r in records]
+    assert list(zip(*columns)) == list(s.iter_unpack(buf))
+
+    assert struct.Struct('>Q').unpack_columns(b'\xff' * 16) == ([2 ** 64 - 1, 2 ** 64 - 1],)
+    assert struct.Struct('2b').unpack_columns(b'') == ([], [])
+    assert_raises(struct.error, struct.Struct('i').unpack_columns, b'\0' * 5)
+    assert_raises(struct.error, struct.Struct('').unpack_columns, b'')
+
+
+def test_repeated_formats():
+    # exercises both the per-format cached and the generic pack/unpack paths
+    formats = ['<%di' % n for n in range(1, 8)] + ['>hhl', '@bHq', '=3s?d', '<40B']
+    for fmt in formats * 3:
+        s = struct.Struct(fmt)
+        values = s.unpack(bytes(range(s.size)))
+        assert s.unpack(s.pack(*values)) == values
+        assert struct.unpack(fmt, struct.pack(fmt, *values)) == values
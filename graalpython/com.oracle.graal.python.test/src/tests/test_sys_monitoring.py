@@ -0,0 +1,171 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+import sys
+import unittest
+
+monitoring = getattr(sys, "monitoring", None)
+TOOL = 1  # COVERAGE_ID
+OTHER_TOOL = 2  # PROFILER_ID
+
+
+def f(x):
+    y = x + 1
+    return y
+
+
+def gen():
+    yield 1
+    yield 2
+
+
+def loop(n):
+    total = 0
+    for i in range(n):
+        total += i
+    return total
+
+
+@unittest.skipIf(monitoring is None, "requires sys.monitoring")
+class MonitoringTest(unittest.TestCase):
+
+    def setUp(self):
+        monitoring.use_tool_id(TOOL, "test")
+
+    def tearDown(self):
+        monitoring.free_tool_id(TOOL)
+
+    def test_tool_ids(self):
+        self.assertEqual(monitoring.get_tool(TOOL), "test")
+        self.assertRaises(ValueError, monitoring.use_tool_id, TOOL, "other")
+        self.assertRaises(ValueError, monitoring.use_tool_id, 6, "other")
+        self.assertRaises(ValueError, monitoring.set_events, 4, monitoring.events.PY_START)
+        self.assertRaises(ValueError, monitoring.set_events, TOOL, monitoring.events.C_RETURN)
+        self.assertRaises(ValueError, monitoring.set_local_events, TOOL, f.__code__, monitoring.events.RAISE)
+        self.assertRaises(TypeError, monitoring.set_local_events, TOOL, f, monitoring.events.LINE)
+
+    def test_register_callback(self):
+        def cb(*args):
+            pass
+
+        self.assertIsNone(monitoring.register_callback(TOOL, monitoring.events.PY_START, cb))
+        self.assertIs(monitoring.register_callback(TOOL, monitoring.events.PY_START, None), cb)
+        self.assertRaises(ValueError, monitoring.register_callback, TOOL, monitoring.events.PY_START | monitoring.events.LINE, cb)
+
+    def test_global_events(self):
+        E = monitoring.events
+        events = []
+        monitoring.register_callback(TOOL, E.PY_START, lambda code, offset: events.append(("start", code.co_name)))
+        monitoring.register_callback(TOOL, E.PY_RETURN, lambda code, offset, value: events.append(("return", code.co_name, value)))
+        monitoring.register_callback(TOOL, E.PY_YIELD, lambda code, offset, value: events.append(("yield", code.co_name, value)))
+        monitoring.register_callback(TOOL, E.PY_RESUME, lambda code, offset: events.append(("resume", code.co_name)))
+        monitoring.set_events(TOOL, E.PY_START | E.PY_RETURN | E.PY_YIELD | E.PY_RESUME)
+        self.assertEqual(monitoring.get_events(TOOL), E.PY_START | E.PY_RETURN | E.PY_YIELD | E.PY_RESUME)
+        try:
+            f(1)
+            list(gen())
+        finally:
+            monitoring.set_events(TOOL, 0)
+        self.assertIn(("start", "f"), events)
+        self.assertIn(("return", "f", 2), events)
+        gen_events = [e for e in events if e[1] == "gen"]
+        self.assertEqual(gen_events, [("start", "gen"), ("yield", "gen", 1), ("resume", "gen"), ("yield", "gen", 2), ("resume", "gen"), ("return", "gen", None)])
+
+    def test_local_line_events_and_disable(self):
+        E = monitoring.events
+        lines = []
+
+        def line(code, lineno):
+            self.assertIs(code, f.__code__)
+            lines.append(lineno)
+            return monitoring.DISABLE
+
+        monitoring.register_callback(TOOL, E.LINE, line)
+        monitoring.set_local_events(TOOL, f.__code__, E.LINE)
+        try:
+            self.assertEqual(monitoring.get_local_events(TOOL, f.__code__), E.LINE)
+            self.assertEqual(monitoring.get_local_events(TOOL, gen.__code__), 0)
+            f(1)
+            list(gen())
+            first = f.__code__.co_firstlineno
+            self.assertIn(first + 1, lines)
+            self.assertIn(first + 2, lines)
+            count = len(lines)
+            f(2)
+            self.assertEqual(len(lines), count)
+            monitoring.restart_events()
+            f(3)
+            self.assertEqual(len(lines), 2 * count)
+        finally:
+            monitoring.set_local_events(TOOL, f.__code__, 0)
+
+    def test_disabled_line_in_loop(self):
+        E = monitoring.events
+        lines = []
+        other = []
+
+        def line(code, lineno):
+            lines.append(lineno)
+            return monitoring.DISABLE
+
+        monitoring.register_callback(TOOL, E.LINE, line)
+        monitoring.set_local_events(TOOL, loop.__code__, E.LINE)
+        try:
+            self.assertEqual(loop(100), 4950)
+            self.assertEqual(len(lines), len(set(lines)))
+            first = loop.__code__.co_firstlineno
+            self.assertIn(first + 3, lines)
+            count = len(lines)
+            monitoring.use_tool_id(OTHER_TOOL, "other")
+            try:
+                monitoring.register_callback(OTHER_TOOL, E.LINE, lambda code, lineno: other.append(lineno))
+                monitoring.set_local_events(OTHER_TOOL, loop.__code__, E.LINE)
+                loop(3)
+            finally:
+                monitoring.set_local_events(OTHER_TOOL, loop.__code__, 0)
+                monitoring.register_callback(OTHER_TOOL, E.LINE, None)
+                monitoring.free_tool_id(OTHER_TOOL)
+            self.assertEqual(len(lines), count)
+            self.assertEqual(other.count(first + 3), 3)
+        finally:
+            monitoring.set_local_events(TOOL, loop.__code__, 0)
+
+
+if __name__ == '__main__':
+    unittest.main()
@@ -0,0 +1,96 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+import sys
+import tracemalloc
+import unittest
+
+
+def allocate_lists(n):
+    return [list(range(10)) for _ in range(n)]
+
+
+class TracemallocTests(unittest.TestCase):
+    def setUp(self):
+        if tracemalloc.is_tracing():
+            self.skipTest("tracemalloc must be stopped before the test")
+
+    def tearDown(self):
+        tracemalloc.stop()
+
+    def test_start_stop(self):
+        self.assertFalse(tracemalloc.is_tracing())
+        tracemalloc.start(5)
+        self.assertTrue(tracemalloc.is_tracing())
+        self.assertEqual(tracemalloc.get_traceback_limit(), 5)
+        tracemalloc.stop()
+        self.assertFalse(tracemalloc.is_tracing())
+        self.assertEqual(tracemalloc.get_traced_memory(), (0, 0))
+        self.assertRaises(ValueError, tracemalloc.start, 0)
+
+    def test_object_traceback(self):
+        tracemalloc.start(2)
+        obj = bytearray(100); lineno = sys._getframe().f_lineno
+        tb = tracemalloc.get_object_traceback(obj)
+        self.assertIsNotNone(tb)
+        self.assertEqual(tb[-1].filename, __file__)
+        self.assertEqual(tb[-1].lineno, lineno)
+
+    def test_snapshot_statistics(self):
+        tracemalloc.start()
+        data = allocate_lists(1000)
+        current, peak = tracemalloc.get_traced_memory()
+        self.assertGreater(current, 0)
+        self.assertGreaterEqual(peak, current)
+        snapshot = tracemalloc.take_snapshot()
+        stats = snapshot.statistics("filename")
+        self.assertIn(__file__, [stat.traceback[0].filename for stat in stats])
+        by_line = snapshot.filter_traces([tracemalloc.Filter(True, __file__)]).statistics("lineno")
+        self.assertGreaterEqual(sum(stat.count for stat in by_line), 1000)
+        del data
+
+    def test_clear_traces(self):
+        tracemalloc.start()
+        data = allocate_lists(100)
+        tracemalloc.clear_traces()
+        self.assertEqual(tracemalloc.get_traced_memory(), (0, 0))
+        self.assertIsNone(tracemalloc.get_object_traceback(data))
+
+
+if __name__ == "__main__":
+    unittest.main()
@@ -271,3 +271,59 @@ def test_GR65704():
     __graalpython__._disable_native_zlib(False)
 
     assert decompressed == contents
+
+
+def test_java_gzip_streaming():
+    import gzip
+    contents = b"".join(b"%d LINE\n" % i for i in range(20000))
+    compressed = gzip.compress(contents, mtime=0)
+
+    __graalpython__._disable_native_zlib(True)
+    try:
+        for chunk_size in (1, 7, 4096, len(compressed)):
+            decompressor = zlib.decompressobj(16 + zlib.MAX_WBITS)
+            data = compressed + b"trailing"
+            decompressed = b''.join(decompressor.decompress(data[i:i + chunk_size]) for i in range(0, len(data), chunk_size))
+            decompressed += decompressor.flush()
+            assert decompressed == contents
+            assert decompressor.eof
+            assert decompressor.unused_data == b"trailing"
+
+        decompressor = zlib.decompressobj(16 + zlib.MAX_WBITS)
+        decompressed = decompressor.decompress(compressed, 1000)
+        while decompressor.unconsumed_tail:
+            decompressed += decompressor.decompress(decompressor.unconsumed_tail, 1000)
+        assert decompressed == contents
+
+        assert zlib.decompress(compressed, 16 + zlib.MAX_WBITS) == contents
+
+        corrupted = bytearray(compressed)
+        corrupted[-5] ^= 1
+        try:
+            zlib.decompressobj(16 + zlib.MAX_WBITS).decompress(bytes(corrupted))
+        except zlib.error:
+            pass
+        else:
+            assert False, "expected zlib.error for a corrupted trailer"
+    finally:
+        __graalpython__._disable_native_zlib(False)
+
+
+@unittest.skipIf(sys.implementation.name != "graalpy", "GraalPy-specific threads argument")
+def test_parallel_compress():
+    import gzip
+    contents = b"".join(b"%d LINE %d\n" % (i, i * 7 % 13) for i in range(200000))
+    for level in (-1, 0, 1, 9):
+        compressed = zlib.compress(contents, level, threads=4)
+        assert zlib.decompress(compressed) == contents
+        assert zlib.decompress(zlib.compress(contents, level, -zlib.MAX_WBITS, threads=4), -zlib.MAX_WBITS) == contents
+        assert gzip.decompress(zlib.compress(contents, level, 16 + zlib.MAX_WBITS, threads=0)) == contents
+    # unsupported window sizes and small inputs fall back to the sequential compressor
+    assert zlib.decompress(zlib.compress(contents, wbits=12, threads=4), 12) == contents
+    assert zlib.decompress(zlib.compress(b"small", threads=4)) == b"small"
+    try:
+        zlib.compress(contents, threads=-1)
+    except ValueError:
+        pass
+    else:
+        assert False, "expected ValueError for negative threads"
@@ -335,6 +335,12 @@ public final class PythonLanguage extends TruffleLanguage<PythonContext> {
      */
     public final Assumption noTracingOrProfilingAssumption = Assumption.create("No tracing function was set");
 
+    /**
+     * This assumption will be valid as long as no context started tracing allocations with
+     * {@code tracemalloc}. Stopping the tracing again will not re-validate it.
+     */
+    public final Assumption noTracemallocAssumption = Assumption.create("No tracemalloc tracing was started");
+
     @CompilationFinal private boolean singleContext = true;
 
     @Idempotent
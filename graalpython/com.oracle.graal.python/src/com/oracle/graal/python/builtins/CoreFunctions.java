@@ -43,4 +43,12 @@ public @interface CoreFunctions {
     PythonBuiltinClassType[] extendClasses() default {};
 
     boolean isEager() default false;
+
+    /**
+     * Lazy modules are created like any other builtin module, but their functions and constants
+     * are only added (and {@link PythonBuiltins#initialize} is only run) when the module is first
+     * looked up, which usually happens on its first import. Only modules whose
+     * {@code initialize} has no effects outside of the module itself may be lazy.
+     */
+    boolean isLazy() default false;
 }
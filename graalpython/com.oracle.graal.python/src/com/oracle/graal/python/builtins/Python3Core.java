@@ -110,6 +110,7 @@ import com.oracle.graal.python.builtins.modules.StatResultBuiltins;
 import com.oracle.graal.python.builtins.modules.StringModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.StructModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.SysModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.SysMonitoringModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.ThreadModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.TimeModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.TokenizeModuleBuiltins;
@@ -223,7 +224,11 @@ import com.oracle.graal.python.builtins.objects.array.ArrayBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGenSendBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGenThrowBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGeneratorBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureIterBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioTaskBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.CoroutineWrapperBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.NioEventLoopCoreBuiltins;
 import com.oracle.graal.python.builtins.objects.bool.BoolBuiltins;
 import com.oracle.graal.python.builtins.objects.bytes.ByteArrayBuiltins;
 import com.oracle.graal.python.builtins.objects.bytes.BytesBuiltins;
@@ -576,6 +581,7 @@ public abstract class Python3Core {
                         new WeakRefModuleBuiltins(),
                         new ReferenceTypeBuiltins(),
                         new TracemallocModuleBuiltins(),
+                        new SysMonitoringModuleBuiltins(),
                         // contextvars
                         new ContextVarBuiltins(),
                         new ContextBuiltins(),
@@ -808,6 +814,10 @@ public abstract class Python3Core {
                         new AsyncGeneratorBuiltins(),
                         new AsyncGenSendBuiltins(),
                         new AsyncGenThrowBuiltins(),
+                        new AsyncioFutureBuiltins(),
+                        new AsyncioFutureIterBuiltins(),
+                        new AsyncioTaskBuiltins(),
+                        new NioEventLoopCoreBuiltins(),
 
                         // _tokenizer
                         new TokenizeModuleBuiltins(),
@@ -839,6 +849,10 @@ public abstract class Python3Core {
     @CompilationFinal(dimensions = 1) private final PythonBuiltinClass[] builtinTypes = new PythonBuiltinClass[PythonBuiltinClassType.VALUES.length];
 
     private final Map<TruffleString, PythonModule> builtinModules = new HashMap<>();
+    /**
+     * Builtins of {@link CoreFunctions#isLazy() lazy} modules that have not been materialized yet.
+     */
+    private final Map<TruffleString, PythonBuiltins> lazyBuiltinModules = new HashMap<>();
     @CompilationFinal private PythonModule builtinsModule;
     @CompilationFinal private PythonModule sysModule;
     @CompilationFinal private PDict sysModules;
@@ -1103,6 +1117,7 @@ public abstract class Python3Core {
     public final void removeBuiltinModule(TruffleString name) {
         assert !initialized : "can only remove builtin modules before initialization is finished";
         builtinModules.remove(name);
+        lazyBuiltinModules.remove(name);
         if (sysModules != null) {
             // may already be published
             sysModules.delItem(name);
@@ -1111,7 +1126,22 @@ public abstract class Python3Core {
 
     @TruffleBoundary
     public final PythonModule lookupBuiltinModule(TruffleString name) {
-        return builtinModules.get(name);
+        PythonModule module = builtinModules.get(name);
+        if (module != null && !lazyBuiltinModules.isEmpty()) {
+            materializeLazyBuiltinModule(name, module);
+        }
+        return module;
+    }
+
+    private void materializeLazyBuiltinModule(TruffleString name, PythonModule module) {
+        PythonBuiltins builtin;
+        synchronized (lazyBuiltinModules) {
+            builtin = lazyBuiltinModules.remove(name);
+            if (builtin != null) {
+                builtin.initialize(this);
+                addBuiltinsTo(module, builtin);
+            }
+        }
     }
 
     public final PythonBuiltinClass lookupType(PythonBuiltinClassType type) {
@@ -1238,8 +1268,17 @@ public abstract class Python3Core {
     private void populateBuiltins() {
         assert PythonBuiltinClassType.verifySlotsConventions(builtins);
         for (PythonBuiltins builtin : builtins) {
-            builtin.initialize(this);
             CoreFunctions annotation = builtin.getClass().getAnnotation(CoreFunctions.class);
+            if (annotation.isLazy()) {
+                assert !annotation.isEager() && annotation.extendsModule().isEmpty() && annotation.extendClasses().length == 0 : builtin;
+                TruffleString name = toTruffleStringUncached(annotation.defineModule());
+                if (builtinModules.containsKey(name)) {
+                    // functions and constants are added on first lookup
+                    lazyBuiltinModules.put(name, builtin);
+                }
+                continue;
+            }
+            builtin.initialize(this);
             if (annotation.defineModule().length() > 0) {
                 PythonModule module = builtinModules.get(toTruffleStringUncached(annotation.defineModule()));
                 if (module != null) {
@@ -58,6 +58,7 @@ import static com.oracle.graal.python.nodes.BuiltinNames.J_TYPE_VAR;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_TYPE_VAR_TUPLE;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_TYPING;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_WRAPPER_DESCRIPTOR;
+import static com.oracle.graal.python.nodes.BuiltinNames.J__ASYNCIO;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__CONTEXTVARS;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__CTYPES;
 import static com.oracle.graal.python.nodes.BuiltinNames.J__SOCKET;
@@ -143,7 +144,11 @@ import com.oracle.graal.python.builtins.objects.asyncio.ANextAwaitableBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGenSendBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGenThrowBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.AsyncGeneratorBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureIterBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioTaskBuiltins;
 import com.oracle.graal.python.builtins.objects.asyncio.CoroutineWrapperBuiltins;
+import com.oracle.graal.python.builtins.objects.asyncio.NioEventLoopCoreBuiltins;
 import com.oracle.graal.python.builtins.objects.bool.BoolBuiltins;
 import com.oracle.graal.python.builtins.objects.bytes.ByteArrayBuiltins;
 import com.oracle.graal.python.builtins.objects.bytes.BytesBuiltins;
@@ -456,6 +461,10 @@ public enum PythonBuiltinClassType implements TruffleObject {
     PCoroutineWrapper("coroutine_wrapper", PythonObject, newBuilder().slots(CoroutineWrapperBuiltins.SLOTS)),
     PAsyncGenerator("async_generator", PythonObject, newBuilder().slots(AsyncGeneratorBuiltins.SLOTS)),
     PAnextAwaitable("anext_awaitable", PythonObject, newBuilder().slots(ANextAwaitableBuiltins.SLOTS)),
+    PAsyncioFuture("Future", PythonObject, newBuilder().publishInModule(J__ASYNCIO).basetype().addDict().slots(AsyncioFutureBuiltins.SLOTS)),
+    PAsyncioFutureIter("FutureIter", PythonObject, newBuilder().publishInModule(J__ASYNCIO).disallowInstantiation().slots(AsyncioFutureIterBuiltins.SLOTS)),
+    PAsyncioTask("Task", PAsyncioFuture, newBuilder().publishInModule(J__ASYNCIO).basetype().addDict().slots(AsyncioTaskBuiltins.SLOTS)),
+    PNioEventLoopCore("_NioEventLoopCore", PythonObject, newBuilder().publishInModule(J__ASYNCIO).slots(NioEventLoopCoreBuiltins.SLOTS)),
     PInt("int", PythonObject, newBuilder().publishInModule(J_BUILTINS).basetype().slots(IntBuiltins.SLOTS).doc("""
                     int([x]) -> integer
                     int(x, base=10) -> integer
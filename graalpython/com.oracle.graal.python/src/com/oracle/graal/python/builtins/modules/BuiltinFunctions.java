@@ -123,6 +123,8 @@ import com.oracle.graal.python.builtins.modules.io.IOModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.io.IONodes;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.PNotImplemented;
+import com.oracle.graal.python.builtins.objects.array.ArrayNodes;
+import com.oracle.graal.python.builtins.objects.array.PArray;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary;
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.bytes.PByteArray;
@@ -149,6 +151,7 @@ import com.oracle.graal.python.builtins.objects.function.PArguments;
 import com.oracle.graal.python.builtins.objects.function.PFunction;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.iterator.PArrayIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PDoubleSequenceIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PIntegerSequenceIterator;
 import com.oracle.graal.python.builtins.objects.iterator.PLongSequenceIterator;
@@ -256,8 +259,11 @@ import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
+import com.oracle.graal.python.util.BufferFormat;
 import com.oracle.graal.python.util.CharsetMapping;
 import com.oracle.graal.python.util.OverflowException;
 import com.oracle.graal.python.util.PythonUtils;
@@ -1508,10 +1514,47 @@ public final class BuiltinFunctions extends PythonBuiltins {
 
     @GenerateInline
     @GenerateCached(false)
+    @ImportStatic(PGuards.class)
     public abstract static class MinMaxNode extends Node {
 
         abstract Object execute(VirtualFrame frame, Node inliningTarget, Object arg1, Object[] args, Object keywordArgIn, Object defaultVal, String name, RichCmpOp op);
 
+        /**
+         * Scans the backing array of a non-empty builtin list or tuple with primitive storage
+         * directly. The storages compare with the same strict {@code <} / {@code >} rule as the
+         * generic loop below, so the first of several equal elements (and the NaN behavior) is
+         * preserved.
+         */
+        @Specialization(guards = {"args.length == 0", "isPNone(keywordArgIn)", "getPrimitiveStorage(arg1) != null"})
+        static Object minmaxPrimitiveSequence(Object arg1, @SuppressWarnings("unused") Object[] args, @SuppressWarnings("unused") Object keywordArgIn,
+                        @SuppressWarnings("unused") Object defaultVal, @SuppressWarnings("unused") String name, RichCmpOp op) {
+            SequenceStorage storage = getPrimitiveStorage(arg1);
+            boolean min = op == RichCmpOp.Py_LT;
+            if (storage instanceof IntSequenceStorage intStorage) {
+                return min ? intStorage.minInt() : intStorage.maxInt();
+            } else if (storage instanceof LongSequenceStorage longStorage) {
+                return min ? longStorage.minLong() : longStorage.maxLong();
+            } else {
+                DoubleSequenceStorage doubleStorage = (DoubleSequenceStorage) storage;
+                return min ? doubleStorage.minDouble() : doubleStorage.maxDouble();
+            }
+        }
+
+        static SequenceStorage getPrimitiveStorage(Object obj) {
+            SequenceStorage storage;
+            if (obj instanceof PList list && PGuards.isBuiltinList(list)) {
+                storage = list.getSequenceStorage();
+            } else if (obj instanceof PTuple tuple && PGuards.isBuiltinTuple(tuple)) {
+                storage = tuple.getSequenceStorage();
+            } else {
+                return null;
+            }
+            if (storage.length() > 0 && (storage instanceof IntSequenceStorage || storage instanceof LongSequenceStorage || storage instanceof DoubleSequenceStorage)) {
+                return storage;
+            }
+            return null;
+        }
+
         @Specialization(guards = "args.length == 0")
         static Object minmaxSequenceWithKey(VirtualFrame frame, Node inliningTarget, Object arg1, @SuppressWarnings("unused") Object[] args, Object keywordArgIn, Object defaultVal, String name,
                         RichCmpOp op,
@@ -2055,7 +2098,7 @@ public final class BuiltinFunctions extends PythonBuiltins {
 
         @GenerateInline
         @GenerateCached(false)
-        @ImportStatic(PGuards.class)
+        @ImportStatic({PGuards.class, ArrayNodes.class})
         abstract static class SumIteratorNode extends Node {
             public abstract Object execute(VirtualFrame frame, Node inliningTarget, Object iterator, Object start);
 
@@ -2109,7 +2152,7 @@ public final class BuiltinFunctions extends PythonBuiltins {
 
             @Specialization(guards = "isDouble(start) || isInt(start)")
             static Object sumDoubleIterator(Node inliningTarget, PDoubleSequenceIterator iterator, Object start,
-                            @Cached InlinedConditionProfile startIsDouble,
+                            @Shared @Cached InlinedConditionProfile startIsDouble,
                             @Shared @Cached InlinedLoopConditionProfile loopProfilePrimitive) {
                 /*
                  * Need to make sure we keep start type if the iterator was empty
@@ -2124,6 +2167,57 @@ public final class BuiltinFunctions extends PythonBuiltins {
                 return result;
             }
 
+            @Specialization(guards = {"!iterator.isExhausted()", "iterator.getArray().getFormat() == cachedFormat", "isLongFormat(cachedFormat)", "isManaged(iterator.getArray())"}, limit = "3")
+            static Object sumLongArrayIterator(VirtualFrame frame, Node inliningTarget, PArrayIterator iterator, int start,
+                            @Cached("iterator.getArray().getFormat()") BufferFormat cachedFormat,
+                            @Shared @Cached InlinedLoopConditionProfile loopProfilePrimitive,
+                            @Shared @Cached InlinedLoopConditionProfile loopProfileGeneric,
+                            @Shared @Cached InlinedBranchProfile overflowProfile,
+                            @Shared @Cached PyNumberAddNode addNode,
+                            @Shared @Cached InlinedConditionProfile resultFitsInInt) {
+                // Reads the items directly from the byte storage, no Python code can run in between
+                PArray array = iterator.getArray();
+                byte[] bytes = ArrayNodes.getManagedBytes(array);
+                int length = array.getLength();
+                long longResult = start;
+                while (loopProfilePrimitive.profile(inliningTarget, iterator.index < length)) {
+                    long next = ArrayNodes.readLong(bytes, cachedFormat, iterator.index++);
+                    try {
+                        longResult = PythonUtils.addExact(longResult, next);
+                    } catch (OverflowException e) {
+                        overflowProfile.enter(inliningTarget);
+                        Object objectResult = addNode.execute(frame, longResult, next);
+                        while (loopProfileGeneric.profile(inliningTarget, iterator.index < length)) {
+                            objectResult = addNode.execute(frame, objectResult, ArrayNodes.readLong(bytes, cachedFormat, iterator.index++));
+                        }
+                        return objectResult;
+                    }
+                }
+                return maybeInt(inliningTarget, resultFitsInInt, longResult);
+            }
+
+            @Specialization(guards = {"!iterator.isExhausted()", "iterator.getArray().getFormat() == cachedFormat", "isDoubleFormat(cachedFormat)", "isManaged(iterator.getArray())",
+                            "isDouble(start) || isInt(start)"}, limit = "3")
+            static Object sumDoubleArrayIterator(Node inliningTarget, PArrayIterator iterator, Object start,
+                            @Cached("iterator.getArray().getFormat()") BufferFormat cachedFormat,
+                            @Shared @Cached InlinedConditionProfile startIsDouble,
+                            @Shared @Cached InlinedLoopConditionProfile loopProfilePrimitive) {
+                PArray array = iterator.getArray();
+                byte[] bytes = ArrayNodes.getManagedBytes(array);
+                int length = array.getLength();
+                /*
+                 * Need to make sure we keep start type if the iterator was empty
+                 */
+                if (iterator.index >= length) {
+                    return start;
+                }
+                double result = startIsDouble.profile(inliningTarget, start instanceof Double) ? (double) start : (int) start;
+                while (loopProfilePrimitive.profile(inliningTarget, iterator.index < length)) {
+                    result += ArrayNodes.readDouble(bytes, cachedFormat, iterator.index++);
+                }
+                return result;
+            }
+
             @Fallback
             static Object sumGeneric(VirtualFrame frame, Node inliningTarget, Object iterator, Object start,
                             @Shared @Cached InlinedLoopConditionProfile loopProfilePrimitive,
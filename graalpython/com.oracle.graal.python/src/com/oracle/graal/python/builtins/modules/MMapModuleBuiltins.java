@@ -58,7 +58,7 @@ import com.oracle.graal.python.runtime.PosixConstants;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = "mmap")
+@CoreFunctions(defineModule = "mmap", isLazy = true)
 public final class MMapModuleBuiltins extends PythonBuiltins {
 
     public static final TruffleString T_INIT_BUFFERPROTOCOL = tsLiteral("mmap_init_bufferprotocol");
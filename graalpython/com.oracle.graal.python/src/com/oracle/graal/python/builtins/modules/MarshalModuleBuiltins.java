@@ -84,10 +84,12 @@ import com.oracle.graal.python.builtins.objects.ellipsis.PEllipsis;
 import com.oracle.graal.python.builtins.objects.floats.PFloat;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.set.PBaseSet;
 import com.oracle.graal.python.builtins.objects.str.PString;
 import com.oracle.graal.python.builtins.objects.str.StringNodes;
 import com.oracle.graal.python.builtins.objects.str.StringNodes.IsInternedStringNode;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes.IsSameTypeNode;
 import com.oracle.graal.python.compiler.BytecodeCodeUnit;
 import com.oracle.graal.python.compiler.CodeUnit;
@@ -120,7 +122,12 @@ import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerAsserts;
@@ -343,6 +350,8 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         private static final int BYTES_PER_LONG = Long.SIZE / Byte.SIZE;
         private static final int BYTES_PER_INT = Integer.SIZE / Byte.SIZE;
         private static final int BYTES_PER_SHORT = Short.SIZE / Byte.SIZE;
+        // size of the blocks in which primitive sequences are encoded and decoded
+        private static final int BULK_BLOCK_SIZE = 8192;
 
         /**
          * This class exists to throw errors out of the (un)marshalling code, without having to
@@ -599,15 +608,13 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         }
 
         private void writeInt(int v) {
-            for (int i = 0; i < Integer.SIZE; i += Byte.SIZE) {
-                writeByte((v >> i) & 0xff);
-            }
+            baSupport.putInt(buffer, 0, v);
+            writeBytes(buffer, 0, BYTES_PER_INT);
         }
 
         private void writeShort(short v) {
-            for (int i = 0; i < Short.SIZE; i += Byte.SIZE) {
-                writeByte((v >> i) & 0xff);
-            }
+            baSupport.putShort(buffer, 0, v);
+            writeBytes(buffer, 0, BYTES_PER_SHORT);
         }
 
         private int readInt() {
@@ -619,9 +626,8 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         }
 
         private void writeLong(long v) {
-            for (int i = 0; i < Long.SIZE; i += Byte.SIZE) {
-                writeByte((int) ((v >>> i) & 0xff));
-            }
+            baSupport.putLong(buffer, 0, v);
+            writeBytes(buffer, 0, BYTES_PER_LONG);
         }
 
         private long readLong() {
@@ -721,7 +727,10 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                 throw new MarshalError(ValueError, ErrorMessages.BAD_MARSHAL_DATA);
             }
             Object o = refList.get(n);
-            assert o != null;
+            if (o == null) {
+                // reserved for an object that is still being read
+                throw new MarshalError(ValueError, ErrorMessages.BAD_MARSHAL_DATA);
+            }
             return o;
         }
 
@@ -777,7 +786,11 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
 
         private void writeComplexObject(Object v, int flag) {
             try {
-                if (PyLongCheckExactNode.executeUncached(v)) {
+                // plain strings are the most common objects here, check them before the type nodes
+                if (v instanceof TruffleString) {
+                    writeByte(TYPE_UNICODE | flag);
+                    writeString((TruffleString) v);
+                } else if (PyLongCheckExactNode.executeUncached(v)) {
                     BigInteger bigInt = ((PInt) v).getValue();
                     if (bigInt.signum() == 0) {
                         // we don't handle ZERO in read/writeBigInteger
@@ -809,9 +822,6 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                 } else if (isJavaString(v)) {
                     writeByte(TYPE_UNICODE | flag);
                     writeString(TruffleString.fromJavaStringUncached((String) v, TS_ENCODING));
-                } else if (v instanceof TruffleString) {
-                    writeByte(TYPE_UNICODE | flag);
-                    writeString((TruffleString) v);
                 } else if (PyUnicodeCheckExactNode.executeUncached(v)) {
                     if (version >= 3 && IsInternedStringNode.executeUncached((PString) v)) {
                         writeByte(TYPE_INTERNED | flag);
@@ -820,24 +830,34 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                     }
                     writeString(((PString) v).getValueUncached());
                 } else if (PyTupleCheckExactNode.executeUncached(v)) {
-                    Object[] items = GetObjectArrayNode.executeUncached(v);
-                    if (version >= 4 && items.length < 256) {
+                    SequenceStorage storage = v instanceof PTuple tuple ? tuple.getSequenceStorage() : null;
+                    Object[] items = storage != null && isPrimitiveStorage(storage) ? null : GetObjectArrayNode.executeUncached(v);
+                    int length = items != null ? items.length : storage.length();
+                    if (version >= 4 && length < 256) {
                         writeByte(TYPE_SMALL_TUPLE | flag);
-                        writeByte(items.length);
+                        writeByte(length);
                     } else {
                         writeByte(TYPE_TUPLE | flag);
-                        writeSize(items.length);
+                        writeSize(length);
                     }
-                    for (Object item : items) {
-                        writeObject(item);
+                    if (items == null) {
+                        writePrimitiveItems(storage);
+                    } else {
+                        for (Object item : items) {
+                            writeObject(item);
+                        }
                     }
                 } else if (PyListCheckExactNode.executeUncached(v)) {
                     writeByte(TYPE_LIST | flag);
                     SequenceStorage storage = SequenceNodes.GetSequenceStorageNode.executeUncached(v);
-                    Object[] items = GetInternalObjectArrayNode.executeUncached(SequenceNodes.GetSequenceStorageNode.executeUncached(v));
                     writeSize(storage.length());
-                    for (int i = 0; i < storage.length(); i++) {
-                        writeObject(items[i]);
+                    if (isPrimitiveStorage(storage)) {
+                        writePrimitiveItems(storage);
+                    } else {
+                        Object[] items = GetInternalObjectArrayNode.executeUncached(storage);
+                        for (int i = 0; i < storage.length(); i++) {
+                            writeObject(items[i]);
+                        }
                     }
                 } else if (v instanceof PDict && PyDictCheckExactNode.executeUncached(v)) {
                     HashingStorage dictStorage = ((PDict) v).getDictStorage();
@@ -945,6 +965,71 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             }
         }
 
+        private boolean isPrimitiveStorage(SequenceStorage storage) {
+            return storage instanceof IntSequenceStorage || storage instanceof LongSequenceStorage || storage instanceof BoolSequenceStorage ||
+                            (storage instanceof DoubleSequenceStorage && version > 1);
+        }
+
+        /**
+         * Writes the items of a list or tuple with a primitive storage in blocks instead of going
+         * through {@link #writeObject} for each boxed item. The items are encoded exactly like
+         * {@link #writeObject} would encode them, so the output stays readable by CPython.
+         */
+        private void writePrimitiveItems(SequenceStorage storage) {
+            if (storage instanceof IntSequenceStorage intStorage) {
+                writeTaggedInts(intStorage.getInternalIntArray(), intStorage.length());
+            } else if (storage instanceof LongSequenceStorage longStorage) {
+                writeTaggedLongs(TYPE_INT64, longStorage.getInternalLongArray(), null, longStorage.length());
+            } else if (storage instanceof DoubleSequenceStorage doubleStorage) {
+                writeTaggedLongs(TYPE_BINARY_FLOAT, null, doubleStorage.getInternalDoubleArray(), doubleStorage.length());
+            } else if (storage instanceof BoolSequenceStorage boolStorage) {
+                boolean[] values = boolStorage.getInternalBoolArray();
+                int length = boolStorage.length();
+                byte[] block = new byte[Math.min(length, BULK_BLOCK_SIZE)];
+                for (int start = 0; start < length; start += block.length) {
+                    int n = Math.min(block.length, length - start);
+                    for (int i = 0; i < n; i++) {
+                        block[i] = (byte) (values[start + i] ? TYPE_TRUE : TYPE_FALSE);
+                    }
+                    writeBytes(block, 0, n);
+                }
+            } else {
+                throw CompilerDirectives.shouldNotReachHere();
+            }
+        }
+
+        private void writeTaggedInts(int[] values, int length) {
+            final int itemSize = 1 + BYTES_PER_INT;
+            byte[] block = new byte[Math.min(length, BULK_BLOCK_SIZE / itemSize) * itemSize];
+            int pos = 0;
+            for (int i = 0; i < length; i++) {
+                if (pos == block.length) {
+                    writeBytes(block, 0, pos);
+                    pos = 0;
+                }
+                block[pos] = (byte) TYPE_INT;
+                baSupport.putInt(block, pos + 1, values[i]);
+                pos += itemSize;
+            }
+            writeBytes(block, 0, pos);
+        }
+
+        private void writeTaggedLongs(char type, long[] longs, double[] doubles, int length) {
+            final int itemSize = 1 + BYTES_PER_LONG;
+            byte[] block = new byte[Math.min(length, BULK_BLOCK_SIZE / itemSize) * itemSize];
+            int pos = 0;
+            for (int i = 0; i < length; i++) {
+                if (pos == block.length) {
+                    writeBytes(block, 0, pos);
+                    pos = 0;
+                }
+                block[pos] = (byte) type;
+                baSupport.putLong(block, pos + 1, longs != null ? longs[i] : Double.doubleToLongBits(doubles[i]));
+                pos += itemSize;
+            }
+            writeBytes(block, 0, pos);
+        }
+
         private void writeObjectArray(Object[] a) throws IOException {
             writeInt(a.length);
             for (int i = 0; i < a.length; i++) {
@@ -954,23 +1039,47 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
 
         private void writeDoubleArray(double[] a) {
             writeInt(a.length);
+            byte[] block = new byte[Math.min(a.length, BULK_BLOCK_SIZE / BYTES_PER_LONG) * BYTES_PER_LONG];
+            int pos = 0;
             for (int i = 0; i < a.length; i++) {
-                writeDouble(a[i]);
+                if (pos == block.length) {
+                    writeBytes(block, 0, pos);
+                    pos = 0;
+                }
+                baSupport.putLong(block, pos, Double.doubleToLongBits(a[i]));
+                pos += BYTES_PER_LONG;
             }
+            writeBytes(block, 0, pos);
         }
 
         private void writeLongArray(long[] a) {
             writeInt(a.length);
+            byte[] block = new byte[Math.min(a.length, BULK_BLOCK_SIZE / BYTES_PER_LONG) * BYTES_PER_LONG];
+            int pos = 0;
             for (int i = 0; i < a.length; i++) {
-                writeLong(a[i]);
+                if (pos == block.length) {
+                    writeBytes(block, 0, pos);
+                    pos = 0;
+                }
+                baSupport.putLong(block, pos, a[i]);
+                pos += BYTES_PER_LONG;
             }
+            writeBytes(block, 0, pos);
         }
 
         private void writeIntArray(int[] a) {
             writeInt(a.length);
+            byte[] block = new byte[Math.min(a.length, BULK_BLOCK_SIZE / BYTES_PER_INT) * BYTES_PER_INT];
+            int pos = 0;
             for (int i = 0; i < a.length; i++) {
-                writeInt(a[i]);
+                if (pos == block.length) {
+                    writeBytes(block, 0, pos);
+                    pos = 0;
+                }
+                baSupport.putInt(block, pos, a[i]);
+                pos += BYTES_PER_INT;
             }
+            writeBytes(block, 0, pos);
         }
 
         private void writeStringArray(TruffleString[] a) {
@@ -1000,6 +1109,10 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         }
 
         private Object readObject() throws NumberFormatException {
+            return readObject(readByte());
+        }
+
+        private Object readObject(int code) throws NumberFormatException {
             CompilerAsserts.neverPartOfCompilation();
             depth++;
 
@@ -1007,7 +1120,6 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                 throw new MarshalError(ValueError, ErrorMessages.MAX_MARSHAL_STACK_DEPTH);
             }
 
-            int code = readByte();
             int flag = code & FLAG_REF;
             int type = code & ~FLAG_REF;
 
@@ -1091,9 +1203,9 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                     return tuple;
                 case TYPE_LIST:
                     int listSize = readSize();
-                    Object[] listItems = new Object[listSize];
-                    Object list = addRef.run(PFactory.createList(getLanguage(), listItems));
-                    readArray(listItems);
+                    PList list = PFactory.createList(getLanguage());
+                    addRef.run(list);
+                    list.setSequenceStorage(readListStorage(listSize));
                     return list;
                 case TYPE_DICT:
                     HashingStorage store = PDict.createNewStorage(0);
@@ -1121,7 +1233,10 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                     } else {
                         set = PFactory.createSet(getLanguage(), setStore);
                     }
-                    addRef.run(set);
+                    if (type == TYPE_SET) {
+                        // like in CPython, a frozenset can only be referenced once it is complete
+                        addRef.run(set);
+                    }
                     for (int i = 0; i < setSz; i++) {
                         Object key = readObject();
                         if (key == null) {
@@ -1130,7 +1245,7 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
                         setStore = HashingStorageSetItem.executeUncached(setStore, key, PNone.NO_VALUE);
                     }
                     set.setDictStorage(setStore);
-                    return set;
+                    return type == TYPE_FROZENSET ? addRef.run(set) : set;
                 case TYPE_GRAALPYTHON_CODE:
                     return addRef.run(readCode());
                 case TYPE_GRAALPYTHON_CODE_UNIT:
@@ -1198,13 +1313,112 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
             }
         }
 
+        /**
+         * Reads the items of a list. Leading runs of ints or floats, as written by
+         * {@link #writePrimitiveItems} or by CPython, are decoded directly into a primitive
+         * storage. The first item of another type moves the items read so far into an object
+         * storage and continues item by item.
+         */
+        private SequenceStorage readListStorage(int size) throws NumberFormatException {
+            if (size == 0) {
+                return new ObjectSequenceStorage(PythonUtils.EMPTY_OBJECT_ARRAY);
+            }
+            int code = readByte();
+            int i = 0;
+            // item i if it was already decoded while looking for a primitive value
+            Object pending = null;
+            boolean pendingRead = false;
+            Object[] items;
+            if (code == TYPE_INT || code == (TYPE_INT | FLAG_REF)) {
+                int[] values = new int[size];
+                while (true) {
+                    if (code == TYPE_INT) {
+                        values[i] = readInt();
+                    } else if (code == (TYPE_INT | FLAG_REF)) {
+                        values[i] = readInt();
+                        refList.add(values[i]);
+                    } else if (code == TYPE_REF) {
+                        pending = readReference();
+                        pendingRead = true;
+                        if (!(pending instanceof Integer value)) {
+                            break;
+                        }
+                        values[i] = value;
+                        pendingRead = false;
+                    } else {
+                        break;
+                    }
+                    if (++i == size) {
+                        return new IntSequenceStorage(values);
+                    }
+                    code = readByte();
+                }
+                items = new Object[size];
+                for (int j = 0; j < i; j++) {
+                    items[j] = values[j];
+                }
+            } else if (code == TYPE_INT64) {
+                long[] values = new long[size];
+                while (code == TYPE_INT64) {
+                    values[i] = readLong();
+                    if (++i == size) {
+                        return new LongSequenceStorage(values);
+                    }
+                    code = readByte();
+                }
+                items = new Object[size];
+                for (int j = 0; j < i; j++) {
+                    items[j] = values[j];
+                }
+            } else if (code == TYPE_BINARY_FLOAT || code == (TYPE_BINARY_FLOAT | FLAG_REF)) {
+                double[] values = new double[size];
+                while (true) {
+                    if (code == TYPE_BINARY_FLOAT) {
+                        values[i] = readDouble();
+                    } else if (code == (TYPE_BINARY_FLOAT | FLAG_REF)) {
+                        values[i] = readDouble();
+                        refList.add(values[i]);
+                    } else if (code == TYPE_REF) {
+                        pending = readReference();
+                        pendingRead = true;
+                        if (!(pending instanceof Double value)) {
+                            break;
+                        }
+                        values[i] = value;
+                        pendingRead = false;
+                    } else {
+                        break;
+                    }
+                    if (++i == size) {
+                        return new DoubleSequenceStorage(values);
+                    }
+                    code = readByte();
+                }
+                items = new Object[size];
+                for (int j = 0; j < i; j++) {
+                    items[j] = values[j];
+                }
+            } else {
+                items = new Object[size];
+            }
+            items[i] = pendingRead ? pending : readArrayItem(code);
+            for (i++; i < size; i++) {
+                items[i] = readArrayItem(readByte());
+            }
+            return new ObjectSequenceStorage(items);
+        }
+
+        private Object readArrayItem(int code) throws NumberFormatException {
+            Object item = readObject(code);
+            if (item == null) {
+                throw new MarshalError(PythonBuiltinClassType.EOFError, ErrorMessages.BAD_MARSHAL_DATA);
+            }
+            return item;
+        }
+
         private void readArray(Object[] items) throws NumberFormatException {
             for (int i = 0; i < items.length; i++) {
-                Object item = readObject();
-                if (item == null) {
-                    throw new MarshalError(PythonBuiltinClassType.EOFError, ErrorMessages.BAD_MARSHAL_DATA);
-                }
-                items[i] = item;
+                items[i] = readArrayItem(readByte());
             }
         }
 
@@ -1235,8 +1449,13 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         private int[] readIntArray() {
             int length = readInt();
             int[] a = new int[length];
-            for (int i = 0; i < length; i++) {
-                a[i] = readInt();
+            final int blockLength = BULK_BLOCK_SIZE / BYTES_PER_INT;
+            for (int start = 0; start < length; start += blockLength) {
+                int n = Math.min(blockLength, length - start);
+                byte[] block = readNBytes(n * BYTES_PER_INT);
+                for (int i = 0; i < n; i++) {
+                    a[start + i] = baSupport.getInt(block, i * BYTES_PER_INT);
+                }
             }
             return a;
         }
@@ -1244,8 +1463,13 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         private long[] readLongArray() {
             int length = readInt();
             long[] a = new long[length];
-            for (int i = 0; i < length; i++) {
-                a[i] = readLong();
+            final int blockLength = BULK_BLOCK_SIZE / BYTES_PER_LONG;
+            for (int start = 0; start < length; start += blockLength) {
+                int n = Math.min(blockLength, length - start);
+                byte[] block = readNBytes(n * BYTES_PER_LONG);
+                for (int i = 0; i < n; i++) {
+                    a[start + i] = baSupport.getLong(block, i * BYTES_PER_LONG);
+                }
             }
             return a;
         }
@@ -1253,8 +1477,13 @@ public final class MarshalModuleBuiltins extends PythonBuiltins {
         private double[] readDoubleArray() {
             int length = readInt();
             double[] a = new double[length];
-            for (int i = 0; i < length; i++) {
-                a[i] = readDouble();
+            final int blockLength = BULK_BLOCK_SIZE / BYTES_PER_LONG;
+            for (int start = 0; start < length; start += blockLength) {
+                int n = Math.min(blockLength, length - start);
+                byte[] block = readNBytes(n * BYTES_PER_LONG);
+                for (int i = 0; i < n; i++) {
+                    a[start + i] = Double.longBitsToDouble(baSupport.getLong(block, i * BYTES_PER_LONG));
+                }
             }
             return a;
         }
@@ -1181,6 +1181,7 @@ public final class PolyglotModuleBuiltins extends PythonBuiltins {
             if (storage instanceof EmptySequenceStorage) {
                 arrayObject = seq instanceof PBytesLike ? EMPTY_BYTE_ARRAY : EMPTY_OBJECT_ARRAY;
             } else if (storage instanceof ArrayBasedSequenceStorage basicStorage) {
+                basicStorage.ensureUnshared();
                 arrayObject = basicStorage.getInternalArrayObject();
             } else {
                 throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.NotImplementedError, ErrorMessages.GETTING_POLYGLOT_STORAGE_FOR_NATIVE_STORAGE_NOT_IMPLEMENTED);
@@ -52,7 +52,7 @@ import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
 
-@CoreFunctions(defineModule = "_posixshmem")
+@CoreFunctions(defineModule = "_posixshmem", isLazy = true)
 public final class PosixShMemModuleBuiltins extends PythonBuiltins {
 
     @Override
@@ -75,7 +75,7 @@ import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 
-@CoreFunctions(defineModule = "resource")
+@CoreFunctions(defineModule = "resource", isLazy = true)
 public final class ResourceModuleBuiltins extends PythonBuiltins {
 
     static int RLIMIT_CPU = 0;
@@ -112,7 +112,7 @@ import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = J__SSL)
+@CoreFunctions(defineModule = J__SSL, isLazy = true)
 public final class SSLModuleBuiltins extends PythonBuiltins {
 
     public static final TruffleLogger LOGGER = PythonLanguage.getLogger(SSLModuleBuiltins.class);
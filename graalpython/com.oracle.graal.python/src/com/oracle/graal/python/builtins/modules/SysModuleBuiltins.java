@@ -93,6 +93,7 @@ import static com.oracle.graal.python.nodes.BuiltinNames.T_STDERR;
 import static com.oracle.graal.python.nodes.BuiltinNames.T_STDIN;
 import static com.oracle.graal.python.nodes.BuiltinNames.T_STDOUT;
 import static com.oracle.graal.python.nodes.BuiltinNames.T_SYS;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_SYS_MONITORING;
 import static com.oracle.graal.python.nodes.BuiltinNames.T_UNRAISABLEHOOK;
 import static com.oracle.graal.python.nodes.BuiltinNames.T___BREAKPOINTHOOK__;
 import static com.oracle.graal.python.nodes.BuiltinNames.T___DISPLAYHOOK__;
@@ -585,6 +586,7 @@ public final class SysModuleBuiltins extends PythonBuiltins {
         sys.setAttribute(tsLiteral("orig_argv"), PFactory.createList(language, convertToObjectArray(PythonOptions.getOrigArgv(core.getContext()))));
 
         sys.setAttribute(tsLiteral("stdlib_module_names"), createStdLibModulesSet(language));
+        sys.setAttribute(tsLiteral("monitoring"), core.lookupBuiltinModule(T_SYS_MONITORING));
 
         TruffleString prefix = context.getSysPrefix();
         for (TruffleString name : SysModuleBuiltins.SYS_PREFIX_ATTRIBUTES) {
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules;
+
+import static com.oracle.graal.python.nodes.BuiltinNames.J_SYS_MONITORING;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_SYS_MONITORING;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.Python3Core;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.builtins.objects.namespace.PSimpleNamespace;
+import com.oracle.graal.python.lib.PyUnicodeCheckNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.SysMonitoring;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * The {@code sys.monitoring} namespace (PEP 669). It is registered as a builtin module and exposed
+ * as an attribute of {@code sys}, like in CPython. The state lives in {@link SysMonitoring}.
+ */
+@CoreFunctions(defineModule = J_SYS_MONITORING)
+public final class SysMonitoringModuleBuiltins extends PythonBuiltins {
+
+    private static final TruffleString T_DISABLE = tsLiteral("DISABLE");
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return SysMonitoringModuleBuiltinsFactory.getFactories();
+    }
+
+    @Override
+    public void initialize(Python3Core core) {
+        super.initialize(core);
+        PythonLanguage language = core.getLanguage();
+        addBuiltinConstant("DEBUGGER_ID", 0);
+        addBuiltinConstant("COVERAGE_ID", 1);
+        addBuiltinConstant("PROFILER_ID", 2);
+        addBuiltinConstant("OPTIMIZER_ID", 5);
+        addBuiltinConstant(T_DISABLE, PFactory.createPythonObject(language, PythonBuiltinClassType.PythonObject, PythonBuiltinClassType.PythonObject.getInstanceShape(language)));
+        addBuiltinConstant("MISSING", PFactory.createPythonObject(language, PythonBuiltinClassType.PythonObject, PythonBuiltinClassType.PythonObject.getInstanceShape(language)));
+        PSimpleNamespace events = PFactory.createSimpleNamespace(language);
+        for (int i = 0; i < SysMonitoring.EVENT_COUNT; i++) {
+            events.setAttribute(toTruffleStringUncached(SysMonitoring.EVENT_NAMES[i]), 1 << i);
+        }
+        events.setAttribute(tsLiteral("NO_EVENTS"), 0);
+        addBuiltinConstant("events", events);
+    }
+
+    @TruffleBoundary
+    static SysMonitoring getMonitoring(PythonContext context) {
+        SysMonitoring monitoring = context.getSysMonitoring();
+        if (monitoring == null) {
+            monitoring = context.getOrCreateSysMonitoring(context.lookupBuiltinModule(T_SYS_MONITORING).getAttribute(T_DISABLE));
+        }
+        return monitoring;
+    }
+
+    static void checkValidTool(Node inliningTarget, int toolId) {
+        if (toolId < 0 || toolId >= SysMonitoring.TOOL_COUNT) {
+            throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.INVALID_TOOL_D, toolId);
+        }
+    }
+
+    static void checkToolInUse(Node inliningTarget, SysMonitoring monitoring, int toolId) {
+        checkValidTool(inliningTarget, toolId);
+        if (monitoring.getToolName(toolId) == null) {
+            throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.TOOL_D_IS_NOT_IN_USE, toolId);
+        }
+    }
+
+    static PCode checkCode(Node inliningTarget, String function, Object code) {
+        if (code instanceof PCode pCode) {
+            return pCode;
+        }
+        throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.TypeError, ErrorMessages.ARG_D_MUST_BE_S_NOT_P, function, 2, "code", code);
+    }
+
+    @Builtin(name = "use_tool_id", minNumOfPositionalArgs = 2, parameterNames = {"tool_id", "name"})
+    @ArgumentClinic(name = "tool_id", conversion = ArgumentClinic.ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class UseToolIdNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SysMonitoringModuleBuiltinsClinicProviders.UseToolIdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone use(int toolId, Object name,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Cached PyUnicodeCheckNode unicodeCheckNode) {
+            checkValidTool(inliningTarget, toolId);
+            if (!unicodeCheckNode.execute(inliningTarget, name)) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.TOOL_NAME_MUST_BE_A_STR);
+            }
+            SysMonitoring monitoring = getMonitoring(context);
+            if (monitoring.getToolName(toolId) != null) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.TOOL_D_IS_ALREADY_IN_USE, toolId);
+            }
+            monitoring.useToolId(toolId, name);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "free_tool_id", minNumOfPositionalArgs = 1, parameterNames = {"tool_id"})
+    @ArgumentClinic(name = "tool_id", conversion = ArgumentClinic.ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class FreeToolIdNode extends PythonUnaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SysMonitoringModuleBuiltinsClinicProviders.FreeToolIdNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone free(int toolId,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context) {
+            checkValidTool(inliningTarget, toolId);
+            getMonitoring(context).freeToolId(toolId);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_tool", minNumOfPositionalArgs = 1, parameterNames = {"tool_id"})
+    @ArgumentClinic(name = "tool_id", conversion = ArgumentClinic.ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class GetToolNode extends PythonUnaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SysMonitoringModuleBuiltinsClinicProviders.GetToolNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static Object get(int toolId,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context) {
+            checkValidTool(inliningTarget, toolId);
+            Object name = getMonitoring(context).getToolName(toolId);
+            return name == null ? PNone.NONE : name;
+        }
+    }
+
+    @Builtin(name = "get_events", minNumOfPositionalArgs = 1, parameterNames = {"tool_id"})
+    @ArgumentClinic(name = "tool_id", conversion = ArgumentClinic.ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class GetEventsNode extends PythonUnaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SysMonitoringModuleBuiltinsClinicProviders.GetEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static int get(int toolId,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context) {
+            checkValidTool(inliningTarget, toolId);
+            return getMonitoring(context).getGlobalEvents(toolId);
+        }
+    }
+
+    @Builtin(name = "set_events", minNumOfPositionalArgs = 2, parameterNames = {"tool_id", "event_set"})
+    @ArgumentClinic(name = "tool_id", conversion = ArgumentClinic.ClinicConversion.Int)
+    @ArgumentClinic(name = "event_set", conversion = ArgumentClinic.ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class SetEventsNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SysMonitoringModuleBuiltinsClinicProviders.SetEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone set(int toolId, int eventSet,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Bind PythonLanguage language) {
+            SysMonitoring monitoring = getMonitoring(context);
+            checkToolInUse(inliningTarget, monitoring, toolId);
+            if (eventSet < 0 || eventSet > SysMonitoring.ALL_EVENTS) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.INVALID_EVENT_SET_X, eventSet);
+            }
+            if ((eventSet & (SysMonitoring.C_RETURN | SysMonitoring.C_RAISE)) != 0 && (eventSet & SysMonitoring.CALL) == 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.CANNOT_SET_C_RETURN_OR_C_RAISE_INDEPENDENTLY);
+            }
+            monitoring.setGlobalEvents(toolId, eventSet, language);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_local_events", minNumOfPositionalArgs = 2, parameterNames = {"tool_id", "code"})
+    @ArgumentClinic(name = "tool_id", conversion = ArgumentClinic.ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class GetLocalEventsNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SysMonitoringModuleBuiltinsClinicProviders.GetLocalEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static int get(int toolId, Object code,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context) {
+            checkValidTool(inliningTarget, toolId);
+            PCode pCode = checkCode(inliningTarget, "get_local_events()", code);
+            return getMonitoring(context).getLocalEvents(toolId, pCode.getRootNodeForExtraction());
+        }
+    }
+
+    @Builtin(name = "set_local_events", minNumOfPositionalArgs = 3, parameterNames = {"tool_id", "code", "event_set"})
+    @ArgumentClinic(name = "tool_id", conversion = ArgumentClinic.ClinicConversion.Int)
+    @ArgumentClinic(name = "event_set", conversion = ArgumentClinic.ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class SetLocalEventsNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SysMonitoringModuleBuiltinsClinicProviders.SetLocalEventsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone set(int toolId, Object code, int eventSet,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Bind PythonLanguage language) {
+            SysMonitoring monitoring = getMonitoring(context);
+            checkToolInUse(inliningTarget, monitoring, toolId);
+            PCode pCode = checkCode(inliningTarget, "set_local_events()", code);
+            if (eventSet < 0 || (eventSet & ~SysMonitoring.LOCAL_EVENTS) != 0) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.INVALID_LOCAL_EVENT_SET_X, eventSet);
+            }
+            monitoring.setLocalEvents(toolId, pCode.getRootNodeForExtraction(), pCode, eventSet, language);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "register_callback", minNumOfPositionalArgs = 3, parameterNames = {"tool_id", "event", "func"})
+    @ArgumentClinic(name = "tool_id", conversion = ArgumentClinic.ClinicConversion.Int)
+    @ArgumentClinic(name = "event", conversion = ArgumentClinic.ClinicConversion.Int)
+    @GenerateNodeFactory
+    abstract static class RegisterCallbackNode extends PythonTernaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return SysMonitoringModuleBuiltinsClinicProviders.RegisterCallbackNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static Object register(int toolId, int event, Object func,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context) {
+            checkValidTool(inliningTarget, toolId);
+            if (Integer.bitCount(event) != 1) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.CALLBACK_ONLY_FOR_ONE_EVENT);
+            }
+            int eventIndex = Integer.numberOfTrailingZeros(event);
+            if (eventIndex >= SysMonitoring.EVENT_COUNT) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.INVALID_EVENT_D, event);
+            }
+            Object old = getMonitoring(context).registerCallback(toolId, eventIndex, func == PNone.NONE ? null : func);
+            return old == null ? PNone.NONE : old;
+        }
+    }
+
+    @Builtin(name = "restart_events")
+    @GenerateNodeFactory
+    abstract static class RestartEventsNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone restart(
+                        @Bind PythonContext context) {
+            getMonitoring(context).restartEvents();
+            return PNone.NONE;
+        }
+    }
+}
@@ -44,14 +44,28 @@ import static com.oracle.graal.python.nodes.BuiltinNames.J__TRACEMALLOC;
 
 import java.util.List;
 
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.ArgumentClinic;
 import com.oracle.graal.python.builtins.Builtin;
 import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.list.PList;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
+import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.TracemallocTracer;
+import com.oracle.graal.python.runtime.TracemallocTracer.Trace;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
@@ -71,13 +85,156 @@ public final class TracemallocModuleBuiltins extends PythonBuiltins {
         super.initialize(core);
     }
 
+    private static boolean isTracing(PythonContext context) {
+        TracemallocTracer tracer = context.getTracemallocTracer();
+        return tracer != null && tracer.isTracing();
+    }
+
+    @TruffleBoundary
+    private static PTuple createTraceback(PythonLanguage language, Trace trace) {
+        Object[] frames = trace.frames();
+        Object[] result = new Object[frames.length / 2];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = PFactory.createTuple(language, new Object[]{frames[2 * i], frames[2 * i + 1]});
+        }
+        return PFactory.createTuple(language, result);
+    }
+
+    @Builtin(name = "is_tracing")
+    @GenerateNodeFactory
+    abstract static class IsTracingNode extends PythonBuiltinNode {
+        @Specialization
+        static boolean isTracing(
+                        @Bind PythonContext context) {
+            return TracemallocModuleBuiltins.isTracing(context);
+        }
+    }
+
+    @Builtin(name = "start", parameterNames = {"nframe"})
+    @ArgumentClinic(name = "nframe", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "1")
+    @GenerateNodeFactory
+    abstract static class StartNode extends PythonUnaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return TracemallocModuleBuiltinsClinicProviders.StartNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static PNone start(int nframe,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Bind PythonLanguage language) {
+            if (nframe < 1 || nframe > TracemallocTracer.MAX_NFRAME) {
+                throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.NUMBER_OF_FRAMES_MUST_BE_IN_RANGE, TracemallocTracer.MAX_NFRAME);
+            }
+            startTracing(context, language, nframe);
+            return PNone.NONE;
+        }
+
+        @TruffleBoundary
+        private static void startTracing(PythonContext context, PythonLanguage language, int nframe) {
+            context.getOrCreateTracemallocTracer().start(nframe);
+            if (language.noTracemallocAssumption.isValid()) {
+                language.noTracemallocAssumption.invalidate();
+            }
+        }
+    }
+
+    @Builtin(name = "stop")
+    @GenerateNodeFactory
+    abstract static class StopNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone stop(
+                        @Bind PythonContext context) {
+            TracemallocTracer tracer = context.getTracemallocTracer();
+            if (tracer != null) {
+                tracer.stop();
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "clear_traces")
+    @GenerateNodeFactory
+    abstract static class ClearTracesNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone clearTraces(
+                        @Bind PythonContext context) {
+            if (TracemallocModuleBuiltins.isTracing(context)) {
+                context.getTracemallocTracer().clear();
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_traceback_limit")
+    @GenerateNodeFactory
+    abstract static class GetTracebackLimitNode extends PythonBuiltinNode {
+        @Specialization
+        static int getTracebackLimit(
+                        @Bind PythonContext context) {
+            TracemallocTracer tracer = context.getTracemallocTracer();
+            return tracer != null ? tracer.getTracebackLimit() : TracemallocTracer.DEFAULT_NFRAME;
+        }
+    }
+
+    @Builtin(name = "get_traced_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracedMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        static PTuple getTracedMemory(
+                        @Bind PythonContext context,
+                        @Bind PythonLanguage language) {
+            long current = 0;
+            long peak = 0;
+            if (TracemallocModuleBuiltins.isTracing(context)) {
+                TracemallocTracer tracer = context.getTracemallocTracer();
+                current = tracer.getTracedMemory();
+                peak = tracer.getPeakMemory();
+            }
+            return PFactory.createTuple(language, new Object[]{current, peak});
+        }
+    }
+
+    @Builtin(name = "reset_peak")
+    @GenerateNodeFactory
+    abstract static class ResetPeakNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone resetPeak(
+                        @Bind PythonContext context) {
+            if (TracemallocModuleBuiltins.isTracing(context)) {
+                context.getTracemallocTracer().resetPeak();
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_tracemalloc_memory")
+    @GenerateNodeFactory
+    abstract static class GetTracemallocMemoryNode extends PythonBuiltinNode {
+        @Specialization
+        static long getTracemallocMemory(
+                        @Bind PythonContext context) {
+            TracemallocTracer tracer = context.getTracemallocTracer();
+            return tracer != null ? tracer.getTracemallocMemory() : 0;
+        }
+    }
+
     @Builtin(name = "_get_object_traceback", minNumOfPositionalArgs = 1)
     @GenerateNodeFactory
-    abstract static class GetObjectTracebackNode extends PythonBuiltinNode {
+    abstract static class GetObjectTracebackNode extends PythonUnaryBuiltinNode {
         @Specialization
         static Object getObjectTraceback(Object obj,
-                        @Bind("this") Node inliningTarget) {
-            throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.NotImplementedError);
+                        @Bind PythonContext context,
+                        @Bind PythonLanguage language) {
+            if (!TracemallocModuleBuiltins.isTracing(context)) {
+                return PNone.NONE;
+            }
+            Trace trace = context.getTracemallocTracer().getTrace(obj);
+            if (trace == null) {
+                return PNone.NONE;
+            }
+            return createTraceback(language, trace);
         }
     }
 
@@ -85,9 +242,28 @@ public final class TracemallocModuleBuiltins extends PythonBuiltins {
     @GenerateNodeFactory
     abstract static class GetTracesNode extends PythonBuiltinNode {
         @Specialization
-        static Object getTraces(
-                        @Bind("this") Node inliningTarget) {
-            throw PRaiseNode.raiseStatic(inliningTarget, PythonBuiltinClassType.NotImplementedError);
+        static PList getTraces(
+                        @Bind PythonContext context,
+                        @Bind PythonLanguage language) {
+            if (!TracemallocModuleBuiltins.isTracing(context)) {
+                return PFactory.createList(language);
+            }
+            return createTraces(language, context.getTracemallocTracer());
+        }
+
+        @TruffleBoundary
+        private static PList createTraces(PythonLanguage language, TracemallocTracer tracer) {
+            Trace[] traces = tracer.beginQuery();
+            try {
+                Object[] result = new Object[traces.length];
+                for (int i = 0; i < traces.length; i++) {
+                    Trace trace = traces[i];
+                    result[i] = PFactory.createTuple(language, new Object[]{0, trace.size(), createTraceback(language, trace), trace.totalNframe()});
+                }
+                return PFactory.createList(language, result);
+            } finally {
+                tracer.endQuery();
+            }
         }
     }
 }
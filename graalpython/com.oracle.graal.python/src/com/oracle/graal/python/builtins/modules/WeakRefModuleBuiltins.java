@@ -131,6 +131,9 @@ public final class WeakRefModuleBuiltins extends PythonBuiltins {
             case PickleBuffer -> 96; // _pickle.PickleBuffer
             case PTextIOWrapper -> 176; // _io.TextIOWrapper
             case POrderedDict -> 104;
+            case PAsyncioFuture, // _asyncio.Future
+                    PAsyncioTask // _asyncio.Task
+                    -> 112;
             default -> 0;
             // @formatter:on
         };
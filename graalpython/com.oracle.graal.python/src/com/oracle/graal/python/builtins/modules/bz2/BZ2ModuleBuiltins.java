@@ -49,7 +49,7 @@ import com.oracle.graal.python.nodes.BuiltinNames;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.truffle.api.dsl.NodeFactory;
 
-@CoreFunctions(defineModule = BuiltinNames.J_BZ2)
+@CoreFunctions(defineModule = BuiltinNames.J_BZ2, isLazy = true)
 public final class BZ2ModuleBuiltins extends PythonBuiltins {
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
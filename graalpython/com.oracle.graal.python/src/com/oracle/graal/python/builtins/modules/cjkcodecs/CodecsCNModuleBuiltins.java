@@ -76,7 +76,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = J__CODECS_CN)
+@CoreFunctions(defineModule = J__CODECS_CN, isLazy = true)
 public final class CodecsCNModuleBuiltins extends PythonBuiltins {
 
     @Override
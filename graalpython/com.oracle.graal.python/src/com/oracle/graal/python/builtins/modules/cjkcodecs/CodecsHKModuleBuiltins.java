@@ -76,7 +76,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = J__CODECS_HK)
+@CoreFunctions(defineModule = J__CODECS_HK, isLazy = true)
 public final class CodecsHKModuleBuiltins extends PythonBuiltins {
 
     @Override
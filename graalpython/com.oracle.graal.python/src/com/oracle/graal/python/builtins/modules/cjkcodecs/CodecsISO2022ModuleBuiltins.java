@@ -75,7 +75,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = J__CODECS_ISO2022)
+@CoreFunctions(defineModule = J__CODECS_ISO2022, isLazy = true)
 public final class CodecsISO2022ModuleBuiltins extends PythonBuiltins {
 
     @Override
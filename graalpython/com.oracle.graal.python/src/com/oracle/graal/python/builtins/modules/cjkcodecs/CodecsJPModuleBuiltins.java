@@ -76,7 +76,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = J__CODECS_JP)
+@CoreFunctions(defineModule = J__CODECS_JP, isLazy = true)
 public final class CodecsJPModuleBuiltins extends PythonBuiltins {
 
     @Override
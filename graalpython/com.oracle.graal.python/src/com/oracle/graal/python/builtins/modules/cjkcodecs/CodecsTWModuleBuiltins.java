@@ -76,7 +76,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = J__CODECS_TW)
+@CoreFunctions(defineModule = J__CODECS_TW, isLazy = true)
 public final class CodecsTWModuleBuiltins extends PythonBuiltins {
 
     @Override
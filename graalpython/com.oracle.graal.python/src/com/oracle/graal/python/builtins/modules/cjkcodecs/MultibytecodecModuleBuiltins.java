@@ -74,7 +74,7 @@ import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = "_multibytecodec")
+@CoreFunctions(defineModule = "_multibytecodec", isLazy = true)
 public final class MultibytecodecModuleBuiltins extends PythonBuiltins {
 
     static final byte[] PyMultibyteCodec_CAPSULE_NAME = PyCapsule.capsuleName("multibytecodec.__map_*");
@@ -92,7 +92,7 @@ import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = CSVModuleBuiltins.J__CSV)
+@CoreFunctions(defineModule = CSVModuleBuiltins.J__CSV, isLazy = true)
 public final class CSVModuleBuiltins extends PythonBuiltins {
 
     private static final TruffleString T__DIALECTS = tsLiteral("_dialects");
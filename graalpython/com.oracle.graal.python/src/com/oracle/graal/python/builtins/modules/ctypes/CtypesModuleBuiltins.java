@@ -201,7 +201,7 @@ import com.oracle.truffle.api.strings.TruffleString.EqualNode;
 import com.oracle.truffle.api.strings.TruffleStringBuilder;
 import com.oracle.truffle.nfi.api.SignatureLibrary;
 
-@CoreFunctions(defineModule = J__CTYPES)
+@CoreFunctions(defineModule = J__CTYPES, isLazy = true)
 public final class CtypesModuleBuiltins extends PythonBuiltins {
 
     private static final TruffleString T_DL_ERROR = tsLiteral("dlerror");
@@ -62,6 +62,8 @@ public class LruCacheObject extends PythonBuiltinObject {
     int misses;
     /* the kwd_mark is used delimit args and keywords in the cache keys */
     Object kwdMark;
+    /* the key of calls without arguments, created on first use */
+    Object noArgsKey;
     // Object lru_list_elem_type; PyTypeObject * /* not needed */
     Object cacheInfoType; // cache_info_type
     // Object dict; /* mq: enable when needed */
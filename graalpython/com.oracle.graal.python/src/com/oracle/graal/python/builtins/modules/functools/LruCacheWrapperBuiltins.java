@@ -95,6 +95,7 @@ import com.oracle.graal.python.nodes.object.GetOrCreateDictNode;
 import com.oracle.graal.python.nodes.object.SetDictNode;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
@@ -268,24 +269,33 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
         }
 
         // lru_cache_make_key
-        static Object lruCacheMakeKey(Object kwdMark, Object[] args, PKeyword[] kwds, int typed,
+        static Object lruCacheMakeKey(LruCacheObject self, Object[] args, PKeyword[] kwds, int typed,
                         Node inliningTarget,
                         GetClassNode getClassNode,
                         PyUnicodeCheckExactNode unicodeCheckExact,
                         PyLongCheckExactNode longCheckExact) {
             int kwdsSize = kwds.length;
+            if (kwdsSize == 0 && args.length == 0) {
+                /* calls without arguments always use the same empty tuple key */
+                if (self.noArgsKey == null) {
+                    self.noArgsKey = PFactory.createTuple(PythonLanguage.get(inliningTarget), PythonUtils.EMPTY_OBJECT_ARRAY);
+                }
+                return self.noArgsKey;
+            }
+            if (kwdsSize == 0 && args.length == 1) {
+                Object key = args[0];
+                if (unicodeCheckExact.execute(inliningTarget, key) || longCheckExact.execute(inliningTarget, key)) {
+                    /*
+                     * For common scalar keys, save space by dropping the enclosing args tuple. Unlike
+                     * CPython, we do this for typed caches as well: the type of an exact int or str
+                     * is implied by the key, and all other keys of a typed cache are tuples, which
+                     * never compare equal to it.
+                     */
+                    return key;
+                }
+            }
             /* short path, key will match args anyway, which is a tuple */
             if (typed == 0 && kwdsSize == 0) {
-                if (args.length == 1) {
-                    Object key = args[0];
-                    if (unicodeCheckExact.execute(inliningTarget, key) || longCheckExact.execute(inliningTarget, key)) {
-                        /*
-                         * For common scalar keys, save space by dropping the enclosing args tuple
-                         */
-                        return key;
-                    }
-                }
-
                 return PFactory.createTuple(PythonLanguage.get(inliningTarget), args);
             }
             int argsLen = args.length;
@@ -303,7 +313,7 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
                 keyArray[keyPos++] = item;
             }
             if (kwdsSize != 0) {
-                keyArray[keyPos++] = kwdMark;
+                keyArray[keyPos++] = self.kwdMark;
                 for (PKeyword kv : kwds) {
                     keyArray[keyPos++] = kv.getName();
                     keyArray[keyPos++] = kv.getValue();
@@ -409,8 +419,11 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
             if (cachedItem != null) {
                 assert cachedItem instanceof LruListElemObject : "cachedItem should be an LruListElemObject";
                 LruListElemObject link = (LruListElemObject) cachedItem;
-                lruCacheExtractLink(link);
-                lruCacheAppendLink(self, link);
+                /* repeated hits of the most recently used key do not need to touch the list */
+                if (self.root.prev != link) {
+                    lruCacheExtractLink(link);
+                    lruCacheAppendLink(self, link);
+                }
                 self.hits++;
                 return link.result;
             }
@@ -515,7 +528,7 @@ public final class LruCacheWrapperBuiltins extends PythonBuiltins {
                         @Cached PyLongCheckExactNode longCheckExact,
                         @Cached ObjectHashMap.RemoveNode popItem,
                         @Cached InlinedConditionProfile profile) {
-            Object key = lruCacheMakeKey(self.kwdMark, args, kwds, self.typed,
+            Object key = lruCacheMakeKey(self, args, kwds, self.typed,
                             inliningTarget, getClassNode, unicodeCheckExact, longCheckExact);
             long hash = hashNode.execute(frame, inliningTarget, key);
             Object cached = getItem.execute(frame, inliningTarget, self.cache, key, hash);
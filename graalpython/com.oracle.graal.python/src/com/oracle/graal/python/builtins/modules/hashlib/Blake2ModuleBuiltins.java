@@ -49,7 +49,7 @@ import com.oracle.graal.python.builtins.PythonBuiltins;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.truffle.api.dsl.NodeFactory;
 
-@CoreFunctions(defineModule = "_blake2")
+@CoreFunctions(defineModule = "_blake2", isLazy = true)
 public final class Blake2ModuleBuiltins extends PythonBuiltins {
     // constants taken from CPython's blake2.h
     static final int BLAKE2B_SALTBYTES = 16;
@@ -184,21 +184,22 @@ public abstract class DigestObject extends PythonBuiltinObject {
      * we calculate the digest normally, but we must prevent any further updates.
      *
      * @see #wasReset()
-     * @see #update(byte[], int)
+     * @see #update(byte[], int, int)
      */
     abstract byte[] digest();
 
     /**
      * @return true if the digest has already been calculated and the underlying implementation does
      *         not support cloning, in which case this object can no longer be
-     *         {@linkplain #update(byte[], int) updated}
+     *         {@linkplain #update(byte[], int, int) updated}
      */
     abstract boolean wasReset();
 
     /**
-     * Must not be called if {@link #wasReset()} returns true.
+     * Must not be called if {@link #wasReset()} returns true. May be called without holding the
+     * GIL, so implementations guard the underlying JDK object themselves.
      */
-    abstract void update(byte[] data, int length);
+    abstract void update(byte[] data, int offset, int length);
 
     abstract DigestObject copy() throws CloneNotSupportedException;
 
@@ -209,8 +210,8 @@ public abstract class DigestObject extends PythonBuiltinObject {
     }
 
     /**
-     * Ensures that {@link #update(byte[], int)} is not called after {@link #digest()} if cloning is
-     * not supported. Also caches the digest and ensures that the cache is cleared on update.
+     * Ensures that {@link #update(byte[], int, int)} is not called after {@link #digest()} if cloning
+     * is not supported. Also caches the digest and ensures that the cache is cleared on update.
      */
     private abstract static class DigestObjectBase extends DigestObject {
         private byte[] cachedDigest = null;
@@ -239,19 +240,19 @@ public abstract class DigestObject extends PythonBuiltinObject {
         }
 
         @Override
-        final void update(byte[] data, int length) {
+        final void update(byte[] data, int offset, int length) {
             if (wasReset) {
                 throw CompilerDirectives.shouldNotReachHere("update() called after digest() on an implementation the does not support clone()");
             }
             cachedDigest = null;
-            doUpdate(data, length);
+            doUpdate(data, offset, length);
         }
 
         abstract byte[] calculateDigestOnClone() throws CloneNotSupportedException;
 
         abstract byte[] calculateDigest();
 
-        abstract void doUpdate(byte[] data, int length);
+        abstract void doUpdate(byte[] data, int offset, int length);
     }
 
     private static final class MessageDigestObject extends DigestObjectBase {
@@ -265,25 +266,38 @@ public abstract class DigestObject extends PythonBuiltinObject {
         @Override
         @TruffleBoundary
         DigestObject copy() throws CloneNotSupportedException {
-            return PFactory.createDigestObject(PythonLanguage.get(null), getType(), getAlgorithm(), digest.clone());
+            Object clone;
+            synchronized (digest) {
+                clone = digest.clone();
+            }
+            return PFactory.createDigestObject(PythonLanguage.get(null), getType(), getAlgorithm(), clone);
         }
 
         @Override
         @TruffleBoundary
         byte[] calculateDigestOnClone() throws CloneNotSupportedException {
-            return ((MessageDigest) digest.clone()).digest();
+            MessageDigest clone;
+            synchronized (digest) {
+                clone = (MessageDigest) digest.clone();
+            }
+            return clone.digest();
         }
 
         @Override
         @TruffleBoundary
         byte[] calculateDigest() {
-            return digest.digest();
+            synchronized (digest) {
+                return digest.digest();
+            }
         }
 
         @Override
         @TruffleBoundary
-        void doUpdate(byte[] data, int length) {
-            digest.update(data, 0, length);
+        void doUpdate(byte[] data, int offset, int length) {
+            // the GIL may be released, see DigestObjectBuiltins.UpdateNode
+            synchronized (digest) {
+                digest.update(data, offset, length);
+            }
         }
 
         @Override
@@ -304,25 +318,38 @@ public abstract class DigestObject extends PythonBuiltinObject {
         @Override
         @TruffleBoundary
         DigestObject copy() throws CloneNotSupportedException {
-            return PFactory.createDigestObject(PythonLanguage.get(null), getType(), getAlgorithm(), mac.clone());
+            Object clone;
+            synchronized (mac) {
+                clone = mac.clone();
+            }
+            return PFactory.createDigestObject(PythonLanguage.get(null), getType(), getAlgorithm(), clone);
         }
 
         @Override
         @TruffleBoundary
         byte[] calculateDigestOnClone() throws CloneNotSupportedException {
-            return ((Mac) mac.clone()).doFinal();
+            Mac clone;
+            synchronized (mac) {
+                clone = (Mac) mac.clone();
+            }
+            return clone.doFinal();
         }
 
         @Override
         @TruffleBoundary
         byte[] calculateDigest() {
-            return mac.doFinal();
+            synchronized (mac) {
+                return mac.doFinal();
+            }
         }
 
         @Override
         @TruffleBoundary
-        void doUpdate(byte[] data, int length) {
-            mac.update(data, 0, length);
+        void doUpdate(byte[] data, int offset, int length) {
+            // the GIL may be released, see DigestObjectBuiltins.UpdateNode
+            synchronized (mac) {
+                mac.update(data, offset, length);
+            }
         }
 
         @Override
@@ -59,6 +59,7 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.util.PythonUtils;
@@ -71,6 +72,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 
 @CoreFunctions(extendClasses = {PythonBuiltinClassType.MD5Type, PythonBuiltinClassType.SHA1Type, PythonBuiltinClassType.SHA224Type, PythonBuiltinClassType.SHA256Type,
@@ -79,6 +81,10 @@ import com.oracle.truffle.api.strings.TruffleString;
                 PythonBuiltinClassType.Sha3SHA512Type, PythonBuiltinClassType.Sha3Shake128Type, PythonBuiltinClassType.Sha3Shake256Type,
                 PythonBuiltinClassType.Blake2bType, PythonBuiltinClassType.Blake2sType})
 public final class DigestObjectBuiltins extends PythonBuiltins {
+    // same as in CPython's hashlib.h
+    static final int HASHLIB_GIL_MINSIZE = 2048;
+    private static final int UPDATE_CHUNK_SIZE = 1 << 20;
+
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
         return DigestObjectBuiltinsFactory.getFactories();
@@ -135,17 +141,51 @@ public final class DigestObjectBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached InlinedConditionProfile internalArrayProfile,
+                        @Cached GilNode gil,
                         @Cached PRaiseNode raiseNode) {
             if (self.wasReset()) {
                 throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.UPDATING_FINALIZED_DIGEST_IS_NOT_SUPPORTED);
             }
             try {
-                self.update(bufferLib.getInternalOrCopiedByteArray(buffer), bufferLib.getBufferLength(buffer));
+                int len = bufferLib.getBufferLength(buffer);
+                if (internalArrayProfile.profile(inliningTarget, bufferLib.hasInternalByteArray(buffer))) {
+                    updateMaybeReleasingGil(self, bufferLib.getInternalByteArray(buffer), 0, len, gil);
+                } else {
+                    /*
+                     * Native or mapped memory. Instead of copying the whole buffer up front, we go
+                     * through it in bounded chunks, so hashing huge buffers does not need a
+                     * temporary copy of the same size.
+                     */
+                    byte[] chunk = new byte[Math.min(len, UPDATE_CHUNK_SIZE)];
+                    for (int offset = 0; offset < len; offset += chunk.length) {
+                        int chunkLen = Math.min(chunk.length, len - offset);
+                        bufferLib.readIntoByteArray(buffer, offset, chunk, 0, chunkLen);
+                        updateMaybeReleasingGil(self, chunk, 0, chunkLen, gil);
+                    }
+                }
             } finally {
                 bufferLib.release(buffer, frame, indirectCallData);
             }
             return PNone.NONE;
         }
+
+        /**
+         * Like CPython, we only give up the GIL for inputs of at least {@link #HASHLIB_GIL_MINSIZE}
+         * bytes, for smaller ones the hand-off costs more than the hashing itself.
+         */
+        private static void updateMaybeReleasingGil(DigestObject self, byte[] data, int offset, int length, GilNode gil) {
+            if (length >= HASHLIB_GIL_MINSIZE) {
+                gil.release(true);
+                try {
+                    self.update(data, offset, length);
+                } finally {
+                    gil.acquire();
+                }
+            } else {
+                self.update(data, offset, length);
+            }
+        }
     }
 
     @Builtin(name = "block_size", minNumOfPositionalArgs = 1, isGetter = true)
@@ -40,6 +40,7 @@
  */
 package com.oracle.graal.python.builtins.modules.hashlib;
 
+import static com.oracle.graal.python.builtins.modules.PosixModuleBuiltins.mapPythonSeekWhenceToPosix;
 import static com.oracle.graal.python.builtins.objects.PNone.NO_VALUE;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_HASHLIB;
 import static com.oracle.graal.python.nodes.BuiltinNames.J_SHA3;
@@ -77,6 +78,7 @@ import com.oracle.graal.python.builtins.CoreFunctions;
 import com.oracle.graal.python.builtins.Python3Core;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.hashlib.HashlibModuleBuiltinsClinicProviders.FileDigestNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.modules.hashlib.HashlibModuleBuiltinsClinicProviders.NewNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.modules.hashlib.HashlibModuleBuiltinsClinicProviders.Pbkdf2HmacNodeClinicProviderGen;
 import com.oracle.graal.python.builtins.objects.PNone;
@@ -84,10 +86,12 @@ import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAccessLibrary
 import com.oracle.graal.python.builtins.objects.buffer.PythonBufferAcquireLibrary;
 import com.oracle.graal.python.builtins.objects.common.EconomicMapStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes;
+import com.oracle.graal.python.builtins.objects.exception.OSErrorEnum;
 import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.ssl.LazyBouncyCastleProvider;
 import com.oracle.graal.python.lib.PyLongAsLongNode;
 import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
 import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.attributes.ReadAttributeFromPythonObjectNode;
@@ -96,11 +100,18 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.nodes.statement.AbstractImportNode;
 import com.oracle.graal.python.nodes.util.CastToJavaStringNode;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
+import com.oracle.graal.python.runtime.PosixSupport;
+import com.oracle.graal.python.runtime.PosixSupportLibrary;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.Buffer;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
+import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
@@ -108,6 +119,7 @@ import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Exclusive;
 import com.oracle.truffle.api.dsl.Cached.Shared;
+import com.oracle.truffle.api.dsl.Fallback;
 import com.oracle.truffle.api.dsl.GenerateCached;
 import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
@@ -117,6 +129,7 @@ import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.api.strings.TruffleString.CodeRange;
@@ -455,6 +468,76 @@ public final class HashlibModuleBuiltins extends PythonBuiltins {
         }
     }
 
+    /**
+     * Backs the fast path of {@code hashlib.file_digest} for regular files. The file is read in
+     * large chunks straight from the descriptor, and both reading and hashing happen without the
+     * GIL, so several threads can hash different files in parallel. Returns the number of bytes
+     * hashed, or -1 if the digest is not one of ours and the caller has to fall back to reading
+     * the file in Python.
+     */
+    @Builtin(name = "_file_digest", parameterNames = {"digest", "fd", "offset"})
+    @ArgumentClinic(name = "fd", conversion = ArgumentClinic.ClinicConversion.Int)
+    @ArgumentClinic(name = "offset", conversion = ArgumentClinic.ClinicConversion.Long)
+    @GenerateNodeFactory
+    abstract static class FileDigestNode extends PythonTernaryClinicBuiltinNode {
+        private static final int FILE_DIGEST_BUFFER_SIZE = 1 << 18;
+
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return FileDigestNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization
+        static long fileDigest(VirtualFrame frame, DigestObject digest, int fd, long offset,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context,
+                        @CachedLibrary("context.getPosixSupport()") PosixSupportLibrary posixLib,
+                        @Cached InlinedBranchProfile errorProfile,
+                        @Cached GilNode gil,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (digest.wasReset()) {
+                throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.ValueError, ErrorMessages.UPDATING_FINALIZED_DIGEST_IS_NOT_SUPPORTED);
+            }
+            PosixSupport posixSupport = context.getPosixSupport();
+            long total = 0;
+            try {
+                gil.release(true);
+                try {
+                    posixLib.lseek(posixSupport, fd, offset, mapPythonSeekWhenceToPosix(0));
+                    while (true) {
+                        Buffer chunk;
+                        try {
+                            chunk = posixLib.read(posixSupport, fd, FILE_DIGEST_BUFFER_SIZE);
+                        } catch (PosixException e) {
+                            errorProfile.enter(inliningTarget);
+                            if (e.getErrorCode() == OSErrorEnum.EINTR.getNumber()) {
+                                PythonContext.triggerAsyncActions(inliningTarget);
+                                continue;
+                            }
+                            throw e;
+                        }
+                        if (chunk.length == 0) {
+                            return total;
+                        }
+                        digest.update(chunk.data, 0, (int) chunk.length);
+                        total += chunk.length;
+                    }
+                } finally {
+                    gil.acquire();
+                }
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            }
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        static long notDigest(Object digest, Object fd, Object offset) {
+            return -1;
+        }
+    }
+
     @Builtin(name = "pbkdf2_hmac", minNumOfPositionalArgs = 4, parameterNames = {"hash_name", "password", "salt", "iterations", "dklen"})
     @GenerateNodeFactory
     @ArgumentClinic(name = "hash_name", conversion = ArgumentClinic.ClinicConversion.TString)
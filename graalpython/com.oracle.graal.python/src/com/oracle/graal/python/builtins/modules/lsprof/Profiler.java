@@ -40,23 +40,259 @@
  */
 package com.oracle.graal.python.builtins.modules.lsprof;
 
+import static com.oracle.graal.python.nodes.SpecialAttributeNames.T___NAME__;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.function.PBuiltinFunction;
+import com.oracle.graal.python.builtins.objects.method.PBuiltinMethod;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
 import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyFloatAsDoubleNode;
+import com.oracle.graal.python.nodes.attributes.ReadAttributeFromObjectNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.runtime.PythonContext.ProfileEvent;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.instrumentation.SourceSectionFilter;
+import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.api.object.Shape;
+import com.oracle.truffle.api.strings.TruffleString;
 import com.oracle.truffle.tools.profiler.CPUSampler;
 
+/**
+ * The {@code _lsprof.Profiler} object. By default the profiler is deterministic: {@code enable()}
+ * installs the profiler itself as the thread's profile function and the bytecode interpreters
+ * hand it call and return events directly (see {@link #onProfileEvent}), without materializing a
+ * frame or calling into Python. This gives exact call counts and caller-to-callee edges like
+ * CPython's {@code _lsprof}. When {@code --python.ProfileWithSampler} is set, the profiler falls
+ * back to the Truffle {@link CPUSampler} and reports approximate, sample based timings instead.
+ */
 public class Profiler extends PythonBuiltinObject {
     boolean subcalls;
     boolean builtins;
     double timeunit;
     Object externalTimer;
     double time;
+    /** The sampler used in sampling mode, {@code null} in deterministic mode. */
     final CPUSampler sampler;
 
+    /** Entries keyed by the callee: a {@link RootNode} or a {@link PBuiltinFunction}. */
+    final LinkedHashMap<Object, ProfilerEntry> entries = new LinkedHashMap<>();
+    private final HashMap<Thread, ArrayList<ProfilerContext>> stacks = new HashMap<>();
+
     public Profiler(Object cls, Shape instanceShape, CPUSampler sampler) {
         super(cls, instanceShape);
         this.sampler = sampler;
-        this.sampler.setFilter(SourceSectionFilter.newBuilder().includeInternal(true).build());
-        this.sampler.setPeriod(1);
+        if (sampler != null) {
+            this.sampler.setFilter(SourceSectionFilter.newBuilder().includeInternal(true).build());
+            this.sampler.setPeriod(1);
+        }
+    }
+
+    boolean isSampling() {
+        return sampler != null;
+    }
+
+    static class ProfilerSubEntry {
+        final Object key;
+        long callCount;
+        long recursiveCallCount;
+        long totalTime;
+        long inlineTime;
+        int recursionLevel;
+
+        ProfilerSubEntry(Object key) {
+            this.key = key;
+        }
+    }
+
+    static final class ProfilerEntry extends ProfilerSubEntry {
+        /** Label used for builtins, {@code null} for Python code. */
+        final TruffleString label;
+        final LinkedHashMap<Object, ProfilerSubEntry> callees = new LinkedHashMap<>();
+
+        ProfilerEntry(Object key, TruffleString label) {
+            super(key);
+            this.label = label;
+        }
+    }
+
+    private static final class ProfilerContext {
+        final ProfilerEntry entry;
+        final ProfilerSubEntry subEntry;
+        final long start;
+        long subTime;
+
+        ProfilerContext(ProfilerEntry entry, ProfilerSubEntry subEntry, long start) {
+            this.entry = entry;
+            this.subEntry = subEntry;
+            this.start = start;
+        }
+    }
+
+    /**
+     * Records a profile event. For {@link ProfileEvent#CALL} and {@link ProfileEvent#RETURN} the
+     * callee is the root node of the running function, for the {@code C_*} events it is the
+     * builtin being called. Like any other profile function, the profiler is uninstalled if it
+     * fails (which only an external timer can make it do).
+     */
+    public void onProfileEvent(PythonThreadState threadState, PythonLanguage language, ProfileEvent event, Object callee) {
+        threadState.profilingStart();
+        try {
+            record(event, callee);
+        } catch (Throwable e) {
+            threadState.setProfileFun(null, language);
+            throw e;
+        } finally {
+            threadState.profilingStop();
+        }
+    }
+
+    @TruffleBoundary
+    private void record(ProfileEvent event, Object callee) {
+        switch (event) {
+            case CALL:
+                enter(callee, null);
+                break;
+            case RETURN:
+                leave(callee);
+                break;
+            case C_CALL:
+                if (builtins) {
+                    enter(builtinKey(callee), callee);
+                }
+                break;
+            case C_RETURN:
+            case C_EXCEPTION:
+                if (builtins) {
+                    leave(builtinKey(callee));
+                }
+                break;
+        }
+    }
+
+    private static Object builtinKey(Object callable) {
+        if (callable instanceof PBuiltinMethod method) {
+            return method.getBuiltinFunction();
+        }
+        return callable;
+    }
+
+    private void enter(Object key, Object builtin) {
+        ProfilerEntry entry = entries.get(key);
+        if (entry == null) {
+            entry = new ProfilerEntry(key, builtin != null ? builtinLabel(builtin) : null);
+            entries.put(key, entry);
+        }
+        ArrayList<ProfilerContext> stack = stacks.computeIfAbsent(Thread.currentThread(), t -> new ArrayList<>());
+        ProfilerSubEntry subEntry = null;
+        if (subcalls && !stack.isEmpty()) {
+            ProfilerEntry caller = stack.get(stack.size() - 1).entry;
+            subEntry = caller.callees.get(key);
+            if (subEntry == null) {
+                subEntry = new ProfilerSubEntry(key);
+                caller.callees.put(key, subEntry);
+            }
+            subEntry.recursionLevel++;
+        }
+        entry.recursionLevel++;
+        stack.add(new ProfilerContext(entry, subEntry, now()));
+    }
+
+    private void leave(Object key) {
+        ArrayList<ProfilerContext> stack = stacks.get(Thread.currentThread());
+        if (stack == null || stack.isEmpty()) {
+            // the profiler was enabled in the middle of this call
+            return;
+        }
+        /*
+         * Functions that are left by an exception do not report a return, so close any contexts
+         * above the one that is returning now.
+         */
+        int index = stack.size() - 1;
+        while (index >= 0 && stack.get(index).entry.key != key) {
+            index--;
+        }
+        if (index < 0) {
+            return;
+        }
+        long end = now();
+        while (stack.size() > index) {
+            stop(stack, stack.remove(stack.size() - 1), end);
+        }
+    }
+
+    private static void stop(ArrayList<ProfilerContext> stack, ProfilerContext ctx, long end) {
+        long tt = end - ctx.start;
+        long it = tt - ctx.subTime;
+        if (!stack.isEmpty()) {
+            stack.get(stack.size() - 1).subTime += tt;
+        }
+        account(ctx.entry, tt, it);
+        if (ctx.subEntry != null) {
+            account(ctx.subEntry, tt, it);
+        }
+    }
+
+    private static void account(ProfilerSubEntry entry, long tt, long it) {
+        if (--entry.recursionLevel == 0) {
+            entry.totalTime += tt;
+        } else {
+            entry.recursiveCallCount++;
+        }
+        entry.inlineTime += it;
+        entry.callCount++;
+    }
+
+    /**
+     * Returns the current time in timer ticks: nanoseconds for the default timer, or the value of
+     * the external timer scaled to nanoseconds.
+     */
+    private long now() {
+        if (externalTimer == null || externalTimer == PNone.NONE || externalTimer == PNone.NO_VALUE) {
+            return System.nanoTime();
+        }
+        double value = PyFloatAsDoubleNode.executeUncached(CallNode.executeUncached(externalTimer));
+        return (long) (value * (timeunit > 0 ? timeunit : 1.0) * 1e9);
+    }
+
+    /** Drops the call stacks, e.g. when the profiler is disabled or cleared. */
+    @TruffleBoundary
+    void resetStacks() {
+        stacks.clear();
+        for (ProfilerEntry entry : entries.values()) {
+            entry.recursionLevel = 0;
+            for (ProfilerSubEntry subEntry : entry.callees.values()) {
+                subEntry.recursionLevel = 0;
+            }
+        }
+    }
+
+    @TruffleBoundary
+    void clearEntries() {
+        stacks.clear();
+        entries.clear();
+    }
+
+    private static TruffleString builtinLabel(Object callable) {
+        PBuiltinFunction function = callable instanceof PBuiltinMethod method ? method.getBuiltinFunction() : (PBuiltinFunction) callable;
+        Object enclosingType = function.getEnclosingType();
+        if (enclosingType != null) {
+            return toTruffleStringUncached(String.format("<method '%s' of '%s' objects>", function.getName(), TypeNodes.GetNameNode.executeUncached(enclosingType)));
+        }
+        if (callable instanceof PBuiltinMethod method && method.getSelf() instanceof PythonModule module) {
+            Object moduleName = ReadAttributeFromObjectNode.getUncached().execute(module, T___NAME__);
+            if (moduleName instanceof TruffleString) {
+                return toTruffleStringUncached(String.format("<built-in method %s.%s>", moduleName, function.getName()));
+            }
+        }
+        return toTruffleStringUncached(String.format("<built-in method %s>", function.getName()));
     }
 }
@@ -45,6 +45,7 @@ import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -68,6 +69,7 @@ import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.InstrumentInfo;
@@ -75,6 +77,7 @@ import com.oracle.truffle.api.TruffleLanguage;
 import com.oracle.truffle.api.dsl.GenerateNodeFactory;
 import com.oracle.truffle.api.dsl.NodeFactory;
 import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.RootNode;
 import com.oracle.truffle.api.source.SourceSection;
 import com.oracle.truffle.tools.profiler.CPUSampler;
 import com.oracle.truffle.tools.profiler.CPUSamplerData;
@@ -98,9 +101,12 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         Profiler doit(Object cls, @SuppressWarnings("unused") Object[] args, @SuppressWarnings("unused") PKeyword[] kwargs) {
+            PythonContext context = getContext();
+            if (!context.getOption(PythonOptions.ProfileWithSampler)) {
+                return PFactory.createProfiler(context.getLanguage(), cls, TypeNodes.GetInstanceShape.executeUncached(cls), null);
+            }
             if (Python3Core.HAS_PROFILER_TOOL) {
                 // Avoid ClassNotFoundException
-                PythonContext context = getContext();
                 TruffleLanguage.Env env = context.getEnv();
                 Map<String, InstrumentInfo> instruments = env.getInstruments();
                 InstrumentInfo instrumentInfo = instruments.get(CPUSamplerInstrument.ID);
@@ -147,6 +153,11 @@ public class ProfilerBuiltins extends PythonBuiltins {
         PNone doit(Profiler self, long subcalls, long builtins) {
             self.subcalls = subcalls > 0;
             self.builtins = builtins > 0;
+            if (!self.isSampling()) {
+                PythonLanguage language = getLanguage();
+                getContext().getThreadState(language).setProfileFun(self, language);
+                return PNone.NONE;
+            }
             // TODO: deal with any arguments
             self.time = System.currentTimeMillis();
             self.sampler.setCollecting(true);
@@ -175,6 +186,15 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         PNone doit(Profiler self) {
+            if (!self.isSampling()) {
+                PythonLanguage language = getLanguage();
+                PythonContext.PythonThreadState threadState = getContext().getThreadState(language);
+                if (threadState.getProfileFun() == self) {
+                    threadState.setProfileFun(null, language);
+                }
+                self.resetStacks();
+                return PNone.NONE;
+            }
             self.sampler.setCollecting(false);
             self.time = (System.currentTimeMillis() - self.time) / 1000D;
             return PNone.NONE;
@@ -187,6 +207,10 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         PNone doit(Profiler self) {
+            if (!self.isSampling()) {
+                self.clearEntries();
+                return PNone.NONE;
+            }
             self.sampler.clearData();
             return PNone.NONE;
         }
@@ -219,6 +243,9 @@ public class ProfilerBuiltins extends PythonBuiltins {
         @Specialization
         @TruffleBoundary
         static PList doit(Profiler self) {
+            if (!self.isSampling()) {
+                return getDeterministicStats(self);
+            }
             double avgSampleSeconds = self.sampler.getPeriod() / 1000D;
             List<PTuple> entries = new ArrayList<>();
             for (CPUSamplerData data : self.sampler.getDataList()) {
@@ -234,6 +261,40 @@ public class ProfilerBuiltins extends PythonBuiltins {
             return PFactory.createList(PythonLanguage.get(null), entries.toArray());
         }
 
+        private static PList getDeterministicStats(Profiler self) {
+            PythonLanguage language = PythonLanguage.get(null);
+            // ticks are nanoseconds, see Profiler#now
+            double factor = 1e-9;
+            Map<Object, Object> codes = new HashMap<>();
+            Object[] entries = new Object[self.entries.size()];
+            int entryIdx = 0;
+            for (Profiler.ProfilerEntry entry : self.entries.values()) {
+                Object calls = PNone.NONE;
+                if (self.subcalls) {
+                    Object[] subEntries = new Object[entry.callees.size()];
+                    int subEntryIdx = 0;
+                    for (Profiler.ProfilerSubEntry subEntry : entry.callees.values()) {
+                        Profiler.ProfilerEntry callee = self.entries.get(subEntry.key);
+                        subEntries[subEntryIdx++] = PFactory.createStructSeq(language, LsprofModuleBuiltins.PROFILER_SUBENTRY_DESC, new Object[]{
+                                        getCode(language, codes, callee), subEntry.callCount, subEntry.recursiveCallCount,
+                                        subEntry.totalTime * factor, subEntry.inlineTime * factor});
+                    }
+                    calls = PFactory.createList(language, subEntries);
+                }
+                entries[entryIdx++] = PFactory.createStructSeq(language, LsprofModuleBuiltins.PROFILER_ENTRY_DESC, new Object[]{
+                                getCode(language, codes, entry), entry.callCount, entry.recursiveCallCount,
+                                entry.totalTime * factor, entry.inlineTime * factor, calls});
+            }
+            return PFactory.createList(language, entries);
+        }
+
+        private static Object getCode(PythonLanguage language, Map<Object, Object> codes, Profiler.ProfilerEntry entry) {
+            if (entry.label != null) {
+                return entry.label;
+            }
+            return codes.computeIfAbsent(entry.key, k -> PFactory.createCode(language, ((RootNode) k).getCallTarget()));
+        }
+
         private static void countNode(List<PTuple> entries, ProfilerNode<CPUSampler.Payload> node, double avgSampleTime) {
             PythonLanguage language = PythonLanguage.get(null);
             Collection<ProfilerNode<CPUSampler.Payload>> children = node.getChildren();
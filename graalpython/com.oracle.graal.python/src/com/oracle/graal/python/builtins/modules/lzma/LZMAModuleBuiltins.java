@@ -105,7 +105,7 @@ import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = LZMAModuleBuiltins.J__LZMA)
+@CoreFunctions(defineModule = LZMAModuleBuiltins.J__LZMA, isLazy = true)
 public final class LZMAModuleBuiltins extends PythonBuiltins {
 
     public static final String J__LZMA = "_lzma";
@@ -53,6 +53,7 @@ public final class MemoTable {
     private static final int INITIAL_CAPACITY = 8;
     private static final int OCCUPANCY_EXPONENT = 1; // 2^X relation between capacity and size
     private static final int CAPACITY_INC_EXPONENT = 2; // 2^X increase in capacity when resizing
+    private static final int MAX_RETAINED_CAPACITY = 1024; // largest table kept by reset()
 
     public static final class MemoIterator {
 
@@ -116,6 +117,19 @@ public final class MemoTable {
         this.size = 0;
     }
 
+    /**
+     * Like {@link #clear()}, but keeps the current arrays if they are small enough so that a
+     * pickler reused across many short {@code dumps} calls does not reallocate its memo each time.
+     */
+    public void reset() {
+        if (keys.length > MAX_RETAINED_CAPACITY) {
+            clear();
+        } else if (size != 0) {
+            PythonUtils.fill(keys, 0, keys.length, null);
+            this.size = 0;
+        }
+    }
+
     private void initArrays(int newLength) {
         this.keys = new Object[newLength];
         this.values = new int[newLength];
@@ -89,6 +89,21 @@ public class PData {
         this.size = clearTo;
     }
 
+    /**
+     * Empties the stack and drops the mark, keeping the backing array unless it grew beyond
+     * {@code maxRetained}.
+     */
+    public void reset(int maxRetained) {
+        this.mark = false;
+        this.fence = 0;
+        if (this.data.length > maxRetained) {
+            this.data = new Object[8];
+            this.size = 0;
+        } else {
+            clear(0);
+        }
+    }
+
     public void grow() throws OverflowException {
         int newAllocated = this.data.length << 1;
         if (newAllocated <= 0) {
@@ -360,6 +360,44 @@ public class PPickler extends PythonBuiltinObject {
         return PFactory.createBytes(language, outputBuffer, outputLen);
     }
 
+    /**
+     * Like {@link #getString}, but copies the output so that the buffer can be reused by the next
+     * {@code dumps} call. A frame too small to be kept is dropped while copying instead of moving
+     * the payload over its header first.
+     */
+    public PBytes getBytesCopy(PythonLanguage language) {
+        if (isFraming() && frameStart != -1) {
+            int frameLen = outputLen - frameStart - PickleUtils.FRAME_HEADER_SIZE;
+            if (frameLen < PickleUtils.FRAME_SIZE_MIN) {
+                byte[] result = new byte[outputLen - PickleUtils.FRAME_HEADER_SIZE];
+                PythonUtils.arraycopy(outputBuffer, 0, result, 0, frameStart);
+                PythonUtils.arraycopy(outputBuffer, frameStart + PickleUtils.FRAME_HEADER_SIZE, result, frameStart, frameLen);
+                frameStart = -1;
+                return PFactory.createBytes(language, result);
+            }
+        }
+        commitFrame();
+        return PFactory.createBytes(language, PythonUtils.arrayCopyOf(outputBuffer, outputLen));
+    }
+
+    /**
+     * Brings a pickler used by {@code dumps} back to its initial state so that it can be reused.
+     * Oversized output buffers are dropped rather than retained by the thread.
+     */
+    public void resetForReuse() {
+        memo.reset();
+        if (maxOutputLen > PickleUtils.FRAME_SIZE_TARGET) {
+            maxOutputLen = PickleUtils.WRITE_BUF_SIZE;
+            outputBuffer = new byte[maxOutputLen];
+        }
+        outputLen = 0;
+        frameStart = -1;
+        framing = false;
+        fastNesting = 0;
+        reducerOverride = null;
+        bufferCallback = null;
+    }
+
     // inner nodes
     public abstract static class BasePickleWriteNode extends PicklerNodes.BasePickleNode {
         static final byte[] TUPLE_LEN_2_OPCODE = new byte[]{PickleUtils.OPCODE_EMPTY_TUPLE, PickleUtils.OPCODE_TUPLE1, PickleUtils.OPCODE_TUPLE2, PickleUtils.OPCODE_TUPLE3};
@@ -190,6 +190,9 @@ import com.oracle.truffle.api.object.Shape;
 import com.oracle.truffle.api.strings.TruffleString;
 
 public class PUnpickler extends PythonBuiltinObject {
+    // Largest memo and stack kept by resetForReuse()
+    private static final int MAX_RETAINED_MEMO_SIZE = 1024;
+
     // Pickle data stack, store unpickled objects.
     private final PData stack;
 
@@ -327,6 +330,28 @@ public class PUnpickler extends PythonBuiltinObject {
         this.prefetchedIdx = this.inputLen;
     }
 
+    /**
+     * Brings an unpickler used by {@code loads} back to its initial state so that it can be reused.
+     * Drops all references to the input and to the unpickled objects.
+     */
+    public void resetForReuse() {
+        if (memo.length > MAX_RETAINED_MEMO_SIZE) {
+            memo = new Object[32];
+        } else if (memoLen != 0) {
+            PythonUtils.fill(memo, 0, memo.length, null);
+        }
+        memoLen = 0;
+        stack.reset(MAX_RETAINED_MEMO_SIZE);
+        numMarks = 0;
+        inputBuffer = null;
+        inputLine = null;
+        inputLen = 0;
+        nextReadIdx = 0;
+        prefetchedIdx = 0;
+        buffers = null;
+        proto = 0;
+    }
+
     public void setInputEncoding(TruffleString encoding, TruffleString errors) {
         this.encoding = encoding;
         this.errors = errors;
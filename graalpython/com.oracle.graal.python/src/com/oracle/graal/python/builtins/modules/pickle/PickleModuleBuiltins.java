@@ -62,6 +62,8 @@ import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
 import com.oracle.graal.python.runtime.IndirectCallData;
+import com.oracle.graal.python.runtime.PythonContext.GetThreadStateNode;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.truffle.api.dsl.Bind;
 import com.oracle.truffle.api.dsl.Cached;
@@ -73,7 +75,7 @@ import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.strings.TruffleString;
 
-@CoreFunctions(defineModule = "_pickle")
+@CoreFunctions(defineModule = "_pickle", isLazy = true)
 public final class PickleModuleBuiltins extends PythonBuiltins {
     @Override
     protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
@@ -136,13 +138,23 @@ public final class PickleModuleBuiltins extends PythonBuiltins {
         static Object dump(VirtualFrame frame, @SuppressWarnings("unused") PythonModule self, Object obj, int protocol, boolean fixImports, Object bufferCallback,
                         @Bind("this") Node inliningTarget,
                         @Bind PythonLanguage language,
+                        @Cached GetThreadStateNode getThreadStateNode,
                         @Cached PPickler.DumpNode dumpNode,
                         @Cached PRaiseNode raiseNode) {
-            PPickler pickler = PFactory.createPickler(language);
-            pickler.setProtocol(inliningTarget, raiseNode, protocol, fixImports);
-            pickler.setBufferCallback(inliningTarget, raiseNode, bufferCallback);
-            dumpNode.execute(frame, pickler, obj);
-            return pickler.getString(language);
+            PythonThreadState threadState = getThreadStateNode.execute(inliningTarget);
+            PPickler pickler = threadState.takeCachedPickler();
+            if (pickler == null) {
+                pickler = PFactory.createPickler(language);
+            }
+            try {
+                pickler.setProtocol(inliningTarget, raiseNode, protocol, fixImports);
+                pickler.setBufferCallback(inliningTarget, raiseNode, bufferCallback);
+                dumpNode.execute(frame, pickler, obj);
+                return pickler.getBytesCopy(language);
+            } finally {
+                pickler.resetForReuse();
+                threadState.releaseCachedPickler(pickler);
+            }
         }
     }
 
@@ -195,17 +207,25 @@ public final class PickleModuleBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Bind PythonLanguage language,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @Cached GetThreadStateNode getThreadStateNode,
                         @Cached PUnpickler.LoadNode loadNode,
                         @Cached PyObjectGetIter getIter) {
+            PythonThreadState threadState = getThreadStateNode.execute(inliningTarget);
+            PUnpickler unpickler = threadState.takeCachedUnpickler();
+            if (unpickler == null) {
+                unpickler = PFactory.createUnpickler(language);
+            }
             try {
-                PUnpickler unpickler = PFactory.createUnpickler(language);
-                byte[] data = bufferLib.getCopiedByteArray(buffer);
-                unpickler.setStringInput(data, data.length);
+                // the unpickler only reads from the input, so there is no need to copy it
+                byte[] data = bufferLib.getInternalOrCopiedByteArray(buffer);
+                unpickler.setStringInput(data, bufferLib.getBufferLength(buffer));
                 unpickler.setInputEncoding(encoding, errors);
                 unpickler.setBuffers(frame, inliningTarget, getIter, buffers);
                 unpickler.setFixImports(fixImports);
                 return loadNode.execute(frame, unpickler);
             } finally {
+                unpickler.resetForReuse();
+                threadState.releaseCachedUnpickler(unpickler);
                 bufferLib.release(buffer, frame, indirectCallData);
             }
         }
@@ -40,27 +40,23 @@
  */
 package com.oracle.graal.python.builtins.modules.zlib;
 
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.DEF_BUF_SIZE;
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.EMPTY_BYTE_ARRAY;
 import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.MAX_WBITS;
 import static com.oracle.graal.python.nodes.ErrorMessages.WHILE_SETTING_ZDICT;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.ZLibError;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.util.zip.CRC32;
 import java.util.zip.DataFormatException;
-import java.util.zip.GZIPInputStream;
 import java.util.zip.Inflater;
-import java.util.zip.ZipException;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.bytes.BytesNodes;
 import com.oracle.graal.python.nodes.ErrorMessages;
 import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.runtime.GilNode;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.util.PythonUtils;
-import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
@@ -68,215 +64,328 @@ import com.oracle.truffle.api.object.Shape;
 
 public class JavaDecompress extends JavaZlibCompObject {
 
-    private static final int HEADER_TRAILER_SIZE = 10;
-
-    private static class ZLibByteInputStream extends ByteArrayInputStream {
+    /**
+     * Inputs of at least this many bytes are inflated with the GIL released, smaller ones are not
+     * worth the hand-off.
+     */
+    private static final int GIL_RELEASE_MIN_SIZE = 64 * 1024;
+
+    /** Output buffers up to this size are kept by the stream and reused by the next call. */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int GZIP_MAGIC1 = 0x1f;
+    private static final int GZIP_MAGIC2 = 0x8b;
+    private static final int GZIP_DEFLATED = 8;
+    private static final int GZIP_MIN_HEADER_SIZE = 10;
+    private static final int GZIP_TRAILER_SIZE = 8;
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private static final int GZIP_HEADER = 0;
+    private static final int GZIP_BODY = 1;
+    private static final int GZIP_TRAILER = 2;
+    private static final int GZIP_DONE = 3;
+
+    /**
+     * The inflater state of one stream. The gzip container is handled here rather than by
+     * {@link java.util.zip.GZIPInputStream}: only the few header and trailer bytes are buffered,
+     * the deflate body is handed to a raw {@link Inflater} straight from the caller's array.
+     */
+    private static final class DecompressStream {
+
+        final Inflater inflater;
+        final CRC32 crc; // only for gzip streams
+
+        int gzipState;
+        byte[] frame; // buffered gzip header or trailer bytes
+        int frameLen;
+
+        byte[] out = EMPTY_BYTE_ARRAY;
+        int remaining; // unconsumed bytes at the end of the last input
+
+        DecompressStream(int wbits) {
+            boolean gzip = isGZIPFormat(wbits);
+            this.inflater = new Inflater(gzip || wbits < 0);
+            this.crc = gzip ? new CRC32() : null;
+            this.gzipState = gzip ? GZIP_HEADER : GZIP_BODY;
+            this.frame = gzip ? new byte[GZIP_MIN_HEADER_SIZE] : null;
+        }
 
-        public ZLibByteInputStream(byte[] buf, int offset, int length) {
-            super(buf, offset, length);
+        boolean isGZIP() {
+            return crc != null;
         }
 
-        public void setBuffer(byte[] bytes, int off, int length) {
-            this.buf = bytes;
-            this.pos = off;
-            this.mark = off;
-            this.count = length;
+        boolean isFinished() {
+            return isGZIP() ? gzipState == GZIP_DONE : inflater.finished();
         }
 
-        public void append(byte[] bytes, int off, int length) {
-            if (buf.length == 0) {
-                setBuffer(bytes, off, length);
-                return;
+        /**
+         * Feeds {@code data[0:length]} to the stream and returns at most {@code maxLen} bytes of
+         * output. Does not touch any Python objects, so it may run without the GIL.
+         */
+        byte[] process(byte[] data, int length, int maxLen, int bufSize, byte[] zdict) throws DataFormatException {
+            int offset = 0;
+            if (gzipState == GZIP_HEADER) {
+                int headerLen = parseGZIPHeader(data, length);
+                if (headerLen < 0) {
+                    appendFrame(data, 0, length);
+                    remaining = 0;
+                    return EMPTY_BYTE_ARRAY;
+                }
+                offset = headerLen - frameLen;
+                frameLen = 0;
+                gzipState = GZIP_BODY;
             }
-            if ((buf.length - count) < length) {
-                buf = PythonUtils.arrayCopyOf(buf, buf.length + length);
+            if (gzipState != GZIP_BODY) {
+                remaining = readTrailer(data, offset, length - offset);
+                return EMPTY_BYTE_ARRAY;
             }
-            if (length >= 0) {
-                PythonUtils.arraycopy(bytes, off, buf, count, length);
+            inflater.setInput(data, offset, length - offset);
+            byte[] result = inflate(maxLen, bufSize, zdict);
+            int rem = inflater.getRemaining();
+            if (isGZIP() && inflater.finished()) {
+                gzipState = GZIP_TRAILER;
+                rem = readTrailer(data, length - rem, rem);
             }
-            count += length;
+            remaining = rem;
+            return result;
         }
 
-        public int length() {
-            return count - pos;
+        private byte[] inflate(int maxLen, int bufSize, byte[] zdict) throws DataFormatException {
+            byte[] buf = out;
+            if (buf.length < Math.min(maxLen, bufSize)) {
+                buf = new byte[Math.min(maxLen, bufSize)];
+            }
+            int limit = Math.min(maxLen, buf.length);
+            int n = 0;
+            boolean zdictIsSet = false;
+            while (n < maxLen) {
+                if (n == limit) {
+                    buf = PythonUtils.arrayCopyOf(buf, (int) Math.min(Math.min(maxLen, MAX_ARRAY_SIZE), buf.length * 2L));
+                    limit = Math.min(maxLen, buf.length);
+                    if (n == limit) {
+                        throw new OutOfMemoryError();
+                    }
+                }
+                int requested = limit - n;
+                int written = inflater.inflate(buf, n, requested);
+                if (written == 0) {
+                    if (!zdictIsSet && zdict.length > 0 && inflater.needsDictionary()) {
+                        setDictionary(zdict);
+                        zdictIsSet = true;
+                        // we inflate again with a dictionary
+                        continue;
+                    }
+                    break;
+                }
+                if (crc != null) {
+                    crc.update(buf, n, written);
+                }
+                n += written;
+                if (written < requested) {
+                    // the inflater has no more output for now
+                    break;
+                }
+            }
+            if (buf.length <= MAX_RETAINED_BUFFER_SIZE) {
+                out = buf;
+            }
+            return n == 0 ? EMPTY_BYTE_ARRAY : PythonUtils.arrayCopyOf(buf, n);
         }
-    }
-
-    private static class GZIPDecompressStream extends GZIPInputStream {
 
-        public GZIPDecompressStream(InputStream in) throws IOException {
-            super(in);
+        void setDictionary(byte[] zdict) throws DataFormatException {
+            try {
+                inflater.setDictionary(zdict);
+            } catch (IllegalArgumentException e) {
+                throw new DataFormatException("invalid dictionary");
+            }
         }
 
-        public Inflater getInflater() {
-            return inf;
+        private int byteAt(byte[] data, int i) {
+            return (i < frameLen ? frame[i] : data[i - frameLen]) & 0xFF;
         }
 
-        public void setInput() throws IOException {
-            fill();
+        /**
+         * Parses the gzip header spread over the buffered bytes and {@code data[0:length]}.
+         * Returns the total header length or {@code -1} if more input is needed.
+         */
+        private int parseGZIPHeader(byte[] data, int length) throws DataFormatException {
+            int avail = frameLen + length;
+            if (avail < GZIP_MIN_HEADER_SIZE) {
+                return -1;
+            }
+            if (byteAt(data, 0) != GZIP_MAGIC1 || byteAt(data, 1) != GZIP_MAGIC2) {
+                throw new DataFormatException("incorrect header check");
+            }
+            if (byteAt(data, 2) != GZIP_DEFLATED) {
+                throw new DataFormatException("unknown compression method");
+            }
+            int flags = byteAt(data, 3);
+            int pos = GZIP_MIN_HEADER_SIZE;
+            if ((flags & FEXTRA) != 0) {
+                if (avail < pos + 2) {
+                    return -1;
+                }
+                pos += 2 + (byteAt(data, pos) | (byteAt(data, pos + 1) << 8));
+            }
+            if ((flags & FNAME) != 0) {
+                pos = skipZeroTerminated(data, pos, avail);
+            }
+            if (pos >= 0 && (flags & FCOMMENT) != 0) {
+                pos = skipZeroTerminated(data, pos, avail);
+            }
+            if (pos < 0) {
+                return -1;
+            }
+            if ((flags & FHCRC) != 0) {
+                if (avail < pos + 2) {
+                    return -1;
+                }
+                CRC32 headerCrc = new CRC32();
+                for (int i = 0; i < pos; i++) {
+                    headerCrc.update(byteAt(data, i));
+                }
+                int expected = byteAt(data, pos) | (byteAt(data, pos + 1) << 8);
+                if (((int) headerCrc.getValue() & 0xFFFF) != expected) {
+                    throw new DataFormatException("header crc mismatch");
+                }
+                pos += 2;
+            }
+            return pos <= avail ? pos : -1;
         }
-    }
-
-    private static class DecompressStream {
 
-        Inflater inflater;
-        GZIPDecompressStream stream;
+        private int skipZeroTerminated(byte[] data, int pos, int avail) {
+            for (int i = pos; i < avail; i++) {
+                if (byteAt(data, i) == 0) {
+                    return i + 1;
+                }
+            }
+            return -1;
+        }
 
-        protected final ZLibByteInputStream in;
+        private void appendFrame(byte[] data, int offset, int length) {
+            if (frame.length - frameLen < length) {
+                frame = PythonUtils.arrayCopyOf(frame, Math.max(frame.length * 2, frameLen + length));
+            }
+            PythonUtils.arraycopy(data, offset, frame, frameLen, length);
+            frameLen += length;
+        }
 
-        DecompressStream(Inflater inflater) {
-            this.inflater = inflater;
-            this.stream = null;
-            if (inflater == null) {
-                this.in = new ZLibByteInputStream(new byte[HEADER_TRAILER_SIZE + 1], 0, 0);
-            } else {
-                this.in = null;
+        /**
+         * Collects the gzip trailer from {@code data[offset:offset+length]} and verifies it once
+         * complete. Returns the number of bytes that are not part of the stream.
+         */
+        private int readTrailer(byte[] data, int offset, int length) throws DataFormatException {
+            if (gzipState == GZIP_DONE) {
+                return length;
+            }
+            int n = Math.min(GZIP_TRAILER_SIZE - frameLen, length);
+            appendFrame(data, offset, n);
+            if (frameLen == GZIP_TRAILER_SIZE) {
+                if (readInt(frame, 0) != (int) crc.getValue()) {
+                    throw new DataFormatException("incorrect data check");
+                }
+                if (readInt(frame, 4) != (int) inflater.getBytesWritten()) {
+                    throw new DataFormatException("incorrect length check");
+                }
+                frameLen = 0;
+                gzipState = GZIP_DONE;
             }
+            return length - n;
         }
-    }
 
-    @TruffleBoundary
-    private static DecompressStream createStream(int wbits) {
-        if (wbits > (MAX_WBITS + 9) && wbits <= (MAX_WBITS + 16)) {
-            // We delay the creation of a GZIP stream until we get an input; GZIPInputStream will
-            // check the data header during initialization.
-            return new DecompressStream(null);
-        } else {
-            Inflater inf = new Inflater(wbits < 0);
-            return new DecompressStream(inf);
+        private static int readInt(byte[] b, int i) {
+            return (b[i] & 0xFF) | (b[i + 1] & 0xFF) << 8 | (b[i + 2] & 0xFF) << 16 | (b[i + 3] & 0xFF) << 24;
         }
     }
 
-    private final DecompressStream stream;
-
-    public JavaDecompress(Object cls, Shape instanceShape, int wbits, byte[] zdict) {
-        super(cls, instanceShape, wbits, zdict);
-        this.stream = createStream(wbits);
+    private static boolean isGZIPFormat(int wbits) {
+        return wbits > (MAX_WBITS + 9) && wbits <= (MAX_WBITS + 16);
     }
 
-    private static boolean isGZIPStreamReady(DecompressStream stream, byte[] data, int length, boolean force, Node node) {
-        assert !isReady(stream);
-        stream.in.append(data, 0, length);
-        try {
-            if (stream.in.length() > HEADER_TRAILER_SIZE || force) {
-                // GZIPInputStream will read the header during initialization
-                stream.stream = new GZIPDecompressStream(stream.in);
-                stream.inflater = stream.stream.getInflater();
-                stream.stream.setInput();
-                return true;
-            }
-        } catch (ZipException ze) {
-            throw PRaiseNode.raiseStatic(node, ZLibError, ze);
-        } catch (IOException e) {
-            throw CompilerDirectives.shouldNotReachHere(e);
+    private static byte[] process(DecompressStream stream, byte[] data, int length, int maxLen, int bufSize, byte[] zdict) throws DataFormatException {
+        if (length >= GIL_RELEASE_MIN_SIZE) {
+            return processWithoutGil(stream, data, length, maxLen, bufSize, zdict);
+        }
+        synchronized (stream) {
+            return stream.process(data, length, maxLen, bufSize, zdict);
         }
-        return false;
     }
 
-    private static boolean isGZIPStreamFinishing(DecompressStream stream, byte[] data, int length, Node node) {
-        if (stream.stream != null && stream.inflater.finished()) {
-            stream.in.append(data, 0, length);
-            try {
-                if (stream.in.length() >= HEADER_TRAILER_SIZE) {
-                    stream.stream.setInput();
-                    // this should trigger reading trailer
-                    stream.stream.read();
-                    stream.stream = null;
-                }
-                return true;
-            } catch (ZipException ze) {
-                throw PRaiseNode.raiseStatic(node, ZLibError, ze);
-            } catch (IOException e) {
-                throw CompilerDirectives.shouldNotReachHere(e);
+    @SuppressWarnings("try")
+    private static byte[] processWithoutGil(DecompressStream stream, byte[] data, int length, int maxLen, int bufSize, byte[] zdict) throws DataFormatException {
+        // the stream lock must only be taken after releasing the GIL
+        try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+            synchronized (stream) {
+                return stream.process(data, length, maxLen, bufSize, zdict);
             }
         }
-        return false;
     }
 
-    @TruffleBoundary
-    private boolean setInflaterInput(byte[] data, int length, Node node) {
+    private final DecompressStream stream;
+    private int inputMaxLength; // helper for copy operation
+
+    public JavaDecompress(Object cls, Shape instanceShape, int wbits, byte[] zdict) {
+        super(cls, instanceShape, wbits, zdict);
+        this.stream = new DecompressStream(wbits);
+    }
+
+    private void setInput(byte[] data, int length, int maxLength) {
         canCopy = inputData == null;
         inputData = data;
         inputLen = length;
-        if (!isReady()) {
-            return isGZIPStreamReady(stream, data, length, false, node);
-        } else {
-            if (isGZIPStreamFinishing(stream, data, length, node)) {
-                return false;
-            }
-        }
-        stream.inflater.setInput(data, 0, length);
-        return true;
+        inputMaxLength = maxLength;
     }
 
     @TruffleBoundary
     protected JavaDecompress copy(Node node) {
         assert canCopy();
-        boolean isRAW = wbits < 0;
         JavaDecompress obj = PFactory.createJavaZLibCompObjectDecompress(PythonLanguage.get(node), wbits, zdict);
-        if (isRAW) {
+        if (wbits < 0) {
             obj.setDictionary();
         }
         if (inputData != null) {
+            // replay the only input seen so far to bring the copy into the same state
+            obj.setInput(inputData, inputLen, inputMaxLength);
             try {
-                if (!obj.setInflaterInput(inputData, inputLen, node)) {
-                    return obj;
-                }
-                int n = obj.stream.inflater.inflate(new byte[ZLibModuleBuiltins.DEF_BUF_SIZE]);
-                if (!isRAW && n == 0 && obj.stream.inflater.needsDictionary() && getZdict().length > 0) {
-                    obj.setDictionary();
-                    obj.stream.inflater.inflate(new byte[ZLibModuleBuiltins.DEF_BUF_SIZE]);
-                }
+                process(obj.stream, inputData, inputLen, toMaxLen(inputMaxLength), DEF_BUF_SIZE, getZdict());
             } catch (DataFormatException e) {
                 // pass
             }
         }
+        obj.setEof(isEof());
         obj.setUnconsumedTail(getUnconsumedTail());
         obj.setUnusedData(getUnusedData());
         return obj;
     }
 
+    private static int toMaxLen(int maxLength) {
+        return maxLength == 0 ? Integer.MAX_VALUE : maxLength;
+    }
+
     @TruffleBoundary
     private byte[] createByteArray(byte[] bytes, int length, int maxLength, int bufSize, Node nodeForRaise) {
-
-        if (!setInflaterInput(bytes, length, nodeForRaise)) {
-            return EMPTY_BYTE_ARRAY;
+        setInput(bytes, length, maxLength);
+        byte[] result;
+        try {
+            result = process(stream, bytes, length, toMaxLen(maxLength), bufSize, getZdict());
+        } catch (DataFormatException e) {
+            throw PRaiseNode.raiseStatic(nodeForRaise, ZLibError, e);
         }
-
-        int maxLen = maxLength == 0 ? Integer.MAX_VALUE : maxLength;
-        byte[] result = new byte[Math.min(maxLen, bufSize)];
-
-        int bytesWritten = result.length;
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        boolean zdictIsSet = false;
-        while (baos.size() < maxLen && bytesWritten == result.length) {
-            try {
-                int len = Math.min(maxLen - baos.size(), result.length);
-                bytesWritten = stream.inflater.inflate(result, 0, len);
-                if (bytesWritten == 0 && !zdictIsSet && stream.inflater.needsDictionary()) {
-                    if (getZdict().length > 0) {
-                        setDictionary();
-                        zdictIsSet = true;
-                        // we inflate again with a dictionary
-                        bytesWritten = stream.inflater.inflate(result, 0, len);
-                    } else {
-                        throw PRaiseNode.raiseStatic(nodeForRaise, ZLibError, WHILE_SETTING_ZDICT);
-                    }
-                }
-            } catch (DataFormatException e) {
-                throw PRaiseNode.raiseStatic(nodeForRaise, ZLibError, e);
-            }
-            baos.write(result, 0, bytesWritten);
+        if (result.length == 0 && getZdict().length == 0 && stream.inflater.needsDictionary()) {
+            throw PRaiseNode.raiseStatic(nodeForRaise, ZLibError, WHILE_SETTING_ZDICT);
         }
-        return baos.toByteArray();
+        return result;
     }
 
     protected byte[] decompress(VirtualFrame frame, byte[] bytes, int length, int maxLength, int bufSize,
                     Node inliningTarget, BytesNodes.ToBytesNode toBytesNode) {
         byte[] result = createByteArray(bytes, length, maxLength, bufSize, inliningTarget);
-        if (!isReady()) {
-            return result;
-        }
         setEof(isFinished());
         byte[] unusedDataBytes = toBytesNode.execute(frame, getUnusedData());
         int unconsumedTailLen = getUnconsumedTail().getSequenceStorage().length();
@@ -284,37 +393,20 @@ public class JavaDecompress extends JavaZlibCompObject {
         return result;
     }
 
+    @TruffleBoundary
     protected static byte[] decompress(byte[] bytes, int length, int wbits, int bufsize, Node node) {
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        byte[] resultArray = new byte[bufsize];
-        DecompressStream stream = createStream(wbits);
+        DecompressStream stream = new DecompressStream(wbits);
         try {
-            if (!isReady(stream)) {
-                isGZIPStreamReady(stream, bytes, length, true, node);
-                while (stream.stream.available() > 0) {
-                    int howmany = stream.stream.read(resultArray);
-                    baos.write(resultArray, 0, howmany);
-                }
-            } else {
-                stream.inflater.setInput(bytes, 0, length);
-                while (!stream.inflater.finished()) {
-                    int howmany = stream.inflater.inflate(resultArray);
-                    if (howmany == 0 && stream.inflater.needsInput()) {
-                        throw PRaiseNode.raiseStatic(node, ZLibError, ErrorMessages.ERROR_5_WHILE_DECOMPRESSING);
-                    }
-                    baos.write(resultArray, 0, howmany);
-                }
-                stream.inflater.end();
+            byte[] result = process(stream, bytes, length, Integer.MAX_VALUE, bufsize, EMPTY_BYTE_ARRAY);
+            if (!stream.isFinished()) {
+                throw PRaiseNode.raiseStatic(node, ZLibError, ErrorMessages.ERROR_5_WHILE_DECOMPRESSING);
             }
-        } catch (ZipException ze) {
-            throw PRaiseNode.raiseStatic(node, ZLibError, ze);
+            return result;
         } catch (DataFormatException e) {
             throw PRaiseNode.raiseStatic(node, ZLibError, ErrorMessages.WHILE_PREPARING_TO_S_DATA, "decompress");
-        } catch (IOException e) {
-            throw new RuntimeException(e);
+        } finally {
+            stream.inflater.end();
         }
-
-        return baos.toByteArray();
     }
 
     private void saveUnconsumedInput(byte[] data, int length,
@@ -338,34 +430,20 @@ public class JavaDecompress extends JavaZlibCompObject {
         }
     }
 
-    private static boolean isReady(DecompressStream stream) {
-        return stream.inflater != null;
-    }
-
-    private boolean isReady() {
-        return isReady(stream);
-    }
-
     @TruffleBoundary
     protected void setDictionary() {
-        if (isReady() && getZdict().length > 0) {
+        if (getZdict().length > 0) {
             stream.inflater.setDictionary(getZdict());
         }
     }
 
     @TruffleBoundary
     private int getRemaining() {
-        if (!isReady()) {
-            return 0;
-        }
-        return stream.inflater.getRemaining();
+        return stream.remaining;
     }
 
     @TruffleBoundary
     private boolean isFinished() {
-        if (!isReady()) {
-            return false;
-        }
-        return stream.inflater.finished();
+        return stream.isFinished();
     }
 }
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.modules.zlib;
+
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.DEF_BUF_SIZE;
+import static com.oracle.graal.python.builtins.modules.zlib.ZLibModuleBuiltins.MAX_WBITS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Checksum;
+import java.util.zip.Deflater;
+
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+
+/**
+ * A pigz-style compressor for {@code zlib.compress(..., threads=n)}. The input is split into
+ * blocks that are deflated concurrently, each primed with the last 32 KiB of the preceding block
+ * as preset dictionary. All but the last block end with a sync flush, so the raw deflate streams
+ * concatenate into a single valid stream that any inflater can read. The zlib or gzip framing
+ * and the checksum over the whole input are written here.
+ */
+final class ParallelCompress {
+
+    static final int BLOCK_SIZE = 128 * 1024;
+    private static final int DICT_SIZE = 32 * 1024;
+
+    private static final int GZIP_OS_UNKNOWN = 255;
+
+    /**
+     * Shared by all calls and contexts. Its threads are daemons and die when idle, so an unused
+     * pool keeps nothing alive.
+     */
+    private static volatile ExecutorService executor;
+
+    private ParallelCompress() {
+    }
+
+    private static ExecutorService getExecutor() {
+        ExecutorService result = executor;
+        if (result == null) {
+            synchronized (ParallelCompress.class) {
+                result = executor;
+                if (result == null) {
+                    result = Executors.newCachedThreadPool(runnable -> {
+                        Thread t = Executors.defaultThreadFactory().newThread(runnable);
+                        t.setDaemon(true);
+                        t.setName(String.format("python-zlib-%s", t.getName()));
+                        return t;
+                    });
+                    executor = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether {@link #compress} supports the given {@code wbits}. Java's {@link Deflater} always
+     * uses a 32 KiB window, so only the default window size can be announced in the header.
+     */
+    static boolean isSupported(int wbits) {
+        return wbits == MAX_WBITS || wbits == -MAX_WBITS || wbits == MAX_WBITS + 16;
+    }
+
+    static boolean isWorthIt(int length, int threads) {
+        return threads > 1 && length >= 2 * BLOCK_SIZE;
+    }
+
+    @TruffleBoundary
+    @SuppressWarnings("try")
+    static byte[] compress(byte[] bytes, int length, int level, int wbits, int threads) {
+        assert isSupported(wbits);
+        int numBlocks = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        Checksum checksum = wbits > MAX_WBITS ? new CRC32() : wbits > 0 ? new Adler32() : null;
+        List<Callable<byte[]>> tasks = new ArrayList<>(numBlocks + 1);
+        for (int i = 0; i < numBlocks; i++) {
+            int start = i * BLOCK_SIZE;
+            int end = Math.min(start + BLOCK_SIZE, length);
+            tasks.add(() -> deflateBlock(bytes, start, end, level, end == length));
+        }
+        if (checksum != null) {
+            tasks.add(() -> {
+                checksum.update(bytes, 0, length);
+                return null;
+            });
+        }
+        AtomicReferenceArray<byte[]> blocks;
+        try (GilNode.UncachedRelease gil = GilNode.uncachedRelease()) {
+            blocks = invokeAll(tasks, Math.min(threads, tasks.size()));
+        }
+        return assemble(blocks, numBlocks, length, level, wbits, checksum);
+    }
+
+    private static byte[] deflateBlock(byte[] bytes, int start, int end, int level, boolean last) {
+        Deflater deflater = new Deflater(level, true);
+        try {
+            if (start > 0) {
+                int dictStart = Math.max(0, start - DICT_SIZE);
+                deflater.setDictionary(bytes, dictStart, start - dictStart);
+            }
+            deflater.setInput(bytes, start, end - start);
+            if (last) {
+                deflater.finish();
+            }
+            byte[] out = new byte[Math.max(DEF_BUF_SIZE, (end - start) / 2)];
+            int n = 0;
+            while (true) {
+                if (n == out.length) {
+                    out = PythonUtils.arrayCopyOf(out, out.length * 2);
+                }
+                int written = deflater.deflate(out, n, out.length - n, last ? Deflater.NO_FLUSH : Deflater.SYNC_FLUSH);
+                n += written;
+                if (last ? deflater.finished() : n < out.length) {
+                    break;
+                }
+            }
+            return PythonUtils.arrayCopyOf(out, n);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] assemble(AtomicReferenceArray<byte[]> blocks, int numBlocks, int length, int level, int wbits, Checksum checksum) {
+        int headerSize = wbits > MAX_WBITS ? 10 : wbits > 0 ? 2 : 0;
+        int trailerSize = wbits > MAX_WBITS ? 8 : wbits > 0 ? 4 : 0;
+        long total = headerSize + trailerSize;
+        for (int i = 0; i < numBlocks; i++) {
+            total += blocks.get(i).length;
+        }
+        if (total > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError();
+        }
+        byte[] result = new byte[(int) total];
+        int pos = 0;
+        if (wbits > MAX_WBITS) {
+            result[pos++] = (byte) 0x1f;
+            result[pos++] = (byte) 0x8b;
+            result[pos++] = Deflater.DEFLATED;
+            pos += 5; // no flags, no modification time
+            result[pos++] = (byte) (level == Deflater.BEST_COMPRESSION ? 2 : level == Deflater.BEST_SPEED ? 4 : 0);
+            result[pos++] = (byte) GZIP_OS_UNKNOWN;
+        } else if (wbits > 0) {
+            int cmf = 0x78; // deflate with a 32 KiB window
+            int flevel = level == Deflater.DEFAULT_COMPRESSION ? 2 : level < 2 ? 0 : level < 6 ? 1 : level == 6 ? 2 : 3;
+            int flg = flevel << 6;
+            flg += 31 - (cmf * 256 + flg) % 31;
+            result[pos++] = (byte) cmf;
+            result[pos++] = (byte) flg;
+        }
+        for (int i = 0; i < numBlocks; i++) {
+            byte[] block = blocks.get(i);
+            PythonUtils.arraycopy(block, 0, result, pos, block.length);
+            pos += block.length;
+        }
+        if (wbits > MAX_WBITS) {
+            writeIntLE(result, pos, (int) checksum.getValue());
+            writeIntLE(result, pos + 4, length);
+        } else if (wbits > 0) {
+            int adler = (int) checksum.getValue();
+            result[pos] = (byte) (adler >>> 24);
+            result[pos + 1] = (byte) (adler >>> 16);
+            result[pos + 2] = (byte) (adler >>> 8);
+            result[pos + 3] = (byte) adler;
+        }
+        return result;
+    }
+
+    private static void writeIntLE(byte[] b, int pos, int value) {
+        b[pos] = (byte) value;
+        b[pos + 1] = (byte) (value >>> 8);
+        b[pos + 2] = (byte) (value >>> 16);
+        b[pos + 3] = (byte) (value >>> 24);
+    }
+
+    /**
+     * Runs the tasks on at most {@code parallelism} threads of the shared pool and returns their
+     * results by index.
+     */
+    private static <T> AtomicReferenceArray<T> invokeAll(List<Callable<T>> tasks, int parallelism) {
+        AtomicReferenceArray<T> results = new AtomicReferenceArray<>(tasks.size());
+        AtomicInteger next = new AtomicInteger();
+        Callable<Void> worker = () -> {
+            for (int i = next.getAndIncrement(); i < tasks.size(); i = next.getAndIncrement()) {
+                results.set(i, tasks.get(i).call());
+            }
+            return null;
+        };
+        ExecutorService pool = getExecutor();
+        List<Future<Void>> futures = new ArrayList<>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            futures.add(pool.submit(worker));
+        }
+        for (Future<Void> future : futures) {
+            getUninterruptibly(future);
+        }
+        return results;
+    }
+
+    private static <T> T getUninterruptibly(Future<T> future) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return future.get();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException re) {
+                        throw re;
+                    } else if (e.getCause() instanceof Error err) {
+                        throw err;
+                    }
+                    throw CompilerDirectives.shouldNotReachHere(e);
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
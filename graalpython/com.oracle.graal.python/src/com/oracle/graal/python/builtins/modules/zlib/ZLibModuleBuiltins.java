@@ -80,6 +80,7 @@ import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonBinaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonClinicBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.PythonTernaryClinicBuiltinNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentCastNode;
 import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProvider;
@@ -107,6 +108,7 @@ import com.oracle.truffle.api.interop.InteropLibrary;
 import com.oracle.truffle.api.interop.UnsupportedMessageException;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
 
 @CoreFunctions(defineModule = ZLibModuleBuiltins.J_ZLIB)
@@ -486,13 +488,14 @@ public final class ZLibModuleBuiltins extends PythonBuiltins {
         }
     }
 
-    // zlib.compress(data, level=-1)
-    @Builtin(name = "compress", minNumOfPositionalArgs = 1, numOfPositionalOnlyArgs = 1, parameterNames = {"data", "level", "wbits"})
+    // zlib.compress(data, level=-1, wbits=MAX_WBITS, *, threads=1)
+    @Builtin(name = "compress", minNumOfPositionalArgs = 1, numOfPositionalOnlyArgs = 1, parameterNames = {"data", "level", "wbits"}, keywordOnlyNames = {"threads"})
     @ArgumentClinic(name = "data", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
     @ArgumentClinic(name = "level", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "ZLibModuleBuiltins.Z_DEFAULT_COMPRESSION", useDefaultForNone = true)
     @ArgumentClinic(name = "wbits", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "ZLibModuleBuiltins.MAX_WBITS", useDefaultForNone = true)
+    @ArgumentClinic(name = "threads", conversion = ArgumentClinic.ClinicConversion.Int, defaultValue = "1", useDefaultForNone = true)
     @GenerateNodeFactory
-    public abstract static class CompressNode extends PythonTernaryClinicBuiltinNode {
+    public abstract static class CompressNode extends PythonQuaternaryClinicBuiltinNode {
 
         @Override
         protected ArgumentClinicProvider getArgumentClinic() {
@@ -500,22 +503,39 @@ public final class ZLibModuleBuiltins extends PythonBuiltins {
         }
 
         @Specialization
-        static PBytes compress(VirtualFrame frame, Object buffer, int level, int wbits,
+        static PBytes compress(VirtualFrame frame, Object buffer, int level, int wbits, int threads,
                         @Bind("this") Node inliningTarget,
                         @Bind PythonLanguage language,
                         @CachedLibrary(limit = "3") PythonBufferAccessLibrary bufferLib,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
-                        @Cached CompressInnerNode innerNode) {
+                        @Cached InlinedConditionProfile parallelProfile,
+                        @Cached CompressInnerNode innerNode,
+                        @Cached PRaiseNode raiseNode) {
+            if (threads < 0) {
+                throw raiseNode.raise(inliningTarget, ValueError, ErrorMessages.MUST_BE_NON_NEGATIVE, "threads");
+            }
             try {
                 byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
                 int len = bufferLib.getBufferLength(buffer);
-                byte[] resultArray = innerNode.execute(inliningTarget, bytes, len, level, wbits);
+                byte[] resultArray;
+                int nthreads = threads == 0 ? availableProcessors() : threads;
+                if (parallelProfile.profile(inliningTarget, ParallelCompress.isWorthIt(len, nthreads) && ParallelCompress.isSupported(wbits) && CompressInnerNode.isValidLevel(level))) {
+                    // the parallel compressor is independent of the zlib backend
+                    resultArray = ParallelCompress.compress(bytes, len, level, wbits, nthreads);
+                } else {
+                    resultArray = innerNode.execute(inliningTarget, bytes, len, level, wbits);
+                }
                 return PFactory.createBytes(language, resultArray);
             } finally {
                 bufferLib.release(buffer, frame, indirectCallData);
             }
         }
 
+        @TruffleBoundary
+        private static int availableProcessors() {
+            return Runtime.getRuntime().availableProcessors();
+        }
+
         @GenerateInline
         @GenerateCached(false)
         abstract static class CompressInnerNode extends Node {
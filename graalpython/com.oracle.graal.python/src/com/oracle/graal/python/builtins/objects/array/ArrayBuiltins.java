@@ -130,6 +130,9 @@ import com.oracle.graal.python.runtime.exception.PythonErrorType;
 import com.oracle.graal.python.runtime.object.PFactory;
 import com.oracle.graal.python.runtime.sequence.PSequence;
 import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.BufferFormat;
 import com.oracle.graal.python.util.OverflowException;
@@ -1013,6 +1016,7 @@ public final class ArrayBuiltins extends PythonBuiltins {
 
     @Builtin(name = J_EXTEND, minNumOfPositionalArgs = 2)
     @GenerateNodeFactory
+    @ImportStatic(ArrayNodes.class)
     abstract static class ExtendNode extends PythonBinaryBuiltinNode {
         @Specialization(guards = "self.getFormat() == value.getFormat()")
         static Object extend(PArray self, PArray value,
@@ -1037,27 +1041,66 @@ public final class ArrayBuiltins extends PythonBuiltins {
             }
         }
 
-        @Specialization
-        static Object extend(VirtualFrame frame, PArray self, PSequence value,
+        @Specialization(guards = {"self.getFormat() == cachedFormat", "isPrimitiveFormat(cachedFormat)", "isManaged(self)"}, limit = "3")
+        static Object extendPrimitive(VirtualFrame frame, PArray self, PSequence value,
                         @Bind("this") Node inliningTarget,
+                        @Cached("self.getFormat()") BufferFormat cachedFormat,
                         @Exclusive @Cached ArrayNodes.PutValueNode putValueNode,
-                        @Cached SequenceNodes.GetSequenceStorageNode getSequenceStorageNode,
-                        @Cached SequenceStorageNodes.GetItemScalarNode getItemNode,
+                        @Exclusive @Cached SequenceNodes.GetSequenceStorageNode getSequenceStorageNode,
+                        @Exclusive @Cached SequenceStorageNodes.GetItemScalarNode getItemNode,
                         @Exclusive @Cached ArrayNodes.EnsureCapacityNode ensureCapacityNode,
                         @Exclusive @Cached ArrayNodes.SetLengthNode setLengthNode,
                         @Exclusive @Cached PRaiseNode raiseNode) {
             SequenceStorage storage = getSequenceStorageNode.execute(inliningTarget, value);
             int storageLength = storage.length();
-            try {
-                int newLength = PythonUtils.addExact(self.getLength(), storageLength);
-                if (newLength != self.getLength()) {
-                    self.checkCanResize(inliningTarget, raiseNode);
-                    ensureCapacityNode.execute(inliningTarget, self, newLength);
+            ensureCapacity(inliningTarget, self, storageLength, ensureCapacityNode, raiseNode);
+            /*
+             * Items of lists and tuples with primitive storages are copied directly into the byte
+             * array. An item that does not fit into the format ends the direct copy, the generic
+             * loop then raises the error, keeping the items before it like CPython does.
+             */
+            byte[] bytes = ArrayNodes.getManagedBytes(self);
+            int length = self.getLength();
+            int i = 0;
+            if (ArrayNodes.isDoubleFormat(cachedFormat)) {
+                if (storage instanceof DoubleSequenceStorage doubleStorage) {
+                    double[] values = doubleStorage.getInternalDoubleArray();
+                    for (; i < storageLength; i++) {
+                        ArrayNodes.writeDouble(bytes, cachedFormat, length + i, values[i]);
+                    }
                 }
-            } catch (OverflowException e) {
-                CompilerDirectives.transferToInterpreterAndInvalidate();
-                throw PRaiseNode.raiseStatic(inliningTarget, MemoryError);
+            } else if (storage instanceof IntSequenceStorage intStorage) {
+                int[] values = intStorage.getInternalIntArray();
+                while (i < storageLength && ArrayNodes.writeLong(bytes, cachedFormat, length + i, values[i])) {
+                    i++;
+                }
+            } else if (storage instanceof LongSequenceStorage longStorage) {
+                long[] values = longStorage.getInternalLongArray();
+                while (i < storageLength && ArrayNodes.writeLong(bytes, cachedFormat, length + i, values[i])) {
+                    i++;
+                }
+            }
+            length += i;
+            setLengthNode.execute(inliningTarget, self, length);
+            for (; i < storageLength; i++) {
+                putValueNode.execute(frame, inliningTarget, self, length, getItemNode.execute(inliningTarget, storage, i));
+                setLengthNode.execute(inliningTarget, self, ++length);
             }
+            return PNone.NONE;
+        }
+
+        @Specialization(replaces = "extendPrimitive")
+        static Object extend(VirtualFrame frame, PArray self, PSequence value,
+                        @Bind("this") Node inliningTarget,
+                        @Exclusive @Cached ArrayNodes.PutValueNode putValueNode,
+                        @Exclusive @Cached SequenceNodes.GetSequenceStorageNode getSequenceStorageNode,
+                        @Exclusive @Cached SequenceStorageNodes.GetItemScalarNode getItemNode,
+                        @Exclusive @Cached ArrayNodes.EnsureCapacityNode ensureCapacityNode,
+                        @Exclusive @Cached ArrayNodes.SetLengthNode setLengthNode,
+                        @Exclusive @Cached PRaiseNode raiseNode) {
+            SequenceStorage storage = getSequenceStorageNode.execute(inliningTarget, value);
+            int storageLength = storage.length();
+            ensureCapacity(inliningTarget, self, storageLength, ensureCapacityNode, raiseNode);
             int length = self.getLength();
             for (int i = 0; i < storageLength; i++) {
                 // The whole extend is not atomic, just individual inserts are. That's the same as
@@ -1112,6 +1155,19 @@ public final class ArrayBuiltins extends PythonBuiltins {
             // formatted array. Weird
             throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.CAN_ONLY_EXTEND_WITH_ARRAY_OF_SAME_KIND);
         }
+
+        private static void ensureCapacity(Node inliningTarget, PArray self, int addedLength, ArrayNodes.EnsureCapacityNode ensureCapacityNode, PRaiseNode raiseNode) {
+            try {
+                int newLength = PythonUtils.addExact(self.getLength(), addedLength);
+                if (newLength != self.getLength()) {
+                    self.checkCanResize(inliningTarget, raiseNode);
+                    ensureCapacityNode.execute(inliningTarget, self, newLength);
+                }
+            } catch (OverflowException e) {
+                CompilerDirectives.transferToInterpreterAndInvalidate();
+                throw PRaiseNode.raiseStatic(inliningTarget, MemoryError);
+            }
+        }
     }
 
     @Builtin(name = "insert", minNumOfPositionalArgs = 3, numOfPositionalOnlyArgs = 3, parameterNames = {"$self", "index", "value"})
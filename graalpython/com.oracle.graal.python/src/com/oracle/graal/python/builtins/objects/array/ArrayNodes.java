@@ -48,24 +48,171 @@ import com.oracle.graal.python.builtins.objects.slice.PSlice.SliceInfo;
 import com.oracle.graal.python.nodes.PRaiseNode;
 import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.NativeByteSequenceStorage;
+import com.oracle.graal.python.util.BufferFormat;
 import com.oracle.graal.python.util.OverflowException;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.GenerateCached;
 import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.GenerateUncached;
+import com.oracle.truffle.api.dsl.ImportStatic;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 
 public abstract class ArrayNodes {
+
+    /*
+     * The items of an array always live in a byte storage, which is what the buffer protocol
+     * exposes. For arrays with a managed storage and a numeric format, the nodes below read and
+     * write the items directly as typed values in the byte array. They cache the format, so the
+     * switches in the helpers fold and the accesses compile to plain typed loads and stores.
+     */
+
+    /**
+     * Formats whose items are read as {@code int} or {@code long} values without allocation.
+     */
+    public static boolean isLongFormat(BufferFormat format) {
+        return switch (format) {
+            case UINT_8, INT_8, UINT_16, INT_16, UINT_32, INT_32, INT_64 -> true;
+            default -> false;
+        };
+    }
+
+    public static boolean isDoubleFormat(BufferFormat format) {
+        return format == BufferFormat.FLOAT || format == BufferFormat.DOUBLE;
+    }
+
+    public static boolean isPrimitiveFormat(BufferFormat format) {
+        return isLongFormat(format) || isDoubleFormat(format);
+    }
+
+    public static boolean isManaged(PArray array) {
+        return array.getSequenceStorage() instanceof ByteSequenceStorage;
+    }
+
+    public static byte[] getManagedBytes(PArray array) {
+        return ((ByteSequenceStorage) array.getSequenceStorage()).getInternalByteArray();
+    }
+
+    /**
+     * Reads an item of an array with a format for which {@link #isLongFormat} holds.
+     */
+    public static long readLong(byte[] bytes, BufferFormat format, int index) {
+        return switch (format) {
+            case UINT_8 -> bytes[index] & 0xFF;
+            case INT_8 -> bytes[index];
+            case UINT_16 -> PythonUtils.ARRAY_ACCESSOR.getShort(bytes, index << 1) & 0xFFFF;
+            case INT_16 -> PythonUtils.ARRAY_ACCESSOR.getShort(bytes, index << 1);
+            case UINT_32 -> PythonUtils.ARRAY_ACCESSOR.getInt(bytes, index << 2) & 0xFFFFFFFFL;
+            case INT_32 -> PythonUtils.ARRAY_ACCESSOR.getInt(bytes, index << 2);
+            case INT_64 -> PythonUtils.ARRAY_ACCESSOR.getLong(bytes, index << 3);
+            default -> throw CompilerDirectives.shouldNotReachHere("not a long format");
+        };
+    }
+
+    /**
+     * Reads an item of an array with a format for which {@link #isDoubleFormat} holds.
+     */
+    public static double readDouble(byte[] bytes, BufferFormat format, int index) {
+        if (format == BufferFormat.FLOAT) {
+            return PythonUtils.ARRAY_ACCESSOR.getFloat(bytes, index << 2);
+        }
+        assert format == BufferFormat.DOUBLE;
+        return PythonUtils.ARRAY_ACCESSOR.getDouble(bytes, index << 3);
+    }
+
+    /**
+     * Writes a {@code long} item if it fits into the format, which must satisfy
+     * {@link #isLongFormat}. Returns {@code false} if it does not fit, the callers then take the
+     * generic path that raises the appropriate error.
+     */
+    public static boolean writeLong(byte[] bytes, BufferFormat format, int index, long value) {
+        switch (format) {
+            case UINT_8:
+                if (value < 0 || value > 0xFF) {
+                    return false;
+                }
+                bytes[index] = (byte) value;
+                return true;
+            case INT_8:
+                if (value != (byte) value) {
+                    return false;
+                }
+                bytes[index] = (byte) value;
+                return true;
+            case UINT_16:
+                if (value < 0 || value > 0xFFFF) {
+                    return false;
+                }
+                PythonUtils.ARRAY_ACCESSOR.putShort(bytes, index << 1, (short) value);
+                return true;
+            case INT_16:
+                if (value != (short) value) {
+                    return false;
+                }
+                PythonUtils.ARRAY_ACCESSOR.putShort(bytes, index << 1, (short) value);
+                return true;
+            case UINT_32:
+                if (value < 0 || value > 0xFFFFFFFFL) {
+                    return false;
+                }
+                PythonUtils.ARRAY_ACCESSOR.putInt(bytes, index << 2, (int) value);
+                return true;
+            case INT_32:
+                if (value != (int) value) {
+                    return false;
+                }
+                PythonUtils.ARRAY_ACCESSOR.putInt(bytes, index << 2, (int) value);
+                return true;
+            case INT_64:
+                PythonUtils.ARRAY_ACCESSOR.putLong(bytes, index << 3, value);
+                return true;
+            default:
+                throw CompilerDirectives.shouldNotReachHere("not a long format");
+        }
+    }
+
+    /**
+     * Writes a {@code double} item into an array with a format for which {@link #isDoubleFormat}
+     * holds.
+     */
+    public static void writeDouble(byte[] bytes, BufferFormat format, int index, double value) {
+        if (format == BufferFormat.FLOAT) {
+            PythonUtils.ARRAY_ACCESSOR.putFloat(bytes, index << 2, (float) value);
+        } else {
+            assert format == BufferFormat.DOUBLE;
+            PythonUtils.ARRAY_ACCESSOR.putDouble(bytes, index << 3, value);
+        }
+    }
+
     @GenerateInline
     @GenerateUncached(false)
     @GenerateCached(false)
+    @ImportStatic(ArrayNodes.class)
     public abstract static class GetValueNode extends Node {
         public abstract Object execute(Node inliningTarget, PArray array, int index);
 
+        @Specialization(guards = {"array.getFormat() == cachedFormat", "isLongFormat(cachedFormat)", "isManaged(array)"}, limit = "3")
+        static Object getLong(PArray array, int index,
+                        @Cached("array.getFormat()") BufferFormat cachedFormat) {
+            long value = readLong(getManagedBytes(array), cachedFormat, index);
+            // the same representation as UnpackValueNode produces
+            if (cachedFormat == BufferFormat.UINT_32 || cachedFormat == BufferFormat.INT_64) {
+                return value;
+            }
+            return (int) value;
+        }
+
+        @Specialization(guards = {"array.getFormat() == cachedFormat", "isDoubleFormat(cachedFormat)", "isManaged(array)"}, limit = "3")
+        static Object getDouble(PArray array, int index,
+                        @Cached("array.getFormat()") BufferFormat cachedFormat) {
+            return readDouble(getManagedBytes(array), cachedFormat, index);
+        }
+
         @Specialization
         static Object get(Node inliningTarget, PArray array, int index,
                         @Cached UnpackValueNode unpackValueNode) {
@@ -76,12 +223,38 @@ public abstract class ArrayNodes {
     @GenerateInline
     @GenerateUncached(false)
     @GenerateCached(false)
+    @ImportStatic(ArrayNodes.class)
     public abstract static class PutValueNode extends Node {
         public abstract void execute(VirtualFrame frame, Node inliningTarget, PArray array, int index, Object value);
 
+        @Specialization(guards = {"array.getFormat() == cachedFormat", "isPrimitiveFormat(cachedFormat)", "isManaged(array)"}, limit = "3")
+        static void putPrimitive(VirtualFrame frame, Node inliningTarget, PArray array, int index, Object value,
+                        @Cached("array.getFormat()") BufferFormat cachedFormat,
+                        @Cached InlinedConditionProfile directProfile,
+                        @Shared @Cached BufferStorageNodes.PackValueNode packValueNode) {
+            if (directProfile.profile(inliningTarget, writeDirect(getManagedBytes(array), cachedFormat, index, value))) {
+                return;
+            }
+            packValueNode.execute(frame, inliningTarget, cachedFormat, value, array.getBuffer(), index << cachedFormat.shift);
+        }
+
+        private static boolean writeDirect(byte[] bytes, BufferFormat format, int index, Object value) {
+            if (isDoubleFormat(format)) {
+                if (value instanceof Double d) {
+                    writeDouble(bytes, format, index, d);
+                    return true;
+                }
+            } else if (value instanceof Integer i) {
+                return writeLong(bytes, format, index, i);
+            } else if (value instanceof Long l) {
+                return writeLong(bytes, format, index, l);
+            }
+            return false;
+        }
+
         @Specialization
         static void put(VirtualFrame frame, Node inliningTarget, PArray array, int index, Object value,
-                        @Cached BufferStorageNodes.PackValueNode packValueNode) {
+                        @Shared @Cached BufferStorageNodes.PackValueNode packValueNode) {
             packValueNode.execute(frame, inliningTarget, array.getFormat(), value, array.getBuffer(), index << array.getItemSizeShift());
         }
     }
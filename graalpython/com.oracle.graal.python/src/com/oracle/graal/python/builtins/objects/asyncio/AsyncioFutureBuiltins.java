@@ -0,0 +1,794 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.ValueError;
+import static com.oracle.graal.python.nodes.SpecialMethodNames.J___CLASS_GETITEM__;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.Slot;
+import com.oracle.graal.python.annotations.Slot.SlotKind;
+import com.oracle.graal.python.annotations.Slot.SlotSignature;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins.GetEventLoop;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.asyncio.PAsyncioFuture.State;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
+import com.oracle.graal.python.builtins.objects.exception.ExceptionNodes;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.str.StringUtils;
+import com.oracle.graal.python.builtins.objects.type.TpSlots;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyContextCopyCurrent;
+import com.oracle.graal.python.lib.PyExceptionInstanceCheckNode;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
+import com.oracle.graal.python.lib.PyObjectGetAttr;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
+import com.oracle.graal.python.lib.PyObjectReprAsTruffleStringNode;
+import com.oracle.graal.python.lib.PyObjectRichCompareBool;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.WriteUnraisableNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.classes.IsSubtypeNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectExactProfile;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
+import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.nodes.statement.AbstractImportNode;
+import com.oracle.graal.python.runtime.AsyncHandler;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.formatting.ErrorMessageFormatter;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Builtin {@code _asyncio.Future}. For reference, see CPython's {@code Modules/_asynciomodule.c}.
+ * Like there, the rarely taken paths (cancellation, invalid state, debug mode) delegate to the
+ * pure-Python helpers in the {@code asyncio} package.
+ */
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PAsyncioFuture)
+public final class AsyncioFutureBuiltins extends PythonBuiltins {
+
+    public static final TpSlots SLOTS = AsyncioFutureBuiltinsSlotsGen.SLOTS;
+
+    static final String J_FUTURE = "Future";
+
+    static final TruffleString T_CALL_SOON = tsLiteral("call_soon");
+    static final TruffleString T_GET_DEBUG = tsLiteral("get_debug");
+    static final TruffleString T_CONTEXT = tsLiteral("context");
+
+    private static final TruffleString T_ASYNCIO_EXCEPTIONS = tsLiteral("asyncio.exceptions");
+    private static final TruffleString T_ASYNCIO_BASE_FUTURES = tsLiteral("asyncio.base_futures");
+    private static final TruffleString T_CANCELLED_ERROR = tsLiteral("CancelledError");
+    private static final TruffleString T_INVALID_STATE_ERROR = tsLiteral("InvalidStateError");
+    private static final TruffleString T_FUTURE_REPR = tsLiteral("_future_repr");
+    private static final TruffleString T_TRACEBACK = tsLiteral("traceback");
+    private static final TruffleString T_EXTRACT_STACK = tsLiteral("extract_stack");
+    private static final TruffleString T_CALL_EXCEPTION_HANDLER = tsLiteral("call_exception_handler");
+    private static final TruffleString T_MESSAGE = tsLiteral("message");
+    private static final TruffleString T_EXCEPTION = tsLiteral("exception");
+    private static final TruffleString T_SOURCE_TRACEBACK = tsLiteral("source_traceback");
+    private static final TruffleString T_EXCEPTION_NEVER_RETRIEVED = tsLiteral(" exception was never retrieved");
+    private static final TruffleString T_TASK_DESTROYED_PENDING = tsLiteral("Task was destroyed but it is pending!");
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return AsyncioFutureBuiltinsFactory.getFactories();
+    }
+
+    @TruffleBoundary
+    static Object callAsyncioHelper(TruffleString module, TruffleString name, Object... args) {
+        return PyObjectCallMethodObjArgs.executeUncached(AbstractImportNode.importModule(module), name, args);
+    }
+
+    @TruffleBoundary
+    private static Object getAsyncioException(TruffleString name) {
+        return PyObjectGetAttr.executeUncached(AbstractImportNode.importModule(T_ASYNCIO_EXCEPTIONS), name);
+    }
+
+    @TruffleBoundary
+    static boolean isCancelledError(Object exception) {
+        return IsSubtypeNode.getUncached().execute(GetClassNode.executeUncached(exception), getAsyncioException(T_CANCELLED_ERROR));
+    }
+
+    @TruffleBoundary
+    static PException raiseInvalidStateError(Node inliningTarget, TruffleString format, Object... reprArgs) {
+        throw PRaiseNode.raiseExceptionObject(inliningTarget, createInvalidStateError(format, reprArgs));
+    }
+
+    @TruffleBoundary
+    static Object createInvalidStateError(TruffleString format, Object... reprArgs) {
+        TruffleString message = format;
+        if (reprArgs.length > 0) {
+            Object[] reprs = new Object[reprArgs.length];
+            for (int i = 0; i < reprs.length; i++) {
+                reprs[i] = repr(reprArgs[i]);
+            }
+            message = toTruffleStringUncached(ErrorMessageFormatter.format(format, reprs));
+        }
+        return CallNode.executeUncached(getAsyncioException(T_INVALID_STATE_ERROR), message);
+    }
+
+    /**
+     * Equivalent of {@code Future._make_cancelled_error}: returns (and forgets) the saved
+     * {@code CancelledError} or creates a new one carrying the cancel message.
+     */
+    @TruffleBoundary
+    static Object makeCancelledError(PAsyncioFuture self) {
+        Object exception = self.getCancelledExc();
+        if (exception != null) {
+            self.setCancelledExc(null);
+            return exception;
+        }
+        Object cancelledError = getAsyncioException(T_CANCELLED_ERROR);
+        if (self.getCancelMessage() == PNone.NONE) {
+            return CallNode.executeUncached(cancelledError);
+        }
+        return CallNode.executeUncached(cancelledError, self.getCancelMessage());
+    }
+
+    @TruffleBoundary
+    static TruffleString repr(Object object) {
+        return PyObjectReprAsTruffleStringNode.executeUncached(object);
+    }
+
+    /** Creates a {@code RuntimeError} whose message is formatted with the reprs of the objects. */
+    @TruffleBoundary
+    static Object createRuntimeError(TruffleString format, Object... reprArgs) {
+        Object[] reprs = new Object[reprArgs.length];
+        for (int i = 0; i < reprs.length; i++) {
+            reprs[i] = repr(reprArgs[i]);
+        }
+        return PFactory.createBaseException(PythonLanguage.get(null), RuntimeError, format, reprs);
+    }
+
+    /**
+     * Calls {@code loop.call_exception_handler(context)} for a collected future, see
+     * {@link PAsyncioFuture.DestroyLogRef}. Errors are reported as unraisable, like errors in
+     * {@code __del__}.
+     */
+    static final class DestroyLogCallback extends AsyncHandler.AsyncPythonAction {
+        private final PAsyncioFuture.DestroyLogRef ref;
+        private Object handler;
+
+        DestroyLogCallback(PAsyncioFuture.DestroyLogRef ref) {
+            this.ref = ref;
+        }
+
+        @Override
+        protected Object callable() {
+            if (handler == null && (ref.pendingTask || ref.exception != null)) {
+                try {
+                    handler = PyObjectGetAttr.executeUncached(ref.loop, T_CALL_EXCEPTION_HANDLER);
+                } catch (PException e) {
+                    WriteUnraisableNode.getUncached().execute(e.getEscapedException(), null, ref.loop);
+                }
+            }
+            return handler;
+        }
+
+        @Override
+        protected Object[] arguments() {
+            PDict context = PFactory.createDict(PythonLanguage.get(null));
+            if (ref.pendingTask) {
+                context.setItem(T_MESSAGE, T_TASK_DESTROYED_PENDING);
+            } else {
+                context.setItem(T_MESSAGE, StringUtils.cat(ref.getTypeName(), T_EXCEPTION_NEVER_RETRIEVED));
+                context.setItem(T_EXCEPTION, ref.exception);
+            }
+            if (PyObjectIsTrueNode.executeUncached(ref.sourceTraceback)) {
+                context.setItem(T_SOURCE_TRACEBACK, ref.sourceTraceback);
+            }
+            return new Object[]{context};
+        }
+
+        @Override
+        protected void handleException(PException e) {
+            WriteUnraisableNode.getUncached().execute(e.getEscapedException(), null, handler);
+        }
+    }
+
+    static void ensureAlive(Node inliningTarget, PAsyncioFuture self) {
+        if (self.getLoop() == null) {
+            throw PRaiseNode.raiseStatic(inliningTarget, RuntimeError, ErrorMessages.FUTURE_NOT_INITIALIZED);
+        }
+    }
+
+    static boolean isExactFuture(Node inliningTarget, Object object, IsBuiltinObjectExactProfile profile) {
+        return object instanceof PAsyncioFuture &&
+                        (profile.profileObject(inliningTarget, object, PythonBuiltinClassType.PAsyncioFuture) ||
+                                        profile.profileObject(inliningTarget, object, PythonBuiltinClassType.PAsyncioTask));
+    }
+
+    /**
+     * Calls {@code loop.call_soon(callback[, arg], context=context)}. A {@code null} argument or
+     * context is omitted.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class CallSoonNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, Object loop, Object callback, Object arg, Object context);
+
+        @Specialization
+        static void callSoon(VirtualFrame frame, Node inliningTarget, Object loop, Object callback, Object arg, Object context,
+                        @Cached PyObjectGetAttr getCallSoon,
+                        @Cached CallNode callNode) {
+            Object callSoon = getCallSoon.execute(frame, inliningTarget, loop, T_CALL_SOON);
+            Object[] args = arg == null ? new Object[]{callback} : new Object[]{callback, arg};
+            PKeyword[] keywords = context == null ? PKeyword.EMPTY_KEYWORDS : new PKeyword[]{new PKeyword(T_CONTEXT, context)};
+            callNode.execute(frame, callSoon, args, keywords);
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class ScheduleCallbacksNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self);
+
+        @Specialization
+        static void schedule(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self,
+                        @Cached InlinedConditionProfile hasCallbacksProfile,
+                        @Cached CallSoonNode callSoonNode) {
+            if (hasCallbacksProfile.profile(inliningTarget, self.hasCallbacks())) {
+                Object[] callbacks = self.takeCallbacks();
+                for (int i = 0; i < callbacks.length; i += 2) {
+                    callSoonNode.execute(frame, inliningTarget, self.getLoop(), callbacks[i], self, callbacks[i + 1]);
+                }
+            }
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class InitFutureNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object loop);
+
+        @Specialization
+        static void init(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object loopArg,
+                        @Cached(inline = false) GetEventLoop getEventLoop,
+                        @Cached PyObjectCallMethodObjArgs callGetDebug,
+                        @Cached(inline = false) PyObjectIsTrueNode isTrueNode) {
+            Object loop = loopArg;
+            if (PGuards.isPNone(loop)) {
+                loop = getEventLoop.execute(frame, PNone.NONE);
+            }
+            self.reset();
+            self.setLoop(loop);
+            if (isTrueNode.execute(frame, callGetDebug.execute(frame, inliningTarget, loop, T_GET_DEBUG))) {
+                self.setSourceTraceback(extractStack());
+            }
+        }
+
+        @TruffleBoundary
+        private static Object extractStack() {
+            return PyObjectCallMethodObjArgs.executeUncached(AbstractImportNode.importModule(T_TRACEBACK), T_EXTRACT_STACK);
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class FutureGetResultNode extends Node {
+        public abstract Object execute(Node inliningTarget, PAsyncioFuture self);
+
+        @Specialization
+        static Object get(Node inliningTarget, PAsyncioFuture self,
+                        @Cached ExceptionNodes.SetTracebackNode setTracebackNode) {
+            if (self.getState() == State.CANCELLED) {
+                throw PRaiseNode.raiseExceptionObject(inliningTarget, makeCancelledError(self));
+            }
+            if (self.getState() != State.FINISHED) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.RESULT_IS_NOT_READY);
+            }
+            self.setLogTraceback(false);
+            Object exception = self.getException();
+            if (exception != null) {
+                if (self.getExceptionTb() != null) {
+                    setTracebackNode.execute(inliningTarget, exception, self.getExceptionTb());
+                }
+                throw PRaiseNode.raiseExceptionObject(inliningTarget, exception);
+            }
+            return self.getResult();
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class FutureSetResultNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object result);
+
+        @Specialization
+        static void set(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object result,
+                        @Cached ScheduleCallbacksNode scheduleCallbacksNode) {
+            ensureAlive(inliningTarget, self);
+            if (!self.isPending()) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.INVALID_STATE);
+            }
+            self.setResult(result);
+            self.setState(State.FINISHED);
+            scheduleCallbacksNode.execute(frame, inliningTarget, self);
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class FutureSetExceptionNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object exception);
+
+        @Specialization
+        static void set(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object exception,
+                        @Cached PyExceptionInstanceCheckNode isExceptionNode,
+                        @Cached IsBuiltinObjectProfile isStopIterationProfile,
+                        @Cached ExceptionNodes.GetTracebackNode getTracebackNode,
+                        @Cached ScheduleCallbacksNode scheduleCallbacksNode) {
+            ensureAlive(inliningTarget, self);
+            if (!self.isPending()) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.INVALID_STATE);
+            }
+            Object value = exception;
+            if (!isExceptionNode.execute(inliningTarget, value)) {
+                value = instantiateException(inliningTarget, value);
+            }
+            if (isStopIterationProfile.profileObject(inliningTarget, value, PythonBuiltinClassType.StopIteration)) {
+                value = wrapStopIteration(value);
+            }
+            Object tb = getTracebackNode.execute(inliningTarget, value);
+            self.setException(value, tb instanceof PNone ? null : tb);
+            self.setState(State.FINISHED);
+            scheduleCallbacksNode.execute(frame, inliningTarget, self);
+            self.setLogTraceback(true);
+            self.logExceptionIfNotRetrieved();
+        }
+
+        @TruffleBoundary
+        private static Object instantiateException(Node inliningTarget, Object exception) {
+            Object value = exception;
+            if (TypeNodes.IsTypeNode.executeUncached(exception)) {
+                value = CallNode.executeUncached(exception);
+            }
+            if (!PyExceptionInstanceCheckNode.executeUncached(value)) {
+                throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.INVALID_EXCEPTION_OBJECT);
+            }
+            return value;
+        }
+
+        @TruffleBoundary
+        private static Object wrapStopIteration(Object stopIteration) {
+            Object wrapped = PFactory.createBaseException(PythonLanguage.get(null), RuntimeError, ErrorMessages.STOP_ITERATION_INTERACTS_BADLY_WITH_FUTURE, new Object[0]);
+            ExceptionNodes.SetCauseNode.executeUncached(wrapped, stopIteration);
+            ExceptionNodes.SetContextNode.executeUncached(wrapped, stopIteration);
+            return wrapped;
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class FutureCancelNode extends Node {
+        public abstract boolean execute(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object message);
+
+        @Specialization
+        static boolean cancel(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object message,
+                        @Cached ScheduleCallbacksNode scheduleCallbacksNode) {
+            ensureAlive(inliningTarget, self);
+            self.setLogTraceback(false);
+            if (!self.isPending()) {
+                return false;
+            }
+            self.setState(State.CANCELLED);
+            self.setCancelMessage(message);
+            scheduleCallbacksNode.execute(frame, inliningTarget, self);
+            return true;
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class FutureAddDoneCallbackNode extends Node {
+        public abstract void execute(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object callback, Object context);
+
+        @Specialization
+        static void add(VirtualFrame frame, Node inliningTarget, PAsyncioFuture self, Object callback, Object contextArg,
+                        @Cached PyContextCopyCurrent copyContext,
+                        @Cached CallSoonNode callSoonNode) {
+            ensureAlive(inliningTarget, self);
+            Object context = PGuards.isPNone(contextArg) ? copyContext.execute(inliningTarget) : contextArg;
+            if (self.isPending()) {
+                self.addCallback(callback, context);
+            } else {
+                callSoonNode.execute(frame, inliningTarget, self.getLoop(), callback, self, context);
+            }
+        }
+    }
+
+    @Slot(value = SlotKind.tp_new, isComplex = true)
+    @SlotSignature(name = J_FUTURE, minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true)
+    @GenerateNodeFactory
+    public abstract static class FutureNewNode extends PythonVarargsBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static PAsyncioFuture doGeneric(Object cls, Object[] args, PKeyword[] kwargs,
+                        @Bind PythonLanguage language,
+                        @Cached TypeNodes.GetInstanceShape getInstanceShape) {
+            return PFactory.createAsyncioFuture(language, cls, getInstanceShape.execute(cls));
+        }
+    }
+
+    @Slot(value = SlotKind.tp_init, isComplex = true)
+    @SlotSignature(name = J_FUTURE, minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 1, keywordOnlyNames = {"loop"})
+    @GenerateNodeFactory
+    public abstract static class FutureInitNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static PNone init(VirtualFrame frame, PAsyncioFuture self, Object loop,
+                        @Bind("this") Node inliningTarget,
+                        @Cached InitFutureNode initFutureNode) {
+            initFutureNode.execute(frame, inliningTarget, self, loop);
+            return PNone.NONE;
+        }
+    }
+
+    @Slot(value = SlotKind.tp_repr, isComplex = true)
+    @GenerateNodeFactory
+    abstract static class FutureReprNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object repr(PAsyncioFuture self) {
+            return callAsyncioHelper(T_ASYNCIO_BASE_FUTURES, T_FUTURE_REPR, self);
+        }
+    }
+
+    @Slot(value = SlotKind.am_await, isComplex = true)
+    @GenerateNodeFactory
+    public abstract static class FutureAwaitNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static PAsyncioFutureIter await(PAsyncioFuture self,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            ensureAlive(inliningTarget, self);
+            return PFactory.createAsyncioFutureIter(language, self);
+        }
+    }
+
+    @Slot(value = SlotKind.tp_iter, isComplex = true)
+    @GenerateNodeFactory
+    public abstract static class FutureIterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static PAsyncioFutureIter iter(PAsyncioFuture self,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonLanguage language) {
+            return FutureAwaitNode.await(self, inliningTarget, language);
+        }
+    }
+
+    @Builtin(name = "result", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class ResultNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object result(PAsyncioFuture self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached FutureGetResultNode getResultNode) {
+            ensureAlive(inliningTarget, self);
+            return getResultNode.execute(inliningTarget, self);
+        }
+    }
+
+    @Builtin(name = "exception", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class ExceptionNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object exception(PAsyncioFuture self,
+                        @Bind("this") Node inliningTarget) {
+            ensureAlive(inliningTarget, self);
+            if (self.getState() == State.CANCELLED) {
+                throw PRaiseNode.raiseExceptionObject(inliningTarget, makeCancelledError(self));
+            }
+            if (self.getState() != State.FINISHED) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.EXCEPTION_IS_NOT_SET);
+            }
+            self.setLogTraceback(false);
+            return self.getException() != null ? self.getException() : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "set_result", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class SetResultNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object setResult(VirtualFrame frame, PAsyncioFuture self, Object result,
+                        @Bind("this") Node inliningTarget,
+                        @Cached FutureSetResultNode setResultNode) {
+            setResultNode.execute(frame, inliningTarget, self, result);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "set_exception", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class SetExceptionNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object setException(VirtualFrame frame, PAsyncioFuture self, Object exception,
+                        @Bind("this") Node inliningTarget,
+                        @Cached FutureSetExceptionNode setExceptionNode) {
+            setExceptionNode.execute(frame, inliningTarget, self, exception);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "add_done_callback", minNumOfPositionalArgs = 2, maxNumOfPositionalArgs = 2, keywordOnlyNames = {"context"})
+    @GenerateNodeFactory
+    public abstract static class AddDoneCallbackNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        static Object add(VirtualFrame frame, PAsyncioFuture self, Object callback, Object context,
+                        @Bind("this") Node inliningTarget,
+                        @Cached FutureAddDoneCallbackNode addDoneCallbackNode) {
+            addDoneCallbackNode.execute(frame, inliningTarget, self, callback, context);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "remove_done_callback", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class RemoveDoneCallbackNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static int remove(VirtualFrame frame, PAsyncioFuture self, Object callback,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectRichCompareBool eqNode) {
+            ensureAlive(inliningTarget, self);
+            Object[] callbacks = self.peekCallbacks();
+            Object[] kept = new Object[callbacks.length];
+            int keptLength = 0;
+            for (int i = 0; i < callbacks.length; i += 2) {
+                if (!eqNode.executeEq(frame, inliningTarget, callbacks[i], callback)) {
+                    kept[keptLength++] = callbacks[i];
+                    kept[keptLength++] = callbacks[i + 1];
+                }
+            }
+            int removed = (callbacks.length - keptLength) / 2;
+            if (removed > 0) {
+                self.clearCallbacks();
+                for (int i = 0; i < keptLength; i += 2) {
+                    self.addCallback(kept[i], kept[i + 1]);
+                }
+            }
+            return removed;
+        }
+    }
+
+    @Builtin(name = "cancel", minNumOfPositionalArgs = 1, parameterNames = {"$self", "msg"})
+    @GenerateNodeFactory
+    public abstract static class CancelNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static boolean cancel(VirtualFrame frame, PAsyncioFuture self, Object msg,
+                        @Bind("this") Node inliningTarget,
+                        @Cached FutureCancelNode cancelNode) {
+            return cancelNode.execute(frame, inliningTarget, self, msg == PNone.NO_VALUE ? PNone.NONE : msg);
+        }
+    }
+
+    @Builtin(name = "cancelled", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CancelledNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean cancelled(PAsyncioFuture self,
+                        @Bind("this") Node inliningTarget) {
+            ensureAlive(inliningTarget, self);
+            return self.getState() == State.CANCELLED;
+        }
+    }
+
+    @Builtin(name = "done", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class DoneNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean done(PAsyncioFuture self,
+                        @Bind("this") Node inliningTarget) {
+            ensureAlive(inliningTarget, self);
+            return !self.isPending();
+        }
+    }
+
+    @Builtin(name = "get_loop", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class GetLoopNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getLoop(PAsyncioFuture self,
+                        @Bind("this") Node inliningTarget) {
+            ensureAlive(inliningTarget, self);
+            return self.getLoop();
+        }
+    }
+
+    @Builtin(name = "_make_cancelled_error", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class MakeCancelledErrorNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object make(PAsyncioFuture self) {
+            return makeCancelledError(self);
+        }
+    }
+
+    @Builtin(name = "_state", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class StateNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object state(PAsyncioFuture self) {
+            return self.getLoop() == null ? PNone.NONE : self.getState().getName();
+        }
+    }
+
+    @Builtin(name = "_loop", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class LoopNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object loop(PAsyncioFuture self) {
+            return self.getLoop() == null ? PNone.NONE : self.getLoop();
+        }
+    }
+
+    @Builtin(name = "_callbacks", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class CallbacksNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object callbacks(PAsyncioFuture self,
+                        @Bind PythonLanguage language) {
+            if (!self.hasCallbacks()) {
+                return PNone.NONE;
+            }
+            Object[] callbacks = self.peekCallbacks();
+            Object[] items = new Object[callbacks.length / 2];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = PFactory.createTuple(language, new Object[]{callbacks[i * 2], callbacks[i * 2 + 1]});
+            }
+            return PFactory.createList(language, items);
+        }
+    }
+
+    @Builtin(name = "_result", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class ResultGetterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object result(PAsyncioFuture self) {
+            return self.getResult();
+        }
+    }
+
+    @Builtin(name = "_exception", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class ExceptionGetterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object exception(PAsyncioFuture self) {
+            return self.getException() != null ? self.getException() : PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_source_traceback", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class SourceTracebackNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object sourceTraceback(PAsyncioFuture self) {
+            return self.getSourceTraceback();
+        }
+    }
+
+    @Builtin(name = "_cancel_message", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    public abstract static class CancelMessageNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(none)")
+        static Object get(PAsyncioFuture self, @SuppressWarnings("unused") PNone none) {
+            return self.getCancelMessage();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(PAsyncioFuture self, Object value) {
+            self.setCancelMessage(value);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_log_traceback", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    public abstract static class LogTracebackNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(none)")
+        static Object get(PAsyncioFuture self, @SuppressWarnings("unused") PNone none) {
+            return self.isLogTraceback();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(VirtualFrame frame, PAsyncioFuture self, Object value,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            if (isTrueNode.execute(frame, value)) {
+                throw PRaiseNode.raiseStatic(inliningTarget, ValueError, ErrorMessages.LOG_TRACEBACK_CAN_ONLY_BE_SET_TO_FALSE);
+            }
+            self.setLogTraceback(false);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_asyncio_future_blocking", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    public abstract static class BlockingNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(none)")
+        static Object get(PAsyncioFuture self, @SuppressWarnings("unused") PNone none) {
+            return self.isBlocking();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(VirtualFrame frame, PAsyncioFuture self, Object value,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            self.setBlocking(isTrueNode.execute(frame, value));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = J___CLASS_GETITEM__, minNumOfPositionalArgs = 2, isClassmethod = true)
+    @GenerateNodeFactory
+    public abstract static class ClassGetItemNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object classGetItem(Object cls, Object key,
+                        @Bind PythonLanguage language) {
+            return PFactory.createGenericAlias(language, cls, key);
+        }
+    }
+}
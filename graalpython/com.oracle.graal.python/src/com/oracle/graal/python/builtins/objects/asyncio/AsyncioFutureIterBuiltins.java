@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeError;
+
+import java.util.List;
+
+import com.oracle.graal.python.annotations.Slot;
+import com.oracle.graal.python.annotations.Slot.SlotKind;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.FutureGetResultNode;
+import com.oracle.graal.python.builtins.objects.exception.ExceptionNodes;
+import com.oracle.graal.python.builtins.objects.exception.PrepareExceptionNode;
+import com.oracle.graal.python.builtins.objects.type.TpSlots;
+import com.oracle.graal.python.builtins.objects.type.slots.TpSlotIterNext.TpIterNextBuiltin;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonQuaternaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PAsyncioFutureIter)
+public final class AsyncioFutureIterBuiltins extends PythonBuiltins {
+
+    public static final TpSlots SLOTS = AsyncioFutureIterBuiltinsSlotsGen.SLOTS;
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return AsyncioFutureIterBuiltinsFactory.getFactories();
+    }
+
+    /**
+     * Equivalent of one step of {@code Future.__await__}: yields the pending future once and then
+     * returns its result via {@code StopIteration}.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class FutureIterStepNode extends Node {
+        abstract Object execute(Node inliningTarget, PAsyncioFutureIter self);
+
+        @Specialization
+        static Object step(Node inliningTarget, PAsyncioFutureIter self,
+                        @Cached FutureGetResultNode getResultNode,
+                        @Cached PRaiseNode raiseNode) {
+            PAsyncioFuture future = self.getFuture();
+            if (future == null) {
+                throw raiseNode.raise(inliningTarget, PythonBuiltinClassType.StopIteration);
+            }
+            if (future.isPending()) {
+                if (!future.isBlocking()) {
+                    future.setBlocking(true);
+                    return future;
+                }
+                throw raiseNode.raise(inliningTarget, RuntimeError, ErrorMessages.AWAIT_WASNT_USED_WITH_FUTURE);
+            }
+            self.clear();
+            Object result = getResultNode.execute(inliningTarget, future);
+            throw raiseNode.raiseStopIteration(inliningTarget, result);
+        }
+    }
+
+    @Slot(value = SlotKind.tp_iter, isComplex = true)
+    @GenerateNodeFactory
+    public abstract static class IterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object iter(PAsyncioFutureIter self) {
+            return self;
+        }
+    }
+
+    @Slot(value = SlotKind.tp_iternext, isComplex = true)
+    @GenerateNodeFactory
+    public abstract static class NextNode extends TpIterNextBuiltin {
+        @Specialization
+        static Object next(PAsyncioFutureIter self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached FutureIterStepNode stepNode) {
+            return stepNode.execute(inliningTarget, self);
+        }
+    }
+
+    @Builtin(name = "send", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class SendNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object send(PAsyncioFutureIter self, @SuppressWarnings("unused") Object value,
+                        @Bind("this") Node inliningTarget,
+                        @Cached FutureIterStepNode stepNode) {
+            // like CPython, the sent value is ignored: a future is only awaited for its result
+            return stepNode.execute(inliningTarget, self);
+        }
+    }
+
+    @Builtin(name = "throw", minNumOfPositionalArgs = 2, maxNumOfPositionalArgs = 4)
+    @GenerateNodeFactory
+    public abstract static class ThrowNode extends PythonQuaternaryBuiltinNode {
+        @Specialization
+        static Object doThrow(VirtualFrame frame, PAsyncioFutureIter self, Object typ, Object val, Object tb,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PrepareExceptionNode prepareExceptionNode,
+                        @Cached ExceptionNodes.SetTracebackNode setTracebackNode) {
+            Object exception = prepareExceptionNode.execute(frame, typ, val);
+            if (!(tb instanceof PNone)) {
+                setTracebackNode.execute(inliningTarget, exception, tb);
+            }
+            self.clear();
+            throw PRaiseNode.raiseExceptionObject(inliningTarget, exception);
+        }
+    }
+
+    @Builtin(name = "close", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CloseNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object close(PAsyncioFutureIter self) {
+            self.clear();
+            return PNone.NONE;
+        }
+    }
+}
@@ -0,0 +1,743 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeError;
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.TypeError;
+import static com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.T_CONTEXT;
+import static com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.callAsyncioHelper;
+import static com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.createRuntimeError;
+import static com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.ensureAlive;
+import static com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.isCancelledError;
+import static com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.isExactFuture;
+import static com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.makeCancelledError;
+import static com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.raiseInvalidStateError;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_SEND;
+import static com.oracle.graal.python.nodes.BuiltinNames.T_THROW;
+import static com.oracle.graal.python.nodes.BuiltinNames.T__ASYNCIO;
+import static com.oracle.graal.python.util.PythonUtils.toTruffleStringUncached;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.Slot;
+import com.oracle.graal.python.annotations.Slot.SlotKind;
+import com.oracle.graal.python.annotations.Slot.SlotSignature;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.modules.AsyncioModuleBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.CallSoonNode;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.FutureAddDoneCallbackNode;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.FutureCancelNode;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.FutureSetExceptionNode;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.FutureSetResultNode;
+import com.oracle.graal.python.builtins.objects.asyncio.AsyncioFutureBuiltins.InitFutureNode;
+import com.oracle.graal.python.builtins.objects.asyncio.PAsyncioFuture.State;
+import com.oracle.graal.python.builtins.objects.contextvars.PContextVarsContext;
+import com.oracle.graal.python.builtins.objects.exception.PBaseException;
+import com.oracle.graal.python.builtins.objects.exception.StopIterationBuiltins;
+import com.oracle.graal.python.builtins.objects.function.PKeyword;
+import com.oracle.graal.python.builtins.objects.generator.CommonGeneratorBuiltins;
+import com.oracle.graal.python.builtins.objects.generator.PGenerator;
+import com.oracle.graal.python.builtins.objects.module.PythonModule;
+import com.oracle.graal.python.builtins.objects.type.TpSlots;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyContextCopyCurrent;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
+import com.oracle.graal.python.lib.PyObjectGetAttr;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
+import com.oracle.graal.python.lib.PyObjectLookupAttr;
+import com.oracle.graal.python.lib.PyObjectSetAttr;
+import com.oracle.graal.python.lib.PyObjectStrAsTruffleStringNode;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonVarargsBuiltinNode;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectExactProfile;
+import com.oracle.graal.python.nodes.object.BuiltinClassProfiles.IsBuiltinObjectProfile;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.exception.PException;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Builtin {@code _asyncio.Task}. The coroutine is driven directly through the generator
+ * {@code send}/{@code throw} nodes, so a step of a task running a regular Python coroutine does
+ * not go through any Python-level method call. For reference, see CPython's
+ * {@code Modules/_asynciomodule.c}.
+ */
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PAsyncioTask)
+public final class AsyncioTaskBuiltins extends PythonBuiltins {
+
+    public static final TpSlots SLOTS = AsyncioTaskBuiltinsSlotsGen.SLOTS;
+
+    static final String J_TASK = "Task";
+    static final String J_TASK_STEP = "_Task__step";
+    static final String J_TASK_WAKEUP = "_Task__wakeup";
+
+    private static final TruffleString T_TASK_STEP = tsLiteral(J_TASK_STEP);
+    private static final TruffleString T_TASK_WAKEUP = tsLiteral(J_TASK_WAKEUP);
+    private static final TruffleString T_CANCEL = tsLiteral("cancel");
+    private static final TruffleString T_RESULT = tsLiteral("result");
+    private static final TruffleString T_IS_RUNNING = tsLiteral("is_running");
+    private static final TruffleString T_GET_LOOP = tsLiteral("get_loop");
+    private static final TruffleString T__LOOP = tsLiteral("_loop");
+    private static final TruffleString T_ADD_DONE_CALLBACK = tsLiteral("add_done_callback");
+    private static final TruffleString T_ASYNCIO_FUTURE_BLOCKING = tsLiteral("_asyncio_future_blocking");
+    private static final TruffleString T_ASYNCIO_COROUTINES = tsLiteral("asyncio.coroutines");
+    private static final TruffleString T_ISCOROUTINE = tsLiteral("iscoroutine");
+    private static final TruffleString T_ASYNCIO_BASE_TASKS = tsLiteral("asyncio.base_tasks");
+    private static final TruffleString T_TASK_REPR = tsLiteral("_task_repr");
+    private static final TruffleString T_TASK_GET_STACK = tsLiteral("_task_get_stack");
+    private static final TruffleString T_TASK_PRINT_STACK = tsLiteral("_task_print_stack");
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return AsyncioTaskBuiltinsFactory.getFactories();
+    }
+
+    static Object getStepMethod(VirtualFrame frame, Node inliningTarget, PAsyncioTask task, PyObjectGetAttr getAttr) {
+        Object method = task.getStepMethod();
+        if (method == null) {
+            method = getAttr.execute(frame, inliningTarget, task, T_TASK_STEP);
+            task.setStepMethod(method);
+        }
+        return method;
+    }
+
+    static Object getWakeupMethod(VirtualFrame frame, Node inliningTarget, PAsyncioTask task, PyObjectGetAttr getAttr) {
+        Object method = task.getWakeupMethod();
+        if (method == null) {
+            method = getAttr.execute(frame, inliningTarget, task, T_TASK_WAKEUP);
+            task.setWakeupMethod(method);
+        }
+        return method;
+    }
+
+    @TruffleBoundary
+    private static boolean isCoroutine(Object coro) {
+        if (coro instanceof PGenerator generator && generator.isCoroutine()) {
+            return true;
+        }
+        return PyObjectIsTrueNode.executeUncached(callAsyncioHelper(T_ASYNCIO_COROUTINES, T_ISCOROUTINE, coro));
+    }
+
+    @TruffleBoundary
+    private static TruffleString defaultName(long number) {
+        return toTruffleStringUncached("Task-" + number);
+    }
+
+    /**
+     * Schedules {@code task._Task__step(error)} where {@code error} is a {@code RuntimeError}
+     * describing a misbehaving coroutine.
+     */
+    static void scheduleStepWithError(VirtualFrame frame, Node inliningTarget, PAsyncioTask task, CallSoonNode callSoonNode, PyObjectGetAttr getAttr, TruffleString format,
+                    Object... reprArgs) {
+        Object error = createRuntimeError(format, reprArgs);
+        callSoonNode.execute(frame, inliningTarget, task.getLoop(), getStepMethod(frame, inliningTarget, task, getAttr), error, task.getContext());
+    }
+
+    /**
+     * Equivalent of {@code Task.__step}: enters the task, runs one step of its coroutine and
+     * leaves the task again.
+     */
+    @GenerateInline(false)
+    public abstract static class TaskStepNode extends Node {
+        public abstract void execute(VirtualFrame frame, PAsyncioTask task, Object exc);
+
+        @Specialization
+        static void step(VirtualFrame frame, PAsyncioTask task, Object excArg,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Cached AsyncioModuleBuiltins.EnterTask enterTask,
+                        @Cached AsyncioModuleBuiltins.LeaveTask leaveTask,
+                        @Cached TaskStepRunAndHandleResultNode runNode) {
+            if (!task.isPending()) {
+                throw raiseInvalidStateError(inliningTarget, ErrorMessages.STEP_ALREADY_DONE, task, excArg == null ? PNone.NONE : excArg);
+            }
+            Object exc = excArg;
+            if (task.isMustCancel()) {
+                if (exc == null || !isCancelledError(exc)) {
+                    exc = makeCancelledError(task);
+                }
+                task.setMustCancel(false);
+            }
+            task.setFutWaiter(PNone.NONE);
+            PythonModule asyncio = context.lookupBuiltinModule(T__ASYNCIO);
+            Object loop = task.getLoop();
+            enterTask.execute(frame, asyncio, loop, task);
+            try {
+                runNode.execute(frame, task, exc);
+            } finally {
+                leaveTask.execute(frame, asyncio, loop, task);
+            }
+        }
+    }
+
+    /**
+     * Sends {@code None} (or throws {@code exc}) into the coroutine and handles the outcome: a
+     * return or an exception completes the task, a yielded future makes the task wait for it.
+     */
+    @GenerateInline(false)
+    public abstract static class TaskStepRunAndHandleResultNode extends Node {
+        public abstract void execute(VirtualFrame frame, PAsyncioTask task, Object exc);
+
+        @Specialization
+        static void run(VirtualFrame frame, PAsyncioTask task, Object exc,
+                        @Bind("this") Node inliningTarget,
+                        @Cached InlinedConditionProfile isGeneratorProfile,
+                        @Cached CommonGeneratorBuiltins.SendNode sendNode,
+                        @Cached CommonGeneratorBuiltins.ThrowNode throwNode,
+                        @Cached PyObjectCallMethodObjArgs callMethodNode,
+                        @Cached IsBuiltinObjectProfile errorProfile,
+                        @Cached StopIterationBuiltins.StopIterationValueNode getStopIterationValue,
+                        @Cached FutureSetResultNode setResultNode,
+                        @Cached FutureSetExceptionNode setExceptionNode,
+                        @Cached FutureCancelNode cancelNode,
+                        @Cached TaskHandleYieldNode handleYieldNode) {
+            Object coro = task.getCoro();
+            Object result;
+            try {
+                if (isGeneratorProfile.profile(inliningTarget, coro instanceof PGenerator)) {
+                    if (exc == null) {
+                        result = sendNode.execute(frame, coro, PNone.NONE);
+                    } else {
+                        result = throwNode.execute(frame, coro, exc, PNone.NO_VALUE, PNone.NO_VALUE);
+                    }
+                } else if (exc == null) {
+                    result = callMethodNode.execute(frame, inliningTarget, coro, T_SEND, PNone.NONE);
+                } else {
+                    result = callMethodNode.execute(frame, inliningTarget, coro, T_THROW, exc);
+                }
+            } catch (PException e) {
+                if (errorProfile.profileException(inliningTarget, e, PythonBuiltinClassType.StopIteration)) {
+                    Object value = getStopIterationValue.execute((PBaseException) e.getUnreifiedException());
+                    if (task.isMustCancel()) {
+                        // the task was cancelled right before the coroutine returned
+                        task.setMustCancel(false);
+                        cancelNode.execute(frame, inliningTarget, task, task.getCancelMessage());
+                    } else {
+                        setResultNode.execute(frame, inliningTarget, task, value);
+                    }
+                    return;
+                }
+                Object exception = e.getEscapedException();
+                if (isCancelledError(exception)) {
+                    // save the original exception so that it can be chained later
+                    task.setCancelledExc(exception);
+                    cancelNode.execute(frame, inliningTarget, task, PNone.NONE);
+                    return;
+                }
+                setExceptionNode.execute(frame, inliningTarget, task, exception);
+                if (errorProfile.profileException(inliningTarget, e, PythonBuiltinClassType.KeyboardInterrupt) ||
+                                errorProfile.profileException(inliningTarget, e, PythonBuiltinClassType.SystemExit)) {
+                    throw e;
+                }
+                return;
+            }
+            handleYieldNode.execute(frame, inliningTarget, task, result);
+        }
+    }
+
+    @GenerateInline
+    @GenerateCached(false)
+    abstract static class TaskHandleYieldNode extends Node {
+        abstract void execute(VirtualFrame frame, Node inliningTarget, PAsyncioTask task, Object result);
+
+        @Specialization
+        static void handle(VirtualFrame frame, Node inliningTarget, PAsyncioTask task, Object result,
+                        @Cached IsBuiltinObjectExactProfile exactFutureProfile,
+                        @Cached InlinedConditionProfile bareYieldProfile,
+                        @Cached PyObjectGetAttr getAttr,
+                        @Cached FutureAddDoneCallbackNode addDoneCallbackNode,
+                        @Cached CallSoonNode callSoonNode,
+                        @Cached PyObjectCallMethodObjArgs callCancelNode,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached(inline = false) TaskHandleForeignYieldNode foreignYieldNode) {
+            if (isExactFuture(inliningTarget, result, exactFutureProfile)) {
+                PAsyncioFuture future = (PAsyncioFuture) result;
+                if (future.getLoop() != task.getLoop()) {
+                    scheduleStepWithError(frame, inliningTarget, task, callSoonNode, getAttr, ErrorMessages.TASK_GOT_FUTURE_ATTACHED_TO_DIFFERENT_LOOP, task, result);
+                } else if (!future.isBlocking()) {
+                    scheduleStepWithError(frame, inliningTarget, task, callSoonNode, getAttr, ErrorMessages.YIELD_INSTEAD_OF_YIELD_FROM_IN_TASK, task, result);
+                } else if (future == task) {
+                    scheduleStepWithError(frame, inliningTarget, task, callSoonNode, getAttr, ErrorMessages.TASK_CANNOT_AWAIT_ON_ITSELF, task);
+                } else {
+                    future.setBlocking(false);
+                    addDoneCallbackNode.execute(frame, inliningTarget, future, getWakeupMethod(frame, inliningTarget, task, getAttr), task.getContext());
+                    task.setFutWaiter(future);
+                    if (task.isMustCancel()) {
+                        if (isTrueNode.execute(frame, callCancelNode.execute(frame, inliningTarget, future, T_CANCEL, task.getCancelMessage()))) {
+                            task.setMustCancel(false);
+                        }
+                    }
+                }
+            } else if (bareYieldProfile.profile(inliningTarget, result == PNone.NONE)) {
+                // bare yield relinquishes control for one event loop iteration
+                callSoonNode.execute(frame, inliningTarget, task.getLoop(), getStepMethod(frame, inliningTarget, task, getAttr), null, task.getContext());
+            } else {
+                foreignYieldNode.execute(frame, task, result);
+            }
+        }
+    }
+
+    /**
+     * Handles a coroutine yielding something that is not one of our builtin futures: either a
+     * duck-typed future (anything with an {@code _asyncio_future_blocking} attribute), or an error.
+     */
+    @GenerateInline(false)
+    abstract static class TaskHandleForeignYieldNode extends Node {
+        abstract void execute(VirtualFrame frame, PAsyncioTask task, Object result);
+
+        @Specialization
+        static void handle(VirtualFrame frame, PAsyncioTask task, Object result,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectLookupAttr lookupAttr,
+                        @Cached PyObjectGetAttr getAttr,
+                        @Cached PyObjectSetAttr setAttr,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached PyObjectCallMethodObjArgs callMethodNode,
+                        @Cached CallNode callNode,
+                        @Cached CallSoonNode callSoonNode) {
+            Object blocking = lookupAttr.execute(frame, inliningTarget, result, T_ASYNCIO_FUTURE_BLOCKING);
+            if (blocking != PNone.NO_VALUE && blocking != PNone.NONE) {
+                Object futureLoop;
+                Object getLoop = lookupAttr.execute(frame, inliningTarget, result, T_GET_LOOP);
+                if (getLoop != PNone.NO_VALUE) {
+                    futureLoop = callNode.execute(frame, getLoop);
+                } else {
+                    futureLoop = getAttr.execute(frame, inliningTarget, result, T__LOOP);
+                }
+                if (futureLoop != task.getLoop()) {
+                    scheduleStepWithError(frame, inliningTarget, task, callSoonNode, getAttr, ErrorMessages.TASK_GOT_FUTURE_ATTACHED_TO_DIFFERENT_LOOP, task, result);
+                } else if (!isTrueNode.execute(frame, blocking)) {
+                    scheduleStepWithError(frame, inliningTarget, task, callSoonNode, getAttr, ErrorMessages.YIELD_INSTEAD_OF_YIELD_FROM_IN_TASK, task, result);
+                } else if (result == task) {
+                    scheduleStepWithError(frame, inliningTarget, task, callSoonNode, getAttr, ErrorMessages.TASK_CANNOT_AWAIT_ON_ITSELF, task);
+                } else {
+                    setAttr.execute(frame, inliningTarget, result, T_ASYNCIO_FUTURE_BLOCKING, false);
+                    Object addDoneCallback = getAttr.execute(frame, inliningTarget, result, T_ADD_DONE_CALLBACK);
+                    Object wakeup = getWakeupMethod(frame, inliningTarget, task, getAttr);
+                    callNode.execute(frame, addDoneCallback, new Object[]{wakeup}, new PKeyword[]{new PKeyword(T_CONTEXT, task.getContext())});
+                    task.setFutWaiter(result);
+                    if (task.isMustCancel()) {
+                        if (isTrueNode.execute(frame, callMethodNode.execute(frame, inliningTarget, result, T_CANCEL, task.getCancelMessage()))) {
+                            task.setMustCancel(false);
+                        }
+                    }
+                }
+            } else if (result instanceof PGenerator generator && !generator.isCoroutine() && !generator.isAsyncGen()) {
+                scheduleStepWithError(frame, inliningTarget, task, callSoonNode, getAttr, ErrorMessages.YIELD_INSTEAD_OF_YIELD_FROM_FOR_GENERATOR, task, result);
+            } else {
+                scheduleStepWithError(frame, inliningTarget, task, callSoonNode, getAttr, ErrorMessages.TASK_GOT_BAD_YIELD, result);
+            }
+        }
+    }
+
+    @Slot(value = SlotKind.tp_new, isComplex = true)
+    @SlotSignature(name = J_TASK, minNumOfPositionalArgs = 1, takesVarArgs = true, takesVarKeywordArgs = true)
+    @GenerateNodeFactory
+    public abstract static class TaskNewNode extends PythonVarargsBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static PAsyncioTask doGeneric(Object cls, Object[] args, PKeyword[] kwargs,
+                        @Bind PythonLanguage language,
+                        @Cached TypeNodes.GetInstanceShape getInstanceShape) {
+            return PFactory.createAsyncioTask(language, cls, getInstanceShape.execute(cls));
+        }
+    }
+
+    @Slot(value = SlotKind.tp_init, isComplex = true)
+    @SlotSignature(name = J_TASK, minNumOfPositionalArgs = 2, parameterNames = {"$self", "coro"}, keywordOnlyNames = {"loop", "name", "context", "eager_start"})
+    @GenerateNodeFactory
+    public abstract static class TaskInitNode extends PythonBuiltinNode {
+        @Specialization
+        static PNone init(VirtualFrame frame, PAsyncioTask self, Object coro, Object loop, Object name, Object contextArg, Object eagerStart,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Cached InitFutureNode initFutureNode,
+                        @Cached PyObjectStrAsTruffleStringNode strNode,
+                        @Cached PyContextCopyCurrent copyContext,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached PyObjectCallMethodObjArgs callIsRunning,
+                        @Cached PyObjectGetAttr getAttr,
+                        @Cached CallSoonNode callSoonNode,
+                        @Cached AsyncioModuleBuiltins.RegisterTask registerTask,
+                        @Cached TaskEagerStartNode eagerStartNode) {
+            initFutureNode.execute(frame, inliningTarget, self, loop);
+            if (!isCoroutine(coro)) {
+                // prevent logging for a pending task that was never started
+                self.setLogDestroyPending(false);
+                throw PRaiseNode.raiseStatic(inliningTarget, TypeError, ErrorMessages.A_COROUTINE_WAS_EXPECTED_GOT_S, AsyncioFutureBuiltins.repr(coro));
+            }
+            if (PGuards.isPNone(name)) {
+                // formatted lazily by get_name, like in CPython
+                self.setName(context.nextAsyncioTaskNumber());
+            } else {
+                self.setName(strNode.execute(frame, inliningTarget, name));
+            }
+            self.setNumCancelsRequested(0);
+            self.setMustCancel(false);
+            self.setFutWaiter(PNone.NONE);
+            self.setCoro(coro);
+            self.setContext(PGuards.isPNone(contextArg) ? copyContext.execute(inliningTarget) : contextArg);
+            if (self.isLogDestroyPending()) {
+                self.logIfDestroyedPending();
+            }
+            if (eagerStart != PNone.NO_VALUE && isTrueNode.execute(frame, eagerStart) && self.getContext() instanceof PContextVarsContext &&
+                            isTrueNode.execute(frame, callIsRunning.execute(frame, inliningTarget, self.getLoop(), T_IS_RUNNING))) {
+                eagerStartNode.execute(frame, self);
+            } else {
+                callSoonNode.execute(frame, inliningTarget, self.getLoop(), getStepMethod(frame, inliningTarget, self, getAttr), null, self.getContext());
+                registerTask.execute(frame, context.lookupBuiltinModule(T__ASYNCIO), self);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    /** Equivalent of {@code Task.__eager_start}: runs the first step synchronously. */
+    @GenerateInline(false)
+    abstract static class TaskEagerStartNode extends Node {
+        abstract void execute(VirtualFrame frame, PAsyncioTask task);
+
+        @Specialization
+        static void eagerStart(VirtualFrame frame, PAsyncioTask task,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Cached AsyncioModuleBuiltins.SwapCurrentTaskNode swapCurrentTask,
+                        @Cached AsyncioModuleBuiltins.RegisterEagerTask registerEagerTask,
+                        @Cached AsyncioModuleBuiltins.UnregisterEagerTask unregisterEagerTask,
+                        @Cached AsyncioModuleBuiltins.RegisterTask registerTask,
+                        @Cached TaskStepRunAndHandleResultNode runNode,
+                        @Cached PRaiseNode raiseNode) {
+            PythonModule asyncio = context.lookupBuiltinModule(T__ASYNCIO);
+            Object loop = task.getLoop();
+            Object prevTask = swapCurrentTask.execute(frame, asyncio, loop, task);
+            try {
+                registerEagerTask.execute(frame, asyncio, task);
+                try {
+                    PContextVarsContext taskContext = (PContextVarsContext) task.getContext();
+                    PythonContext.PythonThreadState threadState = context.getThreadState(context.getLanguage(inliningTarget));
+                    taskContext.enter(inliningTarget, threadState, raiseNode);
+                    try {
+                        runNode.execute(frame, task, null);
+                    } finally {
+                        taskContext.leave(threadState);
+                    }
+                } finally {
+                    unregisterEagerTask.execute(frame, asyncio, task);
+                }
+            } finally {
+                try {
+                    swapCurrentTask.execute(frame, asyncio, loop, prevTask);
+                } finally {
+                    if (task.isPending()) {
+                        registerTask.execute(frame, asyncio, task);
+                    } else {
+                        task.setCoro(PNone.NONE);
+                    }
+                }
+            }
+        }
+    }
+
+    @Slot(value = SlotKind.tp_repr, isComplex = true)
+    @GenerateNodeFactory
+    abstract static class TaskReprNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object repr(PAsyncioTask self) {
+            return callAsyncioHelper(T_ASYNCIO_BASE_TASKS, T_TASK_REPR, self);
+        }
+    }
+
+    @Builtin(name = J_TASK_STEP, minNumOfPositionalArgs = 1, parameterNames = {"$self", "exc"})
+    @GenerateNodeFactory
+    public abstract static class StepNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object step(VirtualFrame frame, PAsyncioTask self, Object exc,
+                        @Cached TaskStepNode stepNode) {
+            stepNode.execute(frame, self, PGuards.isPNone(exc) ? null : exc);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = J_TASK_WAKEUP, minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class WakeupNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object wakeup(VirtualFrame frame, PAsyncioTask self, Object future,
+                        @Bind("this") Node inliningTarget,
+                        @Cached IsBuiltinObjectExactProfile exactFutureProfile,
+                        @Cached PyObjectCallMethodObjArgs callResultNode,
+                        @Cached TaskStepNode stepNode) {
+            Object exc = null;
+            if (isExactFuture(inliningTarget, future, exactFutureProfile)) {
+                // avoid raising and catching the exception of a builtin future
+                PAsyncioFuture fut = (PAsyncioFuture) future;
+                if (fut.getState() == State.CANCELLED) {
+                    exc = makeCancelledError(fut);
+                } else if (fut.getState() == State.FINISHED) {
+                    fut.setLogTraceback(false);
+                    exc = fut.getException();
+                } else {
+                    exc = AsyncioFutureBuiltins.createInvalidStateError(ErrorMessages.RESULT_IS_NOT_READY);
+                }
+            } else {
+                try {
+                    callResultNode.execute(frame, inliningTarget, future, T_RESULT);
+                } catch (PException e) {
+                    // this may also be a cancellation
+                    exc = e.getEscapedException();
+                }
+            }
+            // like CPython, the result is not passed, so that the coroutine is resumed by send(None)
+            stepNode.execute(frame, self, exc);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "cancel", minNumOfPositionalArgs = 1, parameterNames = {"$self", "msg"})
+    @GenerateNodeFactory
+    public abstract static class CancelNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static boolean cancel(VirtualFrame frame, PAsyncioTask self, Object msgArg,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectCallMethodObjArgs callCancelNode,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            ensureAlive(inliningTarget, self);
+            Object msg = msgArg == PNone.NO_VALUE ? PNone.NONE : msgArg;
+            self.setLogTraceback(false);
+            if (!self.isPending()) {
+                return false;
+            }
+            self.setNumCancelsRequested(self.getNumCancelsRequested() + 1);
+            Object futWaiter = self.getFutWaiter();
+            if (futWaiter != PNone.NONE) {
+                if (isTrueNode.execute(frame, callCancelNode.execute(frame, inliningTarget, futWaiter, T_CANCEL, msg))) {
+                    // leave the waiter: it may be a task that ignores the cancellation
+                    return true;
+                }
+            }
+            // the step of this task must already be scheduled
+            self.setMustCancel(true);
+            self.setCancelMessage(msg);
+            return true;
+        }
+    }
+
+    @Builtin(name = "cancelling", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CancellingNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int cancelling(PAsyncioTask self) {
+            return self.getNumCancelsRequested();
+        }
+    }
+
+    @Builtin(name = "uncancel", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class UncancelNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int uncancel(PAsyncioTask self) {
+            if (self.getNumCancelsRequested() > 0) {
+                self.setNumCancelsRequested(self.getNumCancelsRequested() - 1);
+            }
+            return self.getNumCancelsRequested();
+        }
+    }
+
+    @Builtin(name = "set_result", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class SetResultNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static Object setResult(PAsyncioTask self, Object result,
+                        @Bind("this") Node inliningTarget) {
+            throw PRaiseNode.raiseStatic(inliningTarget, RuntimeError, ErrorMessages.TASK_DOES_NOT_SUPPORT_SET_RESULT);
+        }
+    }
+
+    @Builtin(name = "set_exception", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class SetExceptionNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        @SuppressWarnings("unused")
+        static Object setException(PAsyncioTask self, Object exception,
+                        @Bind("this") Node inliningTarget) {
+            throw PRaiseNode.raiseStatic(inliningTarget, RuntimeError, ErrorMessages.TASK_DOES_NOT_SUPPORT_SET_EXCEPTION);
+        }
+    }
+
+    @Builtin(name = "get_coro", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class GetCoroNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getCoro(PAsyncioTask self) {
+            return self.getCoro();
+        }
+    }
+
+    @Builtin(name = "get_context", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class GetContextNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getContext(PAsyncioTask self) {
+            return self.getContext();
+        }
+    }
+
+    @Builtin(name = "get_name", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class GetNameNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object getName(PAsyncioTask self) {
+            Object name = self.getName();
+            if (name instanceof Long number) {
+                name = defaultName(number);
+                self.setName(name);
+            }
+            return name;
+        }
+    }
+
+    @Builtin(name = "set_name", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class SetNameNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object setName(VirtualFrame frame, PAsyncioTask self, Object value,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectStrAsTruffleStringNode strNode) {
+            self.setName(strNode.execute(frame, inliningTarget, value));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "get_stack", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 1, keywordOnlyNames = {"limit"})
+    @GenerateNodeFactory
+    public abstract static class GetStackNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object getStack(PAsyncioTask self, Object limit) {
+            return callAsyncioHelper(T_ASYNCIO_BASE_TASKS, T_TASK_GET_STACK, self, limit == PNone.NO_VALUE ? PNone.NONE : limit);
+        }
+    }
+
+    @Builtin(name = "print_stack", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 1, keywordOnlyNames = {"limit", "file"})
+    @GenerateNodeFactory
+    public abstract static class PrintStackNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        static Object printStack(PAsyncioTask self, Object limit, Object file) {
+            return callAsyncioHelper(T_ASYNCIO_BASE_TASKS, T_TASK_PRINT_STACK, self, limit == PNone.NO_VALUE ? PNone.NONE : limit, file == PNone.NO_VALUE ? PNone.NONE : file);
+        }
+    }
+
+    @Builtin(name = "_log_destroy_pending", minNumOfPositionalArgs = 1, maxNumOfPositionalArgs = 2, isGetter = true, isSetter = true)
+    @GenerateNodeFactory
+    public abstract static class LogDestroyPendingNode extends PythonBinaryBuiltinNode {
+        @Specialization(guards = "isNoValue(none)")
+        static Object get(PAsyncioTask self, @SuppressWarnings("unused") PNone none) {
+            return self.isLogDestroyPending();
+        }
+
+        @Specialization(guards = "!isNoValue(value)")
+        static Object set(VirtualFrame frame, PAsyncioTask self, Object value,
+                        @Cached PyObjectIsTrueNode isTrueNode) {
+            self.setLogDestroyPending(isTrueNode.execute(frame, value));
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "_must_cancel", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class MustCancelNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static boolean mustCancel(PAsyncioTask self) {
+            return self.isMustCancel();
+        }
+    }
+
+    @Builtin(name = "_coro", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class CoroNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object coro(PAsyncioTask self) {
+            return self.getCoro();
+        }
+    }
+
+    @Builtin(name = "_fut_waiter", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class FutWaiterNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object futWaiter(PAsyncioTask self) {
+            return self.getFutWaiter();
+        }
+    }
+
+    @Builtin(name = "_num_cancels_requested", minNumOfPositionalArgs = 1, isGetter = true)
+    @GenerateNodeFactory
+    public abstract static class NumCancelsRequestedNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static int numCancelsRequested(PAsyncioTask self) {
+            return self.getNumCancelsRequested();
+        }
+    }
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.builtins.PythonBuiltinClassType.RuntimeError;
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.annotations.Slot;
+import com.oracle.graal.python.annotations.Slot.SlotKind;
+import com.oracle.graal.python.annotations.Slot.SlotSignature;
+import com.oracle.graal.python.builtins.Builtin;
+import com.oracle.graal.python.builtins.CoreFunctions;
+import com.oracle.graal.python.builtins.PythonBuiltinClassType;
+import com.oracle.graal.python.builtins.PythonBuiltins;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.type.TpSlots;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.lib.PyFloatAsDoubleNode;
+import com.oracle.graal.python.lib.PyLongAsIntNode;
+import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
+import com.oracle.graal.python.lib.PyObjectGetAttr;
+import com.oracle.graal.python.lib.PyObjectIsTrueNode;
+import com.oracle.graal.python.lib.PyObjectSetAttr;
+import com.oracle.graal.python.nodes.ErrorMessages;
+import com.oracle.graal.python.nodes.PConstructAndRaiseNode;
+import com.oracle.graal.python.nodes.PGuards;
+import com.oracle.graal.python.nodes.PRaiseNode;
+import com.oracle.graal.python.nodes.function.PythonBuiltinBaseNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonBinaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonTernaryBuiltinNode;
+import com.oracle.graal.python.nodes.function.builtins.PythonUnaryBuiltinNode;
+import com.oracle.graal.python.nodes.statement.AbstractImportNode;
+import com.oracle.graal.python.runtime.EmulatedPosixSupport;
+import com.oracle.graal.python.runtime.GilNode;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.IntSequenceStorage;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.GenerateNodeFactory;
+import com.oracle.truffle.api.dsl.NodeFactory;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Builtins of {@code _asyncio._NioEventLoopCore}, the Java part of
+ * {@code _nio_event_loop.NioEventLoop}. {@code run_once} is the equivalent of
+ * {@code BaseEventLoop._run_once}: it waits on the persistent selector without holding the GIL,
+ * moves the handles of ready file descriptors and expired timers to the ready deque and runs the
+ * handles that were ready at the beginning of the iteration.
+ */
+@CoreFunctions(extendClasses = PythonBuiltinClassType.PNioEventLoopCore)
+public final class NioEventLoopCoreBuiltins extends PythonBuiltins {
+
+    public static final TpSlots SLOTS = NioEventLoopCoreBuiltinsSlotsGen.SLOTS;
+
+    static final String J_NIO_EVENT_LOOP_CORE = "_NioEventLoopCore";
+
+    private static final TruffleString T__RUN = tsLiteral("_run");
+    private static final TruffleString T__CANCELLED = tsLiteral("_cancelled");
+    private static final TruffleString T__SCHEDULED = tsLiteral("_scheduled");
+    private static final TruffleString T__NIO_EVENT_LOOP = tsLiteral("_nio_event_loop");
+    private static final TruffleString T__LOG_SLOW_CALLBACK = tsLiteral("_log_slow_callback");
+
+    // constants of asyncio.base_events
+    private static final double MAXIMUM_SELECT_TIMEOUT = 24 * 3600;
+    private static final int MIN_SCHEDULED_TIMER_HANDLES = 100;
+    private static final double MIN_CANCELLED_TIMER_HANDLES_FRACTION = 0.5;
+    // resolution of System.nanoTime, which backs time.monotonic
+    private static final double CLOCK_RESOLUTION = 1e-9;
+
+    @Override
+    protected List<? extends NodeFactory<? extends PythonBuiltinBaseNode>> getNodeFactories() {
+        return NioEventLoopCoreBuiltinsFactory.getFactories();
+    }
+
+    static void ensureOpen(Node inliningTarget, PNioEventLoopCore self) {
+        if (self.isClosed()) {
+            throw PRaiseNode.raiseStatic(inliningTarget, RuntimeError, ErrorMessages.EVENT_LOOP_CORE_IS_CLOSED);
+        }
+    }
+
+    static boolean isCancelled(VirtualFrame frame, Node inliningTarget, Object handle, PyObjectGetAttr getAttr, PyObjectIsTrueNode isTrueNode) {
+        return isTrueNode.execute(frame, getAttr.execute(frame, inliningTarget, handle, T__CANCELLED));
+    }
+
+    @TruffleBoundary
+    static void logSlowCallback(Object handle, double duration) {
+        PyObjectCallMethodObjArgs.executeUncached(AbstractImportNode.importModule(T__NIO_EVENT_LOOP), T__LOG_SLOW_CALLBACK, handle, duration);
+    }
+
+    @Slot(value = SlotKind.tp_new, isComplex = true)
+    @SlotSignature(name = J_NIO_EVENT_LOOP_CORE, minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class NioEventLoopCoreNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static PNioEventLoopCore doGeneric(VirtualFrame frame, Object cls,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonContext context,
+                        @Bind PythonLanguage language,
+                        @Cached TypeNodes.GetInstanceShape getInstanceShape,
+                        @Cached TruffleString.EqualNode eqNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            EmulatedPosixSupport posixSupport = context.getPosixSupport().getEmulatedPosixSupport();
+            if (posixSupport == null) {
+                throw PRaiseNode.raiseStatic(inliningTarget, RuntimeError, ErrorMessages.NIO_EVENT_LOOP_REQUIRES_JAVA_POSIX);
+            }
+            PNioEventLoopCore core = PFactory.createNioEventLoopCore(language, cls, getInstanceShape.execute(cls), posixSupport);
+            try {
+                core.open();
+            } catch (IOException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, e, eqNode);
+            }
+            return core;
+        }
+    }
+
+    @Builtin(name = "time", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class TimeNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static double time(@SuppressWarnings("unused") PNioEventLoopCore self) {
+            return PNioEventLoopCore.time();
+        }
+    }
+
+    @Builtin(name = "append_ready", minNumOfPositionalArgs = 2)
+    @GenerateNodeFactory
+    public abstract static class AppendReadyNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object append(PNioEventLoopCore self, Object handle) {
+            self.appendReady(handle);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "push_timer", minNumOfPositionalArgs = 3)
+    @GenerateNodeFactory
+    public abstract static class PushTimerNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        static Object push(VirtualFrame frame, PNioEventLoopCore self, Object when, Object handle,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyFloatAsDoubleNode asDoubleNode) {
+            self.pushTimer(asDoubleNode.execute(frame, inliningTarget, when), handle);
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "timer_cancelled", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class TimerCancelledNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object cancelled(PNioEventLoopCore self) {
+            self.setCancelledTimerCount(self.getCancelledTimerCount() + 1);
+            return PNone.NONE;
+        }
+    }
+
+    abstract static class SetHandleBaseNode extends PythonTernaryBuiltinNode {
+        static Object setHandle(VirtualFrame frame, Node inliningTarget, PNioEventLoopCore self, Object fdObj, Object handle, boolean write,
+                        PyLongAsIntNode asIntNode, TruffleString.EqualNode eqNode, PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            ensureOpen(inliningTarget, self);
+            int fd = asIntNode.execute(frame, inliningTarget, fdObj);
+            Object old;
+            try {
+                old = self.setHandle(fd, write, handle);
+            } catch (PosixException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSErrorFromPosixException(frame, e);
+            } catch (IOException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, e, eqNode);
+            }
+            return old == null ? PNone.NONE : old;
+        }
+    }
+
+    @Builtin(name = "add_reader", minNumOfPositionalArgs = 3, doc = "Installs the reader handle for fd and returns the replaced one or None.")
+    @GenerateNodeFactory
+    public abstract static class AddReaderNode extends SetHandleBaseNode {
+        @Specialization
+        static Object add(VirtualFrame frame, PNioEventLoopCore self, Object fd, Object handle,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @Cached TruffleString.EqualNode eqNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            return setHandle(frame, inliningTarget, self, fd, handle, false, asIntNode, eqNode, constructAndRaiseNode);
+        }
+    }
+
+    @Builtin(name = "add_writer", minNumOfPositionalArgs = 3, doc = "Installs the writer handle for fd and returns the replaced one or None.")
+    @GenerateNodeFactory
+    public abstract static class AddWriterNode extends SetHandleBaseNode {
+        @Specialization
+        static Object add(VirtualFrame frame, PNioEventLoopCore self, Object fd, Object handle,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @Cached TruffleString.EqualNode eqNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            return setHandle(frame, inliningTarget, self, fd, handle, true, asIntNode, eqNode, constructAndRaiseNode);
+        }
+    }
+
+    abstract static class RemoveHandleBaseNode extends PythonBinaryBuiltinNode {
+        static Object removeHandle(VirtualFrame frame, Node inliningTarget, PNioEventLoopCore self, Object fdObj, boolean write,
+                        PyLongAsIntNode asIntNode, TruffleString.EqualNode eqNode, PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            if (self.isClosed()) {
+                return PNone.NONE;
+            }
+            int fd = asIntNode.execute(frame, inliningTarget, fdObj);
+            Object old;
+            try {
+                old = self.removeHandle(fd, write, null);
+            } catch (IOException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, e, eqNode);
+            }
+            return old == null ? PNone.NONE : old;
+        }
+    }
+
+    @Builtin(name = "remove_reader", minNumOfPositionalArgs = 2, doc = "Removes and returns the reader handle for fd, or returns None.")
+    @GenerateNodeFactory
+    public abstract static class RemoveReaderNode extends RemoveHandleBaseNode {
+        @Specialization
+        static Object remove(VirtualFrame frame, PNioEventLoopCore self, Object fd,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @Cached TruffleString.EqualNode eqNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            return removeHandle(frame, inliningTarget, self, fd, false, asIntNode, eqNode, constructAndRaiseNode);
+        }
+    }
+
+    @Builtin(name = "remove_writer", minNumOfPositionalArgs = 2, doc = "Removes and returns the writer handle for fd, or returns None.")
+    @GenerateNodeFactory
+    public abstract static class RemoveWriterNode extends RemoveHandleBaseNode {
+        @Specialization
+        static Object remove(VirtualFrame frame, PNioEventLoopCore self, Object fd,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyLongAsIntNode asIntNode,
+                        @Cached TruffleString.EqualNode eqNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            return removeHandle(frame, inliningTarget, self, fd, true, asIntNode, eqNode, constructAndRaiseNode);
+        }
+    }
+
+    @Builtin(name = "get_key", minNumOfPositionalArgs = 2, doc = "Returns (events, reader, writer) for a registered fd, or None.")
+    @GenerateNodeFactory
+    public abstract static class GetKeyNode extends PythonBinaryBuiltinNode {
+        @Specialization
+        static Object getKey(VirtualFrame frame, PNioEventLoopCore self, Object fdObj,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached PyLongAsIntNode asIntNode) {
+            Object[] key = self.getKey(asIntNode.execute(frame, inliningTarget, fdObj));
+            if (key == null) {
+                return PNone.NONE;
+            }
+            for (int i = 1; i < key.length; i++) {
+                if (key[i] == null) {
+                    key[i] = PNone.NONE;
+                }
+            }
+            return PFactory.createTuple(language, key);
+        }
+    }
+
+    @Builtin(name = "registered_fds", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class RegisteredFdsNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object fds(PNioEventLoopCore self,
+                        @Bind PythonLanguage language) {
+            return PFactory.createList(language, new IntSequenceStorage(self.getRegisteredFds()));
+        }
+    }
+
+    @Builtin(name = "wakeup", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class WakeupNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object wakeup(PNioEventLoopCore self) {
+            self.wakeup();
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "close", minNumOfPositionalArgs = 1)
+    @GenerateNodeFactory
+    public abstract static class CloseNode extends PythonUnaryBuiltinNode {
+        @Specialization
+        static Object close(VirtualFrame frame, PNioEventLoopCore self,
+                        @Bind("this") Node inliningTarget,
+                        @Cached TruffleString.EqualNode eqNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            try {
+                self.close();
+            } catch (IOException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, e, eqNode);
+            }
+            return PNone.NONE;
+        }
+    }
+
+    @Builtin(name = "run_once", minNumOfPositionalArgs = 2, parameterNames = {"$self", "stopping", "slow_callback_duration"})
+    @GenerateNodeFactory
+    public abstract static class RunOnceNode extends PythonTernaryBuiltinNode {
+        @Specialization
+        static Object runOnce(VirtualFrame frame, PNioEventLoopCore self, Object stopping, Object slowCallbackDuration,
+                        @Bind("this") Node inliningTarget,
+                        @Cached PyObjectIsTrueNode isTrueNode,
+                        @Cached PyObjectGetAttr getAttr,
+                        @Cached PyObjectSetAttr setAttr,
+                        @Cached PyObjectCallMethodObjArgs callRunNode,
+                        @Cached PyFloatAsDoubleNode asDoubleNode,
+                        @Cached GilNode gil,
+                        @Cached TruffleString.EqualNode eqNode,
+                        @Cached PConstructAndRaiseNode.Lazy constructAndRaiseNode) {
+            ensureOpen(inliningTarget, self);
+            purgeCancelledTimers(frame, inliningTarget, self, getAttr, setAttr, isTrueNode);
+
+            long timeoutMillis;
+            if (self.getReadyCount() > 0 || isTrueNode.execute(frame, stopping) || self.hasUnselectable()) {
+                timeoutMillis = 0;
+            } else if (self.getTimerCount() > 0) {
+                double timeout = Math.min(Math.max(0, self.peekTimerWhen() - PNioEventLoopCore.time()), MAXIMUM_SELECT_TIMEOUT);
+                // round up, so that we do not wake up right before the deadline and spin
+                timeoutMillis = (long) Math.ceil(timeout * 1000);
+            } else {
+                timeoutMillis = -1;
+            }
+            try {
+                gil.release(true);
+                try {
+                    self.select(timeoutMillis);
+                } finally {
+                    gil.acquire();
+                }
+            } catch (IOException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, e, eqNode);
+            }
+
+            // handle the I/O events
+            self.collectEvents();
+            try {
+                for (int i = 0; i < self.getEventCount(); i++) {
+                    Object handle = self.getEventHandle(i);
+                    if (isCancelled(frame, inliningTarget, handle, getAttr, isTrueNode)) {
+                        self.removeHandle(self.getEventFd(i), self.isWriteEvent(i), handle);
+                    } else {
+                        self.appendReady(handle);
+                    }
+                }
+            } catch (IOException e) {
+                throw constructAndRaiseNode.get(inliningTarget).raiseOSError(frame, e, eqNode);
+            } finally {
+                self.clearEvents();
+            }
+
+            // handle the timers that are ready
+            double endTime = PNioEventLoopCore.time() + CLOCK_RESOLUTION;
+            while (self.getTimerCount() > 0 && self.peekTimerWhen() < endTime) {
+                Object handle = self.popTimer();
+                setAttr.execute(frame, inliningTarget, handle, T__SCHEDULED, false);
+                self.appendReady(handle);
+            }
+
+            // run only the callbacks that are ready now, new ones run in the next iteration
+            boolean debug = !PGuards.isPNone(slowCallbackDuration);
+            double slowDuration = debug ? asDoubleNode.execute(frame, inliningTarget, slowCallbackDuration) : 0;
+            int ntodo = self.getReadyCount();
+            for (int i = 0; i < ntodo; i++) {
+                Object handle = self.pollReady();
+                if (isCancelled(frame, inliningTarget, handle, getAttr, isTrueNode)) {
+                    continue;
+                }
+                if (debug) {
+                    double start = PNioEventLoopCore.time();
+                    callRunNode.execute(frame, inliningTarget, handle, T__RUN);
+                    double duration = PNioEventLoopCore.time() - start;
+                    if (duration >= slowDuration) {
+                        logSlowCallback(handle, duration);
+                    }
+                } else {
+                    callRunNode.execute(frame, inliningTarget, handle, T__RUN);
+                }
+            }
+            return PNone.NONE;
+        }
+
+        private static void purgeCancelledTimers(VirtualFrame frame, Node inliningTarget, PNioEventLoopCore self, PyObjectGetAttr getAttr, PyObjectSetAttr setAttr,
+                        PyObjectIsTrueNode isTrueNode) {
+            int count = self.getTimerCount();
+            if (count > MIN_SCHEDULED_TIMER_HANDLES && (double) self.getCancelledTimerCount() / count > MIN_CANCELLED_TIMER_HANDLES_FRACTION) {
+                // remove the cancelled handles in one pass if there are too many of them
+                boolean[] remove = new boolean[count];
+                for (int i = 0; i < count; i++) {
+                    Object handle = self.getTimer(i);
+                    if (isCancelled(frame, inliningTarget, handle, getAttr, isTrueNode)) {
+                        setAttr.execute(frame, inliningTarget, handle, T__SCHEDULED, false);
+                        remove[i] = true;
+                    }
+                }
+                self.removeTimers(remove);
+                self.setCancelledTimerCount(0);
+            } else {
+                // otherwise only pop the cancelled handles at the front of the queue
+                while (self.getTimerCount() > 0 && isCancelled(frame, inliningTarget, self.peekTimer(), getAttr, isTrueNode)) {
+                    self.setCancelledTimerCount(self.getCancelledTimerCount() - 1);
+                    setAttr.execute(frame, inliningTarget, self.popTimer(), T__SCHEDULED, false);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import static com.oracle.graal.python.util.PythonUtils.tsLiteral;
+
+import java.util.Arrays;
+
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.builtins.objects.type.TypeNodes;
+import com.oracle.graal.python.nodes.object.GetClassNode;
+import com.oracle.graal.python.runtime.AsyncHandler.AsyncAction;
+import com.oracle.graal.python.runtime.AsyncHandler.SharedFinalizer;
+import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.Shape;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Native counterpart of {@code asyncio.futures.Future}. Mirrors the layout of CPython's
+ * {@code FutureObj}: the first done-callback is stored inline in {@link #callback0} and
+ * {@link #context0}, further callbacks go to a flat array of {@code (callback, context)} pairs that
+ * is only allocated when a future has more than one waiter.
+ */
+public class PAsyncioFuture extends PythonBuiltinObject {
+
+    public enum State {
+        PENDING("PENDING"),
+        CANCELLED("CANCELLED"),
+        FINISHED("FINISHED");
+
+        private final TruffleString name;
+
+        State(String name) {
+            this.name = tsLiteral(name);
+        }
+
+        public TruffleString getName() {
+            return name;
+        }
+    }
+
+    private State state = State.PENDING;
+    /** {@code null} until {@code __init__} ran. */
+    private Object loop;
+    private Object callback0;
+    private Object context0;
+    /** Overflow callbacks stored as consecutive {@code (callback, context)} pairs. */
+    private Object[] callbacks;
+    private int callbacksCount;
+    private Object result = PNone.NONE;
+    private Object exception;
+    private Object exceptionTb;
+    private Object cancelMessage = PNone.NONE;
+    private Object cancelledExc;
+    private Object sourceTraceback = PNone.NONE;
+    private boolean logTraceback;
+    private boolean blocking;
+    /** Created when there is first something to report once the future is collected. */
+    private DestroyLogRef destroyLog;
+
+    public PAsyncioFuture(Object cls, Shape instanceShape) {
+        super(cls, instanceShape);
+    }
+
+    /** Brings the future back into its initial state, as done by {@code __init__}. */
+    public final void reset() {
+        state = State.PENDING;
+        loop = null;
+        clearCallbacks();
+        result = PNone.NONE;
+        exception = null;
+        exceptionTb = null;
+        cancelMessage = PNone.NONE;
+        cancelledExc = null;
+        sourceTraceback = PNone.NONE;
+        logTraceback = false;
+        blocking = false;
+        if (destroyLog != null) {
+            destroyLog.exception = null;
+            destroyLog.pendingTask = false;
+        }
+    }
+
+    public final State getState() {
+        return state;
+    }
+
+    public final void setState(State state) {
+        this.state = state;
+        if (state != State.PENDING && destroyLog != null) {
+            destroyLog.pendingTask = false;
+        }
+    }
+
+    public final boolean isPending() {
+        return state == State.PENDING;
+    }
+
+    public final Object getLoop() {
+        return loop;
+    }
+
+    public final void setLoop(Object loop) {
+        this.loop = loop;
+    }
+
+    public final Object getResult() {
+        return result;
+    }
+
+    public final void setResult(Object result) {
+        this.result = result;
+    }
+
+    public final Object getException() {
+        return exception;
+    }
+
+    public final Object getExceptionTb() {
+        return exceptionTb;
+    }
+
+    public final void setException(Object exception, Object exceptionTb) {
+        this.exception = exception;
+        this.exceptionTb = exceptionTb;
+    }
+
+    public final Object getCancelMessage() {
+        return cancelMessage;
+    }
+
+    public final void setCancelMessage(Object cancelMessage) {
+        this.cancelMessage = cancelMessage;
+    }
+
+    public final Object getCancelledExc() {
+        return cancelledExc;
+    }
+
+    public final void setCancelledExc(Object cancelledExc) {
+        this.cancelledExc = cancelledExc;
+    }
+
+    public final Object getSourceTraceback() {
+        return sourceTraceback;
+    }
+
+    public final void setSourceTraceback(Object sourceTraceback) {
+        this.sourceTraceback = sourceTraceback;
+    }
+
+    public final boolean isLogTraceback() {
+        return logTraceback;
+    }
+
+    public final void setLogTraceback(boolean logTraceback) {
+        this.logTraceback = logTraceback;
+        if (!logTraceback && destroyLog != null) {
+            destroyLog.exception = null;
+        }
+    }
+
+    /**
+     * Like {@code Future.__del__}, reports the exception to the loop's exception handler if the
+     * future is collected before the exception was retrieved.
+     */
+    @TruffleBoundary
+    public final void logExceptionIfNotRetrieved() {
+        ensureDestroyLog().exception = exception;
+    }
+
+    /**
+     * Like {@code Task.__del__}, reports the task to the loop's exception handler if it is
+     * collected while it is still pending.
+     */
+    @TruffleBoundary
+    final void logIfDestroyedPending() {
+        ensureDestroyLog().pendingTask = true;
+    }
+
+    final void clearDestroyedPendingLog() {
+        if (destroyLog != null) {
+            destroyLog.pendingTask = false;
+        }
+    }
+
+    private DestroyLogRef ensureDestroyLog() {
+        if (destroyLog == null) {
+            destroyLog = new DestroyLogRef(this, PythonContext.get(null).getSharedFinalizer());
+        }
+        destroyLog.loop = loop;
+        destroyLog.sourceTraceback = sourceTraceback;
+        return destroyLog;
+    }
+
+    public final boolean isBlocking() {
+        return blocking;
+    }
+
+    public final void setBlocking(boolean blocking) {
+        this.blocking = blocking;
+    }
+
+    public final boolean hasCallbacks() {
+        return callback0 != null || callbacksCount > 0;
+    }
+
+    public final void addCallback(Object callback, Object context) {
+        if (callback0 == null) {
+            callback0 = callback;
+            context0 = context;
+            return;
+        }
+        if (callbacks == null) {
+            callbacks = new Object[4];
+        } else if (callbacksCount * 2 == callbacks.length) {
+            callbacks = Arrays.copyOf(callbacks, callbacks.length * 2);
+        }
+        callbacks[callbacksCount * 2] = callback;
+        callbacks[callbacksCount * 2 + 1] = context;
+        callbacksCount++;
+    }
+
+    /**
+     * Returns the registered callbacks as a flat array of {@code (callback, context)} pairs and
+     * clears them, so that callbacks added while the returned ones are being scheduled are kept.
+     */
+    public final Object[] takeCallbacks() {
+        Object[] taken = peekCallbacks();
+        clearCallbacks();
+        return taken;
+    }
+
+    /** Same as {@link #takeCallbacks()} but leaves the callbacks in place. */
+    public final Object[] peekCallbacks() {
+        int n = (callback0 != null ? 1 : 0) + callbacksCount;
+        Object[] pairs = new Object[n * 2];
+        int i = 0;
+        if (callback0 != null) {
+            pairs[i++] = callback0;
+            pairs[i++] = context0;
+        }
+        if (callbacksCount > 0) {
+            System.arraycopy(callbacks, 0, pairs, i, callbacksCount * 2);
+        }
+        return pairs;
+    }
+
+    public final void clearCallbacks() {
+        callback0 = null;
+        context0 = null;
+        callbacks = null;
+        callbacksCount = 0;
+    }
+
+    /**
+     * Managed objects have no {@code __del__}, so the logging done by {@code Future.__del__} and
+     * {@code Task.__del__} is triggered by this reference instead. The future keeps the fields up to
+     * date while it is alive. Since the future is already gone when the handler is called, the
+     * context passed to it has no {@code future} or {@code task} entry. The type name of the future
+     * is stored as the reference.
+     */
+    static final class DestroyLogRef extends SharedFinalizer.FinalizableReference {
+        Object loop;
+        Object sourceTraceback;
+        /**
+         * The exception to report, {@code null} once it was retrieved. Until then it is strongly
+         * reachable, so a future that its own traceback refers to is only collected after the
+         * exception was retrieved.
+         */
+        Object exception;
+        boolean pendingTask;
+
+        DestroyLogRef(PAsyncioFuture referent, SharedFinalizer finalizer) {
+            super(referent, TypeNodes.GetNameNode.executeUncached(GetClassNode.executeUncached(referent)), finalizer);
+        }
+
+        TruffleString getTypeName() {
+            return (TruffleString) getReference();
+        }
+
+        @Override
+        public AsyncAction release() {
+            return new AsyncioFutureBuiltins.DestroyLogCallback(this);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * Native counterpart of {@code asyncio.tasks.Task}. The coroutine is stepped by
+ * {@link AsyncioTaskBuiltins.TaskStepNode}, which is scheduled on the event loop via the bound
+ * {@code _Task__step} and {@code _Task__wakeup} methods cached on the task.
+ */
+public final class PAsyncioTask extends PAsyncioFuture {
+
+    private Object coro = PNone.NONE;
+    private Object context = PNone.NONE;
+    private Object name = PNone.NONE;
+    private Object futWaiter = PNone.NONE;
+    private Object stepMethod;
+    private Object wakeupMethod;
+    private int numCancelsRequested;
+    private boolean mustCancel;
+    private boolean logDestroyPending = true;
+
+    public PAsyncioTask(Object cls, Shape instanceShape) {
+        super(cls, instanceShape);
+    }
+
+    public Object getCoro() {
+        return coro;
+    }
+
+    public void setCoro(Object coro) {
+        this.coro = coro;
+    }
+
+    public Object getContext() {
+        return context;
+    }
+
+    public void setContext(Object context) {
+        this.context = context;
+    }
+
+    public Object getName() {
+        return name;
+    }
+
+    public void setName(Object name) {
+        this.name = name;
+    }
+
+    public Object getFutWaiter() {
+        return futWaiter;
+    }
+
+    public void setFutWaiter(Object futWaiter) {
+        this.futWaiter = futWaiter;
+    }
+
+    public Object getStepMethod() {
+        return stepMethod;
+    }
+
+    public void setStepMethod(Object stepMethod) {
+        this.stepMethod = stepMethod;
+    }
+
+    public Object getWakeupMethod() {
+        return wakeupMethod;
+    }
+
+    public void setWakeupMethod(Object wakeupMethod) {
+        this.wakeupMethod = wakeupMethod;
+    }
+
+    public int getNumCancelsRequested() {
+        return numCancelsRequested;
+    }
+
+    public void setNumCancelsRequested(int numCancelsRequested) {
+        this.numCancelsRequested = numCancelsRequested;
+    }
+
+    public boolean isMustCancel() {
+        return mustCancel;
+    }
+
+    public void setMustCancel(boolean mustCancel) {
+        this.mustCancel = mustCancel;
+    }
+
+    public boolean isLogDestroyPending() {
+        return logDestroyPending;
+    }
+
+    public void setLogDestroyPending(boolean logDestroyPending) {
+        this.logDestroyPending = logDestroyPending;
+        if (!logDestroyPending) {
+            clearDestroyedPendingLog();
+        }
+    }
+}
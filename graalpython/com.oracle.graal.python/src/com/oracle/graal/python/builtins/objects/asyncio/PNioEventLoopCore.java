@@ -0,0 +1,506 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.asyncio;
+
+import java.io.IOException;
+import java.nio.channels.SelectableChannel;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+
+import com.oracle.graal.python.builtins.objects.object.PythonBuiltinObject;
+import com.oracle.graal.python.runtime.EmulatedPosixSupport;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.ChannelNotSelectableException;
+import com.oracle.graal.python.runtime.PosixSupportLibrary.PosixException;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.object.Shape;
+
+/**
+ * State of the NIO based asyncio event loop core ({@code _asyncio._NioEventLoopCore}). It keeps a
+ * persistent {@link Selector} with one key per registered file descriptor, a binary min-heap of
+ * timer handles ordered by their deadline, and the deque of handles that are ready to run. The
+ * handles themselves are the regular {@code asyncio.Handle} and {@code asyncio.TimerHandle}
+ * objects created by {@code _nio_event_loop.NioEventLoop}; this class only stores and orders them.
+ * <p>
+ * File descriptors whose channel cannot be selected (see
+ * {@link EmulatedPosixSupport#getSelectableChannel(int)}) are reported ready on every iteration,
+ * like {@code select.select} does in the emulated mode.
+ */
+public final class PNioEventLoopCore extends PythonBuiltinObject {
+
+    /** Values of {@code selectors.EVENT_READ} and {@code selectors.EVENT_WRITE}. */
+    public static final int EVENT_READ = 1;
+    public static final int EVENT_WRITE = 2;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int READ_OPS = SelectionKey.OP_READ | SelectionKey.OP_ACCEPT;
+    private static final int WRITE_OPS = SelectionKey.OP_WRITE | SelectionKey.OP_CONNECT;
+
+    private static final class Registration {
+        final int fd;
+        /** {@code null} if the file descriptor is not selectable. */
+        final SelectableChannel channel;
+        SelectionKey key;
+        Object reader;
+        Object writer;
+
+        Registration(int fd, SelectableChannel channel) {
+            this.fd = fd;
+            this.channel = channel;
+        }
+    }
+
+    private final EmulatedPosixSupport posixSupport;
+    private Selector selector;
+    private final HashMap<Integer, Registration> registrations = new HashMap<>();
+    private final ArrayList<Registration> unselectable = new ArrayList<>();
+
+    // binary min-heap ordered by deadline and then by insertion order
+    private double[] timerWhen = new double[INITIAL_CAPACITY];
+    private long[] timerOrder = new long[INITIAL_CAPACITY];
+    private Object[] timerHandles = new Object[INITIAL_CAPACITY];
+    private int timerCount;
+    private long timerSequence;
+    private int cancelledTimerCount;
+
+    private final ArrayDeque<Object> ready = new ArrayDeque<>();
+
+    // readers and writers reported by the last select, reused across iterations
+    private Object[] eventHandles = new Object[INITIAL_CAPACITY];
+    private int[] eventFds = new int[INITIAL_CAPACITY];
+    private boolean[] eventIsWrite = new boolean[INITIAL_CAPACITY];
+    private int eventCount;
+
+    public PNioEventLoopCore(Object cls, Shape instanceShape, EmulatedPosixSupport posixSupport) {
+        super(cls, instanceShape);
+        this.posixSupport = posixSupport;
+    }
+
+    @TruffleBoundary
+    public void open() throws IOException {
+        selector = Selector.open();
+    }
+
+    public boolean isClosed() {
+        return selector == null;
+    }
+
+    @TruffleBoundary
+    public void close() throws IOException {
+        Selector s = selector;
+        selector = null;
+        registrations.clear();
+        unselectable.clear();
+        ready.clear();
+        Arrays.fill(timerHandles, 0, timerCount, null);
+        timerCount = 0;
+        cancelledTimerCount = 0;
+        clearEvents();
+        if (s != null) {
+            s.close();
+        }
+    }
+
+    /** Same clock as {@code time.monotonic()} and therefore as {@code loop.time()}. */
+    @TruffleBoundary
+    public static double time() {
+        return System.nanoTime() / 1000_000_000D;
+    }
+
+    // ready handles
+
+    @TruffleBoundary
+    public void appendReady(Object handle) {
+        ready.addLast(handle);
+    }
+
+    @TruffleBoundary
+    public Object pollReady() {
+        return ready.pollFirst();
+    }
+
+    @TruffleBoundary
+    public int getReadyCount() {
+        return ready.size();
+    }
+
+    // timers
+
+    public int getTimerCount() {
+        return timerCount;
+    }
+
+    public int getCancelledTimerCount() {
+        return cancelledTimerCount;
+    }
+
+    public void setCancelledTimerCount(int cancelledTimerCount) {
+        this.cancelledTimerCount = cancelledTimerCount;
+    }
+
+    public Object getTimer(int index) {
+        return timerHandles[index];
+    }
+
+    public Object peekTimer() {
+        return timerHandles[0];
+    }
+
+    public double peekTimerWhen() {
+        return timerWhen[0];
+    }
+
+    public void pushTimer(double when, Object handle) {
+        if (timerCount == timerHandles.length) {
+            int newCapacity = timerCount * 2;
+            timerWhen = Arrays.copyOf(timerWhen, newCapacity);
+            timerOrder = Arrays.copyOf(timerOrder, newCapacity);
+            timerHandles = Arrays.copyOf(timerHandles, newCapacity);
+        }
+        int i = timerCount++;
+        timerWhen[i] = when;
+        timerOrder[i] = timerSequence++;
+        timerHandles[i] = handle;
+        siftUp(i);
+    }
+
+    public Object popTimer() {
+        Object handle = timerHandles[0];
+        int last = --timerCount;
+        if (last > 0) {
+            move(last, 0);
+            siftDown(0);
+        }
+        timerHandles[last] = null;
+        return handle;
+    }
+
+    /** Removes the timers whose {@code remove} flag is set and restores the heap order. */
+    public void removeTimers(boolean[] remove) {
+        int n = 0;
+        for (int i = 0; i < timerCount; i++) {
+            if (!remove[i]) {
+                if (n != i) {
+                    move(i, n);
+                }
+                n++;
+            }
+        }
+        Arrays.fill(timerHandles, n, timerCount, null);
+        timerCount = n;
+        for (int i = (n >>> 1) - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    private boolean less(int i, int j) {
+        return timerWhen[i] < timerWhen[j] || (timerWhen[i] == timerWhen[j] && timerOrder[i] < timerOrder[j]);
+    }
+
+    private void move(int from, int to) {
+        timerWhen[to] = timerWhen[from];
+        timerOrder[to] = timerOrder[from];
+        timerHandles[to] = timerHandles[from];
+    }
+
+    private void swap(int i, int j) {
+        double when = timerWhen[i];
+        long order = timerOrder[i];
+        Object handle = timerHandles[i];
+        move(j, i);
+        timerWhen[j] = when;
+        timerOrder[j] = order;
+        timerHandles[j] = handle;
+    }
+
+    private void siftUp(int index) {
+        int i = index;
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            if (!less(i, parent)) {
+                break;
+            }
+            swap(i, parent);
+            i = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        int i = index;
+        while (true) {
+            int child = 2 * i + 1;
+            if (child >= timerCount) {
+                break;
+            }
+            if (child + 1 < timerCount && less(child + 1, child)) {
+                child++;
+            }
+            if (!less(child, i)) {
+                break;
+            }
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    // readers and writers
+
+    /**
+     * Installs the reader or writer handle for the file descriptor and returns the handle it
+     * replaces, or {@code null}.
+     */
+    @TruffleBoundary
+    public Object setHandle(int fd, boolean write, Object handle) throws PosixException, IOException {
+        Registration reg = getOrCreateRegistration(fd);
+        Object old;
+        if (write) {
+            old = reg.writer;
+            reg.writer = handle;
+        } else {
+            old = reg.reader;
+            reg.reader = handle;
+        }
+        updateInterestOps(reg);
+        return old;
+    }
+
+    /**
+     * Removes the reader or writer handle for the file descriptor and returns it, or {@code null}
+     * if there was none. If {@code expected} is not {@code null}, the handle is only removed if it
+     * is still the registered one.
+     */
+    @TruffleBoundary
+    public Object removeHandle(int fd, boolean write, Object expected) throws IOException {
+        Registration reg = registrations.get(fd);
+        if (reg == null) {
+            return null;
+        }
+        Object old = write ? reg.writer : reg.reader;
+        if (old == null || (expected != null && old != expected)) {
+            return null;
+        }
+        if (write) {
+            reg.writer = null;
+        } else {
+            reg.reader = null;
+        }
+        updateInterestOps(reg);
+        return old;
+    }
+
+    /**
+     * Returns {@code null} if the file descriptor is not registered, otherwise an array with the
+     * {@code selectors} event mask, the reader and the writer handle ({@code null} if missing).
+     */
+    @TruffleBoundary
+    public Object[] getKey(int fd) {
+        Registration reg = registrations.get(fd);
+        if (reg == null) {
+            return null;
+        }
+        int events = (reg.reader != null ? EVENT_READ : 0) | (reg.writer != null ? EVENT_WRITE : 0);
+        return new Object[]{events, reg.reader, reg.writer};
+    }
+
+    @TruffleBoundary
+    public int[] getRegisteredFds() {
+        int[] fds = new int[registrations.size()];
+        int i = 0;
+        for (Integer fd : registrations.keySet()) {
+            fds[i++] = fd;
+        }
+        return fds;
+    }
+
+    private Registration getOrCreateRegistration(int fd) throws PosixException, IOException {
+        SelectableChannel channel;
+        try {
+            channel = posixSupport.getSelectableChannel(fd);
+        } catch (ChannelNotSelectableException e) {
+            channel = null;
+        }
+        Registration reg = registrations.get(fd);
+        if (reg != null) {
+            if (reg.channel == channel && (reg.key == null || reg.key.isValid())) {
+                return reg;
+            }
+            // the file descriptor was closed and reused without being unregistered
+            dropRegistration(reg);
+        }
+        reg = new Registration(fd, channel);
+        if (channel != null) {
+            if (channel.isBlocking()) {
+                channel.configureBlocking(false);
+            }
+            reg.key = channel.register(selector, 0, reg);
+        } else {
+            unselectable.add(reg);
+        }
+        registrations.put(fd, reg);
+        return reg;
+    }
+
+    private void updateInterestOps(Registration reg) throws IOException {
+        if (reg.reader == null && reg.writer == null) {
+            dropRegistration(reg);
+            // deregister the channel right away, so that it can be switched back to blocking mode
+            selector.selectNow();
+        } else if (reg.key != null && reg.key.isValid()) {
+            int ops = (reg.reader != null ? READ_OPS : 0) | (reg.writer != null ? WRITE_OPS : 0);
+            reg.key.interestOps(ops & reg.channel.validOps());
+        }
+    }
+
+    private void dropRegistration(Registration reg) {
+        registrations.remove(reg.fd);
+        if (reg.key != null) {
+            reg.key.cancel();
+        } else {
+            unselectable.remove(reg);
+        }
+    }
+
+    // selecting
+
+    public boolean hasUnselectable() {
+        return !unselectable.isEmpty();
+    }
+
+    /**
+     * Waits for I/O readiness. A negative timeout waits indefinitely, zero does not block at all.
+     * Must be called without holding the GIL.
+     */
+    @TruffleBoundary
+    public void select(long timeoutMillis) throws IOException {
+        if (timeoutMillis < 0) {
+            selector.select();
+        } else if (timeoutMillis == 0) {
+            selector.selectNow();
+        } else {
+            selector.select(timeoutMillis);
+        }
+    }
+
+    /** Wakes up a thread blocked in {@link #select(long)}. May be called from any thread. */
+    @TruffleBoundary
+    public void wakeup() {
+        Selector s = selector;
+        if (s != null) {
+            s.wakeup();
+        }
+    }
+
+    /**
+     * Collects the reader and writer handles of the file descriptors that became ready in the last
+     * {@link #select(long)}. They are then available through {@link #getEventHandle(int)} and
+     * friends until {@link #clearEvents()}.
+     */
+    @TruffleBoundary
+    public void collectEvents() {
+        eventCount = 0;
+        Iterator<SelectionKey> it = selector.selectedKeys().iterator();
+        while (it.hasNext()) {
+            SelectionKey key = it.next();
+            it.remove();
+            Registration reg = (Registration) key.attachment();
+            if (!key.isValid()) {
+                // the channel was closed while registered, forget about it like epoll does
+                if (registrations.get(reg.fd) == reg) {
+                    registrations.remove(reg.fd);
+                }
+                continue;
+            }
+            int readyOps = key.readyOps();
+            if ((readyOps & READ_OPS) != 0 && reg.reader != null) {
+                addEvent(reg.fd, false, reg.reader);
+            }
+            if ((readyOps & WRITE_OPS) != 0 && reg.writer != null) {
+                addEvent(reg.fd, true, reg.writer);
+            }
+        }
+        for (Registration reg : unselectable) {
+            if (reg.reader != null) {
+                addEvent(reg.fd, false, reg.reader);
+            }
+            if (reg.writer != null) {
+                addEvent(reg.fd, true, reg.writer);
+            }
+        }
+    }
+
+    private void addEvent(int fd, boolean write, Object handle) {
+        if (eventCount == eventHandles.length) {
+            int newCapacity = eventCount * 2;
+            eventHandles = Arrays.copyOf(eventHandles, newCapacity);
+            eventFds = Arrays.copyOf(eventFds, newCapacity);
+            eventIsWrite = Arrays.copyOf(eventIsWrite, newCapacity);
+        }
+        eventHandles[eventCount] = handle;
+        eventFds[eventCount] = fd;
+        eventIsWrite[eventCount] = write;
+        eventCount++;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public Object getEventHandle(int index) {
+        return eventHandles[index];
+    }
+
+    public int getEventFd(int index) {
+        return eventFds[index];
+    }
+
+    public boolean isWriteEvent(int index) {
+        return eventIsWrite[index];
+    }
+
+    public void clearEvents() {
+        Arrays.fill(eventHandles, 0, eventCount, null);
+        eventCount = 0;
+    }
+}
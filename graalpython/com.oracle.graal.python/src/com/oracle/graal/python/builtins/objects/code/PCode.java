@@ -411,7 +411,7 @@ public final class PCode extends PythonBuiltinObject {
         return getRootCallTarget().getRootNode();
     }
 
-    RootNode getRootNodeForExtraction() {
+    public RootNode getRootNodeForExtraction() {
         return rootNodeForExtraction(getRootNode());
     }
 
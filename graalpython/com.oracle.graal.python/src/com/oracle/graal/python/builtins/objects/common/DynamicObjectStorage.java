@@ -50,6 +50,7 @@ import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.Speci
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
 import com.oracle.graal.python.builtins.objects.str.PString;
+import com.oracle.graal.python.builtins.objects.type.InstanceLayoutInference;
 import com.oracle.graal.python.lib.PyObjectHashNode;
 import com.oracle.graal.python.lib.PyObjectRichCompareBool;
 import com.oracle.graal.python.lib.PyUnicodeCheckExactNode;
@@ -297,7 +298,7 @@ public final class DynamicObjectStorage extends HashingStorage {
     }
 
     void setStringKey(TruffleString key, Object value, DynamicObjectLibrary dylib, Node inliningTarget, InlinedBranchProfile invalidateMroProfile) {
-        dylib.put(store, key, assertNoJavaString(value));
+        InstanceLayoutInference.put(store, key, assertNoJavaString(value), dylib);
         invalidateAttributeInMROFinalAssumption(key, inliningTarget, invalidateMroProfile);
     }
 
@@ -344,7 +345,7 @@ public final class DynamicObjectStorage extends HashingStorage {
         }
     }
 
-    @ImportStatic({PGuards.class, DynamicObjectStorage.class})
+    @ImportStatic({PGuards.class, DynamicObjectStorage.class, InstanceLayoutInference.class})
     @GenerateUncached
     @GenerateInline
     @GenerateCached(false)
@@ -365,7 +366,7 @@ public final class DynamicObjectStorage extends HashingStorage {
         public static DynamicObjectStorage copy(DynamicObjectStorage receiver,
                         @SuppressWarnings("unused") @Bind("receiver.store") DynamicObject store,
                         @SuppressWarnings("unused") @CachedLibrary("store") DynamicObjectLibrary dylib,
-                        @Bind("dylib.getKeyArray(store)") Object[] keys,
+                        @Bind("getKeyArray(store, dylib)") Object[] keys,
                         @Cached(value = "keys.length") int cachedLength,
                         @Cached("createAccess(cachedLength)") DynamicObjectLibrary[] readLib,
                         @Cached("createAccess(cachedLength)") DynamicObjectLibrary[] writeLib) {
@@ -380,7 +381,7 @@ public final class DynamicObjectStorage extends HashingStorage {
         public static DynamicObjectStorage copyGeneric(DynamicObjectStorage receiver,
                         @CachedLibrary(limit = "3") DynamicObjectLibrary dylib) {
             DynamicObject copy = new Store(PythonLanguage.get(dylib).getEmptyShape());
-            Object[] keys = dylib.getKeyArray(receiver.store);
+            Object[] keys = InstanceLayoutInference.getKeyArray(receiver.store, dylib);
             for (Object key : keys) {
                 dylib.put(copy, key, dylib.getOrDefault(receiver.store, key, PNone.NO_VALUE));
             }
@@ -55,13 +55,17 @@ import com.oracle.graal.python.builtins.objects.common.HashingCollectionNodesFac
 import com.oracle.graal.python.builtins.objects.dict.DictNodes;
 import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.builtins.objects.dict.PDictView;
+import com.oracle.graal.python.builtins.objects.list.PList;
 import com.oracle.graal.python.builtins.objects.set.PBaseSet;
+import com.oracle.graal.python.builtins.objects.tuple.PTuple;
 import com.oracle.graal.python.lib.IteratorExhausted;
 import com.oracle.graal.python.lib.PyIterNextNode;
 import com.oracle.graal.python.lib.PyObjectGetIter;
 import com.oracle.graal.python.nodes.PGuards;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
+import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.HostCompilerDirectives.InliningCutoff;
 import com.oracle.truffle.api.dsl.Bind;
@@ -76,6 +80,7 @@ import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.Frame;
 import com.oracle.truffle.api.frame.VirtualFrame;
+import com.oracle.truffle.api.nodes.LoopNode;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedLoopConditionProfile;
 import com.oracle.truffle.api.strings.TruffleString;
@@ -244,7 +249,39 @@ public abstract class HashingCollectionNodes {
             return storage;
         }
 
-        @Specialization(guards = {"!isPHashingCollection(other)", "!isDictKeysView(other)", "!isString(other)"})
+        /**
+         * Builtin lists and tuples know their length, so the storage is allocated at its final
+         * capacity and the items are read without the iterator protocol. The storage is re-read in
+         * every iteration, because {@code __hash__} or {@code __eq__} of the keys may modify the
+         * list.
+         */
+        @Specialization(guards = "isBuiltinListOrTuple(other)")
+        @InliningCutoff
+        static HashingStorage doSequence(VirtualFrame frame, Node inliningTarget, PSequence other, Object value,
+                        @Cached SequenceStorageNodes.GetItemScalarNode getItemNode,
+                        @Exclusive @Cached HashingStorageSetItem setStorageItem,
+                        @Cached InlinedLoopConditionProfile loopProfile) {
+            SequenceStorage sequenceStorage = other.getSequenceStorage();
+            int length = sequenceStorage.length();
+            HashingStorage curStorage = PDict.createNewStorage(length, length > 0 ? getItemNode.execute(inliningTarget, sequenceStorage, 0) : null);
+            Object val = value == PNone.NO_VALUE ? PNone.NONE : value;
+            int i = 0;
+            try {
+                while (loopProfile.profile(inliningTarget, i < other.getSequenceStorage().length())) {
+                    Object key = getItemNode.execute(inliningTarget, other.getSequenceStorage(), i++);
+                    curStorage = setStorageItem.execute(frame, inliningTarget, curStorage, key, val);
+                }
+            } finally {
+                LoopNode.reportLoopCount(inliningTarget, i);
+            }
+            return curStorage;
+        }
+
+        static boolean isBuiltinListOrTuple(Object obj) {
+            return (obj instanceof PList list && PGuards.isBuiltinList(list)) || (obj instanceof PTuple tuple && PGuards.isBuiltinTuple(tuple));
+        }
+
+        @Specialization(guards = {"!isPHashingCollection(other)", "!isDictKeysView(other)", "!isString(other)", "!isBuiltinListOrTuple(other)"})
         @InliningCutoff
         static HashingStorage doIterable(VirtualFrame frame, Node inliningTarget, Object other, Object value,
                         @Cached PyObjectGetIter getIter,
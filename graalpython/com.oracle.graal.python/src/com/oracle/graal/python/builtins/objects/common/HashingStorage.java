@@ -132,7 +132,8 @@ public abstract class HashingStorage {
                         @Cached InlinedConditionProfile hasKwds) {
             Object keyAttr = lookupKeysAttributeNode.execute(frame, inliningTarget, arg, T_KEYS);
             ArrayBuilder<KeyValue> elements = toArrayPair.execute(frame, arg, keyAttr);
-            HashingStorage storage = PDict.createNewStorage(elements.size() + kwargs.length);
+            Object firstKey = elements.size() > 0 ? elements.get(0).key : null;
+            HashingStorage storage = PDict.createNewStorage(elements.size() + kwargs.length, firstKey);
             storage = addKeyValuesToStorage(frame, elements, storage, inliningTarget, setItem);
             if (hasKwds.profile(inliningTarget, kwargs.length > 0)) {
                 storage = addAllToOther.execute(frame, inliningTarget, new KeywordsStorage(kwargs), storage);
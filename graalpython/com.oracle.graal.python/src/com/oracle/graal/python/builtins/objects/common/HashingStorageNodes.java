@@ -62,6 +62,7 @@ import com.oracle.graal.python.builtins.objects.common.HashingStorageNodesFactor
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodesFactory.HashingStorageSetItemWithHashNodeGen;
 import com.oracle.graal.python.builtins.objects.common.KeywordsStorage.GetKeywordsStorageItemNode;
 import com.oracle.graal.python.builtins.objects.common.ObjectHashMap.PutNode;
+import com.oracle.graal.python.builtins.objects.type.InstanceLayoutInference;
 import com.oracle.graal.python.lib.PyObjectHashNode;
 import com.oracle.graal.python.lib.PyObjectRichCompareBool;
 import com.oracle.graal.python.lib.PyUnicodeCheckExactNode;
@@ -120,6 +121,12 @@ public class HashingStorageNodes {
             return getNode.execute(frame, inliningTarget, self.map, key, keyHash);
         }
 
+        @Specialization
+        static Object longKeys(Frame frame, Node inliningTarget, LongKeyStorage self, Object key, long keyHash,
+                        @Cached LongKeyStorage.LookupNode lookupNode) {
+            return self.getValueOrNull(lookupNode.execute(frame, inliningTarget, self, key, keyHash));
+        }
+
         @Specialization
         static Object dom(Frame frame, Node inliningTarget, DynamicObjectStorage self, Object key, long keyHash,
                         @Cached DynamicObjectStorage.GetItemNode getNode) {
@@ -190,6 +197,12 @@ public class HashingStorageNodes {
             }
         }
 
+        @Specialization
+        static Object longKeys(Frame frame, Node inliningTarget, LongKeyStorage self, Object key,
+                        @Cached LongKeyStorage.LookupNode lookupNode) {
+            return self.getValueOrNull(lookupNode.execute(frame, inliningTarget, self, key, -1));
+        }
+
         @Specialization
         static Object dom(Frame frame, Node inliningTarget, DynamicObjectStorage self, Object key,
                         @Cached DynamicObjectStorage.GetItemNode getNode) {
@@ -235,7 +248,7 @@ public class HashingStorageNodes {
         DynamicObject store = s.store;
         EconomicMapStorage result = EconomicMapStorage.create(dylib.getShape(store).getPropertyCount());
         ObjectHashMap resultMap = result.map;
-        Object[] keys = dylib.getKeyArray(store);
+        Object[] keys = InstanceLayoutInference.getKeyArray(store, dylib);
         for (Object k : keys) {
             if (k instanceof TruffleString) {
                 Object v = dylib.getOrDefault(store, k, PNone.NO_VALUE);
@@ -270,6 +283,22 @@ public class HashingStorageNodes {
             return self;
         }
 
+        @Specialization
+        static HashingStorage longKeys(Frame frame, Node inliningTarget, LongKeyStorage self, Object key, long keyHash, Object value,
+                        @Cached LongKeyStorage.PutNode putNode) {
+            return putNode.execute(frame, inliningTarget, self, key, keyHash, value);
+        }
+
+        @Specialization
+        static HashingStorage emptyIntKey(@SuppressWarnings("unused") EmptyStorage self, int key, @SuppressWarnings("unused") long keyHash, Object value) {
+            return LongKeyStorage.create(key, value);
+        }
+
+        @Specialization
+        static HashingStorage emptyLongKey(@SuppressWarnings("unused") EmptyStorage self, long key, @SuppressWarnings("unused") long keyHash, Object value) {
+            return LongKeyStorage.create(key, value);
+        }
+
         @Specialization
         static HashingStorage empty(Frame frame, Node inliningTarget, @SuppressWarnings("unused") EmptyStorage self, Object key, long keyHash, Object value,
                         @Exclusive @Cached PutNode putNode) {
@@ -391,6 +420,24 @@ public class HashingStorageNodes {
             return self;
         }
 
+        @Specialization
+        static HashingStorage longKeys(Frame frame, Node inliningTarget, LongKeyStorage self, Object key, Object value,
+                        @Cached LongKeyStorage.PutNode putNode) {
+            return putNode.execute(frame, inliningTarget, self, key, -1, value);
+        }
+
+        @Specialization
+        static HashingStorage emptyIntKey(@SuppressWarnings("unused") EmptyStorage self, int key, Object value) {
+            // Dicts and sets with int keys start with the unboxed storage, the first key of another
+            // type generalizes it to EconomicMapStorage
+            return LongKeyStorage.create(key, value);
+        }
+
+        @Specialization
+        static HashingStorage emptyLongKey(@SuppressWarnings("unused") EmptyStorage self, long key, Object value) {
+            return LongKeyStorage.create(key, value);
+        }
+
         @Specialization
         static HashingStorage empty(Frame frame, Node inliningTarget, @SuppressWarnings("unused") EmptyStorage self, Object key, Object value,
                         @Exclusive @Cached PyObjectHashNode hashNode,
@@ -535,6 +582,17 @@ public class HashingStorageNodes {
             return needsValue ? null : false;
         }
 
+        @Specialization
+        static Object longKeys(Frame frame, Node inliningTarget, LongKeyStorage self, Object key, boolean needsValue, @SuppressWarnings("unused") Object toUpdate,
+                        @Cached LongKeyStorage.LookupNode lookupNode) {
+            int index = lookupNode.execute(frame, inliningTarget, self, key, -1);
+            if (index < 0) {
+                return needsValue ? null : false;
+            }
+            Object result = self.removeAt(index);
+            return needsValue ? result : true;
+        }
+
         @Specialization
         @InliningCutoff
         static Object domStringKey(Frame frame, Node inliningTarget, DynamicObjectStorage self, Object keyObj, boolean needsValue, @SuppressWarnings("unused") Object toUpdate,
@@ -618,6 +676,11 @@ public class HashingStorageNodes {
             return self.length();
         }
 
+        @Specialization
+        static int longKeys(LongKeyStorage self) {
+            return self.length();
+        }
+
         @Specialization
         @InliningCutoff
         static int dom(DynamicObjectStorage self,
@@ -655,6 +718,12 @@ public class HashingStorageNodes {
             return self;
         }
 
+        @Specialization
+        static HashingStorage longKeys(LongKeyStorage self) {
+            self.clear();
+            return self;
+        }
+
         @Specialization
         @InliningCutoff
         static HashingStorage dom(Node inliningTarget, DynamicObjectStorage self,
@@ -700,6 +769,11 @@ public class HashingStorageNodes {
             return map.copy();
         }
 
+        @Specialization
+        static HashingStorage longKeys(LongKeyStorage self) {
+            return self.copy();
+        }
+
         @Specialization
         static EmptyStorage empty(@SuppressWarnings("unused") EmptyStorage map) {
             return EmptyStorage.INSTANCE;
@@ -801,10 +875,15 @@ public class HashingStorageNodes {
             return new HashingStorageIterator();
         }
 
+        @Specialization
+        static HashingStorageIterator longKeys(@SuppressWarnings("unused") LongKeyStorage self) {
+            return new HashingStorageIterator();
+        }
+
         @Specialization
         static HashingStorageIterator dom(DynamicObjectStorage self,
                         @CachedLibrary(limit = "3") DynamicObjectLibrary dylib) {
-            return new HashingStorageIterator(dylib.getKeyArray(self.store), false);
+            return new HashingStorageIterator(InstanceLayoutInference.getKeyArray(self.store, dylib), false);
         }
 
         @Specialization
@@ -851,10 +930,17 @@ public class HashingStorageNodes {
             return it;
         }
 
+        @Specialization
+        static HashingStorageIterator longKeys(LongKeyStorage self) {
+            HashingStorageIterator it = new HashingStorageIterator(true);
+            it.index = self.used;
+            return it;
+        }
+
         @Specialization
         static HashingStorageIterator dom(DynamicObjectStorage self,
                         @CachedLibrary(limit = "3") DynamicObjectLibrary dylib) {
-            HashingStorageIterator it = new HashingStorageIterator(dylib.getKeyArray(self.store), true);
+            HashingStorageIterator it = new HashingStorageIterator(InstanceLayoutInference.getKeyArray(self.store, dylib), true);
             it.index = it.domKeys.length;
             return it;
         }
@@ -933,6 +1019,36 @@ public class HashingStorageNodes {
             return false;
         }
 
+        @Specialization(guards = "!it.isReverse")
+        static boolean longKeys(LongKeyStorage self, HashingStorageIterator it) {
+            it.index++;
+            while (it.index < self.used) {
+                Object val = self.getValue(it.index);
+                if (val != null) {
+                    it.currentValue = val;
+                    return true;
+                }
+                it.index++;
+            }
+            assert (it.currentValue = null) == null;
+            return false;
+        }
+
+        @Specialization(guards = "it.isReverse")
+        static boolean longKeysReverse(LongKeyStorage self, HashingStorageIterator it) {
+            it.index = Math.min(it.index, self.used) - 1;
+            while (it.index >= 0) {
+                Object val = self.getValue(it.index);
+                if (val != null) {
+                    it.currentValue = val;
+                    return true;
+                }
+                it.index--;
+            }
+            assert (it.currentValue = null) == null;
+            return false;
+        }
+
         @Specialization(guards = "!it.isReverse")
         static boolean dom(DynamicObjectStorage self, HashingStorageIterator it,
                         @Shared @CachedLibrary(limit = "3") DynamicObjectLibrary dylib) {
@@ -1033,6 +1149,11 @@ public class HashingStorageNodes {
             return it.currentValue;
         }
 
+        @Specialization
+        static Object longKeys(@SuppressWarnings("unused") LongKeyStorage self, HashingStorageIterator it) {
+            return it.currentValue;
+        }
+
         @Specialization
         static Object dom(@SuppressWarnings("unused") DynamicObjectStorage self, HashingStorageIterator it) {
             return it.currentValue;
@@ -1086,6 +1207,11 @@ public class HashingStorageNodes {
             return self.map.getKey(it.index);
         }
 
+        @Specialization
+        static Object longKeys(LongKeyStorage self, HashingStorageIterator it) {
+            return self.getKey(it.index);
+        }
+
         @Specialization
         static TruffleString dom(@SuppressWarnings("unused") DynamicObjectStorage self, HashingStorageIterator it) {
             return (TruffleString) it.domKeys[it.index];
@@ -1128,6 +1254,11 @@ public class HashingStorageNodes {
             return self.map.hashes[it.index];
         }
 
+        @Specialization
+        static long longKeys(LongKeyStorage self, HashingStorageIterator it) {
+            return LongKeyStorage.hash(self.keys[it.index]);
+        }
+
         @Specialization
         static long dom(@SuppressWarnings("unused") DynamicObjectStorage self, HashingStorageIterator it,
                         @Shared("hash") @Cached(inline = false) TruffleString.HashCodeNode hashNode) {
@@ -1176,6 +1307,11 @@ public class HashingStorageNodes {
             return popNode.execute(inliningTarget, self.map);
         }
 
+        @Specialization
+        static Object[] longKeys(LongKeyStorage self, @SuppressWarnings("unused") Object toUpdate) {
+            return self.popLast();
+        }
+
         // Other storages should not have any side effects, it's OK if they call __eq__
         @Fallback
         static Object[] others(Node inliningTarget, HashingStorage storage, Object toUpdate,
@@ -1352,6 +1488,24 @@ public class HashingStorageNodes {
     public abstract static class HashingStorageXor extends Node {
         public abstract HashingStorage execute(Frame frame, Node inliningTarget, HashingStorage a, HashingStorage b);
 
+        @Specialization
+        static HashingStorage doLongKeys(LongKeyStorage aStorage, LongKeyStorage bStorage) {
+            return LongKeyStorage.xor(aStorage, bStorage);
+        }
+
+        @Specialization
+        static HashingStorage doEconomic(Frame frame, Node inliningTarget, EconomicMapStorage aStorage, EconomicMapStorage bStorage,
+                        @Cached ObjectHashMap.GetNode getNode,
+                        @Cached PutNode putNode,
+                        @Cached InlinedLoopConditionProfile loopProfile) {
+            ObjectHashMap aMap = aStorage.map;
+            ObjectHashMap bMap = bStorage.map;
+            EconomicMapStorage result = EconomicMapStorage.create(Math.max(aMap.size(), bMap.size()));
+            putMissing(frame, inliningTarget, aMap, bMap, result.map, getNode, putNode, loopProfile);
+            putMissing(frame, inliningTarget, bMap, aMap, result.map, getNode, putNode, loopProfile);
+            return result;
+        }
+
         @Specialization
         static HashingStorage doIt(Frame frame, Node inliningTarget, HashingStorage aStorage, HashingStorage bStorage,
                         @Cached HashingStorageForEach forEachA,
@@ -1406,6 +1560,44 @@ public class HashingStorageNodes {
     public abstract static class HashingStorageIntersect extends Node {
         public abstract HashingStorage execute(Frame frame, Node inliningTarget, HashingStorage a, HashingStorage b);
 
+        @Specialization
+        static HashingStorage doLongKeys(LongKeyStorage aStorage, LongKeyStorage bStorage) {
+            return LongKeyStorage.intersect(aStorage, bStorage);
+        }
+
+        /**
+         * Iterates the smaller map and reuses its stored hashes. If that is {@code b}, the result
+         * keeps the keys of {@code b}, like CPython's {@code set_intersection} does.
+         */
+        @Specialization
+        static HashingStorage doEconomic(Frame frame, Node inliningTarget, EconomicMapStorage aStorage, EconomicMapStorage bStorage,
+                        @Cached ObjectHashMap.GetNode getNode,
+                        @Cached PutNode putNode,
+                        @Cached InlinedLoopConditionProfile loopProfile) {
+            boolean iterateB = bStorage.map.size() < aStorage.map.size();
+            ObjectHashMap iterated = iterateB ? bStorage.map : aStorage.map;
+            ObjectHashMap other = iterateB ? aStorage.map : bStorage.map;
+            EconomicMapStorage result = EconomicMapStorage.create(iterated.size());
+            int i = 0;
+            try {
+                // usedHashes is re-read, because __eq__ may modify the maps
+                for (; loopProfile.profile(inliningTarget, i < iterated.usedHashes); i++) {
+                    Object value = iterated.getValue(i);
+                    if (value != null) {
+                        Object key = iterated.getKey(i);
+                        long hash = iterated.hashes[i];
+                        Object otherValue = getNode.execute(frame, inliningTarget, other, key, hash);
+                        if (otherValue != null) {
+                            putNode.put(frame, inliningTarget, result.map, key, hash, iterateB ? value : otherValue);
+                        }
+                    }
+                }
+            } finally {
+                LoopNode.reportLoopCount(inliningTarget, i);
+            }
+            return result;
+        }
+
         @Specialization
         static HashingStorage doIt(Frame frame, Node inliningTarget, HashingStorage aStorage, HashingStorage bStorage,
                         @Cached HashingStorageForEach forEachA,
@@ -1453,6 +1645,43 @@ public class HashingStorageNodes {
     public abstract static class HashingStorageDiff extends Node {
         public abstract HashingStorage execute(Frame frame, Node inliningTarget, HashingStorage a, HashingStorage b);
 
+        @Specialization
+        static HashingStorage doLongKeys(LongKeyStorage aStorage, LongKeyStorage bStorage) {
+            return LongKeyStorage.diff(aStorage, bStorage);
+        }
+
+        /**
+         * Like CPython, if {@code b} is much smaller than {@code a}, copies {@code a} and removes
+         * the keys of {@code b}, otherwise probes {@code b} for every key of {@code a}.
+         */
+        @Specialization
+        static HashingStorage doEconomic(Frame frame, Node inliningTarget, EconomicMapStorage aStorage, EconomicMapStorage bStorage,
+                        @Cached ObjectHashMap.GetNode getNode,
+                        @Cached PutNode putNode,
+                        @Cached ObjectHashMap.RemoveNode removeNode,
+                        @Cached InlinedConditionProfile removeProfile,
+                        @Cached InlinedLoopConditionProfile loopProfile) {
+            ObjectHashMap aMap = aStorage.map;
+            ObjectHashMap bMap = bStorage.map;
+            if (removeProfile.profile(inliningTarget, (aMap.size() >> 2) > bMap.size())) {
+                EconomicMapStorage result = new EconomicMapStorage(aMap, true);
+                int i = 0;
+                try {
+                    for (; loopProfile.profile(inliningTarget, i < bMap.usedHashes); i++) {
+                        if (bMap.getValue(i) != null) {
+                            removeNode.execute(frame, inliningTarget, result.map, bMap.getKey(i), bMap.hashes[i]);
+                        }
+                    }
+                } finally {
+                    LoopNode.reportLoopCount(inliningTarget, i);
+                }
+                return result;
+            }
+            EconomicMapStorage result = EconomicMapStorage.create(aMap.size());
+            putMissing(frame, inliningTarget, aMap, bMap, result.map, getNode, putNode, loopProfile);
+            return result;
+        }
+
         @Specialization
         static HashingStorage doIt(Frame frame, Node inliningTarget, HashingStorage aStorage, HashingStorage bStorage,
                         @Cached HashingStorageForEach forEachA,
@@ -1504,6 +1733,22 @@ public class HashingStorageNodes {
             return true;
         }
 
+        @Specialization(guards = "aStorage != bStorage")
+        static boolean doLongKeys(LongKeyStorage aStorage, LongKeyStorage bStorage) {
+            return LongKeyStorage.isSubset(aStorage, bStorage);
+        }
+
+        @Specialization(guards = "aStorage != bStorage")
+        static boolean doEconomic(Frame frame, Node inliningTarget, EconomicMapStorage aStorage, EconomicMapStorage bStorage,
+                        @Cached ObjectHashMap.GetNode getNode,
+                        @Cached InlinedLoopConditionProfile loopProfile) {
+            ObjectHashMap aMap = aStorage.map;
+            if (aMap.size() > bStorage.map.size()) {
+                return false;
+            }
+            return !containsAny(frame, inliningTarget, aMap, bStorage.map, false, getNode, loopProfile);
+        }
+
         @Specialization(guards = "aStorage != bStorage")
         static boolean doGeneric(Frame frame, Node inliningTarget, HashingStorage aStorage, HashingStorage bStorage,
                         @Cached HashingStorageLen aLenNode,
@@ -1558,6 +1803,23 @@ public class HashingStorageNodes {
     public abstract static class HashingStorageAreDisjoint extends Node {
         public abstract boolean execute(Frame frame, Node inliningTarget, HashingStorage a, HashingStorage b);
 
+        @Specialization
+        static boolean doLongKeys(LongKeyStorage aStorage, LongKeyStorage bStorage) {
+            return LongKeyStorage.areDisjoint(aStorage, bStorage);
+        }
+
+        @Specialization
+        static boolean doEconomic(Frame frame, Node inliningTarget, EconomicMapStorage aStorage, EconomicMapStorage bStorage,
+                        @Cached ObjectHashMap.GetNode getNode,
+                        @Cached InlinedLoopConditionProfile loopProfile) {
+            ObjectHashMap aMap = aStorage.map;
+            ObjectHashMap bMap = bStorage.map;
+            if (aMap.size() > bMap.size()) {
+                return !containsAny(frame, inliningTarget, bMap, aMap, true, getNode, loopProfile);
+            }
+            return !containsAny(frame, inliningTarget, aMap, bMap, true, getNode, loopProfile);
+        }
+
         @Specialization
         static boolean doGeneric(Frame frame, Node inliningTarget, HashingStorage aStorage, HashingStorage bStorage,
                         @Cached HashingStorageLen aLenNode,
@@ -1579,6 +1841,52 @@ public class HashingStorageNodes {
         }
     }
 
+    /**
+     * Puts the items of {@code source} whose keys are not in {@code other} into {@code result},
+     * reusing the hashes stored in {@code source}.
+     */
+    private static void putMissing(Frame frame, Node inliningTarget, ObjectHashMap source, ObjectHashMap other, ObjectHashMap result,
+                    ObjectHashMap.GetNode getNode, PutNode putNode, InlinedLoopConditionProfile loopProfile) {
+        int i = 0;
+        try {
+            // usedHashes is re-read, because __eq__ may modify the maps
+            for (; loopProfile.profile(inliningTarget, i < source.usedHashes); i++) {
+                Object value = source.getValue(i);
+                if (value != null) {
+                    Object key = source.getKey(i);
+                    long hash = source.hashes[i];
+                    if (getNode.execute(frame, inliningTarget, other, key, hash) == null) {
+                        putNode.put(frame, inliningTarget, result, key, hash, value);
+                    }
+                }
+            }
+        } finally {
+            LoopNode.reportLoopCount(inliningTarget, i);
+        }
+    }
+
+    /**
+     * Returns {@code true} as soon as a key of {@code source} is found ({@code expected == true})
+     * or found missing ({@code expected == false}) in {@code other}.
+     */
+    private static boolean containsAny(Frame frame, Node inliningTarget, ObjectHashMap source, ObjectHashMap other, boolean expected,
+                    ObjectHashMap.GetNode getNode, InlinedLoopConditionProfile loopProfile) {
+        int i = 0;
+        try {
+            for (; loopProfile.profile(inliningTarget, i < source.usedHashes); i++) {
+                if (source.getValue(i) != null) {
+                    boolean found = getNode.execute(frame, inliningTarget, other, source.getKey(i), source.hashes[i]) != null;
+                    if (found == expected) {
+                        return true;
+                    }
+                }
+            }
+        } finally {
+            LoopNode.reportLoopCount(inliningTarget, i);
+        }
+        return false;
+    }
+
     @GenerateUncached
     @GenerateInline
     @GenerateCached(false)
@@ -0,0 +1,606 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.common;
+
+import java.util.Arrays;
+
+import com.oracle.graal.python.builtins.objects.ints.PInt;
+import com.oracle.graal.python.lib.PyObjectHashNode;
+import com.oracle.graal.python.lib.PyObjectRichCompareBool;
+import com.oracle.graal.python.util.PythonUtils;
+import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.TruffleSafepoint;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateUncached;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.frame.Frame;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.profiles.InlinedBranchProfile;
+
+/**
+ * Dictionary/set storage for the common case that all keys are Python ints that fit into a Java
+ * {@code long}.
+ * <p>
+ * The layout follows {@link ObjectHashMap}: a sparse array of indices probed with the CPython
+ * perturbation scheme points into compact arrays that hold the entries in insertion order. The
+ * difference is that the keys are stored unboxed in a {@code long[]} and, since the hash of an int
+ * is a cheap function of its value, there is no array of hashes. Removed entries are marked by a
+ * {@code null} value and skipped by the iterators, like in {@link ObjectHashMap}.
+ * <p>
+ * Only {@code int} and {@code long} keys are ever stored. Lookups with other objects that may be
+ * equal to an int (bools, floats, big ints, arbitrary objects with a custom {@code __eq__}) are
+ * answered without changing the storage, and so is assigning to an existing key through such an
+ * object. Inserting any other new key generalizes the storage to {@link EconomicMapStorage}, see
+ * {@link PutNode}.
+ */
+public final class LongKeyStorage extends HashingStorage {
+    private static final int INITIAL_INDICES_SIZE = 8;
+
+    private static final int EMPTY_INDEX = -1;
+    private static final int DUMMY_INDEX = -2;
+
+    /**
+     * Returned by {@link #findGeneric} when a {@code __eq__} call modified the storage.
+     */
+    private static final int RESTART = -2;
+
+    private static final long PERTURB_SHIFT = 5;
+
+    /**
+     * When the storage runs out of space, it is reallocated to hold this many times the number of
+     * live entries. Like in {@link ObjectHashMap}, this drops the removed entries, so it may also
+     * shrink the storage.
+     */
+    private static final int GROWTH_RATE = 2;
+
+    // Sparse array with indices pointing into keys and values
+    private int[] indices;
+
+    // Compact arrays with the actual items in insertion order, a null value marks a removed item
+    long[] keys;
+    Object[] values;
+
+    // How many real items are in the storage
+    private int size;
+    // How many slots of the compact arrays are occupied by real or removed items
+    int used;
+    // How many buckets in the indices array are not empty, i.e., hold an index or a dummy
+    private int usedBuckets;
+
+    private LongKeyStorage(int indicesSize) {
+        allocateData(indicesSize);
+    }
+
+    private LongKeyStorage(LongKeyStorage original) {
+        indices = PythonUtils.arrayCopyOf(original.indices, original.indices.length);
+        keys = PythonUtils.arrayCopyOf(original.keys, original.keys.length);
+        values = PythonUtils.arrayCopyOf(original.values, original.values.length);
+        size = original.size;
+        used = original.used;
+        usedBuckets = original.usedBuckets;
+    }
+
+    public static LongKeyStorage create(long key, Object value) {
+        LongKeyStorage storage = new LongKeyStorage(INITIAL_INDICES_SIZE);
+        storage.put(key, value);
+        return storage;
+    }
+
+    /**
+     * Creates an empty storage that can hold {@code capacity} items without rehashing.
+     */
+    public static LongKeyStorage createWithCapacity(int capacity) {
+        int indicesSize = INITIAL_INDICES_SIZE;
+        while (capacityFor(indicesSize) < capacity) {
+            indicesSize <<= 1;
+            if (indicesSize < 0) {
+                throw new OutOfMemoryError();
+            }
+        }
+        return new LongKeyStorage(indicesSize);
+    }
+
+    private void allocateData(int indicesSize) {
+        assert Integer.bitCount(indicesSize) == 1;
+        indices = new int[indicesSize];
+        Arrays.fill(indices, EMPTY_INDEX);
+        int capacity = capacityFor(indicesSize);
+        keys = new long[capacity];
+        values = new Object[capacity];
+    }
+
+    private static int capacityFor(int indicesSize) {
+        // we fill the hash table only up to 3/4, so that probing always finds an empty bucket
+        return (indicesSize >> 2) * 3;
+    }
+
+    public int length() {
+        return size;
+    }
+
+    public LongKeyStorage copy() {
+        return new LongKeyStorage(this);
+    }
+
+    void clear() {
+        // clears in place, so that lookups restarted after a side effect in __eq__ see the change
+        size = 0;
+        used = 0;
+        usedBuckets = 0;
+        allocateData(INITIAL_INDICES_SIZE);
+    }
+
+    static long hash(long key) {
+        return PyObjectHashNode.hash(key);
+    }
+
+    /**
+     * Returns the key at given compact index in the same representation as ints are created
+     * elsewhere, i.e., as Java {@code int} if it fits.
+     */
+    Object getKey(int index) {
+        long key = keys[index];
+        if (PInt.isIntRange(key)) {
+            return (int) key;
+        }
+        return key;
+    }
+
+    Object getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the value at given compact index, or {@code null} for the {@code -1} returned from
+     * lookups of missing keys.
+     */
+    Object getValueOrNull(int index) {
+        return index < 0 ? null : values[index];
+    }
+
+    private static int getBucket(int[] localIndices, long hash) {
+        // the buckets count is a power of 2, so & works as modulo
+        return (int) (hash & (localIndices.length - 1));
+    }
+
+    private static int nextBucket(int[] localIndices, int bucket, long perturb) {
+        return getBucket(localIndices, bucket * 5L + perturb + 1L);
+    }
+
+    private int findBucket(long key) {
+        int[] localIndices = indices;
+        long hash = hash(key);
+        int bucket = getBucket(localIndices, hash);
+        long perturb = hash;
+        while (true) {
+            int index = localIndices[bucket];
+            if (index == EMPTY_INDEX) {
+                return -1;
+            }
+            if (index != DUMMY_INDEX && keys[index] == key) {
+                return bucket;
+            }
+            perturb >>>= PERTURB_SHIFT;
+            bucket = nextBucket(localIndices, bucket, perturb);
+        }
+    }
+
+    /**
+     * Returns the compact index of given key, or {@code -1} if it is not present.
+     */
+    public int find(long key) {
+        int bucket = findBucket(key);
+        return bucket < 0 ? -1 : indices[bucket];
+    }
+
+    public Object get(long key) {
+        return getValueOrNull(find(key));
+    }
+
+    public void put(long key, Object value) {
+        assert value != null;
+        int index = find(key);
+        if (index >= 0) {
+            // Python does not override the key, but for ints we cannot tell the difference
+            values[index] = value;
+            return;
+        }
+        if (CompilerDirectives.injectBranchProbability(CompilerDirectives.SLOWPATH_PROBABILITY, Math.max(used, usedBuckets) >= keys.length)) {
+            rehash();
+        }
+        insertNewKey(key, value);
+    }
+
+    // Assumes that the key is not present and that there is a free slot in the compact arrays
+    private void insertNewKey(long key, Object value) {
+        int[] localIndices = indices;
+        long hash = hash(key);
+        int bucket = getBucket(localIndices, hash);
+        long perturb = hash;
+        int firstDummy = -1;
+        while (localIndices[bucket] != EMPTY_INDEX) {
+            if (firstDummy < 0 && localIndices[bucket] == DUMMY_INDEX) {
+                firstDummy = bucket;
+            }
+            perturb >>>= PERTURB_SHIFT;
+            bucket = nextBucket(localIndices, bucket, perturb);
+        }
+        if (firstDummy >= 0) {
+            // the key is not present, so we can reuse a bucket of a removed item
+            bucket = firstDummy;
+        } else {
+            usedBuckets++;
+        }
+        int index = used++;
+        localIndices[bucket] = index;
+        keys[index] = key;
+        values[index] = value;
+        size++;
+    }
+
+    @TruffleBoundary
+    private void rehash() {
+        long required = (long) (size + 1) * GROWTH_RATE;
+        int indicesSize = INITIAL_INDICES_SIZE;
+        while (capacityFor(indicesSize) < required) {
+            indicesSize <<= 1;
+            if (indicesSize < 0) {
+                throw new OutOfMemoryError();
+            }
+        }
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        int oldUsed = used;
+        allocateData(indicesSize);
+        size = 0;
+        used = 0;
+        usedBuckets = 0;
+        for (int i = 0; i < oldUsed; i++) {
+            if (oldValues[i] != null) {
+                insertNewKey(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    public Object remove(long key) {
+        int bucket = findBucket(key);
+        if (bucket < 0) {
+            return null;
+        }
+        return removeBucket(bucket);
+    }
+
+    /**
+     * Removes the item at given compact index and returns its value.
+     */
+    Object removeAt(int index) {
+        assert values[index] != null;
+        return removeBucket(findBucket(keys[index]));
+    }
+
+    private Object removeBucket(int bucket) {
+        // Note: like CPython and ObjectHashMap, we do not shrink on removal
+        int index = indices[bucket];
+        Object result = values[index];
+        indices[bucket] = DUMMY_INDEX;
+        values[index] = null;
+        size--;
+        return result;
+    }
+
+    /**
+     * Removes the last inserted item and returns its key and value, or {@code null} if the storage
+     * is empty.
+     */
+    public Object[] popLast() {
+        // removed items at the end of the compact arrays are no longer referenced from the indices
+        while (used > 0 && values[used - 1] == null) {
+            used--;
+        }
+        if (used == 0) {
+            return null;
+        }
+        int index = used - 1;
+        Object[] result = new Object[]{getKey(index), values[index]};
+        removeAt(index);
+        used--;
+        return result;
+    }
+
+    /*
+     * Set algebra kernels. Both operands hold only int keys, so there are no __eq__ or __hash__
+     * calls that could run arbitrary code, and the loops can walk the compact arrays directly.
+     * They follow the contracts of the corresponding HashingStorageNodes.
+     */
+
+    /**
+     * Keys present in both storages with the values from {@code b}. Iterates the smaller storage.
+     */
+    static LongKeyStorage intersect(LongKeyStorage a, LongKeyStorage b) {
+        boolean iterateB = b.size < a.size;
+        LongKeyStorage iterated = iterateB ? b : a;
+        LongKeyStorage other = iterateB ? a : b;
+        LongKeyStorage result = createWithCapacity(iterated.size);
+        for (int i = 0; i < iterated.used; i++) {
+            Object value = iterated.values[i];
+            if (value != null) {
+                long key = iterated.keys[i];
+                int otherIndex = other.find(key);
+                if (otherIndex >= 0) {
+                    result.insertNewKey(key, iterateB ? value : other.values[otherIndex]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Items of {@code a} whose keys are not in {@code b}. If {@code b} is much smaller, copies
+     * {@code a} and removes the keys of {@code b} instead of probing {@code b} for every item.
+     */
+    static LongKeyStorage diff(LongKeyStorage a, LongKeyStorage b) {
+        if ((a.size >> 2) > b.size) {
+            LongKeyStorage result = a.copy();
+            for (int i = 0; i < b.used; i++) {
+                if (b.values[i] != null) {
+                    result.remove(b.keys[i]);
+                }
+            }
+            return result;
+        }
+        LongKeyStorage result = createWithCapacity(a.size);
+        for (int i = 0; i < a.used; i++) {
+            Object value = a.values[i];
+            if (value != null && b.find(a.keys[i]) < 0) {
+                result.insertNewKey(a.keys[i], value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Items whose keys are in exactly one of the storages, those of {@code a} first.
+     */
+    static LongKeyStorage xor(LongKeyStorage a, LongKeyStorage b) {
+        LongKeyStorage result = createWithCapacity(Math.max(a.size, b.size));
+        result.putMissingFrom(a, b);
+        result.putMissingFrom(b, a);
+        return result;
+    }
+
+    private void putMissingFrom(LongKeyStorage source, LongKeyStorage other) {
+        for (int i = 0; i < source.used; i++) {
+            Object value = source.values[i];
+            if (value != null && other.find(source.keys[i]) < 0) {
+                put(source.keys[i], value);
+            }
+        }
+    }
+
+    static boolean isSubset(LongKeyStorage a, LongKeyStorage b) {
+        if (a.size > b.size) {
+            return false;
+        }
+        for (int i = 0; i < a.used; i++) {
+            if (a.values[i] != null && b.find(a.keys[i]) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static boolean areDisjoint(LongKeyStorage a, LongKeyStorage b) {
+        LongKeyStorage iterated = a.size > b.size ? b : a;
+        LongKeyStorage other = a.size > b.size ? a : b;
+        for (int i = 0; i < iterated.used; i++) {
+            if (iterated.values[i] != null && other.find(iterated.keys[i]) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Looks up a key of another type than {@code int} or {@code long} by comparing it with {@code
+     * __eq__} to the stored keys that have the same hash. Returns the compact index, {@code -1} if
+     * not found, or {@link #RESTART} if the comparison modified the storage.
+     */
+    private int findGeneric(Frame frame, Node inliningTarget, Object key, long keyHash, PyObjectRichCompareBool eqNode) {
+        int[] localIndices = indices;
+        int bucket = getBucket(localIndices, keyHash);
+        long perturb = keyHash;
+        while (true) {
+            int index = localIndices[bucket];
+            if (index == EMPTY_INDEX) {
+                return -1;
+            }
+            if (index != DUMMY_INDEX) {
+                long storedKey = keys[index];
+                if (hash(storedKey) == keyHash) {
+                    Object storedValue = values[index];
+                    boolean equal = eqNode.executeEq(frame, inliningTarget, getKey(index), key);
+                    if (localIndices != indices || localIndices[bucket] != index || keys[index] != storedKey || values[index] != storedValue) {
+                        return RESTART;
+                    }
+                    if (equal) {
+                        return index;
+                    }
+                }
+            }
+            perturb >>>= PERTURB_SHIFT;
+            bucket = nextBucket(localIndices, bucket, perturb);
+        }
+    }
+
+    @TruffleBoundary
+    EconomicMapStorage generalize() {
+        EconomicMapStorage result = EconomicMapStorage.create(size + 1);
+        for (int i = 0; i < used; i++) {
+            if (values[i] != null) {
+                ObjectHashMap.PutNode.putUncached(result.map, getKey(i), hash(keys[i]), values[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        CompilerAsserts.neverPartOfCompilation();
+        StringBuilder builder = new StringBuilder();
+        builder.append("longKeys(size=").append(size).append(", {");
+        String sep = "";
+        for (int i = 0, printed = 0; i < used; i++) {
+            if (values[i] != null) {
+                if (++printed >= 100) {
+                    builder.append("...");
+                    break;
+                }
+                builder.append(sep).append("(").append(keys[i]).append(",").append(values[i]).append(")");
+                sep = ",";
+            }
+        }
+        builder.append("})");
+        return builder.toString();
+    }
+
+    /**
+     * Finds the compact index of the item with given key, or returns {@code -1}. The
+     * {@code keyHash} is {@code -1} if the caller did not compute it yet, in which case this node
+     * calls {@code __hash__} on keys for which it can have side effects.
+     */
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class LookupNode extends Node {
+        public abstract int execute(Frame frame, Node inliningTarget, LongKeyStorage self, Object key, long keyHash);
+
+        @Specialization
+        static int doInt(LongKeyStorage self, int key, @SuppressWarnings("unused") long keyHash) {
+            return self.find(key);
+        }
+
+        @Specialization
+        static int doLong(LongKeyStorage self, long key, @SuppressWarnings("unused") long keyHash) {
+            return self.find(key);
+        }
+
+        @Specialization
+        static int doBoolean(LongKeyStorage self, boolean key, @SuppressWarnings("unused") long keyHash) {
+            return self.find(key ? 1 : 0);
+        }
+
+        @Specialization
+        static int doDouble(LongKeyStorage self, double key, @SuppressWarnings("unused") long keyHash) {
+            if (key >= -0x1p63 && key < 0x1p63) {
+                long longKey = (long) key;
+                if (longKey == key) {
+                    return self.find(longKey);
+                }
+            }
+            // NaN, infinities, fractions and values outside the long range equal no stored key
+            return -1;
+        }
+
+        @Fallback
+        static int doGeneric(Frame frame, Node inliningTarget, LongKeyStorage self, Object key, long keyHash,
+                        @Cached PyObjectHashNode hashNode,
+                        @Cached PyObjectRichCompareBool eqNode,
+                        @Cached InlinedBranchProfile restartProfile) {
+            long hash = keyHash != -1 ? keyHash : hashNode.execute(frame, inliningTarget, key);
+            while (true) {
+                int index = self.findGeneric(frame, inliningTarget, key, hash, eqNode);
+                if (index != RESTART) {
+                    return index;
+                }
+                restartProfile.enter(inliningTarget);
+                TruffleSafepoint.poll(inliningTarget);
+            }
+        }
+    }
+
+    /**
+     * Puts an item into the storage and returns the storage, which is either {@code self} or a new
+     * {@link EconomicMapStorage} if the key is new and not an {@code int} or {@code long}. The
+     * {@code keyHash} is {@code -1} if the caller did not compute it yet.
+     */
+    @GenerateUncached
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class PutNode extends Node {
+        public abstract HashingStorage execute(Frame frame, Node inliningTarget, LongKeyStorage self, Object key, long keyHash, Object value);
+
+        @Specialization
+        static HashingStorage doInt(LongKeyStorage self, int key, @SuppressWarnings("unused") long keyHash, Object value) {
+            self.put(key, value);
+            return self;
+        }
+
+        @Specialization
+        static HashingStorage doLong(LongKeyStorage self, long key, @SuppressWarnings("unused") long keyHash, Object value) {
+            self.put(key, value);
+            return self;
+        }
+
+        @Fallback
+        static HashingStorage doGeneric(Frame frame, Node inliningTarget, LongKeyStorage self, Object key, long keyHash, Object value,
+                        @Cached PyObjectHashNode hashNode,
+                        @Cached LookupNode lookupNode,
+                        @Cached InlinedBranchProfile generalizeProfile,
+                        @Cached ObjectHashMap.PutNode putNode) {
+            // compute the hash only once, it is needed for the EconomicMapStorage anyway
+            long hash = keyHash != -1 ? keyHash : hashNode.execute(frame, inliningTarget, key);
+            int index = lookupNode.execute(frame, inliningTarget, self, key, hash);
+            if (index >= 0) {
+                self.values[index] = value;
+                return self;
+            }
+            generalizeProfile.enter(inliningTarget);
+            EconomicMapStorage result = self.generalize();
+            putNode.put(frame, inliningTarget, result.map, key, hash, value);
+            return result;
+        }
+    }
+}
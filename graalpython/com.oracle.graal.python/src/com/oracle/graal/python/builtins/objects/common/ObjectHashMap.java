@@ -133,7 +133,7 @@ public final class ObjectHashMap {
     /**
      * We limit the max size of preallocated hash maps. See the comment in the ctor.
      */
-    private static final int MAX_PREALLOCATED_INDICES_SIZE = 1 << 20;
+    public static final int MAX_PREALLOCATED_INDICES_SIZE = 1 << 20;
 
     /**
      * Indices that participate in a collision chain are marked with the sign bit.
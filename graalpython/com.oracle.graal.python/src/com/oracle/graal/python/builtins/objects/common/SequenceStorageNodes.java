@@ -675,6 +675,9 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         protected static SequenceStorage doIntSequenceStorage(IntSequenceStorage storage, int start, int stop, int step, int length) {
+            if (start == 0 && step == 1 && storage.shouldShareArray(length)) {
+                return storage.createShared(length);
+            }
             int[] newArray = new int[length];
             int[] values = storage.getInternalIntArray();
 
@@ -692,6 +695,9 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         protected static SequenceStorage doLongSequenceStorage(LongSequenceStorage storage, int start, int stop, int step, int length) {
+            if (start == 0 && step == 1 && storage.shouldShareArray(length)) {
+                return storage.createShared(length);
+            }
             long[] newArray = new long[length];
             long[] values = storage.getInternalLongArray();
 
@@ -709,6 +715,9 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         protected static SequenceStorage doDoubleSequenceStorage(DoubleSequenceStorage storage, int start, int stop, int step, int length) {
+            if (start == 0 && step == 1 && storage.shouldShareArray(length)) {
+                return storage.createShared(length);
+            }
             double[] newArray = new double[length];
             double[] values = storage.getInternalDoubleArray();
 
@@ -760,6 +769,9 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         protected static SequenceStorage doObjectSequenceStorage(ObjectSequenceStorage storage, int start, int stop, int step, int length) {
+            if (start == 0 && step == 1 && storage.shouldShareArray(length)) {
+                return storage.createShared(length);
+            }
             Object[] newArray = new Object[length];
             Object[] values = storage.getInternalObjectArray();
 
@@ -1462,7 +1474,9 @@ public abstract class SequenceStorageNodes {
         @Specialization(limit = "MAX_BASIC_STORAGES", guards = {"length > 0", "storage.getClass() == cachedClass"})
         protected static void doArrayBasedMove(ArrayBasedSequenceStorage storage, int distPos, int srcPos, int length,
                         @Cached("storage.getClass()") Class<? extends ArrayBasedSequenceStorage> cachedClass) {
-            Object array = cachedClass.cast(storage).getInternalArrayObject();
+            ArrayBasedSequenceStorage profiled = cachedClass.cast(storage);
+            profiled.ensureUnshared();
+            Object array = profiled.getInternalArrayObject();
             PythonUtils.arraycopy(array, srcPos, array, distPos, length);
         }
 
@@ -1526,7 +1540,9 @@ public abstract class SequenceStorageNodes {
         @Specialization(limit = "MAX_BASIC_STORAGES", guards = {"length > 0", "dist.getClass() == cachedClass", "src.getClass() == dist.getClass()"})
         protected static void doArrayBasedCopy(ArrayBasedSequenceStorage dist, int distPos, ArrayBasedSequenceStorage src, int srcPos, int length,
                         @Cached("dist.getClass()") Class<? extends ArrayBasedSequenceStorage> cachedClass) {
-            Object distArray = cachedClass.cast(dist).getInternalArrayObject();
+            ArrayBasedSequenceStorage distProfiled = cachedClass.cast(dist);
+            distProfiled.ensureUnshared();
+            Object distArray = distProfiled.getInternalArrayObject();
             Object srcArray = cachedClass.cast(src).getInternalArrayObject();
             PythonUtils.arraycopy(srcArray, srcPos, distArray, distPos, length);
         }
@@ -1939,47 +1955,30 @@ public abstract class SequenceStorageNodes {
         }
 
         @Specialization
-        static boolean doIntStorage(Node inliningTarget, IntSequenceStorage left, IntSequenceStorage right, boolean isListComparison, Object leftSeq, Object rightSeq, RichCmpOp op,
-                        @Shared @Cached InlinedLoopConditionProfile loopProfile) {
+        static boolean doIntStorage(IntSequenceStorage left, IntSequenceStorage right, boolean isListComparison, Object leftSeq, Object rightSeq, RichCmpOp op) {
             int llen = left.length();
             int rlen = right.length();
             if (op.isEqOrNe() && llen != rlen) {
                 return op == RichCmpOp.Py_NE;
             }
-            // intentionally imprecise loop profile to avoid its overhead...
-            loopProfile.profileCounted(inliningTarget, Math.min(llen, rlen));
-            for (int i = 0; loopProfile.inject(inliningTarget, i < Math.min(llen, rlen)); i++) {
-                int litem = left.getIntItemNormalized(i);
-                int ritem = right.getIntItemNormalized(i);
-                if (litem != ritem) {
-                    LoopNode.reportLoopCount(inliningTarget, i);
-                    return op.compare(litem, ritem);
-                }
+            int i = PythonUtils.arrayMismatch(left.getInternalIntArray(), right.getInternalIntArray(), Math.min(llen, rlen));
+            if (i >= 0) {
+                return op.compare(left.getIntItemNormalized(i), right.getIntItemNormalized(i));
             }
-            LoopNode.reportLoopCount(inliningTarget, Math.min(llen, rlen));
             return op.compare(llen, rlen);
         }
 
         @Specialization
-        static boolean doLongStorage(Node inliningTarget, LongSequenceStorage left, LongSequenceStorage right, boolean isListComparison, Object leftSeq, Object rightSeq,
-                        RichCmpOp op,
-                        @Shared @Cached InlinedLoopConditionProfile loopProfile) {
+        static boolean doLongStorage(LongSequenceStorage left, LongSequenceStorage right, boolean isListComparison, Object leftSeq, Object rightSeq, RichCmpOp op) {
             int llen = left.length();
             int rlen = right.length();
             if (op.isEqOrNe() && llen != rlen) {
                 return op == RichCmpOp.Py_NE;
             }
-            // intentionally imprecise loop profile to avoid its overhead...
-            loopProfile.profileCounted(inliningTarget, Math.min(llen, rlen));
-            for (int i = 0; loopProfile.inject(inliningTarget, i < Math.min(llen, rlen)); i++) {
-                long litem = left.getLongItemNormalized(i);
-                long ritem = right.getLongItemNormalized(i);
-                if (litem != ritem) {
-                    LoopNode.reportLoopCount(inliningTarget, i);
-                    return op.compare(litem, ritem);
-                }
+            int i = PythonUtils.arrayMismatch(left.getInternalLongArray(), right.getInternalLongArray(), Math.min(llen, rlen));
+            if (i >= 0) {
+                return op.compare(left.getLongItemNormalized(i), right.getLongItemNormalized(i));
             }
-            LoopNode.reportLoopCount(inliningTarget, Math.min(llen, rlen));
             return op.compare(llen, rlen);
         }
 
@@ -2240,6 +2239,7 @@ public abstract class SequenceStorageNodes {
                         @Shared @Cached SetLenNode setLenNode) {
             ArrayBasedSequenceStorage leftProfiled = cachedClass.cast(left);
             ArrayBasedSequenceStorage rightProfiled = cachedClass.cast(right);
+            leftProfiled.ensureUnshared();
             Object arr1 = leftProfiled.getInternalArrayObject();
             int len1 = leftProfiled.length();
             Object arr2 = rightProfiled.getInternalArrayObject();
@@ -2706,19 +2706,34 @@ public abstract class SequenceStorageNodes {
             return s.indexOfInt(item);
         }
 
+        @Specialization
+        public static int doIntStorageLong(IntSequenceStorage s, long item) {
+            return PInt.isIntRange(item) ? s.indexOfInt((int) item) : -1;
+        }
+
         @Specialization
         public static int doLongStorage(LongSequenceStorage s, long item) {
             return s.indexOfLong(item);
         }
 
+        @Specialization
+        public static int doLongStorageInt(LongSequenceStorage s, int item) {
+            return s.indexOfLong(item);
+        }
+
         @Specialization
         public static int doDoubleStorage(DoubleSequenceStorage s, double item) {
             return s.indexOfDouble(item);
         }
 
+        @Specialization
+        public static int doDoubleStorageInt(DoubleSequenceStorage s, int item) {
+            return s.indexOfDouble(item);
+        }
+
         @Specialization
         static int doGeneric(VirtualFrame frame, Node inliningTarget, SequenceStorage self, Object item,
-                        @Cached(inline = false) GetItemScalarNode getItemNode,
+                        @Cached GetItemScalarNode getItemNode,
                         @Cached PyObjectRichCompareBool eqNode) {
             for (int i = 0; i < self.length(); i++) {
                 Object seqItem = getItemNode.execute(inliningTarget, self, i);
@@ -2730,6 +2745,59 @@ public abstract class SequenceStorageNodes {
         }
     }
 
+    @GenerateInline
+    @GenerateCached(false)
+    public abstract static class CountNode extends SequenceStorageBaseNode {
+        public abstract int execute(VirtualFrame frame, Node inliningTarget, SequenceStorage s, Object item);
+
+        @Specialization
+        static int doInt(IntSequenceStorage s, int item) {
+            return s.countInt(item);
+        }
+
+        @Specialization
+        static int doIntLong(IntSequenceStorage s, long item) {
+            return PInt.isIntRange(item) ? s.countInt((int) item) : 0;
+        }
+
+        @Specialization
+        static int doLong(LongSequenceStorage s, long item) {
+            return s.countLong(item);
+        }
+
+        @Specialization
+        static int doLongInt(LongSequenceStorage s, int item) {
+            return s.countLong(item);
+        }
+
+        @Specialization
+        static int doDouble(DoubleSequenceStorage s, double item) {
+            return s.countDouble(item);
+        }
+
+        @Specialization
+        static int doDoubleInt(DoubleSequenceStorage s, int item) {
+            return s.countDouble(item);
+        }
+
+        @Specialization
+        static int doGeneric(VirtualFrame frame, Node inliningTarget, SequenceStorage s, Object item,
+                        @Cached InlinedLoopConditionProfile loopProfile,
+                        @Cached GetItemScalarNode getItemNode,
+                        @Cached PyObjectRichCompareBool eqNode) {
+            int count = 0;
+            loopProfile.profileCounted(inliningTarget, s.length());
+            for (int i = 0; loopProfile.inject(inliningTarget, i < s.length()); i++) {
+                Object seqItem = getItemNode.execute(inliningTarget, s, i);
+                if (eqNode.execute(frame, inliningTarget, seqItem, item, RichCmpOp.Py_EQ)) {
+                    count++;
+                }
+            }
+            LoopNode.reportLoopCount(inliningTarget, s.length());
+            return count;
+        }
+    }
+
     /**
      * Generalization node must convert given storage to a storage that is able to be written any
      * number of any valid elements. I.e., there must be a specialization handling that storage type
@@ -3301,16 +3369,25 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         static SequenceStorage doInt(IntSequenceStorage storage) {
+            if (storage.shouldShareArray(storage.length())) {
+                return storage.createShared(storage.length());
+            }
             return new IntSequenceStorage(PythonUtils.arrayCopyOf(storage.getInternalIntArray(), storage.length()));
         }
 
         @Specialization
         static SequenceStorage doLong(LongSequenceStorage storage) {
+            if (storage.shouldShareArray(storage.length())) {
+                return storage.createShared(storage.length());
+            }
             return new LongSequenceStorage(PythonUtils.arrayCopyOf(storage.getInternalLongArray(), storage.length()));
         }
 
         @Specialization
         static SequenceStorage doDouble(DoubleSequenceStorage storage) {
+            if (storage.shouldShareArray(storage.length())) {
+                return storage.createShared(storage.length());
+            }
             return new DoubleSequenceStorage(PythonUtils.arrayCopyOf(storage.getInternalDoubleArray(), storage.length()));
         }
 
@@ -3326,6 +3403,9 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         static SequenceStorage doObject(ObjectSequenceStorage storage) {
+            if (storage.shouldShareArray(storage.length())) {
+                return storage.createShared(storage.length());
+            }
             return new ObjectSequenceStorage(PythonUtils.arrayCopyOf(storage.getInternalObjectArray(), storage.length()));
         }
 
@@ -3809,12 +3889,12 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         int doInt(IntSequenceStorage s, int item, int start, int end) {
-            for (int i = start; i < getLength(s, end); i++) {
-                if (s.getIntItemNormalized(i) == item) {
-                    return i;
-                }
-            }
-            return -1;
+            return s.indexOfInt(item, start, getLength(s, end));
+        }
+
+        @Specialization
+        int doIntLong(IntSequenceStorage s, long item, int start, int end) {
+            return PInt.isIntRange(item) ? s.indexOfInt((int) item, start, getLength(s, end)) : -1;
         }
 
         @Specialization
@@ -3829,22 +3909,22 @@ public abstract class SequenceStorageNodes {
 
         @Specialization
         int doLong(LongSequenceStorage s, long item, int start, int end) {
-            for (int i = start; i < getLength(s, end); i++) {
-                if (s.getLongItemNormalized(i) == item) {
-                    return i;
-                }
-            }
-            return -1;
+            return s.indexOfLong(item, start, getLength(s, end));
+        }
+
+        @Specialization
+        int doLongInt(LongSequenceStorage s, int item, int start, int end) {
+            return s.indexOfLong(item, start, getLength(s, end));
         }
 
         @Specialization
         int doDouble(DoubleSequenceStorage s, double item, int start, int end) {
-            for (int i = start; i < getLength(s, end); i++) {
-                if (java.lang.Double.compare(s.getDoubleItemNormalized(i), item) == 0) {
-                    return i;
-                }
-            }
-            return -1;
+            return s.indexOfDouble(item, start, getLength(s, end));
+        }
+
+        @Specialization
+        int doDoubleInt(DoubleSequenceStorage s, int item, int start, int end) {
+            return s.indexOfDouble(item, start, getLength(s, end));
         }
 
         @Specialization
@@ -203,6 +203,7 @@ public abstract class SortNodes {
         @Specialization
         @TruffleBoundary
         void sort(IntSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
+            storage.ensureUnshared();
             int[] array = storage.getInternalIntArray();
             int len = storage.length();
             Arrays.sort(array, 0, len);
@@ -214,6 +215,7 @@ public abstract class SortNodes {
         @Specialization
         @TruffleBoundary
         void sort(LongSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
+            storage.ensureUnshared();
             long[] array = storage.getInternalLongArray();
             int len = storage.length();
             Arrays.sort(array, 0, len);
@@ -225,6 +227,7 @@ public abstract class SortNodes {
         @Specialization
         @TruffleBoundary
         void sort(DoubleSequenceStorage storage, @SuppressWarnings("unused") PNone keyfunc, boolean reverse) {
+            storage.ensureUnshared();
             int len = storage.length();
             double[] array = storage.getInternalDoubleArray();
             Arrays.sort(array, 0, len);
@@ -235,6 +238,7 @@ public abstract class SortNodes {
 
         @TruffleBoundary
         private static void sortStrings(ObjectSequenceStorage storage, boolean reverse) {
+            storage.ensureUnshared();
             Object[] array = storage.getInternalObjectArray();
             int len = storage.length();
             Comparator<Object> comparator;
@@ -275,6 +279,7 @@ public abstract class SortNodes {
                 // specialized code with generic object storage code
                 sortStrings(storage, reverse);
             } else {
+                storage.ensureUnshared();
                 sortWithoutKey(frame, storage.getInternalObjectArray(), storage.length(), reverse, callContext);
             }
         }
@@ -283,6 +288,7 @@ public abstract class SortNodes {
         void sort(VirtualFrame frame, ObjectSequenceStorage storage, Object keyfunc, boolean reverse,
                         @Shared @Cached CallNode callNode,
                         @Shared @Cached CallContext callContext) {
+            storage.ensureUnshared();
             sortWithKey(frame, storage.getInternalObjectArray(), storage.length(), keyfunc, reverse, callNode, callContext);
         }
 
@@ -40,6 +40,8 @@ import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.Hashi
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageLen;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageSetItem;
 import com.oracle.graal.python.builtins.objects.common.KeywordsStorage;
+import com.oracle.graal.python.builtins.objects.common.LongKeyStorage;
+import com.oracle.graal.python.builtins.objects.common.ObjectHashMap;
 import com.oracle.graal.python.builtins.objects.common.PHashingCollection;
 import com.oracle.graal.python.builtins.objects.function.PKeyword;
 import com.oracle.graal.python.lib.PyObjectCallMethodObjArgs;
@@ -100,6 +102,20 @@ public class PDict extends PHashingCollection {
         return newDictStorage;
     }
 
+    /**
+     * Like {@link #createNewStorage(int)}, but starts with the unboxed {@link LongKeyStorage} if
+     * the first key to be inserted is an {@code int}, like an insertion into an empty storage does.
+     * The expected size is only an upper bound, since the source may contain duplicate keys, so
+     * the preallocated capacity is capped like in {@link ObjectHashMap}.
+     */
+    public static HashingStorage createNewStorage(int expectedSize, Object firstKey) {
+        int capacity = Math.min(expectedSize, ObjectHashMap.MAX_PREALLOCATED_INDICES_SIZE);
+        if (capacity > 0 && (firstKey instanceof Integer || firstKey instanceof Long)) {
+            return LongKeyStorage.createWithCapacity(capacity);
+        }
+        return createNewStorage(capacity);
+    }
+
     public void update(PDict other) {
         setDictStorage(HashingStorageAddAllToOther.executeUncached(other.getDictStorage(), storage));
     }
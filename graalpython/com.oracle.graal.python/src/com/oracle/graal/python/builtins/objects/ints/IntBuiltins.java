@@ -1111,7 +1111,7 @@ public final class IntBuiltins extends PythonBuiltins {
                 // and check for the special case of Long.MIN_VALUE * -1
                 if (((y != 0) && (r / y != x)) ||
                                 (x == Long.MIN_VALUE && y == -1)) {
-                    return PFactory.createInt(PythonLanguage.get(inliningTarget), mul(PInt.longToBigInteger(x), PInt.longToBigInteger(y)));
+                    return PFactory.createInt(PythonLanguage.get(inliningTarget), PInt.int128ToBigInteger(Math.multiplyHigh(x, y), r));
                 }
             }
             return r;
@@ -1143,13 +1143,13 @@ public final class IntBuiltins extends PythonBuiltins {
         @Specialization(guards = {"right != 0", "right != 1"})
         static PInt doPIntLong(PInt left, long right,
                         @Bind PythonLanguage language) {
-            return PFactory.createInt(language, mul(left.getValue(), PInt.longToBigInteger(right)));
+            return PFactory.createInt(language, mul(left.getValue(), right));
         }
 
         @Specialization(guards = {"left != 0", "left != 1"})
         PInt doPIntLong(long left, PInt right,
                         @Bind PythonLanguage language) {
-            return PFactory.createInt(language, mul(PInt.longToBigInteger(left), right.getValue()));
+            return PFactory.createInt(language, mul(right.getValue(), left));
         }
 
         @Specialization
@@ -1167,6 +1167,15 @@ public final class IntBuiltins extends PythonBuiltins {
             }
         }
 
+        @TruffleBoundary
+        static BigInteger mul(BigInteger a, long b) {
+            // same power-of-two shortcut as above, but without materializing 'b'
+            if (b > 0 && (b & (b - 1)) == 0) {
+                return bigIntegerShift(a, Long.numberOfTrailingZeros(b));
+            }
+            return a.multiply(BigInteger.valueOf(b));
+        }
+
         @TruffleBoundary
         static BigInteger bigIntegerMul(BigInteger a, BigInteger b) {
             return a.multiply(b);
@@ -2106,21 +2115,30 @@ public final class IntBuiltins extends PythonBuiltins {
         }
 
         @Specialization
-        PInt doPInt(long left, PInt right,
+        Object doPInt(long left, PInt right,
                         @Bind PythonLanguage language) {
-            return PFactory.createInt(language, op(PInt.longToBigInteger(left), right.getValue()));
+            // all bitwise operations are commutative
+            return opBig(language, right.getValue(), left);
         }
 
         @Specialization
-        PInt doPInt(PInt left, long right,
+        Object doPInt(PInt left, long right,
                         @Bind PythonLanguage language) {
-            return PFactory.createInt(language, op(left.getValue(), PInt.longToBigInteger(right)));
+            return opBig(language, left.getValue(), right);
         }
 
         @Specialization
-        PInt doPInt(PInt left, PInt right,
+        Object doPInt(PInt left, PInt right,
                         @Bind PythonLanguage language) {
-            return PFactory.createInt(language, op(left.getValue(), right.getValue()));
+            return opBig(language, left.getValue(), right.getValue());
+        }
+
+        protected Object opBig(PythonLanguage language, BigInteger left, long right) {
+            return PFactory.createInt(language, op(left, PInt.longToBigInteger(right)));
+        }
+
+        protected Object opBig(PythonLanguage language, BigInteger left, BigInteger right) {
+            return PFactory.createInt(language, op(left, right));
         }
 
         @SuppressWarnings("unused")
@@ -2151,6 +2169,43 @@ public final class IntBuiltins extends PythonBuiltins {
             return left.and(right);
         }
 
+        /*
+         * Masking with a non-negative value of at most 64 bits only looks at the low 64 bits of the
+         * other operand, which is what BigInteger.longValue returns. This keeps hash-style code like
+         * '(h * PRIME) & MASK' from allocating a BigInteger for the result and, for masks of up to
+         * 63 bits, from allocating a PInt at all.
+         */
+
+        @Override
+        protected Object opBig(PythonLanguage language, BigInteger left, long right) {
+            if (right >= 0) {
+                return PInt.longValue(left) & right;
+            }
+            return super.opBig(language, left, right);
+        }
+
+        @Override
+        protected Object opBig(PythonLanguage language, BigInteger left, BigInteger right) {
+            if (fitsInUnsignedLong(right)) {
+                return maskLow(language, left, PInt.longValue(right));
+            } else if (fitsInUnsignedLong(left)) {
+                return maskLow(language, right, PInt.longValue(left));
+            }
+            return super.opBig(language, left, right);
+        }
+
+        private static boolean fitsInUnsignedLong(BigInteger value) {
+            return value.signum() >= 0 && PInt.bitLength(value) <= Long.SIZE;
+        }
+
+        private static Object maskLow(PythonLanguage language, BigInteger value, long unsignedMask) {
+            long result = PInt.longValue(value) & unsignedMask;
+            if (result >= 0) {
+                return result;
+            }
+            return PFactory.createInt(language, PInt.longToUnsignedBigInteger(result));
+        }
+
         @NeverDefault
         public static AndNode create() {
             return AndNodeFactory.create();
@@ -28,6 +28,7 @@ package com.oracle.graal.python.builtins.objects.ints;
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.OverflowError;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Objects;
 
 import com.oracle.graal.python.PythonLanguage;
@@ -368,9 +369,67 @@ public final class PInt extends PythonBuiltinObject {
 
     @TruffleBoundary
     private static String toString(BigInteger value) {
+        // BigInteger.toString already switches to recursive (Schoenhage) conversion for large
+        // values, so only parsing needs the divide-and-conquer treatment below.
         return value.toString();
     }
 
+    /**
+     * Digit count up to which {@link #parseBigInteger} defers to {@code new BigInteger(s, radix)}.
+     * The JDK constructor is quadratic in the number of digits, so longer strings are split
+     * recursively and recombined with cached powers of the radix.
+     */
+    private static final int PARSE_DC_THRESHOLD = 1000;
+    /** Number of digits in the smallest cached power, see {@link #radixPower}. */
+    private static final int PARSE_DC_CHUNK = 256;
+    private static final BigInteger[][] RADIX_POWERS = new BigInteger[Character.MAX_RADIX + 1][];
+
+    /**
+     * Parses a string consisting only of valid digits in {@code radix} (no sign, no underscores).
+     */
+    @TruffleBoundary
+    public static BigInteger parseBigInteger(String digits, int radix) {
+        return parseBigInteger(digits, 0, digits.length(), radix);
+    }
+
+    private static BigInteger parseBigInteger(String digits, int from, int to, int radix) {
+        int len = to - from;
+        if (len <= PARSE_DC_THRESHOLD) {
+            return new BigInteger(digits.substring(from, to), radix);
+        }
+        // split off the largest block of CHUNK * 2^k low digits that leaves a non-empty high part
+        int k = 0;
+        while ((long) PARSE_DC_CHUNK << (k + 1) < len) {
+            k++;
+        }
+        int lowLen = PARSE_DC_CHUNK << k;
+        BigInteger high = parseBigInteger(digits, from, to - lowLen, radix);
+        BigInteger low = parseBigInteger(digits, to - lowLen, to, radix);
+        return high.multiply(radixPower(radix, k)).add(low);
+    }
+
+    /**
+     * Returns {@code radix ** (CHUNK * 2**k)}. The powers are built by repeated squaring and shared
+     * across contexts since they are immutable.
+     */
+    private static BigInteger radixPower(int radix, int k) {
+        synchronized (RADIX_POWERS) {
+            BigInteger[] powers = RADIX_POWERS[radix];
+            if (powers == null) {
+                powers = new BigInteger[]{BigInteger.valueOf(radix).pow(PARSE_DC_CHUNK)};
+            }
+            if (k >= powers.length) {
+                int old = powers.length;
+                powers = Arrays.copyOf(powers, k + 1);
+                for (int i = old; i <= k; i++) {
+                    powers[i] = powers[i - 1].multiply(powers[i - 1]);
+                }
+            }
+            RADIX_POWERS[radix] = powers;
+            return powers[k];
+        }
+    }
+
     @TruffleBoundary
     public static String toHexString(long value) {
         return Long.toHexString(value);
@@ -383,7 +442,22 @@ public final class PInt extends PythonBuiltinObject {
 
     @TruffleBoundary
     public static BigInteger longToUnsignedBigInteger(long n) {
-        return BigInteger.valueOf(n).add(BigInteger.ONE.shiftLeft(Long.SIZE));
+        return int128ToBigInteger(0, n);
+    }
+
+    /**
+     * Creates the value of the 128-bit two's complement integer {@code high:low} directly, without
+     * intermediate {@link BigInteger} objects. Intended for results just past the long range, such
+     * as overflowing {@code long * long} products.
+     */
+    @TruffleBoundary
+    public static BigInteger int128ToBigInteger(long high, long low) {
+        byte[] bytes = new byte[2 * Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[Long.BYTES - 1 - i] = (byte) (high >>> (i * Byte.SIZE));
+            bytes[2 * Long.BYTES - 1 - i] = (byte) (low >>> (i * Byte.SIZE));
+        }
+        return new BigInteger(bytes);
     }
 
     public double doubleValue() {
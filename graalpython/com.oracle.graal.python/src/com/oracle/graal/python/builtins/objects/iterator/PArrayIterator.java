@@ -35,4 +35,8 @@ public final class PArrayIterator extends PBuiltinIterator {
         super(clazz, instanceShape);
         this.array = array;
     }
+
+    public PArray getArray() {
+        return array;
+    }
 }
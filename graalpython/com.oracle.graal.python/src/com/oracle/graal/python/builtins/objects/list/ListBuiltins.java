@@ -674,24 +674,11 @@ public final class ListBuiltins extends PythonBuiltins {
     public abstract static class ListCountNode extends PythonBuiltinNode {
 
         @Specialization
-        long count(VirtualFrame frame, Object list, Object value,
+        static long count(VirtualFrame frame, Object list, Object value,
                         @Bind("this") Node inliningTarget,
-                        @Cached InlinedLoopConditionProfile loopProfile,
                         @Cached GetListStorageNode getStorageNode,
-                        @Cached("createNotNormalized()") SequenceStorageNodes.GetItemNode getItemNode,
-                        @Cached PyObjectRichCompareBool eqNode) {
-            long count = 0;
-            SequenceStorage s = getStorageNode.execute(inliningTarget, list);
-            loopProfile.profileCounted(inliningTarget, s.length());
-            for (int i = 0; loopProfile.inject(inliningTarget, i < s.length()); i++) {
-                Object seqItem = getItemNode.execute(s, i);
-                if (eqNode.execute(frame, inliningTarget, seqItem, value, RichCmpOp.Py_EQ)) {
-                    LoopNode.reportLoopCount(inliningTarget, i);
-                    count++;
-                }
-            }
-            LoopNode.reportLoopCount(inliningTarget, s.length());
-            return count;
+                        @Cached SequenceStorageNodes.CountNode countNode) {
+            return countNode.execute(frame, inliningTarget, getStorageNode.execute(inliningTarget, list), value);
         }
 
     }
@@ -221,6 +221,7 @@ public final class FrozenModules {
         private static final PythonFrozenModule _POLYGLOT = new PythonFrozenModule("_POLYGLOT", null, false);
         private static final PythonFrozenModule _POLYGLOT_DATETIME = new PythonFrozenModule("_POLYGLOT_DATETIME", null, false);
         private static final PythonFrozenModule _POLYGLOT_TIME = new PythonFrozenModule("_POLYGLOT_TIME", null, false);
+        private static final PythonFrozenModule _NIO_EVENT_LOOP = new PythonFrozenModule("_NIO_EVENT_LOOP", null, false);
         private static final PythonFrozenModule GRAALPY___GRAALPYTHON__ = new PythonFrozenModule("GRAALPY___GRAALPYTHON__", null, false);
         private static final PythonFrozenModule GRAALPY__SRE = new PythonFrozenModule("GRAALPY__SRE", null, false);
         private static final PythonFrozenModule GRAALPY__SYSCONFIG = new PythonFrozenModule("GRAALPY__SYSCONFIG", null, false);
@@ -604,6 +605,8 @@ public final class FrozenModules {
                 return Map._POLYGLOT_DATETIME;
             case "_polyglot_time":
                 return Map._POLYGLOT_TIME;
+            case "_nio_event_loop":
+                return Map._NIO_EVENT_LOOP;
             case "graalpy.__graalpython__":
                 return Map.GRAALPY___GRAALPYTHON__;
             case "graalpy._sre":
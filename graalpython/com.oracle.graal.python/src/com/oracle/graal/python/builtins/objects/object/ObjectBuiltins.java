@@ -89,6 +89,7 @@ import com.oracle.graal.python.builtins.objects.object.ObjectBuiltinsFactory.Dic
 import com.oracle.graal.python.builtins.objects.object.ObjectBuiltinsFactory.GetAttributeNodeFactory;
 import com.oracle.graal.python.builtins.objects.set.PSet;
 import com.oracle.graal.python.builtins.objects.set.SetBuiltins;
+import com.oracle.graal.python.builtins.objects.type.InstanceLayoutInference.InitInstanceLayoutNode;
 import com.oracle.graal.python.builtins.objects.type.PythonBuiltinClass;
 import com.oracle.graal.python.builtins.objects.type.PythonManagedClass;
 import com.oracle.graal.python.builtins.objects.type.TpSlots;
@@ -296,12 +297,15 @@ public final class ObjectBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Bind PythonLanguage language,
                         @Shared @Cached CheckExcessArgsNode checkExcessArgsNode,
-                        @Shared @Cached TypeNodes.GetInstanceShape getInstanceShape) {
+                        @Shared @Cached TypeNodes.GetInstanceShape getInstanceShape,
+                        @Cached InitInstanceLayoutNode initInstanceLayoutNode) {
             checkExcessArgsNode.execute(inliningTarget, self, varargs, kwargs);
             if (self.isAbstractClass()) {
                 throw reportAbstractClass(frame, self);
             }
-            return PFactory.createPythonObject(language, self, getInstanceShape.execute(self));
+            PythonObject instance = PFactory.createPythonObject(language, self, getInstanceShape.execute(self));
+            initInstanceLayoutNode.execute(inliningTarget, self, instance);
+            return instance;
         }
 
         @Specialization
@@ -69,6 +69,13 @@ public class PythonObject extends PythonAbstractObject {
      * @see com.oracle.graal.python.nodes.function.builtins.WrapTpNew
      */
     public static final byte IS_STATIC_BASE = 0b10000;
+    /**
+     * Indicates that the object was pre-populated with the inferred instance layout of its class
+     * and records the order in which its attributes were assigned.
+     *
+     * @see com.oracle.graal.python.builtins.objects.type.InstanceLayoutInference
+     */
+    public static final byte HAS_INFERRED_LAYOUT = 0b100000;
 
     private final Object initialPythonClass;
 
@@ -102,6 +102,11 @@ import com.oracle.graal.python.nodes.function.builtins.clinic.ArgumentClinicProv
 import com.oracle.graal.python.nodes.util.CastToTruffleStringNode;
 import com.oracle.graal.python.runtime.IndirectCallData;
 import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.graal.python.runtime.sequence.storage.BoolSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.LongSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.ObjectSequenceStorage;
+import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
 import com.oracle.truffle.api.dsl.Bind;
@@ -118,34 +123,6 @@ import com.oracle.truffle.api.strings.TruffleString;
 
 @CoreFunctions(extendClasses = PythonBuiltinClassType.PStruct)
 public class StructBuiltins extends PythonBuiltins {
-    static void packInternal(VirtualFrame frame, PStruct self, StructNodes.PackValueNode packValueNode, Object[] args, byte[] buffer, int offset) {
-        assert self.getSize() <= buffer.length - offset;
-        FormatCode[] codes = self.getCodes();
-        int pos = 0;
-        for (FormatCode code : codes) {
-            int buffer_offset = offset + code.offset;
-            for (int j = 0; j < code.repeat; j++, pos++) {
-                packValueNode.execute(frame, code, self.formatAlignment, args[pos], buffer, buffer_offset);
-                buffer_offset += code.size;
-            }
-        }
-    }
-
-    public static Object[] unpackInternal(PStruct self, StructNodes.UnpackValueNode unpackValueNode, byte[] bytes, int offset) {
-        Object[] values = new Object[self.getLen()];
-        FormatCode[] codes = self.getCodes();
-        int pos = 0;
-        for (FormatCode code : codes) {
-            int buffer_offset = offset + code.offset;
-            for (int j = 0; j < code.repeat; j++, pos++) {
-                Object value = unpackValueNode.execute(code, self.formatAlignment, bytes, buffer_offset);
-                values[pos] = value;
-                buffer_offset += code.size;
-            }
-        }
-        return values;
-    }
-
     public static final TpSlots SLOTS = StructBuiltinsSlotsGen.SLOTS;
 
     @Override
@@ -449,7 +426,7 @@ public class StructBuiltins extends PythonBuiltins {
         static Object pack(VirtualFrame frame, PStruct self, Object[] args, PKeyword[] keywords,
                         @Bind("this") Node inliningTarget,
                         @Bind PythonLanguage language,
-                        @Cached StructNodes.PackValueNode packValueNode,
+                        @Cached StructNodes.PackStructNode packStructNode,
                         @Cached PRaiseNode raiseNode) {
             if (keywords.length != 0) {
                 throw raiseNode.raise(inliningTarget, TypeError, S_TAKES_NO_KEYWORD_ARGS, "pack()");
@@ -458,7 +435,7 @@ public class StructBuiltins extends PythonBuiltins {
                 throw raiseNode.raise(inliningTarget, StructError, STRUCT_PACK_EXPECTED_N_ITEMS_GOT_K, self.getLen(), args.length);
             }
             byte[] bytes = new byte[self.getSize()];
-            packInternal(frame, self, packValueNode, args, bytes, 0);
+            packStructNode.execute(frame, self, args, bytes, 0);
             return PFactory.createBytes(language, bytes);
         }
     }
@@ -480,7 +457,7 @@ public class StructBuiltins extends PythonBuiltins {
                         @Bind("this") Node inliningTarget,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
-                        @Cached StructNodes.PackValueNode packValueNode,
+                        @Cached StructNodes.PackStructNode packStructNode,
                         @Cached PRaiseNode raiseNode) {
             try {
                 final long size = self.getUnsignedSize();
@@ -521,7 +498,7 @@ public class StructBuiltins extends PythonBuiltins {
                 }
 
                 // TODO: GR-54860 use buffer API in the packing process
-                packInternal(frame, self, packValueNode, args, bytes, directWrite ? bufferOffset : 0);
+                packStructNode.execute(frame, self, args, bytes, directWrite ? bufferOffset : 0);
                 if (!directWrite) {
                     bufferLib.writeFromByteArray(buffer, bufferOffset, bytes, 0, bytes.length);
                 }
@@ -554,7 +531,7 @@ public class StructBuiltins extends PythonBuiltins {
                         @Bind PythonLanguage language,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
-                        @Cached StructNodes.UnpackValueNode unpackValueNode,
+                        @Cached StructNodes.UnpackStructNode unpackStructNode,
                         @Cached PRaiseNode raiseNode) {
             try {
                 int bytesLen = bufferLib.getBufferLength(buffer);
@@ -562,7 +539,7 @@ public class StructBuiltins extends PythonBuiltins {
                 if (bytesLen != self.getSize()) {
                     throw raiseNode.raise(inliningTarget, StructError, UNPACK_REQ_A_BUFFER_OF_N_BYTES, self.getSize());
                 }
-                return PFactory.createTuple(language, unpackInternal(self, unpackValueNode, bytes, 0));
+                return PFactory.createTuple(language, unpackStructNode.execute(self, bytes, 0));
             } finally {
                 bufferLib.release(buffer, frame, indirectCallData);
             }
@@ -625,7 +602,7 @@ public class StructBuiltins extends PythonBuiltins {
                         @Bind PythonLanguage language,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
                         @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
-                        @Cached StructNodes.UnpackValueNode unpackValueNode,
+                        @Cached StructNodes.UnpackStructNode unpackStructNode,
                         @Cached PRaiseNode raiseNode) {
             try {
                 int bufferOffset = offset;
@@ -648,11 +625,88 @@ public class StructBuiltins extends PythonBuiltins {
                     throw raiseNode.raise(inliningTarget, StructError, STRUCT_UNPACK_FROM_REQ_AT_LEAST_N_BYTES, size + bufferOffset, size, bufferOffset, bytesLen);
                 }
 
-                return PFactory.createTuple(language, unpackInternal(self, unpackValueNode, bytes, bufferOffset));
+                return PFactory.createTuple(language, unpackStructNode.execute(self, bytes, bufferOffset));
+            } finally {
+                bufferLib.release(buffer, frame, indirectCallData);
+            }
+        }
+    }
+
+    @Builtin(name = "unpack_columns", minNumOfPositionalArgs = 2, parameterNames = {"$self", "buffer"}, forceSplitDirectCalls = true, //
+                    doc = "Unpack all records of the buffer at once, returning a tuple with one list per field.")
+    @ArgumentClinic(name = "buffer", conversion = ArgumentClinic.ClinicConversion.ReadableBuffer)
+    @GenerateNodeFactory
+    public abstract static class StructUnpackColumnsNode extends PythonBinaryClinicBuiltinNode {
+        @Override
+        protected ArgumentClinicProvider getArgumentClinic() {
+            return StructBuiltinsClinicProviders.StructUnpackColumnsNodeClinicProviderGen.INSTANCE;
+        }
+
+        @Specialization(limit = "3")
+        static Object unpackColumns(VirtualFrame frame, PStruct self, Object buffer,
+                        @Bind("this") Node inliningTarget,
+                        @Bind PythonLanguage language,
+                        @Cached("createFor(this)") IndirectCallData indirectCallData,
+                        @CachedLibrary("buffer") PythonBufferAccessLibrary bufferLib,
+                        @Cached StructNodes.UnpackValueNode unpackValueNode,
+                        @Cached PRaiseNode raiseNode) {
+            try {
+                final int size = self.getSize();
+                if (size == 0) {
+                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_ITER_CANNOT_UNPACK_FROM_STRUCT_OF_SIZE_0);
+                }
+                int bufferLen = bufferLib.getBufferLength(buffer);
+                if (bufferLen % size != 0) {
+                    throw raiseNode.raise(inliningTarget, StructError, STRUCT_ITER_UNPACK_REQ_A_BUFFER_OF_A_MUL_OF_BYTES, size);
+                }
+                byte[] bytes = bufferLib.getInternalOrCopiedByteArray(buffer);
+                int count = bufferLen / size;
+                Object[] columns = new Object[self.getLen()];
+                int pos = 0;
+                for (FormatCode code : self.getCodes()) {
+                    for (int j = 0; j < code.repeat; j++, pos++) {
+                        SequenceStorage column = unpackColumn(unpackValueNode, code, self.formatAlignment, bytes, code.offset + j * code.size, size, count);
+                        columns[pos] = PFactory.createList(language, column);
+                    }
+                }
+                return PFactory.createTuple(language, columns);
             } finally {
                 bufferLib.release(buffer, frame, indirectCallData);
             }
         }
+
+        /**
+         * Decodes one field of every record. Integer fields that always fit into a Java long and
+         * floating point fields go straight into primitive storages, so no per-record boxes or
+         * tuples are allocated.
+         */
+        private static SequenceStorage unpackColumn(StructNodes.UnpackValueNode unpackValueNode, FormatCode code, FormatAlignment formatAlignment, byte[] bytes, int offset, int stride,
+                        int count) {
+            if (StructNodes.StructBaseNode.isNumberUpToSize8Unsigned(code)) {
+                long[] values = new long[count];
+                for (int i = 0, bufferOffset = offset; i < count; i++, bufferOffset += stride) {
+                    values[i] = (long) unpackValueNode.execute(code, formatAlignment, bytes, bufferOffset);
+                }
+                return new LongSequenceStorage(values);
+            } else if (StructNodes.StructBaseNode.isFmtFloat(code)) {
+                double[] values = new double[count];
+                for (int i = 0, bufferOffset = offset; i < count; i++, bufferOffset += stride) {
+                    values[i] = (double) unpackValueNode.execute(code, formatAlignment, bytes, bufferOffset);
+                }
+                return new DoubleSequenceStorage(values);
+            } else if (StructNodes.StructBaseNode.isFmtBoolean(code)) {
+                boolean[] values = new boolean[count];
+                for (int i = 0, bufferOffset = offset; i < count; i++, bufferOffset += stride) {
+                    values[i] = bytes[bufferOffset] != 0;
+                }
+                return new BoolSequenceStorage(values);
+            }
+            Object[] values = new Object[count];
+            for (int i = 0, bufferOffset = offset; i < count; i++, bufferOffset += stride) {
+                values[i] = unpackValueNode.execute(code, formatAlignment, bytes, bufferOffset);
+            }
+            return new ObjectSequenceStorage(values);
+        }
     }
 
     @Builtin(name = "calcsize", minNumOfPositionalArgs = 1)
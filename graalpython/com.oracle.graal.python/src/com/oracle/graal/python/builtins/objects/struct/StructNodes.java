@@ -25,6 +25,7 @@ import static com.oracle.graal.python.runtime.exception.PythonErrorType.NotImple
 import static com.oracle.graal.python.runtime.exception.PythonErrorType.StructError;
 
 import java.math.BigInteger;
+import java.util.Arrays;
 
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.PythonBuiltinClassType;
@@ -55,9 +56,11 @@ import com.oracle.truffle.api.dsl.Cached;
 import com.oracle.truffle.api.dsl.Cached.Shared;
 import com.oracle.truffle.api.dsl.GenerateInline;
 import com.oracle.truffle.api.dsl.ImportStatic;
+import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.frame.VirtualFrame;
 import com.oracle.truffle.api.library.CachedLibrary;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
 import com.oracle.truffle.api.nodes.Node;
 import com.oracle.truffle.api.profiles.InlinedConditionProfile;
 import com.oracle.truffle.api.profiles.PrimitiveValueProfile;
@@ -117,6 +120,8 @@ public final class StructNodes {
     public abstract static class StructBaseNode extends PNodeWithContext {
         public static final BigInteger UBYTE_MASK = BigInteger.valueOf(0xff);
         public static final BigInteger ULONG_MASK = BigInteger.ONE.shiftLeft(Long.SIZE).subtract(BigInteger.ONE);
+        // formats with more codes than this are not unrolled
+        public static final int MAX_EXPLODED_CODES = 32;
 
         public static int getNumBytesLimit() {
             return NUM_BYTES_LIMIT;
@@ -214,6 +219,28 @@ public final class StructNodes {
         public static NumericSupport getNumericSupport(FormatAlignment formatAlignment) {
             return formatAlignment.bigEndian ? NumericSupport.bigEndian() : NumericSupport.littleEndian();
         }
+
+        public static boolean isSameFormat(PStruct struct, FormatCode[] cachedCodes, byte[] cachedFormat) {
+            return struct.getCodes() == cachedCodes || Arrays.equals(struct.getFormat(), cachedFormat);
+        }
+
+        @NeverDefault
+        static UnpackValueNode[] createUnpackNodes(int size) {
+            UnpackValueNode[] nodes = new UnpackValueNode[size];
+            for (int i = 0; i < size; i++) {
+                nodes[i] = StructNodesFactory.UnpackValueNodeGen.create();
+            }
+            return nodes;
+        }
+
+        @NeverDefault
+        static PackValueNode[] createPackNodes(int size) {
+            PackValueNode[] nodes = new PackValueNode[size];
+            for (int i = 0; i < size; i++) {
+                nodes[i] = StructNodesFactory.PackValueNodeGen.create();
+            }
+            return nodes;
+        }
     }
 
     @ImportStatic(FormatCode.class)
@@ -499,4 +526,102 @@ public final class StructNodes {
         }
     }
 
+    // ------------------------------------------------------------------------------------------------------------
+    //
+    // whole struct nodes
+    //
+    // ------------------------------------------------------------------------------------------------------------
+    /**
+     * Packs all values of a struct. For a call site that always sees the same format, the format
+     * codes become compilation constants and the loop over them is exploded, so that every code
+     * gets its own monomorphic {@link PackValueNode}.
+     */
+    @GenerateInline(false)
+    public abstract static class PackStructNode extends StructBaseNode {
+        public abstract void execute(VirtualFrame frame, PStruct struct, Object[] args, byte[] buffer, int offset);
+
+        @Specialization(guards = {"isSameFormat(struct, cachedCodes, cachedFormat)", "cachedCodes.length <= MAX_EXPLODED_CODES"}, limit = "3")
+        @ExplodeLoop
+        static void packCached(VirtualFrame frame, @SuppressWarnings("unused") PStruct struct, Object[] args, byte[] buffer, int offset,
+                        @SuppressWarnings("unused") @Cached(value = "struct.getFormat()", dimensions = 1) byte[] cachedFormat,
+                        @Cached(value = "struct.getCodes()", dimensions = 1) FormatCode[] cachedCodes,
+                        @Cached("struct.formatAlignment") FormatAlignment cachedAlignment,
+                        @Cached("createPackNodes(cachedCodes.length)") PackValueNode[] packValueNodes) {
+            int pos = 0;
+            for (int i = 0; i < cachedCodes.length; i++) {
+                FormatCode code = cachedCodes[i];
+                packCode(frame, packValueNodes[i], code, cachedAlignment, args, pos, buffer, offset + code.offset);
+                pos += code.repeat;
+            }
+        }
+
+        @Specialization(replaces = "packCached")
+        static void packGeneric(VirtualFrame frame, PStruct struct, Object[] args, byte[] buffer, int offset,
+                        @Cached PackValueNode packValueNode) {
+            FormatCode[] codes = struct.getCodes();
+            int pos = 0;
+            for (FormatCode code : codes) {
+                packCode(frame, packValueNode, code, struct.formatAlignment, args, pos, buffer, offset + code.offset);
+                pos += code.repeat;
+            }
+        }
+
+        // kept out of the exploded loop on purpose, the repeat count may be large
+        private static void packCode(VirtualFrame frame, PackValueNode packValueNode, FormatCode code, FormatAlignment formatAlignment, Object[] args, int pos, byte[] buffer, int offset) {
+            int bufferOffset = offset;
+            for (int j = 0; j < code.repeat; j++) {
+                packValueNode.execute(frame, code, formatAlignment, args[pos + j], buffer, bufferOffset);
+                bufferOffset += code.size;
+            }
+        }
+    }
+
+    /**
+     * Unpacks all values of a struct into a fresh array. Specializes on constant formats the same
+     * way as {@link PackStructNode}.
+     */
+    @GenerateInline(false)
+    public abstract static class UnpackStructNode extends StructBaseNode {
+        public abstract Object[] execute(PStruct struct, byte[] buffer, int offset);
+
+        @Specialization(guards = {"isSameFormat(struct, cachedCodes, cachedFormat)", "cachedCodes.length <= MAX_EXPLODED_CODES"}, limit = "3")
+        @ExplodeLoop
+        static Object[] unpackCached(@SuppressWarnings("unused") PStruct struct, byte[] buffer, int offset,
+                        @SuppressWarnings("unused") @Cached(value = "struct.getFormat()", dimensions = 1) byte[] cachedFormat,
+                        @Cached(value = "struct.getCodes()", dimensions = 1) FormatCode[] cachedCodes,
+                        @Cached("struct.formatAlignment") FormatAlignment cachedAlignment,
+                        @Cached("struct.getLen()") int cachedLen,
+                        @Cached("createUnpackNodes(cachedCodes.length)") UnpackValueNode[] unpackValueNodes) {
+            Object[] values = new Object[cachedLen];
+            int pos = 0;
+            for (int i = 0; i < cachedCodes.length; i++) {
+                FormatCode code = cachedCodes[i];
+                unpackCode(unpackValueNodes[i], code, cachedAlignment, buffer, offset + code.offset, values, pos);
+                pos += code.repeat;
+            }
+            return values;
+        }
+
+        @Specialization(replaces = "unpackCached")
+        static Object[] unpackGeneric(PStruct struct, byte[] buffer, int offset,
+                        @Cached UnpackValueNode unpackValueNode) {
+            Object[] values = new Object[struct.getLen()];
+            FormatCode[] codes = struct.getCodes();
+            int pos = 0;
+            for (FormatCode code : codes) {
+                unpackCode(unpackValueNode, code, struct.formatAlignment, buffer, offset + code.offset, values, pos);
+                pos += code.repeat;
+            }
+            return values;
+        }
+
+        // kept out of the exploded loop on purpose, the repeat count may be large
+        private static void unpackCode(UnpackValueNode unpackValueNode, FormatCode code, FormatAlignment formatAlignment, byte[] buffer, int offset, Object[] values, int pos) {
+            int bufferOffset = offset;
+            for (int j = 0; j < code.repeat; j++) {
+                values[pos + j] = unpackValueNode.execute(code, formatAlignment, buffer, bufferOffset);
+                bufferOffset += code.size;
+            }
+        }
+    }
 }
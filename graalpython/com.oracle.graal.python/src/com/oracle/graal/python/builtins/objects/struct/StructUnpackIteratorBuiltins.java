@@ -5,7 +5,6 @@
  */
 package com.oracle.graal.python.builtins.objects.struct;
 
-import static com.oracle.graal.python.builtins.objects.struct.StructBuiltins.unpackInternal;
 import static com.oracle.graal.python.nodes.ErrorMessages.CANNOT_CREATE_P_OBJECTS;
 import static com.oracle.graal.python.nodes.SpecialMethodNames.J___LENGTH_HINT__;
 
@@ -94,7 +93,7 @@ public class StructUnpackIteratorBuiltins extends PythonBuiltins {
         @Specialization(guards = "!self.isExhausted()", limit = "3")
         static Object next(VirtualFrame frame, PStructUnpackIterator self,
                         @Cached("createFor(this)") IndirectCallData indirectCallData,
-                        @Cached StructNodes.UnpackValueNode unpackValueNode,
+                        @Cached StructNodes.UnpackStructNode unpackStructNode,
                         @CachedLibrary("self.getBuffer()") PythonBufferAccessLibrary bufferLib,
                         @Bind PythonLanguage language) {
             final PStruct struct = self.getStruct();
@@ -121,7 +120,7 @@ public class StructUnpackIteratorBuiltins extends PythonBuiltins {
             }
 
             // TODO: GR-54860 handle buffers directly in unpack
-            Object result = PFactory.createTuple(language, unpackInternal(struct, unpackValueNode, bytes, offset));
+            Object result = PFactory.createTuple(language, unpackStructNode.execute(struct, bytes, offset));
             self.index += struct.getSize();
             return result;
         }
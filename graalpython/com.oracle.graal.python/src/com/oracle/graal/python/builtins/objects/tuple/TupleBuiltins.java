@@ -73,7 +73,6 @@ import com.oracle.graal.python.builtins.objects.type.slots.TpSlotSqContains.SqCo
 import com.oracle.graal.python.lib.PyIndexCheckNode;
 import com.oracle.graal.python.lib.PyObjectHashNode;
 import com.oracle.graal.python.lib.PyObjectReprAsTruffleStringNode;
-import com.oracle.graal.python.lib.PyObjectRichCompareBool;
 import com.oracle.graal.python.lib.PyTupleCheckExactNode;
 import com.oracle.graal.python.lib.PyTupleCheckNode;
 import com.oracle.graal.python.lib.PyTupleGetItem;
@@ -230,17 +229,8 @@ public final class TupleBuiltins extends PythonBuiltins {
         static long count(VirtualFrame frame, Object self, Object value,
                         @Bind("this") Node inliningTarget,
                         @Cached GetTupleStorage getTupleStorage,
-                        @Cached("createNotNormalized()") SequenceStorageNodes.GetItemNode getItemNode,
-                        @Cached PyObjectRichCompareBool eqNode) {
-            long count = 0;
-            SequenceStorage tupleStore = getTupleStorage.execute(inliningTarget, self);
-            for (int i = 0; i < tupleStore.length(); i++) {
-                Object seqItem = getItemNode.execute(tupleStore, i);
-                if (eqNode.execute(frame, inliningTarget, seqItem, value, RichCmpOp.Py_EQ)) {
-                    count++;
-                }
-            }
-            return count;
+                        @Cached SequenceStorageNodes.CountNode countNode) {
+            return countNode.execute(frame, inliningTarget, getTupleStorage.execute(inliningTarget, self), value);
         }
     }
 
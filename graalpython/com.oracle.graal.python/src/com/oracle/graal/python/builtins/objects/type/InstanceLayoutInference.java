@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.builtins.objects.type;
+
+import static com.oracle.graal.python.util.PythonUtils.EMPTY_TRUFFLESTRING_ARRAY;
+
+import java.util.LinkedHashSet;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.objects.PNone;
+import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.nodes.HiddenAttr;
+import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.dsl.Bind;
+import com.oracle.truffle.api.dsl.Cached;
+import com.oracle.truffle.api.dsl.Fallback;
+import com.oracle.truffle.api.dsl.GenerateCached;
+import com.oracle.truffle.api.dsl.GenerateInline;
+import com.oracle.truffle.api.dsl.GenerateUncached;
+import com.oracle.truffle.api.dsl.NeverDefault;
+import com.oracle.truffle.api.dsl.Specialization;
+import com.oracle.truffle.api.nodes.ExplodeLoop;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.object.DynamicObject;
+import com.oracle.truffle.api.object.DynamicObjectLibrary;
+import com.oracle.truffle.api.object.Shape;
+import com.oracle.truffle.api.profiles.InlinedConditionProfile;
+import com.oracle.truffle.api.strings.TruffleString;
+import com.oracle.truffle.api.utilities.TruffleWeakReference;
+
+/**
+ * Infers a stable attribute layout for instances of classes with many instance attributes.
+ * <p>
+ * Each instance attribute is a property of the instance's {@link Shape}. If the attributes are
+ * assigned in varying order (or first with values of different types), the instances end up with
+ * many different shapes, the shape tree grows with every combination and the attribute accesses
+ * become megamorphic. We therefore sample every {@link #SAMPLE_INTERVAL}-th instance of a class
+ * after it had time to be initialized. If the samples have at least {@link #MIN_ATTRIBUTES}
+ * attributes and do not share a shape, the union of their attribute names becomes the layout of
+ * the class. From then on, every new instance is pre-populated with all attributes of the layout
+ * in a fixed order, holding {@link PNone#NO_VALUE} which means that the attribute is not set. All
+ * instances then share a single shape and assigning an attribute only updates an existing
+ * property. This is similar to an inferred {@code __slots__}, except that the instances keep
+ * their {@code __dict__} and can still get attributes that are not in the layout.
+ * <p>
+ * Since the shape no longer reflects the order in which the attributes were assigned, each
+ * pre-populated instance keeps an {@link AttributeOrder} that is updated by {@link #put} and used
+ * by {@link #getKeyArray} to iterate {@code __dict__} in insertion order.
+ */
+public final class InstanceLayoutInference {
+
+    /** Narrower instances are cheap enough to transition shapes. */
+    private static final int MIN_ATTRIBUTES = 16;
+    private static final int MAX_ATTRIBUTES = 1024;
+    private static final int SAMPLE_INTERVAL = 8;
+    private static final int MIN_SAMPLES = 3;
+    private static final int MAX_SAMPLES = 8;
+    /** Give up if the sampled instances keep dying before we look at them. */
+    private static final int MAX_ALLOCATIONS = SAMPLE_INTERVAL * MAX_SAMPLES * 4;
+
+    private final LinkedHashSet<TruffleString> names = new LinkedHashSet<>();
+    private TruffleWeakReference<PythonObject> pending;
+    private Shape firstShape;
+    private boolean diverged;
+    private int allocations;
+    private int samples;
+
+    /**
+     * Records a newly allocated instance. Returns the inferred layout, an empty array if instances
+     * should not be pre-populated, or {@code null} if more instances need to be seen.
+     */
+    private TruffleString[] sample(PythonObject instance) {
+        if (allocations++ % SAMPLE_INTERVAL != 0) {
+            return null;
+        }
+        if (allocations > MAX_ALLOCATIONS) {
+            return EMPTY_TRUFFLESTRING_ARRAY;
+        }
+        // the previous sample has most likely finished its __init__ by now
+        PythonObject previous = pending != null ? pending.get() : null;
+        pending = new TruffleWeakReference<>(instance);
+        if (previous == null) {
+            return null;
+        }
+        Shape shape = previous.getShape();
+        DynamicObjectLibrary dylib = DynamicObjectLibrary.getUncached();
+        int count = 0;
+        for (Object key : shape.getKeyList()) {
+            if (key instanceof TruffleString name && dylib.getOrDefault(previous, name, PNone.NO_VALUE) != PNone.NO_VALUE) {
+                names.add(name);
+                count++;
+            }
+        }
+        if (count < MIN_ATTRIBUTES || names.size() > MAX_ATTRIBUTES) {
+            return EMPTY_TRUFFLESTRING_ARRAY;
+        }
+        if (firstShape == null) {
+            firstShape = shape;
+        } else if (firstShape != shape) {
+            diverged = true;
+        }
+        samples++;
+        if (diverged && samples >= MIN_SAMPLES) {
+            return names.toArray(EMPTY_TRUFFLESTRING_ARRAY);
+        }
+        return samples >= MAX_SAMPLES ? EMPTY_TRUFFLESTRING_ARRAY : null;
+    }
+
+    @TruffleBoundary
+    static void sample(PythonClass type, PythonObject instance) {
+        if ((type.getInstanceShape().getFlags() & PythonObject.HAS_SLOTS_BUT_NO_DICT_FLAG) != 0 ||
+                        !PythonLanguage.get(null).getEngineOption(PythonOptions.InferInstanceLayout)) {
+            type.setInstanceLayout(EMPTY_TRUFFLESTRING_ARRAY);
+            return;
+        }
+        TruffleString[] layout = type.getInstanceLayoutInference().sample(instance);
+        if (layout != null) {
+            type.setInstanceLayout(layout);
+        }
+    }
+
+    @TruffleBoundary
+    static void prepopulate(PythonObject instance, TruffleString[] layout) {
+        DynamicObjectLibrary dylib = DynamicObjectLibrary.getUncached();
+        for (TruffleString name : layout) {
+            dylib.put(instance, name, PNone.NO_VALUE);
+        }
+        HiddenAttr.WriteNode.executeUncached(instance, HiddenAttr.ATTRIBUTE_ORDER, new AttributeOrder(layout.length));
+    }
+
+    /**
+     * Assigns an attribute of an object that may have been pre-populated, recording the order of
+     * assignment. Every write of a string key to a {@link PythonObject} that may add an attribute
+     * should go through here.
+     */
+    public static void put(DynamicObject object, TruffleString key, Object value, DynamicObjectLibrary dylib) {
+        if ((dylib.getShapeFlags(object) & PythonObject.HAS_INFERRED_LAYOUT) != 0 && value != PNone.NO_VALUE && dylib.getOrDefault(object, key, PNone.NO_VALUE) == PNone.NO_VALUE) {
+            ((AttributeOrder) HiddenAttr.read(object, HiddenAttr.ATTRIBUTE_ORDER, null, dylib)).add(object, key);
+        }
+        dylib.put(object, key, value);
+    }
+
+    /**
+     * Returns the keys of the object in the order in which they were assigned, i.e., the order of
+     * {@code vars(obj)}.
+     */
+    public static Object[] getKeyArray(DynamicObject object, DynamicObjectLibrary dylib) {
+        Object[] keys = dylib.getKeyArray(object);
+        if ((dylib.getShapeFlags(object) & PythonObject.HAS_INFERRED_LAYOUT) != 0) {
+            return orderedKeys(object, keys);
+        }
+        return keys;
+    }
+
+    @TruffleBoundary
+    private static Object[] orderedKeys(DynamicObject object, Object[] keys) {
+        AttributeOrder order = (AttributeOrder) HiddenAttr.read(object, HiddenAttr.ATTRIBUTE_ORDER, null, DynamicObjectLibrary.getUncached());
+        LinkedHashSet<Object> result = new LinkedHashSet<>(order.assigned(object));
+        // keys that were not written through put (e.g., hidden keys) keep their shape order
+        for (Object key : keys) {
+            result.add(key);
+        }
+        return result.toArray();
+    }
+
+    /**
+     * The names of the attributes of a pre-populated instance in the order of their assignment.
+     * Deleting an attribute does not update the order; deleted names are dropped and re-assigned
+     * names keep their last position when the array is full or when the order is read.
+     */
+    static final class AttributeOrder {
+        private TruffleString[] names;
+        private int size;
+
+        AttributeOrder(int capacity) {
+            names = new TruffleString[Math.max(capacity, 1)];
+        }
+
+        void add(DynamicObject owner, TruffleString name) {
+            if (size == names.length) {
+                compact(owner);
+            }
+            names[size++] = name;
+        }
+
+        @TruffleBoundary
+        private void compact(DynamicObject owner) {
+            LinkedHashSet<TruffleString> assigned = assigned(owner);
+            int capacity = names.length;
+            if (assigned.size() * 2 > capacity) {
+                capacity *= 2;
+            }
+            names = assigned.toArray(new TruffleString[capacity]);
+            size = assigned.size();
+        }
+
+        private LinkedHashSet<TruffleString> assigned(DynamicObject owner) {
+            DynamicObjectLibrary dylib = DynamicObjectLibrary.getUncached();
+            LinkedHashSet<TruffleString> result = new LinkedHashSet<>();
+            for (int i = 0; i < size; i++) {
+                TruffleString name = names[i];
+                result.remove(name);
+                if (dylib.getOrDefault(owner, name, PNone.NO_VALUE) != PNone.NO_VALUE) {
+                    result.add(name);
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Prepares a newly allocated instance of a Python class according to the inferred layout of
+     * the class, or samples it while the layout is still being inferred.
+     */
+    @GenerateInline
+    @GenerateCached(false)
+    @GenerateUncached
+    public abstract static class InitInstanceLayoutNode extends Node {
+
+        static final int MAX_EXPLODED_LAYOUT = 64;
+
+        public abstract void execute(Node inliningTarget, Object type, PythonObject instance);
+
+        @Specialization(guards = "type.getInstanceLayout() == null")
+        static void doSample(PythonClass type, PythonObject instance) {
+            sample(type, instance);
+        }
+
+        @NeverDefault
+        static DynamicObjectLibrary[] createAccess(int length) {
+            DynamicObjectLibrary[] result = new DynamicObjectLibrary[length];
+            for (int i = 0; i < length; i++) {
+                result[i] = DynamicObjectLibrary.getFactory().createDispatched(1);
+            }
+            return result;
+        }
+
+        /*
+         * All instances go through the same shape transitions, so each property can be added with a
+         * monomorphic library.
+         */
+        @ExplodeLoop
+        @Specialization(guards = {"layout != null", "layout.length <= MAX_EXPLODED_LAYOUT", "layout == cachedLayout"}, limit = "2")
+        static void doCachedLayout(Node inliningTarget, @SuppressWarnings("unused") PythonClass type, PythonObject instance,
+                        @SuppressWarnings("unused") @Bind("type.getInstanceLayout()") TruffleString[] layout,
+                        @Cached(value = "layout", dimensions = 1) TruffleString[] cachedLayout,
+                        @Cached("createAccess(cachedLayout.length)") DynamicObjectLibrary[] access,
+                        @Cached HiddenAttr.WriteNode writeOrderNode) {
+            if (cachedLayout.length == 0) {
+                return;
+            }
+            for (int i = 0; i < cachedLayout.length; i++) {
+                access[i].put(instance, cachedLayout[i], PNone.NO_VALUE);
+            }
+            writeOrderNode.execute(inliningTarget, instance, HiddenAttr.ATTRIBUTE_ORDER, new AttributeOrder(cachedLayout.length));
+        }
+
+        @Specialization(guards = "layout != null", replaces = "doCachedLayout")
+        static void doLayout(Node inliningTarget, @SuppressWarnings("unused") PythonClass type, PythonObject instance,
+                        @Bind("type.getInstanceLayout()") TruffleString[] layout,
+                        @Cached InlinedConditionProfile hasLayoutProfile) {
+            if (hasLayoutProfile.profile(inliningTarget, layout.length > 0)) {
+                prepopulate(instance, layout);
+            }
+        }
+
+        @Fallback
+        @SuppressWarnings("unused")
+        static void doOther(Object type, PythonObject instance) {
+        }
+    }
+}
@@ -79,6 +79,12 @@ public final class PythonClass extends PythonManagedClass {
      */
     private TruffleWeakReference<PythonClass>[] mroShapeSubTypes;
     private byte mroShapeInvalidationsCount;
+    /**
+     * Attribute names new instances are pre-populated with, see {@link InstanceLayoutInference}.
+     * {@code null} while the layout is still being inferred.
+     */
+    private TruffleString[] instanceLayout;
+    private InstanceLayoutInference instanceLayoutInference;
 
     public PythonClass(PythonLanguage lang, Object typeClass, Shape classShape, TruffleString name, Object base, PythonAbstractClass[] baseClasses) {
         super(lang, typeClass, classShape, null, name, base, baseClasses, null);
@@ -110,6 +116,22 @@ public final class PythonClass extends PythonManagedClass {
         this.tpSlots = tpSlots;
     }
 
+    public TruffleString[] getInstanceLayout() {
+        return instanceLayout;
+    }
+
+    void setInstanceLayout(TruffleString[] instanceLayout) {
+        this.instanceLayout = instanceLayout;
+        this.instanceLayoutInference = null;
+    }
+
+    InstanceLayoutInference getInstanceLayoutInference() {
+        if (instanceLayoutInference == null) {
+            instanceLayoutInference = new InstanceLayoutInference();
+        }
+        return instanceLayoutInference;
+    }
+
     @Override
     @TruffleBoundary
     @SuppressFBWarnings(value = "UR_UNINIT_READ_CALLED_FROM_SUPER_CONSTRUCTOR")
@@ -380,6 +380,8 @@ public abstract class TypeNodes {
                 case PDeque:
                 case POrderedDict:
                 case PSimpleQueue:
+                case PAsyncioFuture:
+                case PAsyncioTask:
                 case PSimpleNamespace:
                 case PMap:
                 case PStaticmethod:
@@ -241,11 +241,9 @@ public abstract class PyLongFromUnicodeObject extends Node {
 
             checkMaxDigits(inliningTarget, context, s.length(), base);
 
-            BigInteger bi;
+            BigInteger bi = PInt.parseBigInteger(s, base);
             if (sign == '-') {
-                bi = new BigInteger("-" + s, base);
-            } else {
-                bi = new BigInteger(s, base);
+                bi = bi.negate();
             }
 
             if (raiseIfNotZero && !bi.equals(BigInteger.ZERO)) {
@@ -40,8 +40,6 @@
  */
 package com.oracle.graal.python.lib.fastpath;
 
-import static com.oracle.graal.python.builtins.objects.ints.IntBuiltins.MulNode.mul;
-
 import com.oracle.graal.python.PythonLanguage;
 import com.oracle.graal.python.builtins.objects.ints.PInt;
 import com.oracle.graal.python.nodes.expression.BinaryOpNode;
@@ -93,7 +91,7 @@ public abstract class PyNumberMultiplyFastPathsBase extends BinaryOpNode {
             // and check for the special case of Long.MIN_VALUE * -1
             if (((y != 0) && (r / y != x)) ||
                             (x == Long.MIN_VALUE && y == -1)) {
-                return PFactory.createInt(PythonLanguage.get(inliningTarget), mul(PInt.longToBigInteger(x), PInt.longToBigInteger(y)));
+                return PFactory.createInt(PythonLanguage.get(inliningTarget), PInt.int128ToBigInteger(Math.multiplyHigh(x, y), r));
             }
         }
         return r;
@@ -376,6 +376,9 @@ public abstract class BuiltinNames {
 
     public static final TruffleString T_SYS = tsLiteral("sys");
 
+    public static final String J_SYS_MONITORING = "sys.monitoring";
+    public static final TruffleString T_SYS_MONITORING = tsLiteral(J_SYS_MONITORING);
+
     public static final TruffleString T__SIGNAL = tsLiteral("_signal");
 
     public static final String J__WEAKREF = "_weakref";
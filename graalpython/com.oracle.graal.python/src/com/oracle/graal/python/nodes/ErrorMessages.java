@@ -880,6 +880,16 @@ public abstract class ErrorMessages {
     public static final TruffleString S_SHOULD_BE_INTEGER_NOT_P = tsLiteral("%s should be integer, not %p");
     public static final TruffleString RANGE_OBJ_IDX_OUT_OF_RANGE = tsLiteral("range object index out of range");
     public static final TruffleString NUMBER_OF_BITS_MUST_BE_NON_NEGATIVE = tsLiteral("number of bits must be non-negative");
+    public static final TruffleString NUMBER_OF_FRAMES_MUST_BE_IN_RANGE = tsLiteral("the number of frames must be in range [1; %d]");
+    public static final TruffleString INVALID_TOOL_D = tsLiteral("invalid tool %d (must be between 0 and 5)");
+    public static final TruffleString TOOL_D_IS_ALREADY_IN_USE = tsLiteral("tool %d is already in use");
+    public static final TruffleString TOOL_D_IS_NOT_IN_USE = tsLiteral("tool %d is not in use");
+    public static final TruffleString TOOL_NAME_MUST_BE_A_STR = tsLiteral("tool name must be a str");
+    public static final TruffleString INVALID_EVENT_SET_X = tsLiteral("invalid event set 0x%x");
+    public static final TruffleString INVALID_LOCAL_EVENT_SET_X = tsLiteral("invalid local event set 0x%x");
+    public static final TruffleString CANNOT_SET_C_RETURN_OR_C_RAISE_INDEPENDENTLY = tsLiteral("cannot set C_RETURN or C_RAISE events independently");
+    public static final TruffleString CALLBACK_ONLY_FOR_ONE_EVENT = tsLiteral("The callback can only be set for one event at a time");
+    public static final TruffleString INVALID_EVENT_D = tsLiteral("invalid event %d");
     public static final TruffleString TIMEOUT_MUST_BE_NON_NEG_NUM = tsLiteral("'timeout' must be a non-negative number");
     public static final TruffleString THIRD_ARG_MUST_BE_A_VALID_MACHINE_CODE_FMT = tsLiteral("third argument must be a valid machine format code.");
     public static final TruffleString OBJ_DOES_NOT_PROVIDE_DIR = tsLiteral("object does not provide __dir__");
@@ -1510,6 +1520,25 @@ public abstract class ErrorMessages {
     public static final TruffleString NO_RUNNING_EVENT_LOOP = tsLiteral("no running event loop");
     public static final TruffleString CANT_ENTER_TASK_ALREADY_RUNNING = tsLiteral("Cannot enter into task %s while another task %s is being executed.");
     public static final TruffleString TASK_NOT_ENTERED = tsLiteral("Leaving task %s does not match the current task %s.");
+    public static final TruffleString FUTURE_NOT_INITIALIZED = tsLiteral("Future object is not initialized.");
+    public static final TruffleString RESULT_IS_NOT_READY = tsLiteral("Result is not ready.");
+    public static final TruffleString EXCEPTION_IS_NOT_SET = tsLiteral("Exception is not set.");
+    public static final TruffleString INVALID_STATE = tsLiteral("invalid state");
+    public static final TruffleString INVALID_EXCEPTION_OBJECT = tsLiteral("invalid exception object");
+    public static final TruffleString STOP_ITERATION_INTERACTS_BADLY_WITH_FUTURE = tsLiteral("StopIteration interacts badly with generators and cannot be raised into a Future");
+    public static final TruffleString LOG_TRACEBACK_CAN_ONLY_BE_SET_TO_FALSE = tsLiteral("_log_traceback can only be set to False");
+    public static final TruffleString AWAIT_WASNT_USED_WITH_FUTURE = tsLiteral("await wasn't used with future");
+    public static final TruffleString TASK_DOES_NOT_SUPPORT_SET_RESULT = tsLiteral("Task does not support set_result operation");
+    public static final TruffleString TASK_DOES_NOT_SUPPORT_SET_EXCEPTION = tsLiteral("Task does not support set_exception operation");
+    public static final TruffleString A_COROUTINE_WAS_EXPECTED_GOT_S = tsLiteral("a coroutine was expected, got %s");
+    public static final TruffleString STEP_ALREADY_DONE = tsLiteral("_step(): already done: %s, %s");
+    public static final TruffleString TASK_GOT_FUTURE_ATTACHED_TO_DIFFERENT_LOOP = tsLiteral("Task %s got Future %s attached to a different loop");
+    public static final TruffleString TASK_CANNOT_AWAIT_ON_ITSELF = tsLiteral("Task cannot await on itself: %s");
+    public static final TruffleString YIELD_INSTEAD_OF_YIELD_FROM_IN_TASK = tsLiteral("yield was used instead of yield from in task %s with %s");
+    public static final TruffleString YIELD_INSTEAD_OF_YIELD_FROM_FOR_GENERATOR = tsLiteral("yield was used instead of yield from for generator in task %s with %s");
+    public static final TruffleString TASK_GOT_BAD_YIELD = tsLiteral("Task got bad yield: %s");
+    public static final TruffleString NIO_EVENT_LOOP_REQUIRES_JAVA_POSIX = tsLiteral("the NIO event loop requires the Java POSIX backend (--python.PosixModuleBackend=java)");
+    public static final TruffleString EVENT_LOOP_CORE_IS_CLOSED = tsLiteral("the event loop core is closed");
     public static final TruffleString ENCODING_NAME_MUST_BE_A_STRING = tsLiteral("encoding name must be a string.");
     public static final TruffleString NO_SUCH_CODEC_IS_SUPPORTED = tsLiteral("no such codec is supported.");
     public static final TruffleString COULDN_T_CONVERT_THE_OBJECT_TO_UNICODE = tsLiteral("couldn't convert the object to unicode.");
@@ -41,6 +41,7 @@
 package com.oracle.graal.python.nodes;
 
 import static com.oracle.graal.python.builtins.objects.object.PythonObject.CLASS_CHANGED_FLAG;
+import static com.oracle.graal.python.builtins.objects.object.PythonObject.HAS_INFERRED_LAYOUT;
 import static com.oracle.graal.python.builtins.objects.object.PythonObject.HAS_MATERIALIZED_DICT;
 import static com.oracle.graal.python.nodes.BuiltinNames.J___GRAALPYTHON_INTEROP_BEHAVIOR__;
 import static com.oracle.graal.python.nodes.SpecialAttributeNames.J___BASICSIZE__;
@@ -63,6 +64,7 @@ import com.oracle.truffle.api.dsl.NeverDefault;
 import com.oracle.truffle.api.dsl.Specialization;
 import com.oracle.truffle.api.library.CachedLibrary;
 import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.object.DynamicObject;
 import com.oracle.truffle.api.object.DynamicObjectLibrary;
 import com.oracle.truffle.api.object.HiddenKey;
 
@@ -104,6 +106,7 @@ public final class HiddenAttr {
     public static final HiddenAttr NATIVE_SLOTS = new HiddenAttr("__native_slots__");
     public static final HiddenAttr INSTANCESHAPE = new HiddenAttr("instanceshape");
     public static final HiddenAttr STRUCTSEQ_FIELD_NAMES = new HiddenAttr("struct_seq_field_names");
+    public static final HiddenAttr ATTRIBUTE_ORDER = new HiddenAttr("attribute_order");  // InstanceLayoutInference
 
     private final HiddenKey key;
 
@@ -116,6 +119,13 @@ public final class HiddenAttr {
         return CLASS.key;
     }
 
+    /**
+     * Reads the attribute using a library that the caller already holds for {@code self}.
+     */
+    public static Object read(DynamicObject self, HiddenAttr attr, Object defaultValue, DynamicObjectLibrary dylib) {
+        return dylib.getOrDefault(self, attr.key, defaultValue);
+    }
+
     public String getName() {
         return key.getName();
     }
@@ -189,6 +199,13 @@ public final class HiddenAttr {
             dylib.put(self, CLASS.key, value);
         }
 
+        @Specialization(guards = "attr == ATTRIBUTE_ORDER")
+        static void doPythonObjectAttributeOrder(PythonObject self, HiddenAttr attr, Object value,
+                        @Shared @CachedLibrary(limit = "3") DynamicObjectLibrary dylib) {
+            dylib.setShapeFlags(self, dylib.getShapeFlags(self) | HAS_INFERRED_LAYOUT);
+            dylib.put(self, ATTRIBUTE_ORDER.key, value);
+        }
+
         @Specialization(guards = "!isSpecialCaseAttr(attr) || !isPythonObject(self)")
         static void doGeneric(PythonAbstractObject self, HiddenAttr attr, Object value,
                         @Shared @CachedLibrary(limit = "3") DynamicObjectLibrary dylib) {
@@ -200,7 +217,7 @@ public final class HiddenAttr {
         }
 
         protected static boolean isSpecialCaseAttr(HiddenAttr attr) {
-            return attr == DICT || attr == CLASS;
+            return attr == DICT || attr == CLASS || attr == ATTRIBUTE_ORDER;
         }
 
         @NeverDefault
@@ -47,6 +47,7 @@ import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.type.MroShape;
 import com.oracle.graal.python.builtins.objects.type.MroShape.MroShapeLookupResult;
 import com.oracle.graal.python.builtins.objects.type.PythonAbstractClass;
+import com.oracle.graal.python.builtins.objects.type.PythonBuiltinClass;
 import com.oracle.graal.python.builtins.objects.type.PythonClass;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes;
 import com.oracle.graal.python.builtins.objects.type.TypeNodes.GetMroStorageNode;
@@ -292,7 +293,7 @@ public abstract class LookupAttributeInMRONode extends PNodeWithContext {
     }
 
     // This specialization works well only for multi-context mode
-    // Note: MroShape creation and updates are disabled in multi-context mode, see
+    // Note: MroShape creation and updates are disabled in single-context mode, see
     // PythonClass#initializeMroShape
     @Specialization(guards = {"!isSingleContext()", "cachedMroShape != null", "klass.getMroShape() == cachedMroShape"}, //
                     limit = "getAttributeAccessInlineCacheMaxDepth()")
@@ -303,6 +304,24 @@ public abstract class LookupAttributeInMRONode extends PNodeWithContext {
         return lookupResult.getFromMro(getMro(klass), key);
     }
 
+    // Builtin classes are immutable and look the same in every context, so in multi-context mode
+    // their type enum identifies them and we can cache the owner of the attribute in the MRO.
+    @Specialization(guards = {"!isSingleContext()", "klass.getType() == cachedKlass"}, //
+                    limit = "getAttributeAccessInlineCacheMaxDepth()")
+    @InliningCutoff
+    protected Object lookupBuiltinClassCachedOwner(PythonBuiltinClass klass,
+                    @Cached("klass.getType()") @SuppressWarnings("unused") PythonBuiltinClassType cachedKlass,
+                    @Cached("findOwnerInMro(getContext(), cachedKlass, key)") PythonBuiltinClassType ownerKlass,
+                    @Shared @Cached ReadAttributeFromPythonObjectNode readAttrNode) {
+        if (ownerKlass == null) {
+            return PNone.NO_VALUE;
+        } else if (ownerKlass == cachedKlass) {
+            return readAttrNode.execute(klass, key);
+        } else {
+            return readAttrNode.execute(PythonContext.get(this).lookupType(ownerKlass), key);
+        }
+    }
+
     @NeverDefault
     protected static ReadAttributeFromObjectNode[] create(int size) {
         ReadAttributeFromObjectNode[] nodes = new ReadAttributeFromObjectNode[size];
@@ -362,7 +381,7 @@ public abstract class LookupAttributeInMRONode extends PNodeWithContext {
         return PNone.NO_VALUE;
     }
 
-    @Specialization(replaces = {"lookupConstantMROCached", "lookupConstantMRO", "lookupCachedLen"})
+    @Specialization(replaces = {"lookupConstantMROCached", "lookupConstantMRO", "lookupBuiltinClassCachedOwner", "lookupCachedLen"})
     @Megamorphic
     @InliningCutoff
     protected Object lookupGeneric(Object klass,
@@ -41,6 +41,7 @@
 package com.oracle.graal.python.nodes.attributes;
 
 import com.oracle.graal.python.builtins.objects.object.PythonObject;
+import com.oracle.graal.python.builtins.objects.type.InstanceLayoutInference;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.runtime.PythonOptions;
 import com.oracle.truffle.api.dsl.GenerateInline;
@@ -83,6 +84,6 @@ public abstract class WriteAttributeToPythonObjectNode extends PNodeWithContext
     @Specialization(limit = "getAttributeAccessInlineCacheMaxDepth()")
     static void write(PythonObject dynamicObject, TruffleString key, Object value,
                     @CachedLibrary("dynamicObject") DynamicObjectLibrary dylib) {
-        dylib.put(dynamicObject, key, value);
+        InstanceLayoutInference.put(dynamicObject, key, value, dylib);
     }
 }
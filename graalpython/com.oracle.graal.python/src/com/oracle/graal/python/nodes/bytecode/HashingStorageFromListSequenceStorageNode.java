@@ -41,10 +41,10 @@
 package com.oracle.graal.python.nodes.bytecode;
 
 import com.oracle.graal.python.builtins.objects.PNone;
-import com.oracle.graal.python.builtins.objects.common.EmptyStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorage;
 import com.oracle.graal.python.builtins.objects.common.HashingStorageNodes.HashingStorageSetItem;
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
+import com.oracle.graal.python.builtins.objects.dict.PDict;
 import com.oracle.graal.python.nodes.PNodeWithContext;
 import com.oracle.graal.python.runtime.sequence.storage.SequenceStorage;
 import com.oracle.truffle.api.dsl.Bind;
@@ -69,8 +69,8 @@ abstract class HashingStorageFromListSequenceStorageNode extends PNodeWithContex
                     @Cached("createNotNormalized()") SequenceStorageNodes.GetItemNode getItemNode,
                     @Cached HashingStorageSetItem setItem,
                     @Cached InlinedLoopConditionProfile loopConditionProfile) {
-        HashingStorage setStorage = EmptyStorage.INSTANCE;
         int length = sequenceStorage.length();
+        HashingStorage setStorage = PDict.createNewStorage(length, length > 0 ? getItemNode.execute(sequenceStorage, 0) : null);
         loopConditionProfile.profileCounted(inliningTarget, length);
         LoopNode.reportLoopCount(inliningTarget, length);
         for (int i = 0; loopConditionProfile.inject(inliningTarget, i < length); ++i) {
@@ -61,6 +61,7 @@ import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.modules.BuiltinFunctions.FormatNode;
 import com.oracle.graal.python.builtins.modules.BuiltinFunctionsFactory.FormatNodeFactory.FormatNodeGen;
 import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins;
+import com.oracle.graal.python.builtins.modules.lsprof.Profiler;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.asyncio.GetAwaitableNode;
 import com.oracle.graal.python.builtins.objects.asyncio.GetAwaitableNodeGen;
@@ -221,6 +222,7 @@ import com.oracle.graal.python.nodes.util.ExceptionStateNodes;
 import com.oracle.graal.python.runtime.ExecutionContext.CalleeContext;
 import com.oracle.graal.python.runtime.PythonContext;
 import com.oracle.graal.python.runtime.PythonOptions;
+import com.oracle.graal.python.runtime.SysMonitoring;
 import com.oracle.graal.python.runtime.exception.ExceptionUtils;
 import com.oracle.graal.python.runtime.exception.PException;
 import com.oracle.graal.python.runtime.exception.PythonExitException;
@@ -528,9 +530,9 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
     };
 
-    private static final byte TRACE_FUN = 0b01;
-    private static final byte PROFILE_FUN = 0b10;
-    private static final byte TRACE_AND_PROFILE_FUN = TRACE_FUN | PROFILE_FUN;
+    private static final byte TRACE_FUN = 0b001;
+    private static final byte PROFILE_FUN = 0b010;
+    private static final byte MONITORING = 0b100;
 
     private final Signature signature;
     private final TruffleString name;
@@ -1214,11 +1216,19 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
 
             private int jumpBci;
 
+            private int monitoredBci = -1;
+            private int monitoredLine = -1;
+
             private PythonContext.PythonThreadState threadState = null;
         }
 
         private InstrumentationData instrumentationData = null;
 
+        /* The sys.monitoring events enabled for this code, fetched on entry. */
+        int monitoringEvents;
+        /* The locations of this code at which all tools disabled their event. */
+        SysMonitoring.DisabledLocations monitoringDisabled;
+
         int loopCount;
         /*
          * This separate tracking of local exception is necessary to make exception state saving
@@ -1309,12 +1319,18 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         CompilerAsserts.partialEvaluationConstant(stackTop);
 
         byte tracingOrProfilingEnabled = 0;
+        updateMonitoringEvents(noTraceOrProfile, mutableData);
 
         // if we are simply continuing to run an OSR loop after the replacement, tracing an
         // extra CALL event would be incorrect
         if (!fromOSR) {
             tracingOrProfilingEnabled = checkTracingAndProfilingEnabled(noTraceOrProfile, mutableData);
             traceOrProfileCall(virtualFrame, initialBci, mutableData, tracingOrProfilingEnabled);
+            if (isMonitoringEnabled(tracingOrProfilingEnabled)) {
+                monitorEvent(mutableData, initialBci == 0 ? SysMonitoring.PY_START : SysMonitoring.PY_RESUME, initialBci, initialBci);
+                // the callback may have enabled local events for this code
+                updateMonitoringEvents(noTraceOrProfile, mutableData);
+            }
         }
 
         int oparg = 0;
@@ -1334,6 +1350,9 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                     continue;
                 }
             }
+            if (isMonitoringEnabled(tracingOrProfilingEnabled)) {
+                monitorLine(mutableData, bci);
+            }
 
             CompilerAsserts.partialEvaluationConstant(bc);
             CompilerAsserts.partialEvaluationConstant(bci);
@@ -2708,6 +2727,9 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
             clearFrameSlots(localFrame, stackTop + 1, initialStackTop);
         }
         traceOrProfileYield(virtualFrame, mutableData, value, tracingOrProfilingEnabled);
+        if (isMonitoringEnabled(tracingOrProfilingEnabled)) {
+            monitorEvent(mutableData, SysMonitoring.PY_YIELD, beginBci, beginBci, value);
+        }
         if (instrumentation != null) {
             notifyReturn(virtualFrame, mutableData, instrumentation, beginBci, value);
         }
@@ -2728,6 +2750,9 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         }
         Object value = virtualFrame.getObject(stackTop);
         traceOrProfileReturn(virtualFrame, mutableData, value, tracingOrProfilingEnabled);
+        if (isMonitoringEnabled(tracingOrProfilingEnabled)) {
+            monitorEvent(mutableData, SysMonitoring.PY_RETURN, beginBci, beginBci, value);
+        }
 
         if (instrumentation != null) {
             notifyReturn(virtualFrame, mutableData, instrumentation, beginBci, value);
@@ -2864,20 +2889,61 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
     private byte checkTracingAndProfilingEnabled(Assumption noTraceOrProfile, MutableLoopData mutableData) {
         if (!noTraceOrProfile.isValid() && frameIsVisibleToPython()) {
             PythonContext.PythonThreadState ts = mutableData.getThreadState(this);
-            Object profileFun = ts.getProfileFun();
+            byte result = mutableData.monitoringEvents != 0 ? MONITORING : 0;
             if (ts.getTraceFun() != null) {
-                if (profileFun != null) {
-                    return TRACE_AND_PROFILE_FUN;
-                } else {
-                    return TRACE_FUN;
-                }
-            } else if (profileFun != null) {
-                return PROFILE_FUN;
+                result |= TRACE_FUN;
+            }
+            if (ts.getProfileFun() != null) {
+                result |= PROFILE_FUN;
             }
+            return result;
         }
         return 0;
     }
 
+    private void updateMonitoringEvents(Assumption noTraceOrProfile, MutableLoopData mutableData) {
+        int events = 0;
+        if (!noTraceOrProfile.isValid() && frameIsVisibleToPython()) {
+            SysMonitoring monitoring = PythonContext.get(this).getSysMonitoring();
+            if (monitoring != null) {
+                events = monitoring.getEvents(this);
+                if (events != 0) {
+                    mutableData.monitoringDisabled = monitoring.getDisabledLocations(this);
+                }
+            }
+        }
+        mutableData.monitoringEvents = events;
+    }
+
+    @InliningCutoff
+    private void monitorEvent(MutableLoopData mutableData, int event, int location, Object... args) {
+        if ((mutableData.monitoringEvents & event) != 0 && !mutableData.monitoringDisabled.isDisabled(event, location)) {
+            SysMonitoring monitoring = PythonContext.get(this).getSysMonitoring();
+            if (monitoring != null) {
+                monitoring.fire(mutableData.getThreadState(this), this, event, location, args);
+            }
+        }
+    }
+
+    /**
+     * Reports a {@code LINE} event when execution reaches a new line or jumps back, similar to
+     * {@link #traceLine} but without the frame materialization tracing needs. Lines disabled by all
+     * tools are skipped here, without leaving compiled code.
+     */
+    private void monitorLine(MutableLoopData mutableData, int bci) {
+        if ((mutableData.monitoringEvents & SysMonitoring.LINE) == 0) {
+            return;
+        }
+        MutableLoopData.InstrumentationData data = mutableData.getTraceData();
+        int line = bciToLine(bci);
+        boolean fire = line != data.monitoredLine || bci <= data.monitoredBci;
+        data.monitoredBci = bci;
+        data.monitoredLine = line;
+        if (fire && line >= 0 && !mutableData.monitoringDisabled.isDisabled(SysMonitoring.LINE, line)) {
+            monitorEvent(mutableData, SysMonitoring.LINE, line, line);
+        }
+    }
+
     private static boolean isTracingOrProfilingEnabled(byte tracingOrProfilingEnabled) {
         return tracingOrProfilingEnabled != 0;
     }
@@ -2890,6 +2956,10 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         return (tracingOrProfilingEnabled & PROFILE_FUN) != 0;
     }
 
+    private static boolean isMonitoringEnabled(byte tracingOrProfilingEnabled) {
+        return (tracingOrProfilingEnabled & MONITORING) != 0;
+    }
+
     private void traceOrProfileYield(VirtualFrame virtualFrame, MutableLoopData mutableData, Object value, byte tracingOrProfilingEnabled) {
         if (isTracingOrProfilingEnabled(tracingOrProfilingEnabled)) {
             traceOrProfileYieldCutoff(virtualFrame, mutableData, value, tracingOrProfilingEnabled);
@@ -3241,6 +3311,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
         if (threadState.isProfiling()) {
             return;
         }
+        if (threadState.getProfileFun() instanceof Profiler profiler) {
+            // cProfile records the event itself, no frame needs to be materialized
+            boolean isCEvent = event != PythonContext.ProfileEvent.CALL && event != PythonContext.ProfileEvent.RETURN;
+            profiler.onProfileEvent(threadState, getLanguage(), event, isCEvent ? arg : this);
+            return;
+        }
 
         threadState.profilingStart();
         PFrame pyFrame = mutableData.setPyFrame(ensurePyFrame(virtualFrame));
@@ -5658,6 +5734,12 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 break;
             }
             case CollectionBits.KIND_SET: {
+                if (count == 0) {
+                    // Comprehension accumulators start with the empty storage, so that the first
+                    // insertion can pick the storage for the key type (e.g., unboxed int keys)
+                    res = PFactory.createSet(getLanguage());
+                    break;
+                }
                 ObjHashMapPutNode putNode = insertChildNode(localNodes, nodeIndex, UNCACHED_OBJ_HASHMAP_PUT, ObjHashMapPutNodeGen.class, NODE_OBJ_HASHMAP_PUT,
                                 useCachedNodes);
                 ObjectHashMap storage = moveFromStackToSetHashMap(virtualFrame, stackTop - count + 1, stackTop + 1, putNode);
@@ -5665,6 +5747,11 @@ public final class PBytecodeRootNode extends PRootNode implements BytecodeOSRNod
                 break;
             }
             case CollectionBits.KIND_DICT: {
+                if (count == 0) {
+                    // same as for sets, also for empty dict displays
+                    res = PFactory.createDict(getLanguage());
+                    break;
+                }
                 ObjHashMapPutNode putNode = insertChildNode(localNodes, nodeIndex, UNCACHED_OBJ_HASHMAP_PUT, ObjHashMapPutNodeGen.class, NODE_OBJ_HASHMAP_PUT,
                                 useCachedNodes);
                 assert count % 2 == 0;
@@ -66,6 +66,7 @@ import com.oracle.graal.python.builtins.modules.BuiltinFunctions.FormatNode;
 import com.oracle.graal.python.builtins.modules.MarshalModuleBuiltins;
 import com.oracle.graal.python.builtins.modules.TypingModuleBuiltins.CallTypingFuncObjectNode;
 import com.oracle.graal.python.builtins.modules.TypingModuleBuiltins.UnpackTypeVarTuplesNode;
+import com.oracle.graal.python.builtins.modules.lsprof.Profiler;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.asyncio.GetAwaitableNode;
 import com.oracle.graal.python.builtins.objects.cell.PCell;
@@ -526,6 +527,11 @@ public abstract class PBytecodeDSLRootNode extends PRootNode implements Bytecode
         if (threadState.isProfiling()) {
             return;
         }
+        if (profileFun instanceof Profiler profiler) {
+            // cProfile records the event itself, no frame needs to be materialized
+            profiler.onProfileEvent(threadState, getLanguage(), event, this);
+            return;
+        }
         threadState.profilingStart();
         PFrame pyFrame = ensurePyFrame(virtualFrame, location);
         EncapsulatingNodeReference encapsulating = EncapsulatingNodeReference.getCurrent();
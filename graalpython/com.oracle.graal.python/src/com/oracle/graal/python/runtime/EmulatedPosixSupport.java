@@ -701,30 +701,45 @@ public final class EmulatedPosixSupport extends PosixResources {
     private SelectableChannel[] getSelectableChannels(int[] fds) throws PosixException {
         SelectableChannel[] channels = new SelectableChannel[fds.length];
         for (int i = 0; i < fds.length; i++) {
-            Channel ch = getFileChannel(fds[i]);
-            if (ch == null) {
-                throw posixException(OSErrorEnum.EBADF);
-            }
-            if (ch instanceof SelectableChannel) {
-                channels[i] = (SelectableChannel) ch;
-            } else if (ch instanceof EmulatedDatagramSocket) {
-                channels[i] = ((EmulatedDatagramSocket) ch).channel;
-            } else if (ch instanceof EmulatedStreamSocket) {
-                EmulatedStreamSocket streamSocket = (EmulatedStreamSocket) ch;
-                synchronized (streamSocket) {
-                    if (streamSocket.clientChannel != null) {
-                        channels[i] = streamSocket.clientChannel;
-                    } else if (streamSocket.serverChannel != null) {
-                        channels[i] = streamSocket.serverChannel;
-                    } else {
-                        throw ChannelNotSelectableException.INSTANCE;
-                    }
+            channels[i] = getSelectableChannel(fds[i]);
+        }
+        return channels;
+    }
+
+    @Override
+    public EmulatedPosixSupport getEmulatedPosixSupport() {
+        return this;
+    }
+
+    /**
+     * Returns the NIO channel that can be registered with a {@link Selector} to wait for the given
+     * file descriptor.
+     *
+     * @throws ChannelNotSelectableException if the file descriptor is not backed by a selectable
+     *             channel, such as a regular file or a socket that is neither connected nor
+     *             listening
+     */
+    @TruffleBoundary
+    public SelectableChannel getSelectableChannel(int fd) throws PosixException {
+        Channel ch = getFileChannel(fd);
+        if (ch == null) {
+            throw posixException(OSErrorEnum.EBADF);
+        }
+        if (ch instanceof SelectableChannel) {
+            return (SelectableChannel) ch;
+        } else if (ch instanceof EmulatedDatagramSocket) {
+            return ((EmulatedDatagramSocket) ch).channel;
+        } else if (ch instanceof EmulatedStreamSocket) {
+            EmulatedStreamSocket streamSocket = (EmulatedStreamSocket) ch;
+            synchronized (streamSocket) {
+                if (streamSocket.clientChannel != null) {
+                    return streamSocket.clientChannel;
+                } else if (streamSocket.serverChannel != null) {
+                    return streamSocket.serverChannel;
                 }
-            } else {
-                throw ChannelNotSelectableException.INSTANCE;
             }
         }
-        return channels;
+        throw ChannelNotSelectableException.INSTANCE;
     }
 
     @ExportMessage
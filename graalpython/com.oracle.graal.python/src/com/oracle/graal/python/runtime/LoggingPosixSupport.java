@@ -117,6 +117,11 @@ public class LoggingPosixSupport extends PosixSupport {
         delegate.setEnv(env);
     }
 
+    @Override
+    public EmulatedPosixSupport getEmulatedPosixSupport() {
+        return delegate.getEmulatedPosixSupport();
+    }
+
     @ExportMessage
     final TruffleString getBackend(
                     @CachedLibrary("this.delegate") PosixSupportLibrary lib) {
@@ -48,6 +48,14 @@ public abstract class PosixSupport {
         // nop
     }
 
+    /**
+     * Returns the Java-based POSIX emulation behind this instance, or {@code null} if this instance
+     * is backed by the native POSIX support.
+     */
+    public EmulatedPosixSupport getEmulatedPosixSupport() {
+        return null;
+    }
+
     public static PosixSupport get(Node node) {
         return PythonContext.get(node).getPosixSupport();
     }
@@ -105,6 +105,8 @@ import com.oracle.graal.python.builtins.PythonBuiltinClassType;
 import com.oracle.graal.python.builtins.PythonOS;
 import com.oracle.graal.python.builtins.modules.MathGuards;
 import com.oracle.graal.python.builtins.modules.ctypes.CtypesModuleBuiltins.CtypesThreadState;
+import com.oracle.graal.python.builtins.modules.pickle.PPickler;
+import com.oracle.graal.python.builtins.modules.pickle.PUnpickler;
 import com.oracle.graal.python.builtins.objects.PNone;
 import com.oracle.graal.python.builtins.objects.cext.PythonNativeClass;
 import com.oracle.graal.python.builtins.objects.cext.capi.CApiContext;
@@ -325,6 +327,13 @@ public final class PythonContext extends Python3Core {
 
         CtypesThreadState ctypes;
 
+        /*
+         * Pickler and unpickler reused by consecutive 'pickle.dumps' and 'pickle.loads' calls. A
+         * call takes the instance out, so nested calls allocate their own.
+         */
+        PPickler cachedPickler;
+        PUnpickler cachedUnpickler;
+
         /*
          * This is the native wrapper object if we need to expose the thread state as PyThreadState
          * object. We need to store it here because the wrapper may receive 'toNative' in which case
@@ -348,6 +357,9 @@ public final class PythonContext extends Python3Core {
         /* Keep track of execution to avoid profiling code inside the profile function. */
         boolean profiling;
 
+        /* Keep track of execution to avoid monitoring code inside sys.monitoring callbacks. */
+        boolean monitoring;
+
         /* The event currently being traced, only useful if tracing is true. */
         TraceEvent tracingWhat;
 
@@ -452,6 +464,26 @@ public final class PythonContext extends Python3Core {
             this.ctypes = ctypes;
         }
 
+        public PPickler takeCachedPickler() {
+            PPickler pickler = cachedPickler;
+            cachedPickler = null;
+            return pickler;
+        }
+
+        public void releaseCachedPickler(PPickler pickler) {
+            cachedPickler = pickler;
+        }
+
+        public PUnpickler takeCachedUnpickler() {
+            PUnpickler unpickler = cachedUnpickler;
+            cachedUnpickler = null;
+            return unpickler;
+        }
+
+        public void releaseCachedUnpickler(PUnpickler unpickler) {
+            cachedUnpickler = unpickler;
+        }
+
         public PThreadState getNativeWrapper() {
             return nativeWrapper;
         }
@@ -503,7 +535,7 @@ public final class PythonContext extends Python3Core {
             }
         }
 
-        private static void invalidateNoTracingOrProfilingAssumption(PythonLanguage language) {
+        static void invalidateNoTracingOrProfilingAssumption(PythonLanguage language) {
             if (language.noTracingOrProfilingAssumption.isValid()) {
                 language.noTracingOrProfilingAssumption.invalidate();
 
@@ -595,6 +627,14 @@ public final class PythonContext extends Python3Core {
             this.profiling = false;
         }
 
+        public boolean isMonitoring() {
+            return monitoring;
+        }
+
+        public void setMonitoring(boolean monitoring) {
+            this.monitoring = monitoring;
+        }
+
         public PBytecodeDSLRootNode.InstrumentationData getInstrumentationData(PBytecodeDSLRootNode rootNode) {
             assert PythonOptions.ENABLE_BYTECODE_DSL_INTERPRETER;
             assert instrumentationData != null && instrumentationData.getRootNode() == rootNode;
@@ -717,6 +757,8 @@ public final class PythonContext extends Python3Core {
     private static final TruffleString T_LIB_PYTHON_3 = tsLiteral("/lib/python" + PythonLanguage.MAJOR + "." + PythonLanguage.MINOR);
     private static final TruffleString T_LIB_GRAALPYTHON = tsLiteral("/lib/graalpy" + PythonLanguage.GRAALVM_MAJOR + "." + PythonLanguage.GRAALVM_MINOR);
     private static final TruffleString T_STD_LIB_PLACEHOLDER = tsLiteral("!stdLibHome!");
+    private static final TruffleString T__STARTUP_SNAPSHOT = tsLiteral("_startup_snapshot");
+    private static final TruffleString T_INSTALL = tsLiteral("install");
     private static final String J_NO_CORE_FATAL = "could not determine Graal.Python's core path - you must pass --python.CoreHome.";
     private static final String J_NO_PREFIX_WARNING = "could not determine Graal.Python's sys prefix path - you may need to pass --python.SysPrefix.";
     private static final String J_NO_CORE_WARNING = "could not determine Graal.Python's core path - you may need to pass --python.CoreHome.";
@@ -804,6 +846,9 @@ public final class PythonContext extends Python3Core {
 
     @CompilationFinal(dimensions = 1) private Object[] optionValues;
     private final AllocationReporter allocationReporter;
+    private TracemallocTracer tracemallocTracer;
+
+    private SysMonitoring sysMonitoring;
 
     /*
      * These maps are used to ensure that each "deserialization" of code in the parser gets a
@@ -831,6 +876,9 @@ public final class PythonContext extends Python3Core {
 
     private final ConcurrentHashMap<TruffleString, AtomicLong> deserializationId = new ConcurrentHashMap<>();
 
+    /* used to generate the default names of native asyncio tasks */
+    private final AtomicLong asyncioTaskNameCounter = new AtomicLong(0);
+
     @CompilationFinal private long perfCounterStart = System.nanoTime();
 
     public static final String CHILD_CONTEXT_DATA = "childContextData";
@@ -1266,6 +1314,30 @@ public final class PythonContext extends Python3Core {
         return allocationReporter;
     }
 
+    public TracemallocTracer getTracemallocTracer() {
+        return tracemallocTracer;
+    }
+
+    @TruffleBoundary
+    public TracemallocTracer getOrCreateTracemallocTracer() {
+        if (tracemallocTracer == null) {
+            tracemallocTracer = new TracemallocTracer(getOption(PythonOptions.TraceMallocSamplingInterval));
+        }
+        return tracemallocTracer;
+    }
+
+    public SysMonitoring getSysMonitoring() {
+        return sysMonitoring;
+    }
+
+    @TruffleBoundary
+    public SysMonitoring getOrCreateSysMonitoring(Object disable) {
+        if (sysMonitoring == null) {
+            sysMonitoring = new SysMonitoring(disable);
+        }
+        return sysMonitoring;
+    }
+
     public boolean isChildContext() {
         return childContextData != null;
     }
@@ -1596,6 +1668,12 @@ public final class PythonContext extends Python3Core {
                 // we must force an import of the warnings module here if warnings were passed
                 AbstractImportNode.importModule(T_WARNINGS);
             }
+            if (!getOption(PythonOptions.StartupSnapshot).isEmpty()) {
+                // restores code and module resolution of the snapshot modules and imports the
+                // requested modules, or captures a new snapshot if there is no usable one
+                Object snapshot = AbstractImportNode.importModule(T__STARTUP_SNAPSHOT);
+                PyObjectCallMethodObjArgs.executeUncached(snapshot, T_INSTALL, getOption(PythonOptions.StartupSnapshot), getOption(PythonOptions.StartupSnapshotImports));
+            }
             if (getOption(PythonOptions.InputFilePath).isEmpty()) {
                 // When InputFilePath is set, this is handled by __graalpython__.run_path
                 addSysPath0();
@@ -2679,6 +2757,10 @@ public final class PythonContext extends Python3Core {
         return deserializationId.computeIfAbsent(fileName, f -> new AtomicLong()).incrementAndGet();
     }
 
+    public long nextAsyncioTaskNumber() {
+        return asyncioTaskNameCounter.incrementAndGet();
+    }
+
     public void ensureNFILanguage(Node nodeForRaise, String optionName, String optionValue) {
         if (!env.getInternalLanguages().containsKey(J_NFI_LANGUAGE)) {
             throw PRaiseNode.raiseStatic(nodeForRaise, PythonBuiltinClassType.SystemError, ErrorMessages.NFI_NOT_AVAILABLE, optionName, optionValue);
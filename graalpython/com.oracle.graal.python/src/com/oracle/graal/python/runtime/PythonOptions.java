@@ -157,6 +157,9 @@ public final class PythonOptions {
     @Option(category = OptionCategory.USER, help = "Equivalent to the Python -X warn_default_encoding flag. Enable opt-in EncodingWarning for 'encoding=None'", usageSyntax = "true|false", stability = OptionStability.STABLE) //
     public static final OptionKey<Boolean> WarnDefaultEncodingFlag = new OptionKey<>(false);
 
+    @Option(category = OptionCategory.USER, usageSyntax = "<n>", help = "Record only one in <n> object allocations while tracemalloc is tracing. Each recorded allocation is weighted by <n>. The default 1 records every allocation.") //
+    public static final OptionKey<Integer> TraceMallocSamplingInterval = new OptionKey<>(1);
+
     @Option(category = OptionCategory.USER, help = "Equivalent to the Python -X int_max_str_digits option.", stability = OptionStability.STABLE) //
     public static final OptionKey<Integer> IntMaxStrDigits = new OptionKey<>(SysModuleBuiltins.INT_DEFAULT_MAX_STR_DIGITS,
                     new OptionType<>("IntMaxStrDigits", (input) -> {
@@ -241,6 +244,9 @@ public final class PythonOptions {
     @EngineOption @Option(category = OptionCategory.INTERNAL, usageSyntax = "true|false", help = "Enable catching all Exceptions in generic try-catch statements.") //
     public static final OptionKey<Boolean> CatchAllExceptions = new OptionKey<>(false);
 
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Make cProfile/_lsprof use the CPU sampler instead of recording exact call and return events.") //
+    public static final OptionKey<Boolean> ProfileWithSampler = new OptionKey<>(false);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Prints path to parsed files") //
     public static final OptionKey<Boolean> ParserLogFiles = new OptionKey<>(false);
 
@@ -250,6 +256,9 @@ public final class PythonOptions {
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "<maxDepth>", help = "") //
     public static final OptionKey<Integer> AttributeAccessInlineCacheMaxDepth = new OptionKey<>(5);
 
+    @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Pre-populate instances of classes with many attributes with an attribute layout inferred from earlier instances, so that they share a single shape.") //
+    public static final OptionKey<Boolean> InferInstanceLayout = new OptionKey<>(true);
+
     @EngineOption @Option(category = OptionCategory.EXPERT, usageSyntax = "<maxDepth>", help = "") //
     public static final OptionKey<Integer> CallSiteInlineCacheMaxDepth = new OptionKey<>(4);
 
@@ -268,6 +277,13 @@ public final class PythonOptions {
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "Force to automatically import site.py module.", stability = OptionStability.STABLE) //
     public static final OptionKey<Boolean> ForceImportSite = new OptionKey<>(false);
 
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<path>", help = "Restore module code and resolution from the given startup snapshot file when the context is created. " +
+                    "If the file does not exist or does not match this GraalPy version and sys.path, it is captured after the StartupSnapshotImports were imported.") //
+    public static final OptionKey<TruffleString> StartupSnapshot = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
+
+    @Option(category = OptionCategory.EXPERT, usageSyntax = "<module>[,<module>]*", help = "Comma-separated list of modules that are imported during context initialization when a StartupSnapshot is used.") //
+    public static final OptionKey<TruffleString> StartupSnapshotImports = new OptionKey<>(T_EMPTY_STRING, TS_OPTION_TYPE);
+
     @Option(category = OptionCategory.EXPERT, usageSyntax = "true|false", help = "This option is set by the Python launcher to tell the language it can print exceptions directly", stability = OptionStability.STABLE) //
     public static final OptionKey<Boolean> AlwaysRunExcepthook = new OptionKey<>(false);
 
@@ -0,0 +1,350 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.WeakHashMap;
+
+import com.oracle.graal.python.PythonLanguage;
+import com.oracle.graal.python.builtins.objects.code.PCode;
+import com.oracle.graal.python.nodes.call.CallNode;
+import com.oracle.graal.python.runtime.PythonContext.PythonThreadState;
+import com.oracle.graal.python.runtime.object.PFactory;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.nodes.RootNode;
+
+/**
+ * Backs {@code sys.monitoring} (PEP 669). Tools register callbacks per event and enable events
+ * either globally or for individual code objects. The bytecode interpreter asks for the events of
+ * its code once per call or resume ({@link #getEvents}) and only reports the events that are
+ * enabled there, so code without enabled events runs as if nobody was monitoring. Callbacks may
+ * return {@code sys.monitoring.DISABLE} to switch an event off for one code location until
+ * {@code restart_events()} is called.
+ */
+public final class SysMonitoring {
+
+    public static final int TOOL_COUNT = 6;
+
+    public static final int PY_START = 1;
+    public static final int PY_RESUME = 1 << 1;
+    public static final int PY_RETURN = 1 << 2;
+    public static final int PY_YIELD = 1 << 3;
+    public static final int CALL = 1 << 4;
+    public static final int LINE = 1 << 5;
+    public static final int INSTRUCTION = 1 << 6;
+    public static final int JUMP = 1 << 7;
+    public static final int BRANCH = 1 << 8;
+    public static final int STOP_ITERATION = 1 << 9;
+    public static final int RAISE = 1 << 10;
+    public static final int EXCEPTION_HANDLED = 1 << 11;
+    public static final int PY_UNWIND = 1 << 12;
+    public static final int PY_THROW = 1 << 13;
+    public static final int RERAISE = 1 << 14;
+    public static final int C_RETURN = 1 << 15;
+    public static final int C_RAISE = 1 << 16;
+
+    public static final String[] EVENT_NAMES = {"PY_START", "PY_RESUME", "PY_RETURN", "PY_YIELD", "CALL", "LINE", "INSTRUCTION", "JUMP", "BRANCH", "STOP_ITERATION", "RAISE",
+                    "EXCEPTION_HANDLED", "PY_UNWIND", "PY_THROW", "RERAISE", "C_RETURN", "C_RAISE"};
+    public static final int EVENT_COUNT = EVENT_NAMES.length;
+    public static final int ALL_EVENTS = (1 << EVENT_COUNT) - 1;
+    /** Events that can be enabled for a single code object. */
+    public static final int LOCAL_EVENTS = (1 << 10) - 1;
+    /** The events the bytecode interpreter currently reports. */
+    public static final int SUPPORTED_EVENTS = PY_START | PY_RESUME | PY_RETURN | PY_YIELD | LINE;
+
+    /** The {@code sys.monitoring.DISABLE} sentinel. */
+    private final Object disable;
+    private final Object[] toolNames = new Object[TOOL_COUNT];
+    private final int[] globalEvents = new int[TOOL_COUNT];
+    private final Object[][] callbacks = new Object[TOOL_COUNT][EVENT_COUNT];
+    private final WeakHashMap<RootNode, CodeMonitoring> codes = new WeakHashMap<>();
+    private int allGlobalEvents;
+
+    private static final class CodeMonitoring {
+        final int[] localEvents = new int[TOOL_COUNT];
+        /** Locations disabled by callbacks, per tool and event, see {@link #disabledSlot}. */
+        final long[][] disabled = new long[TOOL_COUNT * EVENT_COUNT][];
+        final DisabledLocations disabledLocations = new DisabledLocations();
+        /** The code object handed to callbacks, kept weakly so that the map key can go away. */
+        WeakReference<PCode> code;
+        int allLocalEvents;
+    }
+
+    /**
+     * The locations of one code object at which every tool interested in an event returned
+     * {@code DISABLE}. The interpreter checks them before calling {@link #fire}, so a disabled
+     * location costs no more than a bit test.
+     */
+    public static final class DisabledLocations {
+        private final long[][] locations = new long[EVENT_COUNT][];
+
+        public boolean isDisabled(int event, int location) {
+            return isSet(locations[Integer.numberOfTrailingZeros(event)], location);
+        }
+
+        void clear() {
+            Arrays.fill(locations, null);
+        }
+    }
+
+    SysMonitoring(Object disable) {
+        this.disable = disable;
+    }
+
+    public Object getDisable() {
+        return disable;
+    }
+
+    public Object getToolName(int toolId) {
+        return toolNames[toolId];
+    }
+
+    public void useToolId(int toolId, Object name) {
+        toolNames[toolId] = name;
+    }
+
+    @TruffleBoundary
+    public void freeToolId(int toolId) {
+        toolNames[toolId] = null;
+        globalEvents[toolId] = 0;
+        updateGlobalEvents();
+        for (int i = 0; i < EVENT_COUNT; i++) {
+            callbacks[toolId][i] = null;
+        }
+        for (CodeMonitoring data : codes.values()) {
+            data.localEvents[toolId] = 0;
+            updateLocalEvents(data);
+        }
+    }
+
+    public int getGlobalEvents(int toolId) {
+        return globalEvents[toolId];
+    }
+
+    public void setGlobalEvents(int toolId, int events, PythonLanguage language) {
+        globalEvents[toolId] = events;
+        updateGlobalEvents();
+        clearDisabledLocations();
+        if (events != 0) {
+            PythonThreadState.invalidateNoTracingOrProfilingAssumption(language);
+        }
+    }
+
+    @TruffleBoundary
+    public int getLocalEvents(int toolId, RootNode root) {
+        CodeMonitoring data = codes.get(root);
+        return data == null ? 0 : data.localEvents[toolId];
+    }
+
+    @TruffleBoundary
+    public void setLocalEvents(int toolId, RootNode root, PCode code, int events, PythonLanguage language) {
+        CodeMonitoring data = getCodeMonitoring(root);
+        if (data.code == null || data.code.get() == null) {
+            data.code = new WeakReference<>(code);
+        }
+        data.localEvents[toolId] = events;
+        updateLocalEvents(data);
+        data.disabledLocations.clear();
+        if (events != 0) {
+            PythonThreadState.invalidateNoTracingOrProfilingAssumption(language);
+        }
+    }
+
+    /**
+     * Registers {@code callback} for the event with index {@code eventIndex} and returns the
+     * previously registered callback, or {@code null}.
+     */
+    public Object registerCallback(int toolId, int eventIndex, Object callback) {
+        Object old = callbacks[toolId][eventIndex];
+        callbacks[toolId][eventIndex] = callback;
+        clearDisabledLocations();
+        return old;
+    }
+
+    @TruffleBoundary
+    public void restartEvents() {
+        for (CodeMonitoring data : codes.values()) {
+            Arrays.fill(data.disabled, null);
+            data.disabledLocations.clear();
+        }
+    }
+
+    /**
+     * A tool may now be interested in locations that all other tools disabled.
+     */
+    @TruffleBoundary
+    private void clearDisabledLocations() {
+        for (CodeMonitoring data : codes.values()) {
+            data.disabledLocations.clear();
+        }
+    }
+
+    /**
+     * Returns the set of supported events that are enabled for {@code root} by any tool.
+     */
+    @TruffleBoundary
+    public int getEvents(RootNode root) {
+        int events = allGlobalEvents;
+        CodeMonitoring data = codes.get(root);
+        if (data != null) {
+            events |= data.allLocalEvents;
+        }
+        return events & SUPPORTED_EVENTS;
+    }
+
+    /**
+     * Returns the locations of {@code root} that the interpreter does not need to report. Must be
+     * fetched together with {@link #getEvents} whenever those are not empty.
+     */
+    @TruffleBoundary
+    public DisabledLocations getDisabledLocations(RootNode root) {
+        return getCodeMonitoring(root).disabledLocations;
+    }
+
+    /**
+     * Calls the callbacks of all tools that enabled {@code event} for {@code root}, passing the
+     * code object followed by {@code args}. {@code location} identifies the instruction offset or
+     * line that a {@code DISABLE} result switches off.
+     */
+    @TruffleBoundary
+    public void fire(PythonThreadState threadState, RootNode root, int event, int location, Object... args) {
+        if (threadState.isMonitoring()) {
+            return;
+        }
+        assert location >= 0;
+        int eventIndex = Integer.numberOfTrailingZeros(event);
+        CodeMonitoring data = codes.get(root);
+        Object code = null;
+        boolean enabled = false;
+        threadState.setMonitoring(true);
+        try {
+            for (int toolId = 0; toolId < TOOL_COUNT; toolId++) {
+                Object callback = callbacks[toolId][eventIndex];
+                if (callback == null) {
+                    continue;
+                }
+                int events = globalEvents[toolId] | (data != null ? data.localEvents[toolId] : 0);
+                if ((events & event) == 0) {
+                    continue;
+                }
+                int slot = disabledSlot(toolId, eventIndex);
+                if (data != null && isSet(data.disabled[slot], location)) {
+                    continue;
+                }
+                if (code == null) {
+                    data = getCodeMonitoring(root);
+                    code = getCode(data, root);
+                }
+                Object[] callArgs = new Object[args.length + 1];
+                callArgs[0] = code;
+                System.arraycopy(args, 0, callArgs, 1, args.length);
+                Object result = CallNode.executeUncached(callback, callArgs);
+                if (result == disable) {
+                    data.disabled[slot] = set(data.disabled[slot], location);
+                } else {
+                    enabled = true;
+                }
+            }
+            if (!enabled && data != null) {
+                long[][] locations = data.disabledLocations.locations;
+                locations[eventIndex] = set(locations[eventIndex], location);
+            }
+        } finally {
+            threadState.setMonitoring(false);
+        }
+    }
+
+    private static int disabledSlot(int toolId, int eventIndex) {
+        return toolId * EVENT_COUNT + eventIndex;
+    }
+
+    private static boolean isSet(long[] bits, int location) {
+        int word = location >>> 6;
+        return bits != null && word < bits.length && (bits[word] & (1L << location)) != 0;
+    }
+
+    private static long[] set(long[] bits, int location) {
+        int word = location >>> 6;
+        long[] result = bits;
+        if (result == null) {
+            result = new long[word + 1];
+        } else if (word >= result.length) {
+            result = Arrays.copyOf(result, Math.max(word + 1, result.length * 2));
+        }
+        result[word] |= 1L << location;
+        return result;
+    }
+
+    private CodeMonitoring getCodeMonitoring(RootNode root) {
+        CodeMonitoring data = codes.get(root);
+        if (data == null) {
+            data = new CodeMonitoring();
+            codes.put(root, data);
+        }
+        return data;
+    }
+
+    private static PCode getCode(CodeMonitoring data, RootNode root) {
+        PCode code = data.code != null ? data.code.get() : null;
+        if (code == null) {
+            code = PFactory.createCode(PythonLanguage.get(null), root.getCallTarget());
+            data.code = new WeakReference<>(code);
+        }
+        return code;
+    }
+
+    private void updateGlobalEvents() {
+        int events = 0;
+        for (int e : globalEvents) {
+            events |= e;
+        }
+        allGlobalEvents = events;
+    }
+
+    private static void updateLocalEvents(CodeMonitoring data) {
+        int events = 0;
+        for (int e : data.localEvents) {
+            events |= e;
+        }
+        data.allLocalEvents = events;
+    }
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package com.oracle.graal.python.runtime;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import com.oracle.graal.python.builtins.objects.bytes.PBytesLike;
+import com.oracle.graal.python.nodes.exception.TopLevelExceptionHandler;
+import com.oracle.graal.python.runtime.exception.ExceptionUtils;
+import com.oracle.graal.python.runtime.sequence.PSequence;
+import com.oracle.truffle.api.CompilerDirectives.TruffleBoundary;
+import com.oracle.truffle.api.RootCallTarget;
+import com.oracle.truffle.api.Truffle;
+import com.oracle.truffle.api.frame.FrameInstance;
+import com.oracle.truffle.api.nodes.Node;
+import com.oracle.truffle.api.nodes.RootNode;
+import com.oracle.truffle.api.source.Source;
+import com.oracle.truffle.api.source.SourceSection;
+import com.oracle.truffle.api.strings.TruffleString;
+
+/**
+ * Backs the {@code _tracemalloc} module. Allocations of Python objects are reported by
+ * {@link com.oracle.graal.python.runtime.object.PFactory} (the same place that feeds Truffle's
+ * {@link com.oracle.truffle.api.instrumentation.AllocationReporter}) once
+ * {@link com.oracle.graal.python.PythonLanguage#noTracemallocAssumption} has been invalidated. Only
+ * one in {@link PythonOptions#TraceMallocSamplingInterval} allocations is recorded, together with
+ * the Python frames that caused it. Each recorded trace stands for the whole sampling interval, so
+ * sizes and totals stay unbiased estimates. Traces are held weakly and disappear once their object
+ * is collected, like freed blocks in CPython.
+ */
+public final class TracemallocTracer {
+
+    /** The default traceback limit, as in CPython. */
+    public static final int DEFAULT_NFRAME = 1;
+    public static final int MAX_NFRAME = 65535;
+
+    /** Rough per-trace bookkeeping cost reported by {@code get_tracemalloc_memory}. */
+    private static final int TRACE_OVERHEAD = 64;
+    private static final int FRAME_OVERHEAD = 16;
+
+    private static final int OBJECT_SIZE_ESTIMATE = 56;
+    private static final int BYTES_SIZE_ESTIMATE = 33;
+    private static final int POINTER_SIZE = 8;
+
+    /**
+     * A recorded allocation. {@code frames} holds filename and line number pairs, most recent
+     * frame first.
+     */
+    public record Trace(long size, Object[] frames, int totalNframe) {
+    }
+
+    private static final class TraceRef extends WeakReference<Object> {
+        private final int hash;
+        private final Trace trace;
+
+        TraceRef(Object referent, Trace trace, ReferenceQueue<Object> queue) {
+            super(referent, queue);
+            this.hash = System.identityHashCode(referent);
+            this.trace = trace;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj instanceof TraceRef other) {
+                Object referent = get();
+                return referent != null && referent == other.get();
+            }
+            return false;
+        }
+    }
+
+    private final int samplingInterval;
+    private int nframe = DEFAULT_NFRAME;
+    private volatile boolean tracing;
+    /*
+     * Racy by design: concurrent allocations may occasionally skip or repeat a sample, which
+     * does not matter for sampling.
+     */
+    private int countdown;
+    private boolean reentrant;
+
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+    private final HashMap<TraceRef, TraceRef> traces = new HashMap<>();
+    private long tracedMemory;
+    private long peakMemory;
+    private long frameCount;
+
+    public TracemallocTracer(int samplingInterval) {
+        this.samplingInterval = Math.max(1, samplingInterval);
+        this.countdown = this.samplingInterval;
+    }
+
+    public boolean isTracing() {
+        return tracing;
+    }
+
+    public int getTracebackLimit() {
+        return nframe;
+    }
+
+    @TruffleBoundary
+    public synchronized void start(int maxNframe) {
+        nframe = maxNframe;
+        tracing = true;
+    }
+
+    @TruffleBoundary
+    public synchronized void stop() {
+        tracing = false;
+        clear();
+    }
+
+    @TruffleBoundary
+    public synchronized void clear() {
+        traces.clear();
+        while (queue.poll() != null) {
+            // drain
+        }
+        tracedMemory = 0;
+        peakMemory = 0;
+        frameCount = 0;
+    }
+
+    public void onAllocation(Object obj) {
+        if (tracing && --countdown <= 0) {
+            countdown = samplingInterval;
+            sample(obj);
+        }
+    }
+
+    @TruffleBoundary
+    private void sample(Object obj) {
+        if (reentrant) {
+            return;
+        }
+        int limit = nframe;
+        ArrayList<Object> frames = new ArrayList<>(2 * limit);
+        int[] total = new int[1];
+        Truffle.getRuntime().iterateFrames(frameInstance -> {
+            RootNode rootNode = ((RootCallTarget) frameInstance.getCallTarget()).getRootNode();
+            if (rootNode instanceof TopLevelExceptionHandler) {
+                return null;
+            }
+            Node location = frameInstance.getCallNode();
+            if (location == null) {
+                location = rootNode;
+            }
+            SourceSection sourceSection = location.getEncapsulatingSourceSection();
+            if (sourceSection == null) {
+                // not a Python frame
+                return null;
+            }
+            if (total[0]++ < limit) {
+                Source source = sourceSection.getSource();
+                String filename = source.getPath() != null ? source.getPath() : source.getName();
+                int lineno = ExceptionUtils.getLineno(frameInstance.getFrame(FrameInstance.FrameAccess.READ_ONLY), location, frameInstance);
+                frames.add(TruffleString.fromJavaStringUncached(filename, TruffleString.Encoding.UTF_8));
+                frames.add(lineno > 0 ? lineno : sourceSection.getStartLine());
+            }
+            return null;
+        });
+        if (total[0] == 0) {
+            // allocations without any Python code on the stack, e.g., during startup
+            return;
+        }
+        record(obj, new Trace(estimateSize(obj) * samplingInterval, frames.toArray(), total[0]));
+    }
+
+    private synchronized void record(Object obj, Trace trace) {
+        expungeStaleTraces();
+        TraceRef ref = new TraceRef(obj, trace, queue);
+        TraceRef old = traces.put(ref, ref);
+        if (old != null) {
+            forget(old.trace);
+        }
+        tracedMemory += trace.size;
+        frameCount += trace.frames.length / 2;
+        peakMemory = Math.max(peakMemory, tracedMemory);
+    }
+
+    private void forget(Trace trace) {
+        tracedMemory -= trace.size;
+        frameCount -= trace.frames.length / 2;
+    }
+
+    private void expungeStaleTraces() {
+        Object ref;
+        while ((ref = queue.poll()) != null) {
+            TraceRef traceRef = (TraceRef) ref;
+            if (traces.remove(traceRef) != null) {
+                forget(traceRef.trace);
+            }
+        }
+    }
+
+    /**
+     * A cheap estimate of the memory taken by a freshly allocated object, modelled after the
+     * sizes CPython reports for the common containers.
+     */
+    private static long estimateSize(Object obj) {
+        if (obj instanceof PBytesLike bytes) {
+            return BYTES_SIZE_ESTIMATE + bytes.getSequenceStorage().length();
+        } else if (obj instanceof PSequence seq) {
+            return OBJECT_SIZE_ESTIMATE + (long) POINTER_SIZE * seq.getSequenceStorage().length();
+        }
+        return OBJECT_SIZE_ESTIMATE;
+    }
+
+    /** Returns all live traces. Allocations are not traced until {@link #endQuery} is called. */
+    @TruffleBoundary
+    public synchronized Trace[] beginQuery() {
+        reentrant = true;
+        expungeStaleTraces();
+        Trace[] result = new Trace[traces.size()];
+        int i = 0;
+        for (TraceRef ref : traces.keySet()) {
+            result[i++] = ref.trace;
+        }
+        return result;
+    }
+
+    public void endQuery() {
+        reentrant = false;
+    }
+
+    @TruffleBoundary
+    public synchronized Trace getTrace(Object obj) {
+        TraceRef ref = traces.get(new TraceRef(obj, null, null));
+        return ref != null ? ref.trace : null;
+    }
+
+    @TruffleBoundary
+    public synchronized long getTracedMemory() {
+        expungeStaleTraces();
+        return tracedMemory;
+    }
+
+    @TruffleBoundary
+    public synchronized long getPeakMemory() {
+        expungeStaleTraces();
+        return peakMemory;
+    }
+
+    @TruffleBoundary
+    public synchronized void resetPeak() {
+        expungeStaleTraces();
+        peakMemory = tracedMemory;
+    }
+
+    @TruffleBoundary
+    public synchronized long getTracemallocMemory() {
+        return (long) traces.size() * TRACE_OVERHEAD + frameCount * FRAME_OVERHEAD;
+    }
+}
@@ -94,7 +94,11 @@ import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGen;
 import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGenASend;
 import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGenAThrow;
 import com.oracle.graal.python.builtins.objects.asyncio.PAsyncGenWrappedValue;
+import com.oracle.graal.python.builtins.objects.asyncio.PAsyncioFuture;
+import com.oracle.graal.python.builtins.objects.asyncio.PAsyncioFutureIter;
+import com.oracle.graal.python.builtins.objects.asyncio.PAsyncioTask;
 import com.oracle.graal.python.builtins.objects.asyncio.PCoroutineWrapper;
+import com.oracle.graal.python.builtins.objects.asyncio.PNioEventLoopCore;
 import com.oracle.graal.python.builtins.objects.bytes.PByteArray;
 import com.oracle.graal.python.builtins.objects.bytes.PBytes;
 import com.oracle.graal.python.builtins.objects.capsule.PyCapsule;
@@ -242,8 +246,10 @@ import com.oracle.graal.python.compiler.BytecodeCodeUnit;
 import com.oracle.graal.python.nodes.bytecode.PBytecodeRootNode;
 import com.oracle.graal.python.nodes.bytecode_dsl.BytecodeDSLCodeUnit;
 import com.oracle.graal.python.nodes.bytecode_dsl.PBytecodeDSLRootNode;
+import com.oracle.graal.python.runtime.EmulatedPosixSupport;
 import com.oracle.graal.python.runtime.NFIZlibSupport;
 import com.oracle.graal.python.runtime.PythonContext;
+import com.oracle.graal.python.runtime.TracemallocTracer;
 import com.oracle.graal.python.runtime.sequence.storage.ByteSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.DoubleSequenceStorage;
 import com.oracle.graal.python.runtime.sequence.storage.EmptySequenceStorage;
@@ -277,9 +283,20 @@ public final class PFactory {
         if (reporter.isActive()) {
             doTrace(newInstance, reporter);
         }
+        if (!language.noTracemallocAssumption.isValid()) {
+            doTraceMalloc(newInstance);
+        }
         return newInstance;
     }
 
+    @InliningCutoff
+    private static void doTraceMalloc(Object newInstance) {
+        TracemallocTracer tracer = PythonContext.get(null).getTracemallocTracer();
+        if (tracer != null) {
+            tracer.onAllocation(newInstance);
+        }
+    }
+
     @InliningCutoff
     private static <T> void doTrace(T newInstance, AllocationReporter reporter) {
         reporter.onEnter(null, 0, AllocationReporter.SIZE_UNKNOWN);
@@ -1543,6 +1560,22 @@ public final class PFactory {
         return trace(language, new PSimpleQueue(cls, shape));
     }
 
+    public static PAsyncioFuture createAsyncioFuture(PythonLanguage language, Object cls, Shape shape) {
+        return trace(language, new PAsyncioFuture(cls, shape));
+    }
+
+    public static PAsyncioTask createAsyncioTask(PythonLanguage language, Object cls, Shape shape) {
+        return trace(language, new PAsyncioTask(cls, shape));
+    }
+
+    public static PNioEventLoopCore createNioEventLoopCore(PythonLanguage language, Object cls, Shape shape, EmulatedPosixSupport posixSupport) {
+        return trace(language, new PNioEventLoopCore(cls, shape, posixSupport));
+    }
+
+    public static PAsyncioFutureIter createAsyncioFutureIter(PythonLanguage language, PAsyncioFuture future) {
+        return trace(language, new PAsyncioFutureIter(PythonBuiltinClassType.PAsyncioFutureIter, PythonBuiltinClassType.PAsyncioFutureIter.getInstanceShape(language), future));
+    }
+
     public static PContextVar createContextVar(PythonLanguage language, TruffleString name, Object def) {
         return trace(language, new PContextVar(PythonBuiltinClassType.ContextVar, PythonBuiltinClassType.ContextVar.getInstanceShape(language), name, def));
     }
@@ -42,13 +42,29 @@ package com.oracle.graal.python.runtime.sequence.storage;
 
 import com.oracle.graal.python.builtins.objects.common.SequenceStorageNodes;
 import com.oracle.truffle.api.CompilerAsserts;
+import com.oracle.truffle.api.CompilerDirectives;
 
 public abstract class ArrayBasedSequenceStorage extends SequenceStorage {
 
+    /**
+     * Copies (e.g. {@code list.copy()}, {@code tuple(list)} or {@code l[:n]}) of at least this many
+     * items share the internal array with their source instead of duplicating it.
+     */
+    private static final int MIN_SHARED_LENGTH = 128;
+
+    /**
+     * Set when the internal array may also be referenced by another storage. All writes into the
+     * internal array must be preceded by {@link #ensureUnshared()}. Growing the array clears it.
+     */
+    protected boolean shared;
+
     public abstract Object getInternalArrayObject();
 
     public abstract Object getCopyOfInternalArrayObject();
 
+    /**
+     * Replaces the internal array. The new array must not be referenced by any other storage.
+     */
     public abstract void setInternalArrayObject(Object arrayObject);
 
     public abstract ArrayBasedSequenceStorage createEmpty(int newCapacity);
@@ -60,6 +76,38 @@ public abstract class ArrayBasedSequenceStorage extends SequenceStorage {
         return Math.max(16, Math.multiplyExact(length, 2));
     }
 
+    public final boolean isShared() {
+        return shared;
+    }
+
+    /**
+     * Whether a copy of the first {@code copyLength} items should share the internal array with
+     * this storage. Small copies are cheaper to duplicate and copies of a small prefix would pin a
+     * much larger array.
+     */
+    public final boolean shouldShareArray(int copyLength) {
+        return copyLength >= MIN_SHARED_LENGTH && copyLength >= (capacity >> 1);
+    }
+
+    /**
+     * Makes sure the internal array is not referenced by another storage, copying it (with the
+     * current capacity) if necessary. Must be called before writing into the internal array.
+     */
+    public final void ensureUnshared() {
+        if (CompilerDirectives.injectBranchProbability(CompilerDirectives.SLOWPATH_PROBABILITY, shared)) {
+            shared = false;
+            copyInternalArray();
+        }
+    }
+
+    /**
+     * Replaces the internal array with a private copy of the same capacity. Only storages that
+     * can share their array need to implement this.
+     */
+    protected void copyInternalArray() {
+        throw CompilerDirectives.shouldNotReachHere();
+    }
+
     public void minimizeCapacity() {
         capacity = length;
     }
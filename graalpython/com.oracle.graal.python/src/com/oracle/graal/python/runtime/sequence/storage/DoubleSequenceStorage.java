@@ -27,6 +27,7 @@ package com.oracle.graal.python.runtime.sequence.storage;
 
 import java.util.Arrays;
 
+import com.oracle.graal.python.builtins.objects.floats.PFloat;
 import com.oracle.graal.python.util.PythonUtils;
 import com.oracle.truffle.api.CompilerDirectives;
 
@@ -59,6 +60,7 @@ public final class DoubleSequenceStorage extends ArrayBasedSequenceStorage {
     private void increaseCapacityExactWithCopy(int newCapacity) {
         values = PythonUtils.arrayCopyOf(values, newCapacity);
         capacity = values.length;
+        shared = false;
     }
 
     public void ensureCapacity(int newCapacity) throws ArithmeticException {
@@ -72,8 +74,25 @@ public final class DoubleSequenceStorage extends ArrayBasedSequenceStorage {
         return new DoubleSequenceStorage(newCapacity);
     }
 
+    /**
+     * Creates a storage holding the first {@code newLength} items that shares the internal array
+     * with this storage. Both storages copy the array before their next write.
+     */
+    public DoubleSequenceStorage createShared(int newLength) {
+        shared = true;
+        DoubleSequenceStorage copy = new DoubleSequenceStorage(values, newLength);
+        copy.shared = true;
+        return copy;
+    }
+
+    @Override
+    protected void copyInternalArray() {
+        values = PythonUtils.arrayCopyOf(values, capacity);
+    }
+
     public void reverse() {
         if (length > 0) {
+            ensureUnshared();
             int head = 0;
             int tail = length - 1;
             int middle = (length - 1) / 2;
@@ -95,11 +114,13 @@ public final class DoubleSequenceStorage extends ArrayBasedSequenceStorage {
     }
 
     public void setDoubleItemNormalized(int idx, double value) {
+        ensureUnshared();
         values[idx] = value;
     }
 
     public void insertDoubleItem(int idx, double value) {
         ensureCapacity(length + 1);
+        ensureUnshared();
 
         // shifting tail to the right by one slot
         for (int i = values.length - 1; i > idx; i--) {
@@ -110,16 +131,61 @@ public final class DoubleSequenceStorage extends ArrayBasedSequenceStorage {
         length++;
     }
 
+    /*
+     * The following methods implement the semantics of the corresponding Python operations on a
+     * list of floats: items are equal if they compare equal or are the same (possibly NaN) value,
+     * and min/max return the first item that no later item compares less/greater than.
+     */
+
     public int indexOfDouble(double value) {
-        for (int i = 0; i < length; i++) {
-            if (Double.compare(values[i], value) == 0) {
+        return indexOfDouble(value, 0, length);
+    }
+
+    public int indexOfDouble(double value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (PFloat.areIdentical(values[i], value)) {
                 return i;
             }
         }
-
         return -1;
     }
 
+    public int countDouble(double value) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (PFloat.areIdentical(values[i], value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the smallest item. The storage must not be empty.
+     */
+    public double minDouble() {
+        double result = values[0];
+        for (int i = 1; i < length; i++) {
+            if (values[i] < result) {
+                result = values[i];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest item. The storage must not be empty.
+     */
+    public double maxDouble() {
+        double result = values[0];
+        for (int i = 1; i < length; i++) {
+            if (values[i] > result) {
+                result = values[i];
+            }
+        }
+        return result;
+    }
+
     @Override
     public Object getIndicativeValue() {
         return .0;
@@ -151,6 +217,7 @@ public final class DoubleSequenceStorage extends ArrayBasedSequenceStorage {
     @Override
     public void setInternalArrayObject(Object arrayObject) {
         this.values = (double[]) arrayObject;
+        shared = false;
     }
 
     @Override
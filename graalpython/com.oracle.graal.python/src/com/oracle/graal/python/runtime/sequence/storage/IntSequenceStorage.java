@@ -59,6 +59,7 @@ public final class IntSequenceStorage extends ArrayBasedSequenceStorage {
     private void increaseCapacityExactWithCopy(int newCapacity) {
         values = PythonUtils.arrayCopyOf(values, newCapacity);
         capacity = values.length;
+        shared = false;
     }
 
     public void ensureCapacity(int newCapacity) throws ArithmeticException {
@@ -72,8 +73,25 @@ public final class IntSequenceStorage extends ArrayBasedSequenceStorage {
         return new IntSequenceStorage(newCapacity);
     }
 
+    /**
+     * Creates a storage holding the first {@code newLength} items that shares the internal array
+     * with this storage. Both storages copy the array before their next write.
+     */
+    public IntSequenceStorage createShared(int newLength) {
+        shared = true;
+        IntSequenceStorage copy = new IntSequenceStorage(values, newLength);
+        copy.shared = true;
+        return copy;
+    }
+
+    @Override
+    protected void copyInternalArray() {
+        values = PythonUtils.arrayCopyOf(values, capacity);
+    }
+
     public void reverse() {
         if (length > 0) {
+            ensureUnshared();
             int head = 0;
             int tail = length - 1;
             int middle = (length - 1) / 2;
@@ -95,11 +113,13 @@ public final class IntSequenceStorage extends ArrayBasedSequenceStorage {
     }
 
     public void setIntItemNormalized(int idx, int value) {
+        ensureUnshared();
         values[idx] = value;
     }
 
     public void insertIntItem(int idx, int value) {
         ensureCapacity(length + 1);
+        ensureUnshared();
 
         // shifting tail to the right by one slot
         for (int i = values.length - 1; i > idx; i--) {
@@ -111,15 +131,50 @@ public final class IntSequenceStorage extends ArrayBasedSequenceStorage {
     }
 
     public int indexOfInt(int value) {
-        for (int i = 0; i < length; i++) {
+        return indexOfInt(value, 0, length);
+    }
+
+    public int indexOfInt(int value, int start, int end) {
+        for (int i = start; i < end; i++) {
             if (values[i] == value) {
                 return i;
             }
         }
-
         return -1;
     }
 
+    public int countInt(int value) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            if (values[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns the smallest item. The storage must not be empty.
+     */
+    public int minInt() {
+        int result = values[0];
+        for (int i = 1; i < length; i++) {
+            result = Math.min(result, values[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest item. The storage must not be empty.
+     */
+    public int maxInt() {
+        int result = values[0];
+        for (int i = 1; i < length; i++) {
+            result = Math.max(result, values[i]);
+        }
+        return result;
+    }
+
     @Override
     public Object getIndicativeValue() {
         return 0;
@@ -151,6 +206,7 @@ public final class IntSequenceStorage extends ArrayBasedSequenceStorage {
     @Override
     public void setInternalArrayObject(Object arrayObject) {
         this.values = (int[]) arrayObject;
+        shared = false;
     }
 
     @Override
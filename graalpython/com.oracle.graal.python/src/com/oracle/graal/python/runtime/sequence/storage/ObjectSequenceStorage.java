@@ -63,6 +63,7 @@ public final class ObjectSequenceStorage extends ArrayBasedSequenceStorage {
 
     public void reverse() {
         if (length > 0) {
+            ensureUnshared();
             int head = 0;
             int tail = length - 1;
             int middle = (length - 1) / 2;
@@ -76,6 +77,7 @@ public final class ObjectSequenceStorage extends ArrayBasedSequenceStorage {
     }
 
     public void setObjectItemNormalized(int idx, Object value) {
+        ensureUnshared();
         values[idx] = assertNoJavaString(value);
     }
 
@@ -84,6 +86,22 @@ public final class ObjectSequenceStorage extends ArrayBasedSequenceStorage {
         return new ObjectSequenceStorage(newCapacity);
     }
 
+    /**
+     * Creates a storage holding the first {@code newLength} items that shares the internal array
+     * with this storage. Both storages copy the array before their next write.
+     */
+    public ObjectSequenceStorage createShared(int newLength) {
+        shared = true;
+        ObjectSequenceStorage copy = new ObjectSequenceStorage(values, newLength);
+        copy.shared = true;
+        return copy;
+    }
+
+    @Override
+    protected void copyInternalArray() {
+        values = PythonUtils.arrayCopyOf(values, capacity);
+    }
+
     public Object[] getInternalObjectArray() {
         return values;
     }
@@ -94,6 +112,7 @@ public final class ObjectSequenceStorage extends ArrayBasedSequenceStorage {
 
     public void insertItem(int idx, Object value) {
         ensureCapacity(length + 1);
+        ensureUnshared();
 
         // shifting tail to the right by one slot
         for (int i = values.length - 1; i > idx; i--) {
@@ -107,6 +126,7 @@ public final class ObjectSequenceStorage extends ArrayBasedSequenceStorage {
     public void increaseCapacityExactWithCopy(int newCapacity) {
         values = PythonUtils.arrayCopyOf(values, newCapacity);
         capacity = values.length;
+        shared = false;
     }
 
     public void ensureCapacity(int newCapacity) throws ArithmeticException {
@@ -134,6 +154,7 @@ public final class ObjectSequenceStorage extends ArrayBasedSequenceStorage {
     public void setInternalArrayObject(Object arrayObject) {
         this.values = (Object[]) arrayObject;
         this.capacity = values.length;
+        shared = false;
         assertContainsNoJavaString(values);
     }
 
@@ -420,6 +420,34 @@ public final class PythonUtils {
         }
     }
 
+    /**
+     * Executes {@link Arrays#mismatch(int[], int, int, int[], int, int)} on the first
+     * {@code length} elements of both arrays and puts all exceptions on the slow path.
+     */
+    public static int arrayMismatch(int[] a, int[] b, int length) {
+        try {
+            return Arrays.mismatch(a, 0, length, b, 0, length);
+        } catch (Throwable t) {
+            // Break exception edges
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw t;
+        }
+    }
+
+    /**
+     * Executes {@link Arrays#mismatch(long[], int, int, long[], int, int)} on the first
+     * {@code length} elements of both arrays and puts all exceptions on the slow path.
+     */
+    public static int arrayMismatch(long[] a, long[] b, int length) {
+        try {
+            return Arrays.mismatch(a, 0, length, b, 0, length);
+        } catch (Throwable t) {
+            // Break exception edges
+            CompilerDirectives.transferToInterpreterAndInvalidate();
+            throw t;
+        }
+    }
+
     /*
      * Replacements for JDK's exact math methods that throw the checked singleton {@link
      * OverflowException}. The implementation is taken from JDK.
@@ -0,0 +1,200 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+"""
+An asyncio event loop whose core runs in Java on top of NIO.
+
+With the Java POSIX backend (the default when embedding, or
+``--python.PosixModuleBackend=java``), the default selector event loop goes
+through ``select.select``, which builds a new NIO selector for every iteration.
+The ``NioEventLoop`` instead keeps one persistent selector, a binary heap of
+timers and a deque of ready handles in ``_asyncio._NioEventLoopCore`` and runs
+``_run_once`` in Java. To use it::
+
+    import asyncio, _nio_event_loop
+    asyncio.set_event_loop_policy(_nio_event_loop.NioEventLoopPolicy())
+
+The loop is not available with the native POSIX backend.
+"""
+
+import asyncio
+import selectors
+from asyncio import base_events, events
+from asyncio.log import logger
+
+from _asyncio import _NioEventLoopCore
+
+__all__ = ("NioEventLoop", "NioEventLoopPolicy", "is_available")
+
+
+def is_available():
+    """Whether the NIO event loop can be used in this context."""
+    try:
+        _NioEventLoopCore().close()
+    except RuntimeError:
+        return False
+    return True
+
+
+def _log_slow_callback(handle, duration):
+    # called by _NioEventLoopCore.run_once in debug mode
+    logger.warning('Executing %s took %.3f seconds', base_events._format_handle(handle), duration)
+
+
+class _CoreSelector(selectors.BaseSelector):
+    """Read-only selector view of the file descriptors registered with the loop core.
+
+    Transports use it to describe their state in repr(). Readers and writers
+    are registered with the loop's add_reader() and add_writer() methods."""
+
+    def __init__(self, core):
+        self._core = core
+
+    def register(self, fileobj, events, data=None):
+        raise NotImplementedError("use add_reader() or add_writer() of the event loop")
+
+    def unregister(self, fileobj):
+        raise NotImplementedError("use remove_reader() or remove_writer() of the event loop")
+
+    def select(self, timeout=None):
+        raise NotImplementedError("the NIO event loop core selects on its own")
+
+    def get_key(self, fileobj):
+        fd = selectors._fileobj_to_fd(fileobj)
+        key = self._core.get_key(fd)
+        if key is None:
+            raise KeyError(f"{fileobj!r} is not registered")
+        mask, reader, writer = key
+        return selectors.SelectorKey(fileobj, fd, mask, (reader, writer))
+
+    def get_map(self):
+        return {fd: self.get_key(fd) for fd in self._core.registered_fds()}
+
+    def close(self):
+        self._core.close()
+
+
+class NioEventLoop(asyncio.SelectorEventLoop):
+    """Selector event loop whose ready queue, timers and selector live in Java.
+
+    In debug mode, slow callbacks are reported, but loop._current_handle is not
+    maintained."""
+
+    def __init__(self):
+        self._core = _NioEventLoopCore()
+        super().__init__(_CoreSelector(self._core))
+
+    def _call_soon(self, callback, args, context):
+        handle = events.Handle(callback, args, self, context)
+        if handle._source_traceback:
+            del handle._source_traceback[-1]
+        self._core.append_ready(handle)
+        return handle
+
+    def call_at(self, when, callback, *args, context=None):
+        if when is None:
+            raise TypeError("when cannot be None")
+        self._check_closed()
+        if self._debug:
+            self._check_thread()
+            self._check_callback(callback, 'call_at')
+        timer = events.TimerHandle(when, callback, args, self, context)
+        if timer._source_traceback:
+            del timer._source_traceback[-1]
+        self._core.push_timer(when, timer)
+        timer._scheduled = True
+        return timer
+
+    def _add_callback(self, handle):
+        if not handle._cancelled:
+            self._core.append_ready(handle)
+
+    def _timer_handle_cancelled(self, handle):
+        if handle._scheduled:
+            self._core.timer_cancelled()
+
+    def _write_to_self(self):
+        # the selector can be woken up directly, the self-pipe is only kept for signal wakeups
+        self._core.wakeup()
+
+    def _add_reader(self, fd, callback, *args):
+        self._check_closed()
+        handle = events.Handle(callback, args, self, None)
+        old = self._core.add_reader(selectors._fileobj_to_fd(fd), handle)
+        if old is not None:
+            old.cancel()
+        return handle
+
+    def _remove_reader(self, fd):
+        if self.is_closed():
+            return False
+        old = self._core.remove_reader(selectors._fileobj_to_fd(fd))
+        if old is None:
+            return False
+        old.cancel()
+        return True
+
+    def _add_writer(self, fd, callback, *args):
+        self._check_closed()
+        handle = events.Handle(callback, args, self, None)
+        old = self._core.add_writer(selectors._fileobj_to_fd(fd), handle)
+        if old is not None:
+            old.cancel()
+        return handle
+
+    def _remove_writer(self, fd):
+        if self.is_closed():
+            return False
+        old = self._core.remove_writer(selectors._fileobj_to_fd(fd))
+        if old is None:
+            return False
+        old.cancel()
+        return True
+
+    def _process_events(self, event_list):
+        # I/O events are dispatched by the core in _run_once
+        pass
+
+    def _run_once(self):
+        self._core.run_once(self._stopping, self.slow_callback_duration if self._debug else None)
+
+
+class NioEventLoopPolicy(asyncio.DefaultEventLoopPolicy):
+    """Event loop policy that creates NioEventLoop instances."""
+    _loop_factory = NioEventLoop
@@ -0,0 +1,163 @@
+# Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+# DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+#
+# The Universal Permissive License (UPL), Version 1.0
+#
+# Subject to the condition set forth below, permission is hereby granted to any
+# person obtaining a copy of this software, associated documentation and/or
+# data (collectively the "Software"), free of charge and under any and all
+# copyright rights in the Software, and any and all patent rights owned or
+# freely licensable by each licensor hereunder covering either (i) the
+# unmodified Software as contributed to or provided by such licensor, or (ii)
+# the Larger Works (as defined below), to deal in both
+#
+# (a) the Software, and
+#
+# (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+# one is included with the Software each a "Larger Work" to which the Software
+# is contributed by such licensors),
+#
+# without restriction, including without limitation the rights to copy, create
+# derivative works of, display, perform, and distribute the Software and make,
+# use, sell, offer for sale, import, export, have made, and have sold the
+# Software and the Larger Work(s), and to sublicense the foregoing rights on
+# either these or other terms.
+#
+# This license is subject to the following condition:
+#
+# The above copyright notice and either this complete permission notice or at a
+# minimum a reference to the UPL must be included in all copies or substantial
+# portions of the Software.
+#
+# THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+# IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+# FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+# AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+# LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+# OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+# SOFTWARE.
+
+"""
+Startup snapshots for embedded contexts.
+
+A snapshot file stores the compiled code of all modules that were loaded from
+source files after the requested warmup imports, together with the location of
+their source. Contexts created with the StartupSnapshot option restore from it:
+the snapshot finder resolves those modules without scanning sys.path and their
+code is unmarshalled from the snapshot instead of being read from the cache
+files next to the sources. A snapshot that does not match the running GraalPy
+version or sys.path is captured again.
+"""
+
+import marshal
+import os
+import sys
+from importlib._bootstrap_external import SourceFileLoader, spec_from_file_location
+
+_FORMAT = 1
+
+
+class SnapshotLoader(SourceFileLoader):
+    def __init__(self, fullname, path, code):
+        super().__init__(fullname, path)
+        self.code = code
+
+    def get_code(self, fullname):
+        if fullname == self.name:
+            return marshal.loads(self.code)
+        return super().get_code(fullname)
+
+
+class SnapshotFinder:
+    def __init__(self, modules):
+        self.modules = modules
+
+    def find_spec(self, fullname, path=None, target=None):
+        entry = self.modules.get(fullname)
+        if entry is None:
+            return None
+        origin, is_package, mtime, size, code = entry
+        try:
+            st = os.stat(origin)
+        except OSError:
+            st = None
+        if st is None or int(st.st_mtime) != mtime or st.st_size != size:
+            # the source changed or is gone, fall back to the regular finders
+            del self.modules[fullname]
+            return None
+        loader = SnapshotLoader(fullname, origin, code)
+        return spec_from_file_location(fullname, origin, loader=loader,
+                                       submodule_search_locations=[] if is_package else None)
+
+    def invalidate_caches(self):
+        pass
+
+
+def _key():
+    return (_FORMAT, sys.implementation.cache_tag, sys.version, tuple(sys.path))
+
+
+def _read(path):
+    try:
+        with open(path, 'rb') as f:
+            key, modules = marshal.load(f)
+    except (OSError, EOFError, ValueError, TypeError):
+        return None
+    if key != _key():
+        return None
+    return modules
+
+
+def capture():
+    modules = {}
+    for name, module in list(sys.modules.items()):
+        spec = getattr(module, '__spec__', None)
+        loader = getattr(spec, 'loader', None)
+        if not isinstance(loader, SourceFileLoader) or not spec.has_location:
+            continue
+        origin = spec.origin
+        try:
+            st = os.stat(origin)
+            if isinstance(loader, SnapshotLoader):
+                code = loader.code
+            else:
+                code = marshal.dumps(loader.get_code(name))
+        except (OSError, ImportError, ValueError):
+            continue
+        is_package = spec.submodule_search_locations is not None
+        modules[name] = (origin, is_package, int(st.st_mtime), st.st_size, code)
+    return modules
+
+
+def _write(path, modules):
+    # only needed when there is no snapshot yet, so do not slow down every startup
+    import tempfile
+    tmp = None
+    try:
+        # contexts in the same process may write the snapshot concurrently
+        fd, tmp = tempfile.mkstemp(prefix=os.path.basename(path) + '.', suffix='.tmp', dir=os.path.dirname(path) or os.curdir)
+        with open(fd, 'wb') as f:
+            marshal.dump((_key(), modules), f)
+        os.replace(tmp, path)
+        tmp = None
+    except OSError:
+        # an unwritable snapshot location only costs startup time
+        pass
+    finally:
+        if tmp is not None:
+            try:
+                os.unlink(tmp)
+            except OSError:
+                pass
+
+
+def install(path, imports=""):
+    modules = _read(path)
+    if modules is not None:
+        sys.meta_path.insert(0, SnapshotFinder(modules))
+    for name in imports.split(","):
+        name = name.strip()
+        if name:
+            __import__(name)
+    if modules is None:
+        _write(path, capture())
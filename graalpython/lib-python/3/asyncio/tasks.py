@@ -405,9 +405,8 @@ try:
 except ImportError:
     pass
 else:
-    # graalpy change: C Tasks are not implemented yet, so we keep the python Task
-    # Task = _CTask = _asyncio.Task
-    pass
+    # _CTask is needed for tests.
+    Task = _CTask = _asyncio.Task
 
 
 def create_task(coro, *, name=None, context=None):
@@ -192,6 +192,24 @@ except ImportError:
     pass
 
 
+# GraalPy change: helpers for the file_digest fast path
+try:
+    from _hashlib import _file_digest
+except ImportError:
+    _file_digest = None
+
+
+def _is_plain_binary_file(fileobj):
+    import io
+    if type(fileobj) is io.BufferedReader:
+        raw = fileobj.raw
+    elif type(fileobj) is io.FileIO:
+        raw = fileobj
+    else:
+        return False
+    return type(raw) is io.FileIO and not raw.closed and raw.readable() and raw.seekable()
+
+
 def file_digest(fileobj, digest, /, *, _bufsize=2**18):
     """Hash the contents of a file-like object. Returns a digest object.
 
@@ -215,6 +233,19 @@ def file_digest(fileobj, digest, /, *, _bufsize=2**18):
         digestobj.update(fileobj.getbuffer())
         return digestobj
 
+    # GraalPy change: hash regular files directly from their descriptor, this
+    # avoids the readinto loop and does not hold the GIL while hashing
+    if _file_digest is not None and _is_plain_binary_file(fileobj):
+        try:
+            offset = fileobj.tell()
+        except OSError:
+            pass
+        else:
+            if _file_digest(digestobj, fileobj.fileno(), offset) >= 0:
+                # resynchronize the file object (and drop its read-ahead buffer)
+                fileobj.seek(0, 2)
+                return digestobj
+
     # Only binary files implement readinto().
     if not (
         hasattr(fileobj, "readinto")
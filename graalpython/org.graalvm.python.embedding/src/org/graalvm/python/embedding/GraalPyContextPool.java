@@ -0,0 +1,566 @@
+/*
+ * Copyright (c) 2025, Oracle and/or its affiliates. All rights reserved.
+ * DO NOT ALTER OR REMOVE COPYRIGHT NOTICES OR THIS FILE HEADER.
+ *
+ * The Universal Permissive License (UPL), Version 1.0
+ *
+ * Subject to the condition set forth below, permission is hereby granted to any
+ * person obtaining a copy of this software, associated documentation and/or
+ * data (collectively the "Software"), free of charge and under any and all
+ * copyright rights in the Software, and any and all patent rights owned or
+ * freely licensable by each licensor hereunder covering either (i) the
+ * unmodified Software as contributed to or provided by such licensor, or (ii)
+ * the Larger Works (as defined below), to deal in both
+ *
+ * (a) the Software, and
+ *
+ * (b) any piece of software and/or hardware listed in the lrgrwrks.txt file if
+ * one is included with the Software each a "Larger Work" to which the Software
+ * is contributed by such licensors),
+ *
+ * without restriction, including without limitation the rights to copy, create
+ * derivative works of, display, perform, and distribute the Software and make,
+ * use, sell, offer for sale, import, export, have made, and have sold the
+ * Software and the Larger Work(s), and to sublicense the foregoing rights on
+ * either these or other terms.
+ *
+ * This license is subject to the following condition:
+ *
+ * The above copyright notice and either this complete permission notice or at a
+ * minimum a reference to the UPL must be included in all copies or substantial
+ * portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package org.graalvm.python.embedding;
+
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.PolyglotException;
+import org.graalvm.polyglot.Source;
+import org.graalvm.polyglot.Value;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * A pool of warm GraalPy contexts that share one {@link Engine}.
+ *
+ * <p>
+ * The pool creates a fixed number of contexts up front, initializes them and imports the
+ * {@link Builder#preloadModules(String...) preloaded modules}. A context is handed out with
+ * {@link #borrow()} and goes back to the pool when the returned {@link Lease} is closed. Before a
+ * context is reused, the pool removes everything that was added to the globals of
+ * {@code __main__} and all modules that were imported while it was borrowed, so each borrower sees
+ * the same fresh interpreter state. Contexts that cannot be reset, or that were
+ * {@link Lease#invalidate() invalidated} by the borrower, are closed and replaced with new ones.
+ * </p>
+ *
+ * <p>
+ * <b>Example</b> serving requests with warm contexts:
+ * </p>
+ *
+ * <pre>
+ * VirtualFileSystem vfs = VirtualFileSystem.create();
+ * try (GraalPyContextPool pool = GraalPyContextPool.newBuilder(() -&gt; GraalPyResources.contextBuilder(vfs)).size(8).preloadModules("json", "mymodule").build()) {
+ *     try (GraalPyContextPool.Lease lease = pool.borrow()) {
+ *         lease.getContext().eval("python", "import mymodule; mymodule.handle_request()");
+ *     }
+ * }
+ * </pre>
+ *
+ * <p>
+ * Note that objects that were modified in place, for example attributes of preloaded modules, are
+ * not reset. Engine options must be set on the engine passed to {@link Builder#engine(Engine)}
+ * rather than on the context builders.
+ * </p>
+ *
+ * @since 26.0.0
+ */
+public final class GraalPyContextPool implements AutoCloseable {
+
+    /**
+     * Evaluates to a function that restores the {@code __main__} globals and {@code sys.modules}
+     * as they are now.
+     */
+    private static final Source RESET_FACTORY = Source.create("python", """
+                    def __graalpy_pool_reset_factory():
+                        import sys
+                        main = sys.modules['__main__'].__dict__
+                        del main['__graalpy_pool_reset_factory']
+                        main_globals = dict(main)
+                        modules = set(sys.modules)
+                        def reset():
+                            for name in [name for name in sys.modules if name not in modules]:
+                                del sys.modules[name]
+                            main.clear()
+                            main.update(main_globals)
+                        return reset
+                    __graalpy_pool_reset_factory()
+                    """);
+
+    private final Supplier<Context.Builder> contextBuilder;
+    private final List<String> preloadModules;
+    private final Engine engine;
+    private final boolean ownsEngine;
+    private final int size;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+    private final ArrayDeque<PooledContext> idle;
+    private int live;
+    private boolean closed;
+
+    private final AtomicLong borrows = new AtomicLong();
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong replaced = new AtomicLong();
+    private final AtomicLong waitNanos = new AtomicLong();
+
+    private GraalPyContextPool(Builder builder) {
+        this.contextBuilder = builder.contextBuilder;
+        this.preloadModules = List.copyOf(builder.preloadModules);
+        this.ownsEngine = builder.engine == null;
+        this.engine = ownsEngine ? Engine.create("python") : builder.engine;
+        this.size = builder.size;
+        this.idle = new ArrayDeque<>(size);
+        try {
+            for (int i = 0; i < size; i++) {
+                idle.add(createContext());
+                live++;
+            }
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Creates a builder for a pool whose contexts are created from the context builders returned
+     * by {@code contextBuilder}, for example {@code () -> GraalPyResources.contextBuilder(vfs)}.
+     *
+     * @param contextBuilder supplies a new, preconfigured context builder for each context
+     * @return a new {@link Builder}
+     * @since 26.0.0
+     */
+    public static Builder newBuilder(Supplier<Context.Builder> contextBuilder) {
+        return new Builder(Objects.requireNonNull(contextBuilder));
+    }
+
+    /**
+     * Borrows a context, waiting until one is available.
+     *
+     * @return a lease on an initialized context, which must be closed to return the context
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws IllegalStateException if the pool is closed
+     * @since 26.0.0
+     */
+    public Lease borrow() throws InterruptedException {
+        return borrow(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Borrows a context, waiting at most the given time until one is available.
+     *
+     * @return a lease on an initialized context, which must be closed to return the context, or
+     *         {@code null} if no context became available in time
+     * @throws InterruptedException if the current thread was interrupted while waiting
+     * @throws IllegalStateException if the pool is closed
+     * @since 26.0.0
+     */
+    public Lease borrow(long timeout, TimeUnit unit) throws InterruptedException {
+        long start = System.nanoTime();
+        long remaining = unit.toNanos(timeout);
+        PooledContext pooled;
+        lock.lockInterruptibly();
+        try {
+            while (true) {
+                if (closed) {
+                    throw new IllegalStateException("the context pool is closed");
+                }
+                pooled = idle.poll();
+                if (pooled != null) {
+                    break;
+                }
+                if (remaining <= 0) {
+                    return null;
+                }
+                remaining = available.awaitNanos(remaining);
+            }
+        } finally {
+            lock.unlock();
+        }
+        borrows.incrementAndGet();
+        waitNanos.addAndGet(System.nanoTime() - start);
+        return new Lease(pooled);
+    }
+
+    /**
+     * Returns a snapshot of the pool metrics.
+     *
+     * @since 26.0.0
+     */
+    public Metrics getMetrics() {
+        lock.lock();
+        try {
+            return new Metrics(size, live, idle.size(), borrows.get(), created.get(), replaced.get(), waitNanos.get());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes all idle contexts and, if the pool created it, the engine. Contexts that are still
+     * borrowed are closed when their lease is closed. An engine created by the pool stays open until
+     * the last lease is closed.
+     *
+     * @since 26.0.0
+     */
+    @Override
+    public void close() {
+        List<PooledContext> toClose;
+        boolean closeEngine;
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            toClose = new ArrayList<>(idle);
+            live -= idle.size();
+            idle.clear();
+            closeEngine = ownsEngine && live == 0;
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (PooledContext pooled : toClose) {
+            pooled.context.close(true);
+        }
+        if (closeEngine) {
+            engine.close(true);
+        }
+    }
+
+    /**
+     * Accounts for a context that is gone for good. Must be called with the lock held.
+     *
+     * @return whether the caller must close the engine, because the pool is closed and owns the
+     *         engine and this was its last context
+     */
+    private boolean retireContext() {
+        assert lock.isHeldByCurrentThread();
+        live--;
+        return closed && ownsEngine && live == 0;
+    }
+
+    private PooledContext createContext() {
+        Context context = contextBuilder.get().engine(engine).build();
+        try {
+            context.initialize("python");
+            for (String module : preloadModules) {
+                context.eval("python", "import " + module);
+            }
+            Value reset = context.eval(RESET_FACTORY);
+            created.incrementAndGet();
+            return new PooledContext(context, reset);
+        } catch (RuntimeException e) {
+            context.close(true);
+            throw e;
+        }
+    }
+
+    private void release(PooledContext pooled, boolean invalid) {
+        PooledContext next = pooled;
+        if (invalid || !reset(pooled)) {
+            pooled.context.close(true);
+            next = null;
+            replaced.incrementAndGet();
+        }
+        boolean poolClosed;
+        boolean closeEngine = false;
+        lock.lock();
+        try {
+            poolClosed = closed;
+            if (poolClosed) {
+                closeEngine = retireContext();
+                if (next != null) {
+                    next.context.close(true);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (poolClosed) {
+            if (closeEngine) {
+                engine.close(true);
+            }
+            return;
+        }
+        if (next == null) {
+            try {
+                next = createContext();
+            } catch (RuntimeException e) {
+                lock.lock();
+                try {
+                    closeEngine = retireContext();
+                } finally {
+                    lock.unlock();
+                }
+                if (closeEngine) {
+                    engine.close(true);
+                }
+                throw e;
+            }
+        }
+        lock.lock();
+        try {
+            if (closed) {
+                closeEngine = retireContext();
+                next.context.close(true);
+            } else {
+                idle.add(next);
+                available.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+        if (closeEngine) {
+            engine.close(true);
+        }
+    }
+
+    private static boolean reset(PooledContext pooled) {
+        try {
+            pooled.reset.executeVoid();
+            return true;
+        } catch (PolyglotException | IllegalStateException e) {
+            // the context was closed, cancelled or exited, or its interpreter state is broken
+            return false;
+        }
+    }
+
+    private record PooledContext(Context context, Value reset) {
+    }
+
+    /**
+     * A borrowed context. Closing the lease resets the context and returns it to the pool.
+     *
+     * @since 26.0.0
+     */
+    public final class Lease implements AutoCloseable {
+        private final PooledContext pooled;
+        private boolean invalid;
+        private boolean released;
+
+        private Lease(PooledContext pooled) {
+            this.pooled = pooled;
+        }
+
+        /**
+         * Returns the borrowed context. It must not be used after the lease was closed.
+         *
+         * @since 26.0.0
+         */
+        public Context getContext() {
+            if (released) {
+                throw new IllegalStateException("the lease was already closed");
+            }
+            return pooled.context;
+        }
+
+        /**
+         * Marks the context as unusable, so that it is closed and replaced instead of being
+         * returned to the pool.
+         *
+         * @since 26.0.0
+         */
+        public void invalidate() {
+            invalid = true;
+        }
+
+        /**
+         * Returns the context to the pool.
+         *
+         * @since 26.0.0
+         */
+        @Override
+        public void close() {
+            if (!released) {
+                released = true;
+                release(pooled, invalid);
+            }
+        }
+    }
+
+    /**
+     * A snapshot of the pool metrics.
+     *
+     * @since 26.0.0
+     */
+    public static final class Metrics {
+        private final int size;
+        private final int live;
+        private final int idle;
+        private final long borrows;
+        private final long created;
+        private final long replaced;
+        private final long waitNanos;
+
+        private Metrics(int size, int live, int idle, long borrows, long created, long replaced, long waitNanos) {
+            this.size = size;
+            this.live = live;
+            this.idle = idle;
+            this.borrows = borrows;
+            this.created = created;
+            this.replaced = replaced;
+            this.waitNanos = waitNanos;
+        }
+
+        /**
+         * The configured number of contexts.
+         *
+         * @since 26.0.0
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * The number of contexts that are idle in the pool.
+         *
+         * @since 26.0.0
+         */
+        public int getIdle() {
+            return idle;
+        }
+
+        /**
+         * The number of contexts that are currently borrowed.
+         *
+         * @since 26.0.0
+         */
+        public int getBorrowed() {
+            return live - idle;
+        }
+
+        /**
+         * The total number of successful {@link GraalPyContextPool#borrow() borrows}.
+         *
+         * @since 26.0.0
+         */
+        public long getBorrowCount() {
+            return borrows;
+        }
+
+        /**
+         * The total number of contexts created by the pool, including replacements.
+         *
+         * @since 26.0.0
+         */
+        public long getCreatedCount() {
+            return created;
+        }
+
+        /**
+         * The total number of contexts that were closed and replaced because they were invalidated
+         * or could not be reset.
+         *
+         * @since 26.0.0
+         */
+        public long getReplacedCount() {
+            return replaced;
+        }
+
+        /**
+         * The total time borrowers spent waiting for a context, in nanoseconds.
+         *
+         * @since 26.0.0
+         */
+        public long getTotalWaitNanos() {
+            return waitNanos;
+        }
+
+        @Override
+        public String toString() {
+            return "GraalPyContextPool.Metrics[size=" + size + ", idle=" + idle + ", borrowed=" + getBorrowed() + ", borrows=" + borrows + ", created=" + created + ", replaced=" + replaced +
+                            ", waitNanos=" + waitNanos + "]";
+        }
+    }
+
+    /**
+     * Builder for {@link GraalPyContextPool}.
+     *
+     * @since 26.0.0
+     */
+    public static final class Builder {
+        private final Supplier<Context.Builder> contextBuilder;
+        private final List<String> preloadModules = new ArrayList<>();
+        private Engine engine;
+        private int size = Runtime.getRuntime().availableProcessors();
+
+        private Builder(Supplier<Context.Builder> contextBuilder) {
+            this.contextBuilder = contextBuilder;
+        }
+
+        /**
+         * Sets the number of contexts kept in the pool. The default is the number of available
+         * processors.
+         *
+         * @since 26.0.0
+         */
+        public Builder size(int poolSize) {
+            if (poolSize <= 0) {
+                throw new IllegalArgumentException("pool size must be positive");
+            }
+            this.size = poolSize;
+            return this;
+        }
+
+        /**
+         * Adds modules that are imported in every context before it is handed out. These modules
+         * are kept when a context is reset.
+         *
+         * @since 26.0.0
+         */
+        public Builder preloadModules(String... modules) {
+            for (String module : modules) {
+                preloadModules.add(Objects.requireNonNull(module));
+            }
+            return this;
+        }
+
+        /**
+         * Sets the engine shared by the contexts of the pool. If no engine is set, the pool
+         * creates one and closes it when the pool is closed.
+         *
+         * @since 26.0.0
+         */
+        public Builder engine(Engine sharedEngine) {
+            this.engine = Objects.requireNonNull(sharedEngine);
+            return this;
+        }
+
+        /**
+         * Creates the pool and initializes all its contexts.
+         *
+         * @since 26.0.0
+         */
+        public GraalPyContextPool build() {
+            return new GraalPyContextPool(this);
+        }
+    }
+}
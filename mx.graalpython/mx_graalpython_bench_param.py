@@ -61,6 +61,10 @@ WARMUP_2 = ['-w', '2']
 MICRO_BENCHMARKS = {
     'arith-binop': ITER_10 + ['5'],
     'arith-modulo-sized': ITER_10 + ['500'],
+    'arith-mask-multiply': ITER_10 + ['2000'],
+    'array-extend': ITER_10 + ['200'],
+    'array-iterate': ITER_10 + ['1000'],
+    'array-sum': ITER_10 + ['500'],
     'attribute-access-polymorphic': ITER_10 + ['1000'],
     'attribute-access': ITER_10 + ['5000'],
     'attribute-access-super': ITER_10 + ['5_000'],
@@ -83,13 +87,23 @@ MICRO_BENCHMARKS = {
     'list-iterating': ITER_10 + ['1000000'],
     'list-iterating-obj-sized': ITER_10 + ['100_000_000'],
     'list-constructions-sized': ITER_10 + ['10_000'],
+    'list-copy-slice': ITER_10 + ['1000'],
+    'list-primitive-scan': ITER_10 + ['500'],
+    'set-algebra-ints': ITER_10 + ['5'],
+    'set-algebra-strings': ITER_10 + ['5'],
+    'dict-construction-sized': ITER_10 + ['2'],
+    'pickle-small-messages': ITER_10 + ['5'],
+    'marshal-primitive-lists': ITER_10 + ['5'],
+    'lru-cache-hits': ITER_10 + ['5'],
     'list-sort-objects': ITER_10 + ['10_000'],
     'list-sort-strings': ITER_10 + ['500_000'],
     'list-sort-keyed': ITER_10 + ['50_000'],
     'dict-getitem-sized': ITER_10 + ['50_000_000'],
+    'dict-int-keys': ITER_10 + ['1000'],
     'math-sqrt': ITER_10 + ['500000000'],
     'object-allocate': ITER_10 + ['5000'],
     'object-layout-change': ITER_10 + ['1000000'],
+    'wide-class-attributes': ITER_10 + ['5000'],
     'special-add-int-sized': ITER_10 + ['20_000'],
     'special-add-sized': ITER_10 + ['20_000'],
     'special-len': ITER_10 + ['5'],
@@ -99,6 +113,15 @@ MICRO_BENCHMARKS = {
     'call-classmethod-sized': ITER_10 + ['500_000_000'],
     'mmap-anonymous-sized': ITER_10 + ['20_000'],
     'mmap-file': ITER_10 + ['1000'],
+    'struct-unpack': ITER_10 + ['100'],
+    'zlib-decompress': ITER_10 + ['5'],
+    'zlib-decompress-java': ITER_10 + ['5'],
+    'asyncio-ping-pong': ITER_10 + ['5'],
+    'asyncio-gather': ITER_10 + ['5'],
+    'asyncio-http-echo': ITER_10 + ['2000'],
+    'asyncio-http-echo-nio': ITER_10 + ['2000'],
+    'coverage-settrace': ITER_10 + ['20'],
+    'coverage-monitoring': ITER_10 + ['20'],
     'generate-functions-sized': ITER_15 + ['500_000_000'],
     'try-except-simple': ITER_10 + ['500_000_000'],
     'try-except-store-simple': ITER_10 + ['500_000_000'],
@@ -121,6 +144,10 @@ MICRO_BENCHMARKS = {
 
 MICRO_BENCHMARKS_SMALL = {
     'arith-modulo-sized': ITER_6 + WARMUP_2 + ['1'],
+    'arith-mask-multiply': ITER_6 + WARMUP_2 + ['100'],
+    'array-extend': ITER_6 + WARMUP_2 + ['10'],
+    'array-iterate': ITER_6 + WARMUP_2 + ['50'],
+    'array-sum': ITER_6 + WARMUP_2 + ['20'],
     'if-generic': ITER_10 + WARMUP_2 + ['500000'],
     'if-generic-non-builtin': ITER_10 + WARMUP_2 + ['500000'],
     'if-polymorph': ITER_10 + WARMUP_2 + ['1000000'],
@@ -147,10 +174,20 @@ MICRO_BENCHMARKS_SMALL = {
     'list-iterating': ITER_6 + WARMUP_2 + ['25_000'],
     'list-iterating-obj-sized': ITER_6 + WARMUP_2 + ['1_000_000'],
     'list-constructions-sized': ITER_15 + WARMUP_2 + ['500'],
+    'list-copy-slice': ITER_6 + WARMUP_2 + ['20'],
+    'list-primitive-scan': ITER_6 + WARMUP_2 + ['10'],
+    'set-algebra-ints': ITER_6 + WARMUP_2 + ['1'],
+    'set-algebra-strings': ITER_6 + WARMUP_2 + ['1'],
+    'dict-construction-sized': ITER_6 + WARMUP_2 + ['1'],
+    'pickle-small-messages': ITER_6 + WARMUP_2 + ['1'],
+    'marshal-primitive-lists': ITER_6 + WARMUP_2 + ['1'],
+    'lru-cache-hits': ITER_6 + WARMUP_2 + ['1'],
     'dict-getitem-sized': ITER_10 + WARMUP_2 + ['1_000_000'],
+    'dict-int-keys': ITER_10 + WARMUP_2 + ['50'],
     'math-sqrt': ITER_6 + WARMUP_2 + ['20_000_000'],
     'object-allocate': ITER_6 + WARMUP_2 + ['50'],
     'object-layout-change': ITER_6 + WARMUP_2 + ['10_000'],
+    'wide-class-attributes': ITER_6 + WARMUP_2 + ['100'],
     'special-add-int-sized': ITER_6 + WARMUP_2 + ['1_000'],
     'special-add-sized': ITER_6 + WARMUP_2 + ['1_000'],
     'special-len': ITER_10 + WARMUP_2 + ['1', '1_000'],
@@ -160,6 +197,15 @@ MICRO_BENCHMARKS_SMALL = {
     'call-classmethod-sized': ITER_10 + WARMUP_2 + ['1_000_000'],
     'mmap-anonymous-sized': ITER_6 + WARMUP_2 + ['1_000'],
     'mmap-file': ITER_15 + WARMUP_2 + ['100'],
+    'struct-unpack': ITER_6 + WARMUP_2 + ['5'],
+    'zlib-decompress': ITER_6 + WARMUP_2 + ['1'],
+    'zlib-decompress-java': ITER_6 + WARMUP_2 + ['1'],
+    'asyncio-ping-pong': ITER_6 + WARMUP_2 + ['1'],
+    'asyncio-gather': ITER_6 + WARMUP_2 + ['1'],
+    'asyncio-http-echo': ITER_6 + WARMUP_2 + ['200'],
+    'asyncio-http-echo-nio': ITER_6 + WARMUP_2 + ['200'],
+    'coverage-settrace': ITER_6 + WARMUP_2 + ['2'],
+    'coverage-monitoring': ITER_6 + WARMUP_2 + ['2'],
     'generate-functions-sized': ITER_10 + WARMUP_2 + ['1_000_000'],
     'try-except-simple': ITER_6 + WARMUP_2 + ['2_500_000'],
     'try-except-store-simple': ITER_6 + WARMUP_2 + ['2_000_000'],
@@ -227,6 +273,9 @@ MESO_BENCHMARKS = {
     'nbody3': ITER_10 + ['5000000'],
     'spectralnorm3': ITER_10 + ['3000'],
     'pidigits': ITER_10 + [],
+    'bigint-str-10k': ITER_10 + ['50'],
+    'bigint-str-100k': ITER_10 + ['5'],
+    'bigint-str-1m': ITER_10 + ['1'],
     'sieve-sized': ITER_15 + ['500_000'],
     'image-magix-sized2': ITER_10 + ['30000'],
     'parrot-b2': ITER_10 + ['200'],
@@ -338,5 +387,7 @@ HEAP_BENCHMARKS = {
         "post-startup": [],
         "import-a-lot": [],
         "allocate-objects": [],
+        "int-keyed-dicts": [],
+        "wide-instances": [],
     }]
 }
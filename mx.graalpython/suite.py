@@ -510,6 +510,7 @@ suite = {
             "sourceDirs": ["java"],
             "dependencies": [
                 "com.oracle.graal.python",
+                "org.graalvm.python.embedding",
                 "sdk:POLYGLOT",
                 "sdk:LAUNCHER_COMMON",
                 "mx:JMH_1_21"
@@ -1185,6 +1186,7 @@ suite = {
             "distDependencies": [
                 "GRAALPYTHON",
                 "GRAALPYTHON-LAUNCHER",
+                "GRAALPYTHON_EMBEDDING",
                 # We run the benchmarks with Python home served from resources
                 "GRAALPYTHON_RESOURCES",
                 "sdk:POLYGLOT",